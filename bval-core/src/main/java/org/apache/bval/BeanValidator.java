@@ -215,7 +215,7 @@ public class BeanValidator<T extends ValidationListener> {
      */
     protected <VL extends ValidationListener> void validateRelatedBean(ValidationContext<VL> context,
         MetaProperty prop) {
-        AccessStrategy[] access = prop.getFeature(Features.Property.REF_CASCADE);
+        AccessStrategy[] access = prop.getFeature(Features.Property.REF_CASCADE_KEY);
         if (access == null && prop.getMetaBean() != null) { // single property access strategy
             // save old values from context
             final Object bean = context.getBean();
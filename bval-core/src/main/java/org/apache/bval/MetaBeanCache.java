@@ -17,9 +17,16 @@
 package org.apache.bval;
 
 import org.apache.bval.model.MetaBean;
+import org.apache.bval.model.MetaProperty;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -100,14 +107,71 @@ public class MetaBeanCache implements MetaBeanFinder, Serializable {
     }
 
     /**
-     * Remove a single MetaBean from the cache.
+     * Remove a single MetaBean from the cache, unless another instance has been cached for it meanwhile.
      * @param beanInfo
      */
     public void removeFromCache(MetaBean beanInfo) {
-        cacheById.remove(beanInfo.getId());
+        cacheById.remove(beanInfo.getId(), beanInfo);
         if (beanInfo.getBeanClass() != null && beanInfo.getId().equals(beanInfo.getBeanClass().getName())) {
-            cacheByClass.remove(beanInfo.getBeanClass());
+            cacheByClass.remove(beanInfo.getBeanClass(), beanInfo);
         }
     }
 
+    /**
+     * Remove the cached MetaBeans whose bean class, or one of its superclasses or interfaces, is named in
+     * <code>classNames</code>, together with every cached MetaBean that refers to a removed one through a
+     * property, as such a MetaBean holds the removed one directly.
+     * @param classNames
+     * @return the removed MetaBeans
+     */
+    public Collection<MetaBean> removeFromCache(Set<String> classNames) {
+        final Set<MetaBean> stale = Collections.newSetFromMap(new IdentityHashMap<MetaBean, Boolean>());
+        final List<MetaBean> remaining = new ArrayList<MetaBean>();
+        for (MetaBean beanInfo : cacheById.values()) {
+            if (isNamed(beanInfo.getBeanClass(), classNames)) {
+                stale.add(beanInfo);
+            } else {
+                remaining.add(beanInfo);
+            }
+        }
+        boolean changed = !stale.isEmpty();
+        while (changed) {
+            changed = false;
+            for (int i = remaining.size() - 1; i >= 0; i--) {
+                if (refersTo(remaining.get(i), stale)) {
+                    stale.add(remaining.remove(i));
+                    changed = true;
+                }
+            }
+        }
+        for (MetaBean beanInfo : stale) {
+            removeFromCache(beanInfo);
+        }
+        return stale;
+    }
+
+    private static boolean refersTo(MetaBean beanInfo, Set<MetaBean> beans) {
+        for (MetaProperty prop : beanInfo.getProperties()) {
+            if (prop.getMetaBean() != null && beans.contains(prop.getMetaBean())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isNamed(Class<?> type, Set<String> classNames) {
+        if (type == null) {
+            return false;
+        }
+        if (classNames.contains(type.getName()) || isNamed(type.getSuperclass(), classNames)) {
+            return true;
+        }
+        for (Class<?> iface : type.getInterfaces()) {
+            if (isNamed(iface, classNames)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
 }
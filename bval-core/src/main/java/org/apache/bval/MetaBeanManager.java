@@ -19,9 +19,13 @@ package org.apache.bval;
 import org.apache.bval.model.MetaBean;
 import org.apache.bval.model.MetaProperty;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
 import static org.apache.bval.model.Features.Property.REF_BEAN_ID;
-import static org.apache.bval.model.Features.Property.REF_BEAN_TYPE;
-import static org.apache.bval.model.Features.Property.REF_CASCADE;
+import static org.apache.bval.model.Features.Property.REF_BEAN_TYPE_KEY;
+import static org.apache.bval.model.Features.Property.REF_CASCADE_KEY;
 
 /**
  * Description: Default implementation for the interface to find, register and
@@ -37,6 +41,8 @@ public class MetaBeanManager implements MetaBeanFinder {
     protected final MetaBeanBuilder builder;
     /** Complete flag */
     protected boolean complete = false;
+    /** incremented by {@link #invalidate(Set)} so that concurrently built MetaBeans are not cached */
+    private volatile int generation;
 
     /**
      * Create a new MetaBeanManager instance.
@@ -83,9 +89,13 @@ public class MetaBeanManager implements MetaBeanFinder {
         }
 
         try {
+            final int built = generation;
             beanInfo = builder.buildForId(beanInfoId);
             cache.cache(beanInfo);
             computeRelationships(beanInfo);
+            if (built != generation) {
+                cache.removeFromCache(beanInfo);
+            }
             return beanInfo;
         } catch (final RuntimeException e) {
             throw e; // do not wrap runtime exceptions
@@ -109,9 +119,15 @@ public class MetaBeanManager implements MetaBeanFinder {
         }
 
         try {
+            final int built = generation;
             beanInfo = builder.buildForClass(clazz);
             cache.cache(beanInfo);
             computeRelationships(beanInfo);
+            beanInfo.freeze();
+            if (built != generation) {
+                // may have been built from metadata replaced meanwhile; serve it but do not keep it
+                cache.removeFromCache(beanInfo);
+            }
             return beanInfo;
         } catch (final RuntimeException e) {
             throw e; // do not wrap runtime exceptions
@@ -120,6 +136,34 @@ public class MetaBeanManager implements MetaBeanFinder {
         }
     }
 
+    /**
+     * Drop the cached MetaBeans of the named classes, of their subclasses and of the MetaBeans linking to them, so
+     * that they are built again on next access. MetaBeans already handed out stay unchanged.
+     *
+     * @param classNames names of the classes whose metadata source changed
+     * @return the bean classes whose MetaBeans were dropped
+     */
+    public synchronized Set<Class<?>> invalidate(Set<String> classNames) {
+        final Set<Class<?>> result = new LinkedHashSet<Class<?>>();
+        for (final MetaBean beanInfo : evict(classNames)) {
+            if (beanInfo.getBeanClass() != null) {
+                result.add(beanInfo.getBeanClass());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Same as {@link #invalidate(Set)}, returning the dropped MetaBeans themselves, e.g. to release what they hold.
+     *
+     * @param classNames names of the classes whose metadata source changed
+     * @return the dropped MetaBeans
+     */
+    public synchronized Collection<MetaBean> evict(Set<String> classNames) {
+        generation++;
+        return cache.removeFromCache(classNames);
+    }
+
     /**
      * Compute all known relationships for <code>beanInfo</code>. must be called
      * AFTER cache.cache() to avoid endless loop
@@ -141,9 +185,9 @@ public class MetaBeanManager implements MetaBeanFinder {
      * @param beanRef bean reference
      */
     protected void computeRelatedMetaBean(MetaProperty prop, String beanRef) {
-        Class<?> beanType = prop.getFeature(REF_BEAN_TYPE);
+        Class<?> beanType = prop.getFeature(REF_BEAN_TYPE_KEY);
         if (beanType == null) {
-            if (prop.getFeature(REF_CASCADE) != null) { // dynamic type resolution:
+            if (prop.getFeature(REF_CASCADE_KEY) != null) { // dynamic type resolution:
                 prop.setMetaBean(new DynamicMetaBean(this));
             }
         } else {
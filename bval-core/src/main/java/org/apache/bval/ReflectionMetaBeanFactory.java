@@ -0,0 +1,135 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.apache.bval;
+
+import java.beans.Introspector;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.bval.model.MetaBean;
+import org.apache.bval.model.MetaProperty;
+import org.apache.bval.util.DeclaredMembers;
+
+/**
+ * Description: discover the java-bean properties of a MetaBean with plain reflection instead of
+ * java.beans.Introspector. Each class of the hierarchy is scanned once through a {@link DeclaredMembers.Cache},
+ * which can be shared with the JSR303 metadata factory, and no BeanInfo, PropertyDescriptor or SoftReference
+ * caches are created. Properties get a name and a generic type; BeanInfo features (HIDDEN, PREFERRED,
+ * READONLY and custom attributes) are not available, use {@link IntrospectorMetaBeanFactory} for those.<br/>
+ * NOTE: THIS IS AN OPTIONAL CLASS, TO ENABLE IT, SET Factory Properties apache.bval.enable-introspector="true"
+ * AND apache.bval.reflection-introspector="true"
+ */
+public class ReflectionMetaBeanFactory implements MetaBeanFactory {
+    private final DeclaredMembers.Cache declaredMembers;
+
+    /**
+     * Create a new ReflectionMetaBeanFactory instance with its own {@link DeclaredMembers.Cache}.
+     */
+    public ReflectionMetaBeanFactory() {
+        this(new DeclaredMembers.Cache());
+    }
+
+    /**
+     * Create a new ReflectionMetaBeanFactory instance.
+     * @param declaredMembers cache of the scanned classes
+     */
+    public ReflectionMetaBeanFactory(DeclaredMembers.Cache declaredMembers) {
+        this.declaredMembers = declaredMembers;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void buildMetaBean(MetaBean meta) throws Exception {
+        final Class<?> beanClass = meta.getBeanClass();
+        if (beanClass == null) {
+            return; // handle only, when local class exists
+        }
+        if (meta.getName() == null) {
+            meta.setName(beanClass.getSimpleName());
+        }
+        final List<Class<?>> hierarchy = fillHierarchy(new ArrayList<Class<?>>(), beanClass);
+        // superclasses first so that subclasses override the inherited property types
+        for (int i = hierarchy.size() - 1; i >= 0; i--) {
+            final DeclaredMembers members = declaredMembers.get(hierarchy.get(i));
+            final Method[] getters = members.getGetters();
+            final String[] names = members.getGetterNames();
+            for (int j = 0; j < getters.length; j++) {
+                if (isReadMethod(getters[j], names[j])) {
+                    putProperty(meta, names[j], getters[j].getGenericReturnType());
+                }
+            }
+            for (Method method : members.getMethods()) {
+                final String name = getWritePropertyName(method);
+                if (name != null && meta.getProperty(name) == null) {
+                    putProperty(meta, name, method.getGenericParameterTypes()[0]);
+                }
+            }
+        }
+    }
+
+    private static void putProperty(MetaBean meta, String name, Type type) {
+        final MetaProperty existing = meta.getProperty(name);
+        final MetaProperty metaProp = existing == null ? new MetaProperty() : existing;
+        metaProp.setName(name);
+        metaProp.setType(type);
+        if (existing == null) {
+            meta.putProperty(name, metaProp);
+        }
+    }
+
+    private static boolean isReadMethod(Method method, String name) {
+        if (name.isEmpty() || "class".equals(name) || !isPublicInstance(method)) {
+            return false;
+        }
+        final Class<?> returnType = method.getReturnType();
+        if (method.getName().startsWith("is")) {
+            return returnType == boolean.class;
+        }
+        return returnType != void.class;
+    }
+
+    private static String getWritePropertyName(Method method) {
+        final String methodName = method.getName();
+        if (methodName.length() > 3 && methodName.startsWith("set") && method.getParameterTypes().length == 1
+            && method.getReturnType() == void.class && isPublicInstance(method)) {
+            return Introspector.decapitalize(methodName.substring(3));
+        }
+        return null;
+    }
+
+    private static boolean isPublicInstance(Method method) {
+        final int modifiers = method.getModifiers();
+        return Modifier.isPublic(modifiers) && !Modifier.isStatic(modifiers);
+    }
+
+    private static List<Class<?>> fillHierarchy(List<Class<?>> classes, Class<?> type) {
+        if (type == null || type == Object.class || classes.contains(type)) {
+            return classes;
+        }
+        classes.add(type);
+        fillHierarchy(classes, type.getSuperclass());
+        for (Class<?> iface : type.getInterfaces()) {
+            fillHierarchy(classes, iface);
+        }
+        return classes;
+    }
+}
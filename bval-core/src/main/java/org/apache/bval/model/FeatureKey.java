@@ -0,0 +1,128 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.apache.bval.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Description: typed key of a well-known feature, backed by a fixed slot of
+ * the {@link FeaturesCapable} objects. The feature stays accessible by its
+ * name, so {@code getFeature(key)} and {@code getFeature(key.getName())} are
+ * equivalent; features without a key live in a name-keyed map.<br/>
+ * Keys exist for a fixed set of well-known feature names only, so that
+ * ad-hoc feature names do not accumulate in a VM-wide registry.
+ *
+ * @param <T> feature value type
+ */
+public final class FeatureKey<T> {
+    /**
+     * names of the well-known features, by slot
+     */
+    private static final String[] NAMES = { Features.Property.MANDATORY, Features.Property.REF_BEAN_TYPE,
+        Features.Property.REF_CASCADE,
+        // org.apache.bval.jsr.JsrFeatures
+        "PropertyDescriptor", "annotationToProcess", "GroupSequence",
+        "BeanDescriptor", "XmlMappings" };
+
+    /**
+     * keys of the well-known features by name
+     */
+    private static final Map<String, FeatureKey<?>> REGISTRY;
+
+    static {
+        final Map<String, FeatureKey<?>> registry = new HashMap<String, FeatureKey<?>>();
+        for (int i = 0; i < NAMES.length; i++) {
+            registry.put(NAMES[i], new FeatureKey<Object>(NAMES[i], i));
+        }
+        REGISTRY = Collections.unmodifiableMap(registry);
+    }
+
+    private final String name;
+    private final int slot;
+
+    private FeatureKey(String name, int slot) {
+        this.name = name;
+        this.slot = slot;
+    }
+
+    /**
+     * Get the key of the well-known feature named {@code name}.
+     * Features sharing a name share a key, whatever the requested type.
+     *
+     * @param <T>
+     * @param name
+     * @return {@link FeatureKey}
+     * @throws IllegalArgumentException if {@code name} is not a well-known feature
+     */
+    public static <T> FeatureKey<T> of(String name) {
+        final FeatureKey<?> result = REGISTRY.get(name);
+        if (result == null) {
+            throw new IllegalArgumentException("No well-known feature named " + name);
+        }
+        @SuppressWarnings("unchecked")
+        final FeatureKey<T> typed = (FeatureKey<T>) result;
+        return typed;
+    }
+
+    /**
+     * Get the key of the well-known feature named {@code name}.
+     *
+     * @param name
+     * @return {@link FeatureKey} or {@code null}
+     */
+    static FeatureKey<?> lookup(String name) {
+        return REGISTRY.get(name);
+    }
+
+    /**
+     * Get the name of the feature stored in {@code slot}.
+     *
+     * @param slot
+     * @return String
+     */
+    static String nameOf(int slot) {
+        return NAMES[slot];
+    }
+
+    /**
+     * Get the name of the feature.
+     *
+     * @return String
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get the slot of the feature.
+     *
+     * @return int
+     */
+    int getSlot() {
+        return slot;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "FeatureKey{" + name + '}';
+    }
+}
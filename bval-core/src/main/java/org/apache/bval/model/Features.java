@@ -16,6 +16,8 @@
  */
 package org.apache.bval.model;
 
+import org.apache.bval.util.AccessStrategy;
+
 /**
  * Description: Contains key of common feature keys used by standard validators etc.
  * This DOES NOT MEAN that the list of property- or bean-features is closed. You can
@@ -47,6 +49,8 @@ public interface Features {
         String UNIQUE_KEY = "uniqueKey";
         /** VALIDATION: Boolean, mandatory field? */
         String MANDATORY = "mandatory";
+        /** typed {@link #MANDATORY} */
+        FeatureKey<Boolean> MANDATORY_KEY = FeatureKey.of(MANDATORY);
         /** VALIDATION: Integer, max. number of chars/digits / max. cardinality of a to-many relationship */
         String MAX_LENGTH = "maxLen";
         /** VALIDATION: Comparable (e.g. a subclass of Number), max value */
@@ -97,6 +101,8 @@ public interface Features {
          * hold the Bean-type not the Collection-type.
          */
         String REF_BEAN_TYPE = "refBeanType";
+        /** typed {@link #REF_BEAN_TYPE} */
+        FeatureKey<Class<?>> REF_BEAN_TYPE_KEY = FeatureKey.of(REF_BEAN_TYPE);
 
         /**
          * INFO: AccessStrategy[]<br>
@@ -109,6 +115,8 @@ public interface Features {
          * when MetaProperty.metaBean is != null
          */
         String REF_CASCADE = "refCascade";
+        /** typed {@link #REF_CASCADE} */
+        FeatureKey<AccessStrategy[]> REF_CASCADE_KEY = FeatureKey.of(REF_CASCADE);
 
         /** INFO: an array with the string names of custom java script validation functions */
         @Deprecated // TODO RSt - I suggest to remove this and all related code
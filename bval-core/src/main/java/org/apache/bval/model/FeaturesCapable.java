@@ -16,19 +16,39 @@
  */
 package org.apache.bval.model;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 /**
  * Description: abstract superclass of meta objects that support a map of
  * features.<br/>
+ * Features with a {@link FeatureKey} are stored in fixed slots, others in a
+ * map created on demand; both are accessible by name.
  */
 public abstract class FeaturesCapable implements Serializable {
-    private static final long serialVersionUID = -4045110242904814218L;
+    private static final long serialVersionUID = 4735437286946458296L;
 
-    private ConcurrentMap<String, Object> features = createFeaturesMap();
+    /**
+     * values of keyed features by {@link FeatureKey#getSlot()}, replaced on write
+     */
+    private transient volatile Object[] slots;
+
+    /**
+     * features without a {@link FeatureKey}
+     */
+    private transient volatile ConcurrentMap<String, Object> features;
 
     /** key = validation id, value = the validation */
     private Validation[] validations = new Validation[0];
@@ -46,7 +66,7 @@ public abstract class FeaturesCapable implements Serializable {
      * @return Map<String, Object>
      */
     public Map<String, Object> getFeatures() {
-        return features;
+        return new FeaturesView();
     }
 
     /**
@@ -71,7 +91,37 @@ public abstract class FeaturesCapable implements Serializable {
      */
     @SuppressWarnings("unchecked")
     public <T> T getFeature(String key, T defaultValue) {
-        final T value = (T) features.get(key);
+        final FeatureKey<?> featureKey = FeatureKey.lookup(key);
+        final T value = (T) (featureKey == null ? getUnkeyed(key) : get(featureKey));
+        if (value == null) {
+            return defaultValue;
+        }
+        return value;
+    }
+
+    /**
+     * Get the specified feature.
+     *
+     * @param <T>
+     * @param key
+     * @return T
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getFeature(FeatureKey<T> key) {
+        return (T) get(key);
+    }
+
+    /**
+     * Get the specified feature, returning <code>defaultValue</code> if
+     * undeclared.
+     *
+     * @param <T>
+     * @param key
+     * @param defaultValue
+     * @return T
+     */
+    public <T> T getFeature(FeatureKey<T> key, T defaultValue) {
+        final T value = getFeature(key);
         if (value == null) {
             return defaultValue;
         }
@@ -85,13 +135,132 @@ public abstract class FeaturesCapable implements Serializable {
      * @param value
      */
     public <T> void putFeature(final String key, final T value) {
-        features.put(key, value);
+        final FeatureKey<?> featureKey = FeatureKey.lookup(key);
+        if (featureKey == null) {
+            getUnkeyedFeatures().put(key, value);
+        } else {
+            set(featureKey, value);
+        }
+    }
+
+    /**
+     * Set a particular feature value.
+     *
+     * @param key
+     * @param value
+     */
+    public <T> void putFeature(final FeatureKey<T> key, final T value) {
+        set(key, value);
     }
 
     public <T> T initFeature(final String key, final T value) {
+        final FeatureKey<?> featureKey = FeatureKey.lookup(key);
+        if (featureKey == null) {
+            @SuppressWarnings("unchecked")
+            final T faster = (T) getUnkeyedFeatures().putIfAbsent(key, value);
+            return faster == null ? value : faster;
+        }
         @SuppressWarnings("unchecked")
-        final T faster = (T) features.putIfAbsent(key, value);
-        return faster == null ? value : faster;
+        final FeatureKey<T> typed = (FeatureKey<T>) featureKey;
+        return initFeature(typed, value);
+    }
+
+    /**
+     * Set a particular feature value unless already set.
+     *
+     * @param key
+     * @param value
+     * @return the value of the feature
+     */
+    public <T> T initFeature(final FeatureKey<T> key, final T value) {
+        synchronized (this) {
+            final T faster = getFeature(key);
+            if (faster != null) {
+                return faster;
+            }
+            set(key, value);
+            return value;
+        }
+    }
+
+    /**
+     * Remove a particular feature.
+     *
+     * @param key
+     * @return the removed value
+     */
+    public Object removeFeature(final String key) {
+        final FeatureKey<?> featureKey = FeatureKey.lookup(key);
+        final ConcurrentMap<String, Object> unkeyed = features;
+        final Object removed = unkeyed == null ? null : unkeyed.remove(key);
+        if (featureKey == null) {
+            return removed;
+        }
+        final Object value = get(featureKey);
+        set(featureKey, null);
+        return value == null ? removed : value;
+    }
+
+    private Object get(final FeatureKey<?> key) {
+        final Object[] current = slots;
+        final int slot = key.getSlot();
+        return current == null || slot >= current.length ? null : current[slot];
+    }
+
+    private Object getUnkeyed(final String key) {
+        final ConcurrentMap<String, Object> unkeyed = features;
+        return unkeyed == null ? null : unkeyed.get(key);
+    }
+
+    private synchronized void set(final FeatureKey<?> key, final Object value) {
+        final Object[] current = slots;
+        final int slot = key.getSlot();
+        final Object[] updated;
+        if (current == null) {
+            if (value == null) {
+                return;
+            }
+            updated = new Object[slot + 1];
+        } else {
+            updated = new Object[Math.max(current.length, slot + 1)];
+            System.arraycopy(current, 0, updated, 0, current.length);
+        }
+        updated[slot] = value;
+        slots = updated;
+    }
+
+    private ConcurrentMap<String, Object> getUnkeyedFeatures() {
+        ConcurrentMap<String, Object> result = features;
+        if (result == null) {
+            synchronized (this) {
+                result = features;
+                if (result == null) {
+                    result = createFeaturesMap();
+                    features = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get a snapshot of all features.
+     */
+    private Map<String, Object> snapshot() {
+        final Map<String, Object> result = new HashMap<String, Object>();
+        final ConcurrentMap<String, Object> unkeyed = features;
+        if (unkeyed != null) {
+            result.putAll(unkeyed);
+        }
+        final Object[] current = slots;
+        if (current != null) {
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] != null) {
+                    result.put(FeatureKey.nameOf(i), current[i]);
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -118,8 +287,15 @@ public abstract class FeaturesCapable implements Serializable {
      * @param target
      */
     protected void copyInto(FeaturesCapable target) {
-        target.features = target.createFeaturesMap();
-        target.features.putAll(features);
+        final Object[] current = slots;
+        target.slots = current == null ? null : current.clone();
+        final ConcurrentMap<String, Object> unkeyed = features;
+        if (unkeyed == null) {
+            target.features = null;
+        } else {
+            target.features = target.createFeaturesMap();
+            target.features.putAll(unkeyed);
+        }
         target.validations = validations != null ? validations.clone() : null;
     }
 
@@ -183,4 +359,83 @@ public abstract class FeaturesCapable implements Serializable {
     protected ConcurrentMap<String, Object> createFeaturesMap() {
         return new ConcurrentHashMap<String, Object>();
     }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        // slots are only meaningful in this VM
+        out.writeObject(snapshot());
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        @SuppressWarnings("unchecked")
+        final Map<String, Object> all = (Map<String, Object>) in.readObject();
+        for (Map.Entry<String, Object> entry : all.entrySet()) {
+            putFeature(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Live {@link Map} view of the features.
+     */
+    private class FeaturesView extends AbstractMap<String, Object> {
+        @Override
+        public Object get(Object key) {
+            return key instanceof String ? getFeature((String) key) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public Object put(String key, Object value) {
+            final Object previous = getFeature(key);
+            putFeature(key, value);
+            return previous;
+        }
+
+        @Override
+        public Object remove(Object key) {
+            return key instanceof String ? removeFeature((String) key) : null;
+        }
+
+        @Override
+        public Set<Map.Entry<String, Object>> entrySet() {
+            return new AbstractSet<Map.Entry<String, Object>>() {
+                @Override
+                public Iterator<Map.Entry<String, Object>> iterator() {
+                    final List<Map.Entry<String, Object>> entries =
+                        new ArrayList<Map.Entry<String, Object>>(snapshot().entrySet());
+                    final Iterator<Map.Entry<String, Object>> delegate = entries.iterator();
+                    return new Iterator<Map.Entry<String, Object>>() {
+                        private Map.Entry<String, Object> current;
+
+                        @Override
+                        public boolean hasNext() {
+                            return delegate.hasNext();
+                        }
+
+                        @Override
+                        public Map.Entry<String, Object> next() {
+                            current = delegate.next();
+                            return current;
+                        }
+
+                        @Override
+                        public void remove() {
+                            delegate.remove();
+                            removeFeature(current.getKey());
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return snapshot().size();
+                }
+            };
+        }
+    }
 }
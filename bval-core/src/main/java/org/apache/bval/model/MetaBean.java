@@ -17,10 +17,12 @@
 package org.apache.bval.model;
 
 import java.beans.Introspector;
+import java.io.Serializable;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
@@ -33,6 +35,8 @@ import org.apache.commons.weaver.privilizer.Privilizing.CallTo;
 /**
  * Description: the meta description of a bean or class. the class/bean itself can have a map of features and an array
  * of metaproperties.<br/>
+ * Once completely built, a MetaBean can be {@link #freeze()}d into a compact form whose structure no longer changes
+ * (its features still can).
  * 
  * @see MetaProperty
  */
@@ -40,13 +44,19 @@ import org.apache.commons.weaver.privilizer.Privilizing.CallTo;
 public class MetaBean extends FeaturesCapable implements Cloneable, Features.Bean {
     private static final long serialVersionUID = 2L;
 
+    private static final MetaProperty[] EMPTY_PROPERTIES = new MetaProperty[0];
+    private static final MetaMethod[] EMPTY_METHODS = new MetaMethod[0];
+
     private String id;
     private String name;
     private Class<?> beanClass;
 
-    private Map<String, MetaProperty> properties = null;
-    private Map<Method, MetaMethod> methods = null;
-    private Map<Constructor<?>, MetaConstructor> constructors = null;
+    // structure while building, dropped by #freeze()
+    private volatile Map<String, MetaProperty> properties = null;
+    private volatile Map<Method, MetaMethod> methods = null;
+    private volatile Map<Constructor<?>, MetaConstructor> constructors = null;
+
+    private volatile Frozen frozen;
 
     /**
      * Get the id.
@@ -102,6 +112,7 @@ public class MetaBean extends FeaturesCapable implements Cloneable, Features.Bea
      *            the Class<?> to set
      */
     public void setBeanClass(Class<?> beanClass) {
+        assertNotFrozen();
         this.beanClass = beanClass;
         if (beanClass != null) {
             // order of fields to ensure correct failling order
@@ -130,20 +141,39 @@ public class MetaBean extends FeaturesCapable implements Cloneable, Features.Bea
      * @return MetaProperty[]
      */
     public MetaProperty[] getProperties() {
-        if (properties == null) {
-            return new MetaProperty[0];
+        Frozen f = frozen;
+        if (f == null) {
+            final Map<String, MetaProperty> current = properties;
+            if (current != null) {
+                return current.values().toArray(new MetaProperty[current.size()]);
+            }
+            f = frozen; // frozen in the meantime?
+            if (f == null) {
+                return new MetaProperty[0];
+            }
         }
-        return properties.values().toArray(new MetaProperty[this.properties.size()]);
+        // shared: not to be modified
+        return f.properties;
     }
 
     public MetaMethod[] getMethods() {
-        if (methods == null) {
-            return new MetaMethod[0];
+        Frozen f = frozen;
+        if (f == null) {
+            final Map<Method, MetaMethod> current = methods;
+            if (current != null) {
+                return current.values().toArray(new MetaMethod[current.size()]);
+            }
+            f = frozen;
+            if (f == null) {
+                return new MetaMethod[0];
+            }
         }
-        return methods.values().toArray(new MetaMethod[this.methods.size()]);
+        // shared: not to be modified
+        return f.methods;
     }
 
     public void addMethod(final Method method, final MetaMethod meta) {
+        assertNotFrozen();
         if (methods == null) {
             methods = new HashMap<Method, MetaMethod>();
         }
@@ -151,6 +181,7 @@ public class MetaBean extends FeaturesCapable implements Cloneable, Features.Bea
     }
 
     public void addConstructor(final Constructor<?> constructor, final MetaConstructor meta) {
+        assertNotFrozen();
         if (constructors == null) {
             constructors = new HashMap<Constructor<?>, MetaConstructor>();
         }
@@ -164,10 +195,12 @@ public class MetaBean extends FeaturesCapable implements Cloneable, Features.Bea
      *            the MetaProperty[] to set
      */
     public void setProperties(MetaProperty[] properties) {
-        this.properties = new HashMap<String, MetaProperty>();
+        assertNotFrozen();
+        final Map<String, MetaProperty> map = new HashMap<String, MetaProperty>();
         for (final MetaProperty property : properties) {
-            this.properties.put(property.getName(), property);
+            map.put(property.getName(), property);
         }
+        this.properties = map;
     }
 
     /**
@@ -177,10 +210,18 @@ public class MetaBean extends FeaturesCapable implements Cloneable, Features.Bea
      * @return MetaProperty found or <code>null</code>
      */
     public MetaProperty getProperty(String name) {
-        if (properties == null) {
-            return null;
+        Frozen f = frozen;
+        if (f == null) {
+            final Map<String, MetaProperty> current = properties;
+            if (current != null) {
+                return current.get(name);
+            }
+            f = frozen;
+            if (f == null) {
+                return null;
+            }
         }
-        return this.properties.get(name);
+        return f.getProperty(name);
     }
 
     /**
@@ -190,10 +231,7 @@ public class MetaBean extends FeaturesCapable implements Cloneable, Features.Bea
      * @return true when at least one of the properties is a relationship
      */
     public boolean hasRelationships() {
-        if (properties == null) {
-            return false;
-        }
-        for (MetaProperty property : this.properties.values()) {
+        for (MetaProperty property : getProperties()) {
             if (property.isRelationship()) {
                 return true;
             }
@@ -209,6 +247,7 @@ public class MetaBean extends FeaturesCapable implements Cloneable, Features.Bea
      *            if <code>null</code>, remove
      */
     public void putProperty(String name, MetaProperty property) {
+        assertNotFrozen();
         if (properties == null) {
             properties = new HashMap<String, MetaProperty>();
         }
@@ -220,6 +259,26 @@ public class MetaBean extends FeaturesCapable implements Cloneable, Features.Bea
         }
     }
 
+    /**
+     * Create a {@link MetaProperty} owned by this {@link MetaBean}, added to its structure unless frozen, in which case
+     * only the caller knows the property (e.g. an unconstrained property discovered while navigating a path).
+     *
+     * @param name property name
+     * @return the new {@link MetaProperty}
+     */
+    public MetaProperty createProperty(String name) {
+        final MetaProperty property = new MetaProperty();
+        property.setName(name);
+        synchronized (this) {
+            if (frozen == null) {
+                putProperty(name, property);
+            } else {
+                property.setParentMetaBean(this);
+            }
+        }
+        return property;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -235,11 +294,61 @@ public class MetaBean extends FeaturesCapable implements Cloneable, Features.Bea
     protected void copyInto(FeaturesCapable target) {
         super.copyInto(target);
         final MetaBean copy = (MetaBean) target;
-        if (properties != null) {
+        final Frozen f = frozen;
+        // copies are built further, so they are never frozen
+        copy.frozen = null;
+        if (f == null) {
+            if (properties != null) {
+                copy.properties = new TreeMap<String, MetaProperty>();
+                for (Map.Entry<String, MetaProperty> entry : properties.entrySet()) {
+                    copy.properties.put(entry.getKey(), (MetaProperty) entry.getValue().copy());
+                }
+            }
+        } else {
             copy.properties = new TreeMap<String, MetaProperty>();
-            for (Map.Entry<String, MetaProperty> entry : properties.entrySet()) {
-                copy.properties.put(entry.getKey(), (MetaProperty) entry.getValue().copy());
+            for (MetaProperty property : f.properties) {
+                copy.properties.put(property.getName(), (MetaProperty) property.copy());
             }
+            copy.methods = f.methodIndex == null ? null : new HashMap<Method, MetaMethod>(f.methodIndex);
+            copy.constructors =
+                f.constructorIndex == null ? null : new HashMap<Constructor<?>, MetaConstructor>(f.constructorIndex);
+        }
+    }
+
+    /**
+     * Freeze the structure of this {@link MetaBean} once it is completely built: properties and methods are moved to
+     * pre-sized arrays returned as-is by {@link #getProperties()} and {@link #getMethods()}, properties are indexed
+     * by their interned names, and the building maps are released. Methods changing the structure fail afterwards.
+     * Calling this method again has no effect.
+     */
+    public synchronized void freeze() {
+        if (frozen != null) {
+            return;
+        }
+        if (id != null) {
+            id = id.intern();
+        }
+        if (name != null) {
+            name = name.intern();
+        }
+        frozen = new Frozen(properties, methods, constructors);
+        properties = null;
+        methods = null;
+        constructors = null;
+    }
+
+    /**
+     * Learn whether this {@link MetaBean} has been {@link #freeze()}d.
+     *
+     * @return boolean
+     */
+    public boolean isFrozen() {
+        return frozen != null;
+    }
+
+    private void assertNotFrozen() {
+        if (frozen != null) {
+            throw new IllegalStateException(this + " is frozen");
         }
     }
 
@@ -264,11 +373,112 @@ public class MetaBean extends FeaturesCapable implements Cloneable, Features.Bea
     }
 
     public MetaMethod getMethod(final Method method) {
-        return methods == null ? null : methods.get(method);
+        Frozen f = frozen;
+        if (f == null) {
+            final Map<Method, MetaMethod> current = methods;
+            if (current != null) {
+                return current.get(method);
+            }
+            f = frozen;
+            if (f == null) {
+                return null;
+            }
+        }
+        return f.methodIndex == null ? null : f.methodIndex.get(method);
     }
 
     public MetaConstructor getConstructor(final Constructor<?> constructor) {
-        return constructors == null ? null : constructors.get(constructor);
+        Frozen f = frozen;
+        if (f == null) {
+            final Map<Constructor<?>, MetaConstructor> current = constructors;
+            if (current != null) {
+                return current.get(constructor);
+            }
+            f = frozen;
+            if (f == null) {
+                return null;
+            }
+        }
+        return f.constructorIndex == null ? null : f.constructorIndex.get(constructor);
+    }
+
+    /**
+     * Compact, immutable structure of a frozen {@link MetaBean}.
+     */
+    private static final class Frozen implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        final MetaProperty[] properties;
+        final MetaMethod[] methods;
+
+        /**
+         * open-addressing table of {@link #properties} by name, of a power of two length
+         */
+        final String[] propertyNames;
+        final MetaProperty[] propertyTable;
+
+        // hashed by identity for Method/Constructor, no ordering needed anymore
+        final Map<Method, MetaMethod> methodIndex;
+        final Map<Constructor<?>, MetaConstructor> constructorIndex;
+
+        Frozen(Map<String, MetaProperty> properties, Map<Method, MetaMethod> methods,
+            Map<Constructor<?>, MetaConstructor> constructors) {
+            if (properties == null || properties.isEmpty()) {
+                this.properties = EMPTY_PROPERTIES;
+                this.propertyNames = null;
+                this.propertyTable = null;
+            } else {
+                this.properties = new MetaProperty[properties.size()];
+                int length = 2;
+                while (length < this.properties.length * 2) {
+                    length <<= 1;
+                }
+                this.propertyNames = new String[length];
+                this.propertyTable = new MetaProperty[length];
+                int p = 0;
+                for (final Map.Entry<String, MetaProperty> entry : properties.entrySet()) {
+                    final MetaProperty property = entry.getValue();
+                    final String key = entry.getKey().intern();
+                    if (key.equals(property.getName())) {
+                        property.setName(key);
+                    }
+                    this.properties[p++] = property;
+
+                    int i = key.hashCode() & (length - 1);
+                    while (propertyNames[i] != null) {
+                        i = (i + 1) & (length - 1);
+                    }
+                    propertyNames[i] = key;
+                    propertyTable[i] = property;
+                }
+            }
+            if (methods == null || methods.isEmpty()) {
+                this.methods = EMPTY_METHODS;
+                this.methodIndex = null;
+            } else {
+                this.methods = methods.values().toArray(new MetaMethod[methods.size()]);
+                this.methodIndex = Collections.unmodifiableMap(new HashMap<Method, MetaMethod>(methods));
+            }
+            this.constructorIndex = constructors == null || constructors.isEmpty() ? null
+                : Collections.unmodifiableMap(new HashMap<Constructor<?>, MetaConstructor>(constructors));
+        }
+
+        MetaProperty getProperty(String name) {
+            if (propertyNames == null || name == null) {
+                return null;
+            }
+            final int mask = propertyNames.length - 1;
+            for (int i = name.hashCode() & mask;; i = (i + 1) & mask) {
+                final String candidate = propertyNames[i];
+                if (candidate == null) {
+                    return null;
+                }
+                // interned names mostly match by identity
+                if (candidate == name || candidate.equals(name)) {
+                    return propertyTable[i];
+                }
+            }
+        }
     }
 
     protected static class FieldComparator implements Comparator<String> {
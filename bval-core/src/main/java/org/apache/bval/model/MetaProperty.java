@@ -116,7 +116,7 @@ public class MetaProperty extends Meta implements Cloneable, Features.Property {
      * @see {@link Features.Property#MANDATORY}
      */
     public boolean isMandatory() {
-        return getFeature(MANDATORY, Boolean.FALSE).booleanValue();
+        return getFeature(MANDATORY_KEY, Boolean.FALSE).booleanValue();
     }
 
     /**
@@ -125,7 +125,7 @@ public class MetaProperty extends Meta implements Cloneable, Features.Property {
      * @see {@link Features.Property#MANDATORY}
      */
     public void setMandatory(boolean mandatory) {
-        putFeature(MANDATORY, Boolean.valueOf(mandatory));
+        putFeature(MANDATORY_KEY, Boolean.valueOf(mandatory));
     }
 
     /**
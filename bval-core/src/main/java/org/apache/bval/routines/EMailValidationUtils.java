@@ -48,6 +48,104 @@ public class EMailValidationUtils {
         return isValid(value, DEFAULT_EMAIL_PATTERN);
     }
 
+    /**
+     * Learn whether <code>seq</code> matches {@link #DEFAULT_EMAIL_PATTERN} per
+     * {@link Matcher#matches()}, using a single pass over the input rather than
+     * the (backtracking) regular expression.
+     * 
+     * @param seq
+     * @return <code>true</code> if <code>seq</code> is an email address
+     */
+    public static boolean matchesDefaultPattern(CharSequence seq) {
+        final int length = seq.length();
+        final int at = scanDottedAtoms(seq, 0, length);
+        if (at < 0 || at == length || seq.charAt(at) != '@') {
+            return false;
+        }
+        final int domain = at + 1;
+        if (domain < length && seq.charAt(domain) == '[') {
+            return scanIpDomain(seq, domain + 1, length);
+        }
+        return scanDottedAtoms(seq, domain, length) == length;
+    }
+
+    /**
+     * Scan <code>ATOM+(\.ATOM+)*</code>.
+     * 
+     * @return index of the first character not consumed, or -1 if there was no match
+     */
+    private static int scanDottedAtoms(CharSequence seq, int start, int end) {
+        int i = start;
+        while (true) {
+            final int atomStart = i;
+            while (i < end && isAtom(seq.charAt(i))) {
+                i++;
+            }
+            if (i == atomStart) {
+                return -1;
+            }
+            if (i == end || seq.charAt(i) != '.') {
+                return i;
+            }
+            i++;
+        }
+    }
+
+    /**
+     * Scan the remainder of <code>IP_DOMAIN</code> after its opening bracket, up to <code>end</code>.
+     */
+    private static boolean scanIpDomain(CharSequence seq, int start, int end) {
+        int i = start;
+        for (int octet = 0; octet < 4; octet++) {
+            if (octet > 0) {
+                if (i == end || seq.charAt(i) != '.') {
+                    return false;
+                }
+                i++;
+            }
+            final int digitsStart = i;
+            while (i < end && i - digitsStart < 3 && isDigit(seq.charAt(i))) {
+                i++;
+            }
+            if (i == digitsStart) {
+                return false;
+            }
+        }
+        return i == end - 1 && seq.charAt(i) == ']';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Equivalent of <code>ATOM</code>; case insensitivity is irrelevant as no letters are excluded.
+     */
+    private static boolean isAtom(char c) {
+        if (c <= ' ') {
+            // control characters and \s
+            return false;
+        }
+        switch (c) {
+        case '(':
+        case ')':
+        case '<':
+        case '>':
+        case '@':
+        case ',':
+        case ';':
+        case ':':
+        case '\\':
+        case '"':
+        case '.':
+        case '[':
+        case ']':
+            return false;
+        default:
+            return true;
+        }
+    }
+
     /**
      * Learn whether a particular value matches a given pattern per
      * {@link Matcher#matches()}.
@@ -70,6 +168,9 @@ public class EMailValidationUtils {
         if (seq.length() == 0) {
             return true;
         }
+        if (aPattern == DEFAULT_EMAIL_PATTERN) {
+            return matchesDefaultPattern(seq);
+        }
         return aPattern.matcher(seq).matches();
     }
 
@@ -0,0 +1,127 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.apache.bval.util;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.bval.util.reflection.Reflection;
+import org.apache.commons.weaver.privilizer.Privilizing;
+import org.apache.commons.weaver.privilizer.Privilizing.CallTo;
+
+/**
+ * Description: the declared fields and methods of a single class, read once per {@link Cache}
+ * and shared by the metadata factories using that cache. Synthetic and bridge methods
+ * are dropped and zero-argument {@code get}/{@code is} methods are indexed with their
+ * property names, so callers do not repeat the name parsing per factory.<br/>
+ */
+@Privilizing(@CallTo(Reflection.class))
+public final class DeclaredMembers {
+    /**
+     * Cache of {@link DeclaredMembers} by class. Owned by the component whose lifecycle bounds
+     * the scanned classes (e.g. a validator factory), so that no class is retained beyond it.
+     */
+    public static final class Cache {
+        private final ConcurrentMap<Class<?>, DeclaredMembers> members =
+            new ConcurrentHashMap<Class<?>, DeclaredMembers>();
+
+        /**
+         * Get the (cached) declared members of {@code type}.
+         * @param type
+         * @return DeclaredMembers
+         */
+        public DeclaredMembers get(Class<?> type) {
+            DeclaredMembers result = members.get(type);
+            if (result == null) {
+                result = new DeclaredMembers(type);
+                final DeclaredMembers faster = members.putIfAbsent(type, result);
+                if (faster != null) {
+                    result = faster;
+                }
+            }
+            return result;
+        }
+    }
+
+    private final Field[] fields;
+    private final Method[] methods;
+    private final Method[] getters;
+    private final String[] getterNames;
+
+    private DeclaredMembers(Class<?> type) {
+        fields = Reflection.getDeclaredFields(type);
+        final Method[] declared = Reflection.getDeclaredMethods(type);
+        final List<Method> m = new ArrayList<Method>(declared.length);
+        final List<Method> g = new ArrayList<Method>();
+        final List<String> n = new ArrayList<String>();
+        for (Method method : declared) {
+            if (method.isSynthetic() || method.isBridge()) {
+                continue;
+            }
+            m.add(method);
+            if (method.getParameterTypes().length == 0) {
+                final String propertyName = MethodAccess.getPropertyName(method);
+                if (propertyName != null) {
+                    g.add(method);
+                    n.add(propertyName);
+                }
+            }
+        }
+        methods = m.toArray(new Method[m.size()]);
+        getters = g.toArray(new Method[g.size()]);
+        getterNames = n.toArray(new String[n.size()]);
+    }
+
+    /**
+     * Get the declared fields. The returned array is shared and must not be modified.
+     * @return {@link Field} array
+     */
+    public Field[] getFields() {
+        return fields;
+    }
+
+    /**
+     * Get the declared methods other than synthetic and bridge methods. The returned array is shared
+     * and must not be modified.
+     * @return {@link Method} array
+     */
+    public Method[] getMethods() {
+        return methods;
+    }
+
+    /**
+     * Get the zero-argument declared methods following the {@code get}/{@code is} naming convention,
+     * in the same order as {@link #getGetterNames()}. The returned array is shared and must not be modified.
+     * @return {@link Method} array
+     */
+    public Method[] getGetters() {
+        return getters;
+    }
+
+    /**
+     * Get the property names of {@link #getGetters()}, as computed by
+     * {@link MethodAccess#getPropertyName(Method)}. The returned array is shared and must not be modified.
+     * @return String array
+     */
+    public String[] getGetterNames() {
+        return getterNames;
+    }
+}
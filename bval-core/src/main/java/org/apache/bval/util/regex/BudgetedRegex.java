@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.util.regex;
+
+import java.util.regex.Pattern;
+
+/**
+ * Description: a {@link RegexMatcher} delegating to a backtracking {@link Pattern}, but failing any
+ * match that inspects more than a fixed number of input characters, so that a pathological expression
+ * cannot hold a thread hostage.<br/>
+ * Instances are immutable and thread-safe.
+ */
+public final class BudgetedRegex implements RegexMatcher {
+    private final Pattern pattern;
+    private final long stepBudget;
+
+    /**
+     * Create a new BudgetedRegex instance.
+     * 
+     * @param pattern
+     * @param stepBudget maximum number of character reads per match; must be positive
+     */
+    public BudgetedRegex(Pattern pattern, long stepBudget) {
+        if (stepBudget <= 0) {
+            throw new IllegalArgumentException("stepBudget must be positive");
+        }
+        this.pattern = pattern;
+        this.stepBudget = stepBudget;
+    }
+
+    /**
+     * {@inheritDoc} Returns <code>false</code> once the step budget is exhausted.
+     */
+    @Override
+    public boolean matches(CharSequence input) {
+        try {
+            return pattern.matcher(new CountingCharSequence(input, new long[] { stepBudget })).matches();
+        } catch (BudgetExceeded e) {
+            return false;
+        }
+    }
+
+    /**
+     * Get the budgeted pattern.
+     * 
+     * @return {@link Pattern}
+     */
+    public Pattern getPattern() {
+        return pattern;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "BudgetedRegex{" + pattern.pattern() + ", stepBudget=" + stepBudget + '}';
+    }
+
+    /**
+     * Thrown to abort a match; stackless as it is used for control flow only.
+     */
+    private static class BudgetExceeded extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    private static class CountingCharSequence implements CharSequence {
+        private final CharSequence delegate;
+        /** remaining budget, shared with subsequences */
+        private final long[] remaining;
+
+        CountingCharSequence(CharSequence delegate, long[] remaining) {
+            this.delegate = delegate;
+            this.remaining = remaining;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (--remaining[0] < 0) {
+                throw new BudgetExceeded();
+            }
+            return delegate.charAt(index);
+        }
+
+        @Override
+        public int length() {
+            return delegate.length();
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new CountingCharSequence(delegate.subSequence(start, end), remaining);
+        }
+
+        @Override
+        public String toString() {
+            return delegate.toString();
+        }
+    }
+}
@@ -0,0 +1,804 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.util.regex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Description: a {@link RegexMatcher} that runs in time linear to the length of its input, by
+ * simulating a Thompson NFA instead of backtracking. Only a subset of the {@link Pattern} syntax is
+ * understood: literals and escapes, <code>.</code>, character classes without unions/intersections,
+ * the predefined and POSIX (<code>\p{Alpha}</code> etc.) classes, capturing, named and non-capturing
+ * groups, alternation, greedy and reluctant quantifiers, and <code>^</code>/<code>$</code> at the
+ * boundaries of top-level alternatives (<code>^</code> only without {@link Pattern#MULTILINE}, under
+ * which {@link Pattern} does not match it at the end of the input). Supported flags are {@link Pattern#UNIX_LINES},
+ * {@link Pattern#CASE_INSENSITIVE}, {@link Pattern#MULTILINE} and {@link Pattern#DOTALL};
+ * {@link #compile(String, int)} returns <code>null</code> for anything else.<br/>
+ * Instances are immutable and thread-safe.
+ */
+public final class LinearRegex implements RegexMatcher {
+    private static final int SUPPORTED_FLAGS =
+        Pattern.UNIX_LINES | Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL;
+
+    /** guards against the expansion of nested counted repetitions */
+    private static final int MAX_PROGRAM_SIZE = 10000;
+
+    private static final byte CHAR = 0;
+    private static final byte SPLIT = 1;
+    private static final byte JMP = 2;
+    private static final byte MATCH = 3;
+
+    private static final int[] DIGIT = { '0', '9' };
+    private static final int[] WORD = { '0', '9', 'A', 'Z', '_', '_', 'a', 'z' };
+    private static final int[] SPACE = { '\t', '\r', ' ', ' ' };
+    private static final int[] LINE_TERMINATORS = { '\n', '\n', '\r', '\r', 0x85, 0x85, 0x2028, 0x2029 };
+    private static final int[] NEWLINE = { '\n', '\n' };
+    private static final int[] ANY = { 0, Character.MAX_CODE_POINT };
+
+    private final String regexp;
+    private final byte[] ops;
+    /** CHAR: index into {@link #sets}; SPLIT, JMP: jump target */
+    private final int[] x;
+    /** SPLIT: alternate jump target */
+    private final int[] y;
+    private final int[][] sets;
+
+    private LinearRegex(String regexp, Program program) {
+        this.regexp = regexp;
+        this.ops = Arrays.copyOf(program.ops, program.size);
+        this.x = Arrays.copyOf(program.x, program.size);
+        this.y = Arrays.copyOf(program.y, program.size);
+        this.sets = program.sets.toArray(new int[program.sets.size()][]);
+    }
+
+    /**
+     * Compile <code>regexp</code>, which must be a valid {@link Pattern} expression.
+     * 
+     * @param regexp
+     * @param flags {@link Pattern} flags
+     * @return {@link LinearRegex} or <code>null</code> if <code>regexp</code> or <code>flags</code>
+     *         fall outside of the supported subset
+     */
+    public static LinearRegex compile(String regexp, int flags) {
+        if ((flags & ~SUPPORTED_FLAGS) != 0) {
+            return null;
+        }
+        try {
+            final Node root = new Parser(regexp, flags).parse();
+            final Program program = new Program();
+            program.compile(root);
+            program.emit(MATCH, 0, 0);
+            return new LinearRegex(regexp, program);
+        } catch (UnsupportedException e) {
+            return null;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean matches(CharSequence input) {
+        final int n = ops.length;
+        int[] current = new int[n];
+        int[] next = new int[n];
+        final int[] marks = new int[n];
+        final int[] stack = new int[n];
+
+        int generation = 1;
+        int size = addClosure(0, current, 0, marks, generation, stack);
+
+        final int length = input.length();
+        int i = 0;
+        while (i < length) {
+            if (size == 0) {
+                return false;
+            }
+            final int cp = Character.codePointAt(input, i);
+            i += Character.charCount(cp);
+
+            generation++;
+            int nextSize = 0;
+            for (int k = 0; k < size; k++) {
+                final int pc = current[k];
+                if (ops[pc] == CHAR && contains(sets[x[pc]], cp)) {
+                    nextSize = addClosure(pc + 1, next, nextSize, marks, generation, stack);
+                }
+            }
+            final int[] swap = current;
+            current = next;
+            next = swap;
+            size = nextSize;
+        }
+        for (int k = 0; k < size; k++) {
+            if (ops[current[k]] == MATCH) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Add the states reachable from <code>start</code> without consuming input to <code>list</code>.
+     */
+    private int addClosure(int start, int[] list, int size, int[] marks, int generation, int[] stack) {
+        if (marks[start] == generation) {
+            return size;
+        }
+        marks[start] = generation;
+        int sp = 0;
+        stack[sp++] = start;
+        while (sp > 0) {
+            final int pc = stack[--sp];
+            switch (ops[pc]) {
+            case JMP:
+                sp = push(x[pc], marks, generation, stack, sp);
+                break;
+            case SPLIT:
+                sp = push(x[pc], marks, generation, stack, sp);
+                sp = push(y[pc], marks, generation, stack, sp);
+                break;
+            default:
+                list[size++] = pc;
+            }
+        }
+        return size;
+    }
+
+    private static int push(int pc, int[] marks, int generation, int[] stack, int sp) {
+        if (marks[pc] == generation) {
+            return sp;
+        }
+        marks[pc] = generation;
+        stack[sp] = pc;
+        return sp + 1;
+    }
+
+    private static boolean contains(int[] ranges, int cp) {
+        int lo = 0;
+        int hi = ranges.length / 2 - 1;
+        while (lo <= hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (cp < ranges[mid * 2]) {
+                hi = mid - 1;
+            } else if (cp > ranges[mid * 2 + 1]) {
+                lo = mid + 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "LinearRegex{" + regexp + '}';
+    }
+
+    /**
+     * Signals an expression outside of the supported subset.
+     */
+    private static class UnsupportedException extends Exception {
+        private static final long serialVersionUID = 1L;
+    }
+
+    private abstract static class Node {
+    }
+
+    /** matches a single code point out of a set */
+    private static class SetNode extends Node {
+        final int[] ranges;
+
+        SetNode(int[] ranges) {
+            this.ranges = ranges;
+        }
+    }
+
+    private static class SequenceNode extends Node {
+        final List<Node> items = new ArrayList<Node>();
+    }
+
+    private static class AlternationNode extends Node {
+        final List<Node> alternatives = new ArrayList<Node>();
+    }
+
+    private static class RepeatNode extends Node {
+        final Node body;
+        final int min;
+        /** -1: unbounded */
+        final int max;
+
+        RepeatNode(Node body, int min, int max) {
+            this.body = body;
+            this.min = min;
+            this.max = max;
+        }
+    }
+
+    /**
+     * Recursive descent parser producing a {@link Node} tree.
+     */
+    private static class Parser {
+        private final String regexp;
+        private final boolean caseInsensitive;
+        private final boolean multiline;
+        private final int[] dot;
+        private int pos;
+
+        Parser(String regexp, int flags) {
+            this.regexp = regexp;
+            this.caseInsensitive = (flags & Pattern.CASE_INSENSITIVE) != 0;
+            this.multiline = (flags & Pattern.MULTILINE) != 0;
+            if ((flags & Pattern.DOTALL) != 0) {
+                dot = ANY;
+            } else if ((flags & Pattern.UNIX_LINES) != 0) {
+                dot = complement(NEWLINE);
+            } else {
+                dot = complement(LINE_TERMINATORS);
+            }
+        }
+
+        Node parse() throws UnsupportedException {
+            final Node result = parseAlternation(0);
+            if (pos < regexp.length()) {
+                throw new UnsupportedException();
+            }
+            return result;
+        }
+
+        private Node parseAlternation(int depth) throws UnsupportedException {
+            final AlternationNode result = new AlternationNode();
+            result.alternatives.add(parseSequence(depth));
+            while (pos < regexp.length() && regexp.charAt(pos) == '|') {
+                pos++;
+                result.alternatives.add(parseSequence(depth));
+            }
+            return result.alternatives.size() == 1 ? result.alternatives.get(0) : result;
+        }
+
+        private Node parseSequence(int depth) throws UnsupportedException {
+            final SequenceNode result = new SequenceNode();
+            final int start = pos;
+            while (pos < regexp.length()) {
+                final char c = regexp.charAt(pos);
+                if (c == '|' || c == ')') {
+                    break;
+                }
+                if (c == '^') {
+                    // matches() always starts at the beginning of the input; multiline carets
+                    // additionally fail at the end of the input:
+                    if (depth > 0 || pos != start || multiline) {
+                        throw new UnsupportedException();
+                    }
+                    pos++;
+                    continue;
+                }
+                if (c == '$') {
+                    // ... and ends at its end:
+                    pos++;
+                    if (depth > 0 || pos < regexp.length() && regexp.charAt(pos) != '|') {
+                        throw new UnsupportedException();
+                    }
+                    continue;
+                }
+                result.items.add(parseQuantifier(parseAtom(depth)));
+            }
+            return result.items.size() == 1 ? result.items.get(0) : result;
+        }
+
+        private Node parseQuantifier(Node atom) throws UnsupportedException {
+            if (pos >= regexp.length()) {
+                return atom;
+            }
+            final int min;
+            final int max;
+            switch (regexp.charAt(pos)) {
+            case '*':
+                min = 0;
+                max = -1;
+                pos++;
+                break;
+            case '+':
+                min = 1;
+                max = -1;
+                pos++;
+                break;
+            case '?':
+                min = 0;
+                max = 1;
+                pos++;
+                break;
+            case '{':
+                pos++;
+                min = parseCount();
+                if (pos < regexp.length() && regexp.charAt(pos) == ',') {
+                    pos++;
+                    max = pos < regexp.length() && regexp.charAt(pos) == '}' ? -1 : parseCount();
+                } else {
+                    max = min;
+                }
+                if (pos >= regexp.length() || regexp.charAt(pos) != '}' || max >= 0 && max < min) {
+                    throw new UnsupportedException();
+                }
+                pos++;
+                break;
+            default:
+                return atom;
+            }
+            if (pos < regexp.length()) {
+                final char c = regexp.charAt(pos);
+                if (c == '?') {
+                    pos++; // reluctance does not affect whether the entire input matches
+                } else if (c == '+') {
+                    throw new UnsupportedException(); // possessive
+                }
+            }
+            if (pos < regexp.length() && "*+?{".indexOf(regexp.charAt(pos)) >= 0) {
+                throw new UnsupportedException();
+            }
+            return new RepeatNode(atom, min, max);
+        }
+
+        private int parseCount() throws UnsupportedException {
+            final int start = pos;
+            while (pos < regexp.length() && pos - start < 5 && Character.isDigit(regexp.charAt(pos))
+                && regexp.charAt(pos) <= '9') {
+                pos++;
+            }
+            if (pos == start || pos < regexp.length() && Character.isDigit(regexp.charAt(pos))) {
+                throw new UnsupportedException();
+            }
+            return Integer.parseInt(regexp.substring(start, pos));
+        }
+
+        private Node parseAtom(int depth) throws UnsupportedException {
+            final int c = regexp.codePointAt(pos);
+            switch (c) {
+            case '(':
+                pos++;
+                if (regexp.startsWith("?:", pos)) {
+                    pos += 2;
+                } else if (regexp.startsWith("?<", pos) && pos + 2 < regexp.length()
+                    && isAsciiLetter(regexp.charAt(pos + 2))) {
+                    final int close = regexp.indexOf('>', pos);
+                    if (close < 0) {
+                        throw new UnsupportedException();
+                    }
+                    pos = close + 1;
+                } else if (regexp.startsWith("?", pos)) {
+                    throw new UnsupportedException(); // lookaround, atomic group, inline flags
+                }
+                final Node group = parseAlternation(depth + 1);
+                if (pos >= regexp.length() || regexp.charAt(pos) != ')') {
+                    throw new UnsupportedException();
+                }
+                pos++;
+                return group;
+            case '[':
+                return new SetNode(parseClass());
+            case '.':
+                pos++;
+                return new SetNode(dot);
+            case '\\':
+                pos++;
+                final int[] escaped = parseEscape(false);
+                return new SetNode(caseInsensitive ? fold(escaped) : escaped);
+            case '*':
+            case '+':
+            case '?':
+            case '{':
+                throw new UnsupportedException();
+            default:
+                pos += Character.charCount(c);
+                return new SetNode(literal(c));
+            }
+        }
+
+        private int[] literal(int c) {
+            final int[] result = { c, c };
+            return caseInsensitive ? fold(result) : result;
+        }
+
+        private int[] parseClass() throws UnsupportedException {
+            pos++; // [
+            boolean negate = false;
+            if (pos < regexp.length() && regexp.charAt(pos) == '^') {
+                negate = true;
+                pos++;
+            }
+            if (pos < regexp.length() && regexp.charAt(pos) == ']') {
+                throw new UnsupportedException();
+            }
+            int[] result = new int[0];
+            while (true) {
+                if (pos >= regexp.length()) {
+                    throw new UnsupportedException();
+                }
+                final int c = regexp.codePointAt(pos);
+                if (c == ']') {
+                    pos++;
+                    break;
+                }
+                if (c == '[' || c == '&' && regexp.startsWith("&&", pos)) {
+                    throw new UnsupportedException(); // union, intersection
+                }
+                final int[] item;
+                if (c == '\\') {
+                    pos++;
+                    item = parseEscape(true);
+                } else {
+                    pos += Character.charCount(c);
+                    item = new int[] { c, c };
+                }
+                if (isSingle(item) && pos + 1 < regexp.length() && regexp.charAt(pos) == '-'
+                    && regexp.charAt(pos + 1) != ']') {
+                    pos++;
+                    final int to;
+                    final int d = regexp.codePointAt(pos);
+                    if (d == '\\') {
+                        pos++;
+                        final int[] end = parseEscape(true);
+                        if (!isSingle(end)) {
+                            throw new UnsupportedException();
+                        }
+                        to = end[0];
+                    } else if (d == '[') {
+                        throw new UnsupportedException();
+                    } else {
+                        pos += Character.charCount(d);
+                        to = d;
+                    }
+                    if (to < item[0]) {
+                        throw new UnsupportedException();
+                    }
+                    result = union(result, new int[] { item[0], to });
+                } else {
+                    result = union(result, item);
+                }
+            }
+            if (caseInsensitive) {
+                result = fold(result);
+            }
+            return negate ? complement(result) : result;
+        }
+
+        /**
+         * Parse the escape sequence following a backslash.
+         */
+        private int[] parseEscape(boolean inClass) throws UnsupportedException {
+            if (pos >= regexp.length()) {
+                throw new UnsupportedException();
+            }
+            final int c = regexp.codePointAt(pos);
+            pos += Character.charCount(c);
+            switch (c) {
+            case 'd':
+                return DIGIT;
+            case 'D':
+                return complement(DIGIT);
+            case 'w':
+                return WORD;
+            case 'W':
+                return complement(WORD);
+            case 's':
+                return SPACE;
+            case 'S':
+                return complement(SPACE);
+            case 'p':
+            case 'P':
+                final int[] posix = parsePosixClass();
+                return c == 'P' ? complement(posix) : posix;
+            case 't':
+                return single('\t');
+            case 'n':
+                return single('\n');
+            case 'r':
+                return single('\r');
+            case 'f':
+                return single('\f');
+            case 'a':
+                return single('\u0007');
+            case 'e':
+                return single('\u001B');
+            case '0':
+                return single(parseOctal());
+            case 'x':
+                return single(parseHex());
+            case 'u':
+                return single(parseHexDigits(4));
+            case 'c':
+                if (pos >= regexp.length()) {
+                    throw new UnsupportedException();
+                }
+                return single(regexp.charAt(pos++) ^ 64);
+            default:
+                if (c < 128 && Character.isLetterOrDigit(c)) {
+                    // backreferences, boundaries, quotation and other constructs
+                    throw new UnsupportedException();
+                }
+                return single(c);
+            }
+        }
+
+        private int[] parsePosixClass() throws UnsupportedException {
+            if (!regexp.startsWith("{", pos)) {
+                throw new UnsupportedException();
+            }
+            final int close = regexp.indexOf('}', pos);
+            if (close < 0) {
+                throw new UnsupportedException();
+            }
+            final String name = regexp.substring(pos + 1, close);
+            pos = close + 1;
+            if ("Lower".equals(name) && !caseInsensitive) {
+                return new int[] { 'a', 'z' };
+            }
+            if ("Upper".equals(name) && !caseInsensitive) {
+                return new int[] { 'A', 'Z' };
+            }
+            if ("ASCII".equals(name)) {
+                return new int[] { 0, 0x7F };
+            }
+            if ("Alpha".equals(name)) {
+                return new int[] { 'A', 'Z', 'a', 'z' };
+            }
+            if ("Digit".equals(name)) {
+                return DIGIT;
+            }
+            if ("Alnum".equals(name)) {
+                return new int[] { '0', '9', 'A', 'Z', 'a', 'z' };
+            }
+            if ("Punct".equals(name)) {
+                return new int[] { '!', '/', ':', '@', '[', '`', '{', '~' };
+            }
+            if ("Graph".equals(name)) {
+                return new int[] { '!', '~' };
+            }
+            if ("Print".equals(name)) {
+                return new int[] { ' ', '~' };
+            }
+            if ("Blank".equals(name)) {
+                return new int[] { '\t', '\t', ' ', ' ' };
+            }
+            if ("Cntrl".equals(name)) {
+                return new int[] { 0, 0x1F, 0x7F, 0x7F };
+            }
+            if ("XDigit".equals(name)) {
+                return new int[] { '0', '9', 'A', 'F', 'a', 'f' };
+            }
+            if ("Space".equals(name)) {
+                return SPACE;
+            }
+            throw new UnsupportedException();
+        }
+
+        private int parseOctal() throws UnsupportedException {
+            int result = 0;
+            int digits = 0;
+            while (pos < regexp.length() && digits < 3) {
+                final char c = regexp.charAt(pos);
+                if (c < '0' || c > '7' || digits == 2 && result > 037) {
+                    break;
+                }
+                result = result * 8 + c - '0';
+                digits++;
+                pos++;
+            }
+            if (digits == 0) {
+                throw new UnsupportedException();
+            }
+            return result;
+        }
+
+        private int parseHex() throws UnsupportedException {
+            if (!regexp.startsWith("{", pos)) {
+                return parseHexDigits(2);
+            }
+            final int close = regexp.indexOf('}', pos);
+            if (close < 0 || close == pos + 1 || close - pos > 7) {
+                throw new UnsupportedException();
+            }
+            pos++;
+            final int result = parseHexDigits(close - pos);
+            pos++; // }
+            if (result > Character.MAX_CODE_POINT) {
+                throw new UnsupportedException();
+            }
+            return result;
+        }
+
+        private int parseHexDigits(int count) throws UnsupportedException {
+            if (pos + count > regexp.length()) {
+                throw new UnsupportedException();
+            }
+            int result = 0;
+            for (int i = 0; i < count; i++) {
+                final int digit = Character.digit(regexp.charAt(pos++), 16);
+                if (digit < 0) {
+                    throw new UnsupportedException();
+                }
+                result = result * 16 + digit;
+            }
+            return result;
+        }
+    }
+
+    private static boolean isAsciiLetter(int c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z';
+    }
+
+    private static int[] single(int c) {
+        return new int[] { c, c };
+    }
+
+    private static boolean isSingle(int[] ranges) {
+        return ranges.length == 2 && ranges[0] == ranges[1];
+    }
+
+    /**
+     * Merge two sorted, disjoint range lists.
+     */
+    private static int[] union(int[] a, int[] b) {
+        final int[] all = new int[a.length + b.length];
+        System.arraycopy(a, 0, all, 0, a.length);
+        System.arraycopy(b, 0, all, a.length, b.length);
+        return normalize(all);
+    }
+
+    /**
+     * Sort and merge an arbitrary list of ranges.
+     */
+    private static int[] normalize(int[] ranges) {
+        final int count = ranges.length / 2;
+        final long[] packed = new long[count];
+        for (int i = 0; i < count; i++) {
+            packed[i] = ((long) ranges[i * 2] << 32) | ranges[i * 2 + 1];
+        }
+        Arrays.sort(packed);
+        final int[] result = new int[ranges.length];
+        int size = 0;
+        for (final long range : packed) {
+            final int lo = (int) (range >>> 32);
+            final int hi = (int) range;
+            if (size > 0 && lo <= result[size - 1] + 1) {
+                result[size - 1] = Math.max(result[size - 1], hi);
+            } else {
+                result[size++] = lo;
+                result[size++] = hi;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private static int[] complement(int[] ranges) {
+        final int[] result = new int[ranges.length + 2];
+        int size = 0;
+        int next = 0;
+        for (int i = 0; i < ranges.length; i += 2) {
+            if (ranges[i] > next) {
+                result[size++] = next;
+                result[size++] = ranges[i] - 1;
+            }
+            next = ranges[i + 1] + 1;
+        }
+        if (next <= Character.MAX_CODE_POINT) {
+            result[size++] = next;
+            result[size++] = Character.MAX_CODE_POINT;
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Add the other (US-ASCII) case of every letter in <code>ranges</code>, as {@link Pattern#CASE_INSENSITIVE}
+     * does without {@link Pattern#UNICODE_CASE}.
+     */
+    private static int[] fold(int[] ranges) {
+        int[] result = ranges;
+        for (int i = 0; i < ranges.length; i += 2) {
+            final int lower = Math.max(ranges[i], 'a');
+            final int upper = Math.min(ranges[i + 1], 'z');
+            if (lower <= upper) {
+                result = union(result, new int[] { lower - 32, upper - 32 });
+            }
+            final int lowerU = Math.max(ranges[i], 'A');
+            final int upperU = Math.min(ranges[i + 1], 'Z');
+            if (lowerU <= upperU) {
+                result = union(result, new int[] { lowerU + 32, upperU + 32 });
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Instruction list under construction.
+     */
+    private static class Program {
+        byte[] ops = new byte[16];
+        int[] x = new int[16];
+        int[] y = new int[16];
+        int size;
+        final List<int[]> sets = new ArrayList<int[]>();
+
+        int emit(byte op, int a, int b) throws UnsupportedException {
+            if (size == MAX_PROGRAM_SIZE) {
+                throw new UnsupportedException();
+            }
+            if (size == ops.length) {
+                ops = Arrays.copyOf(ops, size * 2);
+                x = Arrays.copyOf(x, size * 2);
+                y = Arrays.copyOf(y, size * 2);
+            }
+            ops[size] = op;
+            x[size] = a;
+            y[size] = b;
+            return size++;
+        }
+
+        void compile(Node node) throws UnsupportedException {
+            if (node instanceof SetNode) {
+                sets.add(((SetNode) node).ranges);
+                emit(CHAR, sets.size() - 1, 0);
+            } else if (node instanceof SequenceNode) {
+                for (final Node item : ((SequenceNode) node).items) {
+                    compile(item);
+                }
+            } else if (node instanceof AlternationNode) {
+                final List<Node> alternatives = ((AlternationNode) node).alternatives;
+                final int[] jumps = new int[alternatives.size() - 1];
+                for (int i = 0; i < jumps.length; i++) {
+                    final int split = emit(SPLIT, size + 1, 0);
+                    compile(alternatives.get(i));
+                    jumps[i] = emit(JMP, 0, 0);
+                    y[split] = size;
+                }
+                compile(alternatives.get(jumps.length));
+                for (final int jump : jumps) {
+                    x[jump] = size;
+                }
+            } else {
+                final RepeatNode repeat = (RepeatNode) node;
+                for (int i = 0; i < repeat.min; i++) {
+                    compile(repeat.body);
+                }
+                if (repeat.max < 0) {
+                    final int split = emit(SPLIT, size + 1, 0);
+                    compile(repeat.body);
+                    emit(JMP, split, 0);
+                    y[split] = size;
+                } else {
+                    final int optional = repeat.max - repeat.min;
+                    final int[] splits = new int[optional];
+                    for (int i = 0; i < optional; i++) {
+                        splits[i] = emit(SPLIT, size + 1, 0);
+                        compile(repeat.body);
+                    }
+                    for (final int split : splits) {
+                        y[split] = size;
+                    }
+                }
+            }
+        }
+    }
+}
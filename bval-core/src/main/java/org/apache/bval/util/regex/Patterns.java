@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.util.regex;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+import org.apache.bval.util.reflection.Reflection;
+import org.apache.commons.weaver.privilizer.Privilizing;
+import org.apache.commons.weaver.privilizer.Privilizing.CallTo;
+
+/**
+ * Description: shared cache of compiled regular expressions, keyed by expression and flags, and
+ * factory for {@link RegexMatcher}s. Matching strategy defaults are read from system properties:
+ * <ul>
+ * <li>{@value #LINEAR_PROPERTY}: if <code>true</code>, use {@link LinearRegex} for expressions it supports</li>
+ * <li>{@value #STEP_BUDGET_PROPERTY}: if positive, fail backtracking matches exceeding that many
+ * character reads (see {@link BudgetedRegex})</li>
+ * </ul>
+ */
+@Privilizing(@CallTo(Reflection.class))
+public final class Patterns {
+    /**
+     * System property enabling the linear-time engine.
+     */
+    public static final String LINEAR_PROPERTY = "bval.regex.linear";
+
+    /**
+     * System property specifying the backtracking step budget.
+     */
+    public static final String STEP_BUDGET_PROPERTY = "bval.regex.step-budget";
+
+    /**
+     * Maximum number of entries of each cache; a cache reaching it is cleared, as the expressions
+     * come from arbitrary, possibly generated, constraint definitions.
+     */
+    static final int MAX_CACHED = 1000;
+
+    private static final ConcurrentMap<Key, Pattern> PATTERNS = new ConcurrentHashMap<Key, Pattern>();
+    private static final ConcurrentMap<Key, RegexMatcher> MATCHERS = new ConcurrentHashMap<Key, RegexMatcher>();
+
+    private static final boolean LINEAR = Boolean.parseBoolean(Reflection.getProperty(LINEAR_PROPERTY));
+    private static final long STEP_BUDGET = parseStepBudget(Reflection.getProperty(STEP_BUDGET_PROPERTY));
+
+    private Patterns() {
+    }
+
+    /**
+     * Get the shared compiled form of <code>regexp</code>.
+     * 
+     * @param regexp
+     * @param flags {@link Pattern} flags
+     * @return {@link Pattern}
+     * @throws java.util.regex.PatternSyntaxException if <code>regexp</code> is invalid
+     */
+    public static Pattern compile(String regexp, int flags) {
+        final Key key = new Key(regexp, flags, false, 0L);
+        Pattern result = PATTERNS.get(key);
+        if (result == null) {
+            result = Pattern.compile(regexp, flags);
+            if (PATTERNS.size() >= MAX_CACHED) {
+                PATTERNS.clear();
+            }
+            final Pattern faster = PATTERNS.putIfAbsent(key, result);
+            if (faster != null) {
+                result = faster;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get a shared {@link RegexMatcher} for <code>regexp</code> using the system-wide strategy.
+     * 
+     * @param regexp
+     * @param flags {@link Pattern} flags
+     * @return {@link RegexMatcher}
+     * @throws java.util.regex.PatternSyntaxException if <code>regexp</code> is invalid
+     */
+    public static RegexMatcher matcher(String regexp, int flags) {
+        return matcher(regexp, flags, LINEAR, STEP_BUDGET);
+    }
+
+    /**
+     * Get a shared {@link RegexMatcher} for <code>regexp</code>.
+     * 
+     * @param regexp
+     * @param flags {@link Pattern} flags
+     * @param linear whether to prefer {@link LinearRegex} where the expression is supported
+     * @param stepBudget character read budget for backtracking matches; <code>0</code> for unlimited
+     * @return {@link RegexMatcher}
+     * @throws java.util.regex.PatternSyntaxException if <code>regexp</code> is invalid
+     */
+    public static RegexMatcher matcher(String regexp, int flags, boolean linear, long stepBudget) {
+        final Key key = new Key(regexp, flags, linear, stepBudget);
+        RegexMatcher result = MATCHERS.get(key);
+        if (result == null) {
+            result = createMatcher(regexp, flags, linear, stepBudget);
+            if (MATCHERS.size() >= MAX_CACHED) {
+                MATCHERS.clear();
+            }
+            final RegexMatcher faster = MATCHERS.putIfAbsent(key, result);
+            if (faster != null) {
+                result = faster;
+            }
+        }
+        return result;
+    }
+
+    private static RegexMatcher createMatcher(String regexp, int flags, boolean linear, long stepBudget) {
+        // always compile first, to report syntax errors consistently:
+        final Pattern pattern = compile(regexp, flags);
+        if (linear) {
+            final LinearRegex linearRegex = LinearRegex.compile(regexp, flags);
+            if (linearRegex != null) {
+                return linearRegex;
+            }
+        }
+        if (stepBudget > 0) {
+            return new BudgetedRegex(pattern, stepBudget);
+        }
+        return new RegexMatcher() {
+
+            @Override
+            public boolean matches(CharSequence input) {
+                return pattern.matcher(input).matches();
+            }
+
+            @Override
+            public String toString() {
+                return pattern.pattern();
+            }
+        };
+    }
+
+    private static long parseStepBudget(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return 0L;
+        }
+        try {
+            return Math.max(0L, Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    private static class Key {
+        final String regexp;
+        final int flags;
+        final boolean linear;
+        final long stepBudget;
+        final int hashCode;
+
+        Key(String regexp, int flags, boolean linear, long stepBudget) {
+            this.regexp = regexp;
+            this.flags = flags;
+            this.linear = linear;
+            this.stepBudget = stepBudget;
+            this.hashCode = (31 * (31 * regexp.hashCode() + flags) + (linear ? 1 : 0)) * 31
+                + (int) (stepBudget ^ (stepBudget >>> 32));
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return other.flags == flags && other.linear == linear && other.stepBudget == stepBudget
+                && other.regexp.equals(regexp);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.apache.bval;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.bval.model.MetaBean;
+import org.apache.bval.model.MetaProperty;
+import org.junit.Test;
+
+/**
+ * ReflectionMetaBeanFactory Tester.
+ */
+public class ReflectionMetaBeanFactoryTest {
+    public static class Base {
+        public Object getValue() {
+            return null;
+        }
+
+        public boolean isActive() {
+            return false;
+        }
+
+        public Boolean isBoxed() {
+            return null;
+        }
+
+        public static String getStatic() {
+            return null;
+        }
+
+        public void setWriteOnly(int writeOnly) {
+        }
+    }
+
+    public static class Derived extends Base {
+        @Override
+        public String getValue() {
+            return null;
+        }
+
+        public List<String> getNames() {
+            return null;
+        }
+
+        String getHidden() {
+            return null;
+        }
+    }
+
+    private static MetaBean build(MetaBeanFactory factory, Class<?> beanClass) throws Exception {
+        final MetaBean metaBean = new MetaBean();
+        metaBean.setBeanClass(beanClass);
+        factory.buildMetaBean(metaBean);
+        return metaBean;
+    }
+
+    private static Map<String, String> describe(MetaBean metaBean) {
+        final Map<String, String> result = new TreeMap<String, String>();
+        for (MetaProperty property : metaBean.getProperties()) {
+            result.put(property.getName(), property.getType().toString());
+        }
+        return result;
+    }
+
+    @Test
+    public void testSamePropertiesAsIntrospector() throws Exception {
+        final MetaBean reflected = build(new ReflectionMetaBeanFactory(), Derived.class);
+        assertEquals(describe(build(new IntrospectorMetaBeanFactory(), Derived.class)), describe(reflected));
+        assertEquals(String.class, reflected.getProperty("value").getType());
+        assertEquals("Derived", reflected.getName());
+    }
+
+    @Test
+    public void testIgnoresNonBeanMethods() throws Exception {
+        final MetaBean reflected = build(new ReflectionMetaBeanFactory(), Derived.class);
+        assertNull(reflected.getProperty("class"));
+        assertNull(reflected.getProperty("boxed"));
+        assertNull(reflected.getProperty("static"));
+        assertNull(reflected.getProperty("hidden"));
+    }
+}
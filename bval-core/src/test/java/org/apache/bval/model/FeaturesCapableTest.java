@@ -0,0 +1,120 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.apache.bval.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Map;
+
+import org.apache.bval.util.AccessStrategy;
+import org.junit.Test;
+
+/**
+ * FeaturesCapable Tester.
+ */
+public class FeaturesCapableTest {
+
+    @Test
+    public void testKeyedAndNamedAccess() {
+        final MetaProperty prop = new MetaProperty();
+        final AccessStrategy[] access = new AccessStrategy[0];
+        prop.putFeature(Features.Property.REF_CASCADE, access);
+        assertSame(access, prop.getFeature(Features.Property.REF_CASCADE_KEY));
+
+        prop.putFeature(Features.Property.MANDATORY_KEY, Boolean.TRUE);
+        assertEquals(Boolean.TRUE, prop.getFeature(Features.Property.MANDATORY));
+        assertTrue(prop.isMandatory());
+
+        prop.putFeature("custom", "value");
+        assertEquals("value", prop.getFeature("custom"));
+        assertEquals("fallback", prop.getFeature("undeclared", "fallback"));
+    }
+
+    @Test
+    public void testWellKnownKeysOnly() {
+        assertSame(Features.Property.MANDATORY_KEY, FeatureKey.of(Features.Property.MANDATORY));
+        try {
+            FeatureKey.of("adHoc");
+            fail("ad-hoc feature names should not be keyed");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        final MetaBean bean = new MetaBean();
+        bean.putFeature("adHoc", "value");
+        assertEquals("value", bean.getFeature("adHoc"));
+        assertEquals(1, bean.getFeatures().size());
+    }
+
+    @Test
+    public void testInitFeature() {
+        final MetaProperty prop = new MetaProperty();
+        assertEquals(Boolean.TRUE, prop.initFeature(Features.Property.MANDATORY_KEY, Boolean.TRUE));
+        assertEquals(Boolean.TRUE, prop.initFeature(Features.Property.MANDATORY, Boolean.FALSE));
+        assertEquals("first", prop.initFeature("custom", "first"));
+        assertEquals("first", prop.initFeature("custom", "second"));
+    }
+
+    @Test
+    public void testFeaturesView() {
+        final MetaProperty prop = new MetaProperty();
+        final Map<String, Object> features = prop.getFeatures();
+        assertTrue(features.isEmpty());
+
+        features.put(Features.Property.HIDDEN, Boolean.TRUE);
+        features.put("custom", "value");
+        prop.putFeature(Features.Property.MANDATORY_KEY, Boolean.TRUE);
+        assertEquals(3, features.size());
+        assertEquals(Boolean.TRUE, features.get(Features.Property.MANDATORY));
+
+        assertEquals(Boolean.TRUE, features.remove(Features.Property.MANDATORY));
+        assertFalse(prop.isMandatory());
+        assertEquals("value", features.remove("custom"));
+        assertNull(prop.getFeature("custom"));
+        assertEquals(1, features.size());
+    }
+
+    @Test
+    public void testCopyAndSerialization() throws Exception {
+        final MetaProperty prop = new MetaProperty();
+        prop.setName("name");
+        prop.putFeature(Features.Property.MANDATORY_KEY, Boolean.TRUE);
+        prop.putFeature("custom", "value");
+
+        final MetaProperty copy = prop.copy();
+        copy.putFeature("custom", "changed");
+        assertEquals("value", prop.getFeature("custom"));
+        assertTrue(copy.isMandatory());
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(prop);
+        out.close();
+        final MetaProperty read =
+            (MetaProperty) new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).readObject();
+        assertTrue(read.isMandatory());
+        assertEquals("value", read.getFeature("custom"));
+    }
+}
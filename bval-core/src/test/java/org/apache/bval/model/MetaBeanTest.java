@@ -0,0 +1,98 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.apache.bval.model;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+/**
+ * MetaBean Tester.
+ */
+public class MetaBeanTest {
+    public static class Bean {
+        private String first;
+        private String second;
+        private String third;
+    }
+
+    private static MetaBean createMetaBean() {
+        final MetaBean metaBean = new MetaBean();
+        metaBean.setBeanClass(Bean.class);
+        for (String name : new String[] { "third", "first", "second" }) {
+            final MetaProperty property = new MetaProperty();
+            property.setName(new String(name));
+            metaBean.putProperty(property.getName(), property);
+        }
+        return metaBean;
+    }
+
+    @Test
+    public void testFreeze() {
+        final MetaBean metaBean = createMetaBean();
+        final MetaProperty[] before = metaBean.getProperties();
+        metaBean.freeze();
+        assertTrue(metaBean.isFrozen());
+
+        final MetaProperty[] after = metaBean.getProperties();
+        assertArrayEquals(before, after);
+        assertSame(after, metaBean.getProperties());
+        assertEquals("first", after[0].getName());
+
+        for (MetaProperty property : before) {
+            assertSame(property, metaBean.getProperty(new String(property.getName())));
+            assertSame("interned", property.getName().intern(), property.getName());
+        }
+        assertNull(metaBean.getProperty("fourth"));
+        assertEquals(0, metaBean.getMethods().length);
+    }
+
+    @Test
+    public void testFrozenStructure() {
+        final MetaBean metaBean = createMetaBean();
+        metaBean.freeze();
+        try {
+            metaBean.putProperty("fourth", new MetaProperty());
+            fail("frozen MetaBean modified");
+        } catch (IllegalStateException expected) {
+        }
+        final MetaProperty detached = metaBean.createProperty("fourth");
+        assertSame(metaBean, detached.getParentMetaBean());
+        assertNull(metaBean.getProperty("fourth"));
+
+        metaBean.putFeature("feature", "value");
+        assertEquals("value", metaBean.getFeature("feature"));
+    }
+
+    @Test
+    public void testCopyOfFrozen() {
+        final MetaBean metaBean = createMetaBean();
+        metaBean.freeze();
+        final MetaBean copy = metaBean.copy();
+        assertFalse(copy.isFrozen());
+        assertEquals(3, copy.getProperties().length);
+        copy.putProperty("fourth", new MetaProperty());
+        assertEquals(4, copy.getProperties().length);
+        assertEquals(3, metaBean.getProperties().length);
+    }
+}
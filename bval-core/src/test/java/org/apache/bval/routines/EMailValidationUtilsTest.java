@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.routines;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Checks {@link EMailValidationUtils#matchesDefaultPattern(CharSequence)} against
+ * {@link EMailValidationUtils#DEFAULT_EMAIL_PATTERN}.
+ */
+public class EMailValidationUtilsTest {
+    private static final String[] CORPUS = { "", "a", "@", "a@", "@b", "a@b", "a.b@c", "a..b@c", ".a@b", "a.@b",
+        "a@b.", "a@.b", "a@b..c", "a@b.c.d", "a@@b", "a b@c", "a@b c", "a\t@b", "\"a\"@b", "a@[1.2.3.4]",
+        "a@[1.2.3]", "a@[1.2.3.4.5]", "a@[1234.1.1.1]", "a@[.1.1.1]", "a@[1.1.1.1", "a@1.1.1.1]", "a@[a.1.1.1]",
+        "a@[1.1.1.1]x", "a@[]", "a@[", "a@b[1.1.1.1]", "a(b)@c", "a<b>@c", "a,b@c", "a;b@c", "a:b@c", "a\\b@c",
+        "ä@ö.ü", "\u007F@b", "\u001F@b", "a@b\n", "a\n@b", "😀@😀.com", "john.doe+tag@example.co.uk",
+        "john.doe@example.com.", "a@b\u000B", "ABC@DEF", "a@[01.002.255.999]" };
+
+    private static final char[] ALPHABET = { 'a', 'Z', '0', '9', '.', '@', '[', ']', ' ', '\t', '\n', '\u0000',
+        '(', ',', '"', '\\', '-', '+', 'é', '\u0085', ' ' };
+
+    @Test
+    public void testCorpus() {
+        for (final String candidate : CORPUS) {
+            assertEquals(candidate, regex(candidate), EMailValidationUtils.matchesDefaultPattern(candidate));
+        }
+    }
+
+    @Test
+    public void testRandom() {
+        final Random random = new Random(20100617L);
+        final StringBuilder buf = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            buf.setLength(0);
+            final int length = random.nextInt(16);
+            for (int j = 0; j < length; j++) {
+                buf.append(random.nextInt(4) == 0 ? (char) ('0' + random.nextInt(10))
+                    : ALPHABET[random.nextInt(ALPHABET.length)]);
+            }
+            // bias towards the address structure
+            if (random.nextBoolean()) {
+                buf.insert(random.nextInt(buf.length() + 1), '@');
+            }
+            final String candidate = buf.toString();
+            assertEquals(candidate, regex(candidate), EMailValidationUtils.matchesDefaultPattern(candidate));
+        }
+    }
+
+    @Test
+    public void testIsValid() {
+        assertTrue(EMailValidationUtils.isValid(null));
+        assertTrue(EMailValidationUtils.isValid(""));
+        assertFalse(EMailValidationUtils.isValid(Integer.valueOf(1)));
+        assertTrue(EMailValidationUtils.isValid(new StringBuilder("a@b.c")));
+        assertFalse(EMailValidationUtils.isValid("a@b@c"));
+    }
+
+    @Test
+    public void testLongLocalPart() {
+        final StringBuilder buf = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            buf.append("a.");
+        }
+        buf.append('@');
+        assertFalse(EMailValidationUtils.matchesDefaultPattern(buf));
+    }
+
+    private static boolean regex(String candidate) {
+        return EMailValidationUtils.DEFAULT_EMAIL_PATTERN.matcher(candidate).matches();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.util.regex;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+public class LinearRegexTest {
+    private static final String[] PATTERNS = { "", "a", "abc", "a|b", "a|", "(a|b)*c", "a*", "a+", "a?b", "a{3}",
+        "a{2,}", "a{1,3}b", "a*?b", "(?:ab)+", "(?<x>ab)?c", "[a-c]+", "[^a-c]+", "[a-]", "[-a]x", "[\\d_]+",
+        "\\d+\\.\\d*", "\\w+@\\w+", "\\W", "\\s*", "\\S+", ".*", ".+x", "^abc$", "^a|b$", "\\p{Alpha}+",
+        "\\P{Digit}*", "\\p{Punct}", "\\p{XDigit}{2}", "[\\p{Alnum}_]+", "\\t\\n", "\\x41\\u0042\\x{43}",
+        "\\0101", "\\cA", "(a*)*b", "(a|aa)+$", "[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}",
+        "(\\d{3}-)?\\d{3}-\\d{4}", "[ä-ö]+", "😀+", "[😀-🙏]", "\\$\\^" };
+
+    private static final String[] INPUTS = { "", "a", "b", "c", "ab", "abc", "aaa", "aaaa", "aaab", "ababc", "xx",
+        "-", "-x", "a-", "12_3", "3.14", "3.", "foo@bar", "!", " \t", "\n", "\r", "a\nb", "x", "abx", "ABC", "Ab",
+        "12", "fF", "Z9", "\t\n", "ABC", "A", "\u0001", "aab", "aaaab", "john.doe@example.com", "555-1234",
+        "123-555-1234", "äö", "😀😀", "😁", "$^", "\u0085", " " };
+
+    private static final int[] FLAGS = { 0, Pattern.CASE_INSENSITIVE, Pattern.DOTALL, Pattern.UNIX_LINES,
+        Pattern.MULTILINE };
+
+    @Test
+    public void testMatchesLikeJavaUtilRegex() {
+        for (final String regexp : PATTERNS) {
+            for (final int flags : FLAGS) {
+                final Pattern pattern = Pattern.compile(regexp, flags);
+                final LinearRegex linear = LinearRegex.compile(regexp, flags);
+                if (linear == null && flags == Pattern.MULTILINE && regexp.startsWith("^")) {
+                    continue; // see testMultilineCaretFallsBack
+                }
+                assertNotNull(regexp + " / " + flags, linear);
+                for (final String input : INPUTS) {
+                    assertEquals(regexp + " / " + flags + " against " + input, pattern.matcher(input).matches(),
+                        linear.matches(input));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testUnsupported() {
+        for (final String regexp : new String[] { "(a)\\1", "a(?=b)", "a(?!b)", "(?<=a)b", "(?>a)", "(?i)a",
+            "\\bfoo", "\\Qa\\E", "a*+", "a(^b)", "a$b", "[a[b]]", "[a&&b]", "\\p{L}" }) {
+            assertNull(regexp, LinearRegex.compile(regexp, 0));
+        }
+        assertNull(LinearRegex.compile("a", Pattern.COMMENTS));
+        assertNull(LinearRegex.compile("\\p{Lower}", Pattern.CASE_INSENSITIVE));
+        assertNull(LinearRegex.compile("(a{100}){100}{100}", 0));
+    }
+
+    @Test
+    public void testMultilineCaretFallsBack() {
+        for (final String regexp : new String[] { "^", "^$", "^\\s*", "^a" }) {
+            assertNull(regexp, LinearRegex.compile(regexp, Pattern.MULTILINE));
+            assertEquals(regexp, Pattern.compile(regexp, Pattern.MULTILINE).matcher("").matches(),
+                Patterns.matcher(regexp, Pattern.MULTILINE).matches(""));
+        }
+        assertTrue(LinearRegex.compile("^$", 0).matches(""));
+    }
+
+    @Test
+    public void testPathologicalInputIsLinear() {
+        final StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            input.append('a');
+        }
+        input.append('!');
+        assertFalse(LinearRegex.compile("(a|aa)+$", 0).matches(input));
+        assertFalse(LinearRegex.compile("(a*)*b", 0).matches(input));
+    }
+
+    @Test
+    public void testStepBudget() {
+        final Pattern pattern = Pattern.compile("(a|aa)+b");
+        assertTrue(new BudgetedRegex(pattern, 1000).matches("aab"));
+        assertFalse(new BudgetedRegex(pattern, 1000).matches("aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa"));
+    }
+
+    @Test
+    public void testSharedCompilation() {
+        assertSame(Patterns.compile("a+b", 0), Patterns.compile(new String("a+b"), 0));
+        assertSame(Patterns.matcher("a+b", 0), Patterns.matcher(new String("a+b"), 0));
+        assertTrue(Patterns.matcher("a+b", 0, true, 0L) instanceof LinearRegex);
+        assertTrue(Patterns.matcher("(a)\\1", 0, true, 100L) instanceof BudgetedRegex);
+    }
+
+    @Test
+    public void testSharedCachesAreBounded() {
+        final Pattern first = Patterns.compile("bounded", 0);
+        for (int i = 0; i < Patterns.MAX_CACHED; i++) {
+            Patterns.compile("bounded" + i, 0);
+        }
+        final Pattern again = Patterns.compile("bounded", 0);
+        assertTrue(first != again);
+        assertSame(again, Patterns.compile("bounded", 0));
+    }
+}
@@ -60,7 +60,7 @@ public final class ABANumberValidator extends ModulusValidator<ABANumber> {
      * {@inheritDoc}
      */
     @Override
-    protected int weightedValue(int charValue, int leftPos, int rightPos) throws Exception {
+    protected int weightedValue(int charValue, int leftPos, int rightPos) {
         int weight = POSITION_WEIGHT[rightPos % 3];
         return (charValue * weight);
     }
@@ -18,8 +18,6 @@
  */
 package org.apache.bval.extras.constraints.checkdigit;
 
-import static java.lang.Character.getNumericValue;
-
 /**
  * Modulus 10 <b>CUSIP</b> (North American Securities)
  * Check Digit calculation/validation.
@@ -59,7 +57,7 @@ public final class CUSIPValidator extends ModulusValidator<CUSIP> {
      * {@inheritDoc}
      */
     @Override
-    protected int weightedValue(int charValue, int leftPos, int rightPos) throws Exception {
+    protected int weightedValue(int charValue, int leftPos, int rightPos) {
         int weight = POSITION_WEIGHT[rightPos % 2];
         int weightedValue = (charValue * weight);
         return sumDigits(weightedValue);
@@ -69,12 +67,8 @@ public final class CUSIPValidator extends ModulusValidator<CUSIP> {
      * {@inheritDoc}
      */
     @Override
-    protected int toInt(char character, int leftPos, int rightPos) {
-        int charValue = getNumericValue(character);
-        if (charValue < 0 || charValue > 35) {
-            throw new IllegalArgumentException("Invalid Character[" + leftPos + "] = '" + charValue + "'");
-        }
-        return charValue;
+    protected int valueOf(char character, int leftPos, int rightPos) {
+        return alphanumericValue(character);
     }
 
 }
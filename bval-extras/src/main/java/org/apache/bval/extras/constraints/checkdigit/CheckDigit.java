@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.extras.constraints.checkdigit;
+
+import java.util.BitSet;
+
+/**
+ * Table-driven, exception-free check digit calculation/validation.
+ * <p>
+ * A code is validated by mapping each of its characters to a numeric value
+ * and folding these into a state, in an order determined by the routine;
+ * the code is valid if its length is acceptable, all of its characters have a
+ * value and the final state is accepted. Implementations provide the
+ * individual steps, whereas the loops over {@link CharSequence}s and
+ * <code>char[]</code>s, including bulk validation, are implemented here once.
+ * <p>
+ * Instances are stateless and may be shared between threads.
+ */
+public abstract class CheckDigit {
+
+    private static final byte[] ALPHANUMERIC_VALUES = new byte[128];
+
+    static {
+        for (int c = 0; c < ALPHANUMERIC_VALUES.length; c++) {
+            ALPHANUMERIC_VALUES[c] = (byte) Character.getNumericValue(c);
+        }
+    }
+
+    /**
+     * Validate a code.
+     *
+     * @param code the code to validate
+     * @return <code>true</code> if the code is valid
+     */
+    public final boolean isValid(CharSequence code) {
+        final int length = code.length();
+        if (!isValidLength(length)) {
+            return false;
+        }
+        long state = 0;
+        for (int i = 0; i < length; i++) {
+            final int index = indexAt(i, length);
+            final int value = valueOf(code.charAt(index), index + 1, length - index);
+            if (value < 0) {
+                return false;
+            }
+            state = step(state, value, index + 1, length - index);
+        }
+        return isValidState(state);
+    }
+
+    /**
+     * Validate a code.
+     *
+     * @param code the code to validate
+     * @return <code>true</code> if the code is valid
+     */
+    public final boolean isValid(char[] code) {
+        return isValid(code, 0, code.length);
+    }
+
+    /**
+     * Validate the code held by a region of a <code>char[]</code>.
+     *
+     * @param buffer the characters
+     * @param offset the start of the code within <code>buffer</code>
+     * @param length the length of the code
+     * @return <code>true</code> if the code is valid
+     */
+    public final boolean isValid(char[] buffer, int offset, int length) {
+        if (!isValidLength(length)) {
+            return false;
+        }
+        long state = 0;
+        for (int i = 0; i < length; i++) {
+            final int index = indexAt(i, length);
+            final int value = valueOf(buffer[offset + index], index + 1, length - index);
+            if (value < 0) {
+                return false;
+            }
+            state = step(state, value, index + 1, length - index);
+        }
+        return isValidState(state);
+    }
+
+    /**
+     * Validate a number of codes in one call.
+     *
+     * @param codes the codes to validate
+     * @return {@link BitSet} having the indexes of the invalid (including <code>null</code>) codes set
+     */
+    public final BitSet validate(CharSequence... codes) {
+        final BitSet failures = new BitSet(codes.length);
+        for (int i = 0; i < codes.length; i++) {
+            if (codes[i] == null || !isValid(codes[i])) {
+                failures.set(i);
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * Validate a number of codes in one call.
+     *
+     * @param codes the codes to validate
+     * @return {@link BitSet} having the indexes of the invalid (including <code>null</code>) codes set
+     */
+    public final BitSet validate(char[]... codes) {
+        final BitSet failures = new BitSet(codes.length);
+        for (int i = 0; i < codes.length; i++) {
+            if (codes[i] == null || !isValid(codes[i], 0, codes[i].length)) {
+                failures.set(i);
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * Learn whether codes of a given length can be valid at all.
+     *
+     * @param length the length of the code
+     * @return <code>true</code> by default, for non-empty codes
+     */
+    protected boolean isValidLength(int length) {
+        return length > 0;
+    }
+
+    /**
+     * Get the index of the character of the code to be processed in a given step.
+     *
+     * @param step the step, starting with 0
+     * @param length the length of the code
+     * @return <code>step</code> by default, i.e. the code is processed from left to right
+     */
+    protected int indexAt(int step, int length) {
+        return step;
+    }
+
+    /**
+     * Convert a character at a specified position to an integer value.
+     *
+     * @param character The character to convert
+     * @param leftPos The position of the character in the code, counting from left to right
+     * @param rightPos The position of the character in the code, counting from right to left
+     * @return The integer value of the character, negative if the character is invalid
+     */
+    protected abstract int valueOf(char character, int leftPos, int rightPos);
+
+    /**
+     * Fold the value of a character into the state of the calculation.
+     *
+     * @param state the current state, <code>0</code> initially
+     * @param charValue The numeric value of the character
+     * @param leftPos The position of the character in the code, counting from left to right
+     * @param rightPos The position of the character in the code, counting from right to left
+     * @return the new state
+     */
+    protected abstract long step(long state, int charValue, int leftPos, int rightPos);
+
+    /**
+     * Learn whether the final state of the calculation denotes a valid code.
+     *
+     * @param state the state after processing all characters
+     * @return <code>true</code> if the code is valid
+     */
+    protected abstract boolean isValidState(long state);
+
+    /**
+     * Get the value of a decimal digit.
+     *
+     * @param character The character to convert
+     * @return 0-9, or -1 if <code>character</code> is no digit
+     */
+    protected static int numericValue(char character) {
+        if (character < ALPHANUMERIC_VALUES.length) {
+            final int value = ALPHANUMERIC_VALUES[character];
+            return value <= 9 ? value : -1;
+        }
+        return Character.isDigit(character) ? Character.getNumericValue(character) : -1;
+    }
+
+    /**
+     * Get the value of a digit or letter, letters counting from 10 for <code>A</code>.
+     *
+     * @param character The character to convert
+     * @return 0-35, or -1 if <code>character</code> has no such value
+     */
+    protected static int alphanumericValue(char character) {
+        if (character < ALPHANUMERIC_VALUES.length) {
+            return ALPHANUMERIC_VALUES[character];
+        }
+        final int value = Character.getNumericValue(character);
+        return value > 35 ? -1 : value;
+    }
+
+}
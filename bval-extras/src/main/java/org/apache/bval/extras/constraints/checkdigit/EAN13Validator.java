@@ -59,7 +59,7 @@ public final class EAN13Validator extends ModulusValidator<EAN13> {
      * {@inheritDoc}
      */
     @Override
-    protected int weightedValue(int charValue, int leftPos, int rightPos) throws Exception {
+    protected int weightedValue(int charValue, int leftPos, int rightPos) {
         int weight = POSITION_WEIGHT[rightPos % 2];
         return (charValue * weight);
     }
@@ -21,8 +21,6 @@ package org.apache.bval.extras.constraints.checkdigit;
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 
-import static java.lang.Character.getNumericValue;
-
 /**
  * <b>IBAN</b> (International Bank Account Number) Check Digit calculation/validation.
  * <p>
@@ -40,7 +38,7 @@ import static java.lang.Character.getNumericValue;
  *  <a href="http://en.wikipedia.org/wiki/International_Bank_Account_Number">Wikipedia -
  *  IBAN number</a>.
  */
-public final class IBANValidator implements ConstraintValidator<IBAN, String> {
+public final class IBANValidator extends CheckDigit implements ConstraintValidator<IBAN, String> {
 
     private static final long MAX = 999999999;
 
@@ -51,23 +49,49 @@ public final class IBANValidator implements ConstraintValidator<IBAN, String> {
      */
     @Override
     public boolean isValid(String code, ConstraintValidatorContext context) {
-        if (code.length() < 5) {
-            return false;
-        }
+        return isValid((CharSequence) code);
+    }
 
-        String reformattedCode = code.substring(4) + code.substring(0, 4);
-        long total = 0;
-        for (int i = 0; i < reformattedCode.length(); i++) {
-            int charValue = getNumericValue(reformattedCode.charAt(i));
-            if (charValue < 0 || charValue > 35) {
-                return false;
-            }
-            total = (charValue > 9 ? total * 100 : total * 10) + charValue;
-            if (total > MAX) {
-                total = (total % MODULUS);
-            }
-        }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isValidLength(int length) {
+        return length >= 5;
+    }
 
+    /**
+     * Process the code as if the first four characters were moved to its end.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    protected int indexAt(int step, int length) {
+        return (step + 4) % length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected int valueOf(char character, int leftPos, int rightPos) {
+        return alphanumericValue(character);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected long step(long total, int charValue, int leftPos, int rightPos) {
+        final long result = (charValue > 9 ? total * 100 : total * 10) + charValue;
+        return result > MAX ? result % MODULUS : result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isValidState(long total) {
         return (total % MODULUS) == 1;
     }
 
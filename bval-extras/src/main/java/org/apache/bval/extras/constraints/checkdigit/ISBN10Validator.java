@@ -57,7 +57,7 @@ public final class ISBN10Validator extends ModulusValidator<ISBN10> {
      * {@inheritDoc}
      */
     @Override
-    protected int weightedValue(int charValue, int leftPos, int rightPos) throws Exception {
+    protected int weightedValue(int charValue, int leftPos, int rightPos) {
         return (charValue * rightPos);
     }
 
@@ -70,11 +70,11 @@ public final class ISBN10Validator extends ModulusValidator<ISBN10> {
      * {@inheritDoc}
      */
     @Override
-    protected int toInt(char character, int leftPos, int rightPos) {
+    protected int valueOf(char character, int leftPos, int rightPos) {
         if (rightPos == 1 && character == 'X') {
             return 10;
         }
-        return super.toInt(character, leftPos, rightPos);
+        return super.valueOf(character, leftPos, rightPos);
     }
 
 }
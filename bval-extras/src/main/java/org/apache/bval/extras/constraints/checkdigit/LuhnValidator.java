@@ -54,7 +54,7 @@ public final class LuhnValidator extends ModulusValidator<Luhn> {
      * {@inheritDoc}
      */
     @Override
-    protected int weightedValue(int charValue, int leftPos, int rightPos) throws Exception {
+    protected int weightedValue(int charValue, int leftPos, int rightPos) {
         int weight = POSITION_WEIGHT[rightPos % 2];
         int weightedValue = (charValue * weight);
         return (weightedValue > 9 ? (weightedValue - 9) : weightedValue);
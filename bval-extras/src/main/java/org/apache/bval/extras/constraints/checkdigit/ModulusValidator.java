@@ -22,9 +22,6 @@ import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 import java.lang.annotation.Annotation;
 
-import static java.lang.Character.getNumericValue;
-import static java.lang.Character.isDigit;
-
 /**
  * Abstract <b>Modulus</b> Check digit calculation/validation.
  * <p>
@@ -33,12 +30,11 @@ import static java.lang.Character.isDigit;
  * <p>
  * This implementation only handles <i>numeric</i> codes, such as
  * <b>EAN-13</b>. For <i>alphanumeric</i> codes such as <b>EAN-128</b> you
- * will need to implement/override the <code>toInt()</code> and
- * <code>toChar()</code> methods.
+ * will need to override the <code>valueOf()</code> method.
  *
  * @param <A>
  */
-abstract class ModulusValidator<A extends Annotation> implements ConstraintValidator<A, String> {
+abstract class ModulusValidator<A extends Annotation> extends CheckDigit implements ConstraintValidator<A, String> {
 
     private final int modulus;
 
@@ -59,25 +55,23 @@ abstract class ModulusValidator<A extends Annotation> implements ConstraintValid
      */
     @Override
     public boolean isValid(String code, ConstraintValidatorContext context) {
-        if (code.length() == 0) {
-            return false;
-        }
-        int total = 0;
-        for (int i = 0; i < code.length(); i++) {
-            int lth = code.length();
-            int leftPos = i + 1;
-            int rightPos = lth - i;
-            try {
-                int charValue = toInt(code.charAt(i), leftPos, rightPos);
-                total += weightedValue(charValue, leftPos, rightPos);
-            } catch (Throwable e) {
-                return false;
-            }
-        }
-        if (total == 0) {
-            return false;
-        }
-        return (total % modulus) == 0;
+        return isValid((CharSequence) code);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final long step(long state, int charValue, int leftPos, int rightPos) {
+        return state + weightedValue(charValue, leftPos, rightPos);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final boolean isValidState(long total) {
+        return total != 0 && total % modulus == 0;
     }
 
     /**
@@ -95,7 +89,7 @@ abstract class ModulusValidator<A extends Annotation> implements ConstraintValid
      * @param rightPos The position of the character in the code, counting from right to left
      * @return The weighted value of the character
      */
-    protected abstract int weightedValue(int charValue, int leftPos, int rightPos) throws Exception;
+    protected abstract int weightedValue(int charValue, int leftPos, int rightPos);
 
     /**
      * Convert a character at a specified position to an integer value.
@@ -107,13 +101,11 @@ abstract class ModulusValidator<A extends Annotation> implements ConstraintValid
      * @param character The character to convert
      * @param leftPos The position of the character in the code, counting from left to right
      * @param rightPos The positionof the character in the code, counting from right to left
-     * @return The integer value of the character
+     * @return The integer value of the character, or -1 if it is not a digit
      */
-    protected int toInt(char character, int leftPos, int rightPos) {
-        if (isDigit(character)) {
-            return getNumericValue(character);
-        }
-        throw new IllegalArgumentException("Invalid Character[" + leftPos + "] = '" + character + "'");
+    @Override
+    protected int valueOf(char character, int leftPos, int rightPos) {
+        return numericValue(character);
     }
 
     /**
@@ -18,8 +18,6 @@
  */
 package org.apache.bval.extras.constraints.checkdigit;
 
-import static java.lang.Character.getNumericValue;
-
 /**
  * Modulus 10 <b>SEDOL</b> (UK Securities) Check Digit calculation/validation.
  * <p>
@@ -46,11 +44,21 @@ public final class SedolValidator extends ModulusValidator<Sedol> {
         super(10);
     }
 
+    /**
+     * SEDOL codes have at most seven characters.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isValidLength(int length) {
+        return length > 0 && length <= POSITION_WEIGHT.length;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
-    protected int weightedValue(int charValue, int leftPos, int rightPos) throws Exception {
+    protected int weightedValue(int charValue, int leftPos, int rightPos) {
         return (charValue * POSITION_WEIGHT[leftPos - 1]);
     }
 
@@ -58,12 +66,8 @@ public final class SedolValidator extends ModulusValidator<Sedol> {
      * {@inheritDoc}
      */
     @Override
-    protected int toInt(char character, int leftPos, int rightPos) {
-        int charValue = getNumericValue(character);
-        if (charValue < 0 || charValue > 35) {
-            throw new IllegalArgumentException("Invalid Character[" + leftPos + "] = '" + charValue + "'");
-        }
-        return charValue;
+    protected int valueOf(char character, int leftPos, int rightPos) {
+        return alphanumericValue(character);
     }
 
 }
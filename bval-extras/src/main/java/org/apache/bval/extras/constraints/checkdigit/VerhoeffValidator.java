@@ -21,8 +21,6 @@ package org.apache.bval.extras.constraints.checkdigit;
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 
-import static java.lang.Character.getNumericValue;
-
 /**
  * <b>Verhoeff</b> (Dihedral) Check Digit calculation/validation.
  * <p>
@@ -33,7 +31,7 @@ import static java.lang.Character.getNumericValue;
  * See <a href="http://en.wikipedia.org/wiki/Verhoeff_algorithm">Wikipedia
  *  - Verhoeff algorithm</a> for more details.
  */
-public final class VerhoeffValidator implements ConstraintValidator<Verhoeff, String> {
+public final class VerhoeffValidator extends CheckDigit implements ConstraintValidator<Verhoeff, String> {
 
     //@formatter:off
     /** D - multiplication table */
@@ -66,19 +64,41 @@ public final class VerhoeffValidator implements ConstraintValidator<Verhoeff, St
      */
     @Override
     public boolean isValid(String code, ConstraintValidatorContext context) {
-        if (code.length() == 0) {
-            return false;
-        }
+        return isValid((CharSequence) code);
+    }
+
+    /**
+     * Process the code from right to left.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    protected int indexAt(int step, int length) {
+        return length - (step + 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected int valueOf(char character, int leftPos, int rightPos) {
+        final int num = alphanumericValue(character);
+        return num > 9 ? -1 : num;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected long step(long checksum, int charValue, int leftPos, int rightPos) {
+        return D_TABLE[(int) checksum][P_TABLE[(rightPos - 1) % 8][charValue]];
+    }
 
-        int checksum = 0;
-        for (int i = 0; i < code.length(); i++) {
-            int idx = code.length() - (i + 1);
-            int num = getNumericValue(code.charAt(idx));
-            if (num < 0 || num > 9) {
-                return false;
-            }
-            checksum = D_TABLE[checksum][P_TABLE[i % 8][num]];
-        }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isValidState(long checksum) {
         return checksum == 0;
     }
 
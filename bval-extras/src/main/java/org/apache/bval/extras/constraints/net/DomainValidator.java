@@ -20,11 +20,13 @@ package org.apache.bval.extras.constraints.net;
 
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
-import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
-import static java.util.Arrays.asList;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * <p><b>Domain name</b> validation routines.</p>
@@ -58,6 +60,12 @@ import static java.util.Arrays.asList;
  *   </ul>
  *
  * <p>
+ * The built-in TLD lists can be replaced by the current IANA list, either by setting the
+ * system property {@value #TLD_LIST_PROPERTY} to a file or classpath resource, or by calling
+ * {@link #loadTopLevelDomains(URL)} at startup.
+ * </p>
+ *
+ * <p>
  * (<b>NOTE</b>: This class does not provide IP address lookup for domain names or
  * methods to ensure that a given domain name matches a specific IP; see
  * {@link java.net.InetAddress} for that functionality.)
@@ -65,99 +73,227 @@ import static java.util.Arrays.asList;
  */
 public class DomainValidator implements ConstraintValidator<Domain, String> {
 
-    private boolean allowLocal;
+    /**
+     * System property naming a file or classpath resource in the format of
+     * <a href="http://data.iana.org/TLD/tlds-alpha-by-domain.txt">http://data.iana.org/TLD/tlds-alpha-by-domain.txt</a>
+     * to be used instead of the built-in TLD lists.
+     */
+    public static final String TLD_LIST_PROPERTY = "bval.extras.domain.tld-list";
+
+    private static final Logger log = Logger.getLogger(DomainValidator.class.getName());
 
-    // Regular expression strings for hostnames (derived from RFC2396 and RFC 1123)
-    private static final Pattern DOMAIN_LABEL = Pattern.compile("\\p{Alnum}(?>[\\p{Alnum}-]*\\p{Alnum})*");
+    private static volatile TopLevelDomains topLevelDomains;
 
-    private static final Pattern DOMAIN_NAME_REGEX =
-        Pattern.compile("^(?:" + DOMAIN_LABEL.pattern() + "\\.)+(\\p{Alpha}{2,})$");
+    private boolean allowLocal;
 
     /**
      * {@inheritDoc}
      */
     @Override
     public boolean isValid(String domain, ConstraintValidatorContext context) {
-        Matcher matcher = DOMAIN_NAME_REGEX.matcher(domain);
-        if (matcher.matches()) {
-            domain = matcher.group(1);
-            return isValidTld(domain);
-        } else if (allowLocal && DOMAIN_LABEL.matcher(domain).matches()) {
-            return true;
+        // equivalent to matching ^(?:LABEL\.)+(\p{Alpha}{2,})$ with LABEL being
+        // \p{Alnum}(?>[\p{Alnum}-]*\p{Alnum})*, then checking the TLD
+        final int length = domain.length();
+        int labelStart = 0;
+        int labelEnd = scanLabel(domain, labelStart);
+        if (labelEnd == length) {
+            // a single label can only be a local name
+            return allowLocal;
+        }
+        while (labelEnd > labelStart && labelEnd < length) {
+            labelStart = labelEnd + 1;
+            labelEnd = scanLabel(domain, labelStart);
+        }
+        if (labelEnd != length || length - labelStart < 2) {
+            return false;
         }
-        return false;
+        for (int i = labelStart; i < length; i++) {
+            if (!isAlpha(domain.charAt(i))) {
+                return false;
+            }
+        }
+        return isValidTld(domain, labelStart, length);
+    }
+
+    /**
+     * Scan a domain label starting at <code>start</code>.
+     *
+     * @return the index of the character following the label if it ends with the input
+     *         or is followed by a dot, otherwise <code>-1</code>
+     */
+    private static int scanLabel(String domain, int start) {
+        final int length = domain.length();
+        if (start >= length || !isAlnum(domain.charAt(start))) {
+            return -1;
+        }
+        int i = start + 1;
+        while (i < length) {
+            final char c = domain.charAt(i);
+            if (c == '.') {
+                break;
+            }
+            if (c != '-' && !isAlnum(c)) {
+                return -1;
+            }
+            i++;
+        }
+        return domain.charAt(i - 1) == '-' ? -1 : i;
+    }
+
+    private static boolean isAlpha(char c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean isAlnum(char c) {
+        return isAlpha(c) || c >= '0' && c <= '9';
     }
 
     /**
      * Returns true if the specified <code>String</code> matches any
      * IANA-defined top-level domain. Leading dots are ignored if present.
-     * The search is case-sensitive.
+     * The search is case-insensitive.
      *
      * @param tld the parameter to check for TLD status
      * @return true if the parameter is a TLD
      */
     boolean isValidTld(String tld) {
-        if (allowLocal && isValidLocalTld(tld)) {
+        return isValidTld(tld, tld.startsWith(".") ? 1 : 0, tld.length());
+    }
+
+    private boolean isValidTld(String domain, int start, int end) {
+        final int categories = getTopLevelDomains().lookup(domain, start, end, true);
+        if (allowLocal && (categories & TopLevelDomains.LOCAL) != 0) {
             return true;
         }
-
-        tld = chompLeadingDot(tld).toLowerCase();
-        return isValidInfrastructureTld(tld) || isValidGenericTld(tld) || isValidCountryCodeTld(tld);
+        return (categories & ~TopLevelDomains.LOCAL) != 0;
     }
 
     /**
      * Returns true if the specified <code>String</code> matches any
-     * IANA-defined infrastructure top-level domain. Leading dots are
-     * ignored if present. The search is case-sensitive.
+     * IANA-defined infrastructure top-level domain. The search is case-sensitive.
      *
      * @param iTld the parameter to check for infrastructure TLD status
      * @return true if the parameter is an infrastructure TLD
      */
     static boolean isValidInfrastructureTld(String iTld) {
-        return INFRASTRUCTURE_TLDS.contains(iTld);
+        return is(iTld, TopLevelDomains.INFRASTRUCTURE);
     }
 
     /**
      * Returns true if the specified <code>String</code> matches any
-     * IANA-defined generic top-level domain. Leading dots are ignored
-     * if present. The search is case-sensitive.
+     * IANA-defined generic top-level domain. The search is case-sensitive.
      *
      * @param gTld the parameter to check for generic TLD status
      * @return true if the parameter is a generic TLD
      */
     static boolean isValidGenericTld(String gTld) {
-        return GENERIC_TLDS.contains(gTld);
+        return is(gTld, TopLevelDomains.GENERIC);
     }
 
     /**
      * Returns true if the specified <code>String</code> matches any
-     * IANA-defined country code top-level domain. Leading dots are
-     * ignored if present. The search is case-sensitive.
+     * IANA-defined country code top-level domain. The search is case-sensitive.
      *
      * @param ccTld the parameter to check for country code TLD status
      * @return true if the parameter is a country code TLD
      */
     static boolean isValidCountryCodeTld(String ccTld) {
-        return COUNTRY_CODE_TLDS.contains(ccTld);
+        return is(ccTld, TopLevelDomains.COUNTRY_CODE);
     }
 
     /**
      * Returns true if the specified <code>String</code> matches any
-     * widely used "local" domains (localhost or localdomain). Leading dots are
-     * ignored if present. The search is case-sensitive.
+     * widely used "local" domains (localhost or localdomain).
+     * The search is case-sensitive.
      *
      * @param iTld the parameter to check for local TLD status
      * @return true if the parameter is an local TLD
      */
     static boolean isValidLocalTld(String iTld) {
-        return LOCAL_TLDS.contains(iTld);
+        return is(iTld, TopLevelDomains.LOCAL);
+    }
+
+    private static boolean is(String tld, int category) {
+        return (getTopLevelDomains().lookup(tld, 0, tld.length(), false) & category) != 0;
+    }
+
+    /**
+     * Replace the TLDs known to all {@link DomainValidator}s with the ones listed at <code>url</code>,
+     * in the format of <a href="http://data.iana.org/TLD/tlds-alpha-by-domain.txt">http://data.iana.org/TLD/tlds-alpha-by-domain.txt</a>.
+     * As the IANA list does not categorize its entries, <code>arpa</code> is regarded as infrastructure TLD,
+     * two-letter TLDs as country code TLDs and the remainder as generic TLDs.
+     *
+     * @param url
+     * @throws IOException if the list cannot be read, in which case the current TLDs remain in effect
+     */
+    public static void loadTopLevelDomains(URL url) throws IOException {
+        final InputStream in = url.openStream();
+        try {
+            topLevelDomains = TopLevelDomains.read(in, LOCAL_TLDS);
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Discard any TLDs loaded by {@link #loadTopLevelDomains(URL)}, reverting to the initial TLDs.
+     */
+    static void resetTopLevelDomains() {
+        topLevelDomains = null;
+    }
+
+    private static TopLevelDomains getTopLevelDomains() {
+        TopLevelDomains result = topLevelDomains;
+        if (result == null) {
+            synchronized (DomainValidator.class) {
+                result = topLevelDomains;
+                if (result == null) {
+                    result = initTopLevelDomains();
+                    topLevelDomains = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static TopLevelDomains initTopLevelDomains() {
+        final String location = System.getProperty(TLD_LIST_PROPERTY);
+        if (location != null) {
+            try {
+                final File file = new File(location);
+                final InputStream in;
+                if (file.isFile()) {
+                    in = new FileInputStream(file);
+                } else {
+                    in = getResourceAsStream(location);
+                }
+                if (in == null) {
+                    log.log(Level.WARNING, String.format("TLD list %s not found, using built-in TLDs", location));
+                } else {
+                    try {
+                        return TopLevelDomains.read(in, LOCAL_TLDS);
+                    } finally {
+                        in.close();
+                    }
+                }
+            } catch (IOException e) {
+                log.log(Level.WARNING, String.format("Unable to read TLD list %s, using built-in TLDs", location),
+                    e);
+            }
+        }
+        return TopLevelDomains.of(INFRASTRUCTURE_TLDS, GENERIC_TLDS, COUNTRY_CODE_TLDS, LOCAL_TLDS);
     }
 
-    private static String chompLeadingDot(String str) {
-        if (str.startsWith(".")) {
-            return str.substring(1);
+    private static InputStream getResourceAsStream(String name) {
+        final String resource = name.startsWith("/") ? name.substring(1) : name;
+        final ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        if (loader != null) {
+            final InputStream in = loader.getResourceAsStream(resource);
+            if (in != null) {
+                return in;
+            }
         }
-        return str;
+        return DomainValidator.class.getClassLoader().getResourceAsStream(resource);
     }
 
     // ---------------------------------------------
@@ -165,11 +301,11 @@ public class DomainValidator implements ConstraintValidator<Domain, String> {
     // ----- Authoritative and comprehensive list at:
     // ----- http://data.iana.org/TLD/tlds-alpha-by-domain.txt
 
-    private static final List<String> INFRASTRUCTURE_TLDS = asList("arpa", // internet infrastructure
+    private static final String[] INFRASTRUCTURE_TLDS = { "arpa", // internet infrastructure
         "root" // diagnostic marker for non-truncated root zone
-    );
+    };
 
-    private static final List<String> GENERIC_TLDS = asList("aero", // air transport industry
+    private static final String[] GENERIC_TLDS = { "aero", // air transport industry
         "asia", // Pan-Asia/Asia Pacific
         "biz", // businesses
         "cat", // Catalan linguistic/cultural community
@@ -189,9 +325,9 @@ public class DomainValidator implements ConstraintValidator<Domain, String> {
         "edu", // accredited postsecondary US education entities
         "mil", // United States Military
         "int" // organizations established by international treaty
-    );
+    };
 
-    private static final List<String> COUNTRY_CODE_TLDS = asList("ac", // Ascension Island
+    private static final String[] COUNTRY_CODE_TLDS = { "ac", // Ascension Island
         "ad", // Andorra
         "ae", // United Arab Emirates
         "af", // Afghanistan
@@ -440,11 +576,11 @@ public class DomainValidator implements ConstraintValidator<Domain, String> {
         "za", // South Africa
         "zm", // Zambia
         "zw" // Zimbabwe
-    );
+    };
 
-    private static final List<String> LOCAL_TLDS = asList("localhost", // RFC2606 defined
+    private static final String[] LOCAL_TLDS = { "localhost", // RFC2606 defined
         "localdomain" // Also widely used as localhost.localdomain
-    );
+    };
 
     /**
      * {@inheritDoc}
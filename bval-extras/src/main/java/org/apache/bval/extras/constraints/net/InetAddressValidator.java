@@ -20,29 +20,140 @@ package org.apache.bval.extras.constraints.net;
 
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
-import java.util.regex.Pattern;
 
 /**
  * <p><b>InetAddress</b> validation and conversion routines (<code>java.net.InetAddress</code>).</p>
  *
- * <p>This class provides methods to validate a candidate IP address.
+ * <p>This class provides methods to validate a candidate IP address, either
+ * an IPv4 address in dotted-decimal notation or an IPv6 address in any of the
+ * text representations of <a href="http://www.ietf.org/rfc/rfc4291.txt">RFC4291</a>,
+ * section 2.2, optionally followed by a <code>%</code> and a zone ID
+ * (<a href="http://www.ietf.org/rfc/rfc4007.txt">RFC4007</a>, section 11).
+ * Parsing is done without regular expressions, name lookups or allocation.</p>
  */
 public class InetAddressValidator implements ConstraintValidator<InetAddress, String> {
 
-    private static final Pattern IPV4_PATTERN =
-        Pattern.compile("^([01]?\\d\\d?|2[0-4]\\d|25[0-5])\\." + "([01]?\\d\\d?|2[0-4]\\d|25[0-5])\\."
-            + "([01]?\\d\\d?|2[0-4]\\d|25[0-5])\\." + "([01]?\\d\\d?|2[0-4]\\d|25[0-5])$");
+    private static final int IPV6_GROUPS = 8;
 
     /**
      * {@inheritDoc}
      */
     @Override
     public boolean isValid(String value, ConstraintValidatorContext context) {
-        if (!IPV4_PATTERN.matcher(value).matches()) {
+        return isValidInet4Address(value) || isValidInet6Address(value);
+    }
+
+    /**
+     * Learn whether <code>value</code> is an IPv4 address in dotted-decimal notation,
+     * i.e. four decimal octets within 0-255 of at most three digits each.
+     *
+     * @param value
+     * @return boolean
+     */
+    public static boolean isValidInet4Address(CharSequence value) {
+        return isValidInet4Address(value, 0, value.length());
+    }
+
+    /**
+     * Learn whether <code>value</code> is an IPv6 address, in full, compressed (<code>::</code>) or
+     * mixed (embedded IPv4) form, optionally qualified with a zone ID.
+     *
+     * @param value
+     * @return boolean
+     */
+    public static boolean isValidInet6Address(CharSequence value) {
+        int end = value.length();
+        for (int i = 0; i < end; i++) {
+            if (value.charAt(i) == '%') {
+                // zone ID must not be empty
+                if (i == end - 1) {
+                    return false;
+                }
+                end = i;
+                break;
+            }
+        }
+        if (end < 2) {
             return false;
         }
+        int i = 0;
+        boolean compressed = false;
+        if (value.charAt(0) == ':') {
+            if (value.charAt(1) != ':') {
+                return false;
+            }
+            compressed = true;
+            i = 2;
+            if (i == end) {
+                return true;
+            }
+        }
+        int groups = 0;
+        while (true) {
+            final int groupStart = i;
+            while (i < end && isHexDigit(value.charAt(i))) {
+                i++;
+            }
+            if (i < end && value.charAt(i) == '.') {
+                // embedded IPv4 address, taking up the last two groups
+                if (!isValidInet4Address(value, groupStart, end)) {
+                    return false;
+                }
+                groups += 2;
+                break;
+            }
+            if (i == groupStart || i - groupStart > 4) {
+                return false;
+            }
+            groups++;
+            if (i == end) {
+                break;
+            }
+            if (value.charAt(i) != ':' || ++i == end) {
+                return false;
+            }
+            if (value.charAt(i) == ':') {
+                if (compressed) {
+                    return false;
+                }
+                compressed = true;
+                if (++i == end) {
+                    break;
+                }
+            }
+        }
+        // "::" stands for at least one group of zeros
+        return compressed ? groups < IPV6_GROUPS : groups == IPV6_GROUPS;
+    }
+
+    private static boolean isValidInet4Address(CharSequence value, int start, int end) {
+        int i = start;
+        for (int octet = 0; octet < 4; octet++) {
+            if (octet > 0) {
+                if (i == end || value.charAt(i) != '.') {
+                    return false;
+                }
+                i++;
+            }
+            final int octetStart = i;
+            int n = 0;
+            while (i < end && i - octetStart < 3) {
+                final char c = value.charAt(i);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                n = n * 10 + c - '0';
+                i++;
+            }
+            if (i == octetStart || n > 255) {
+                return false;
+            }
+        }
+        return i == end;
+    }
 
-        return true;
+    private static boolean isHexDigit(char c) {
+        return c >= '0' && c <= '9' || c >= 'a' && c <= 'f' || c >= 'A' && c <= 'F';
     }
 
     /**
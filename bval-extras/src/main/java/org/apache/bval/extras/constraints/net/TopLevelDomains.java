@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.extras.constraints.net;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable trie of top-level domains, each tagged with its category, that can be
+ * queried on a region of a {@link CharSequence} without allocating.
+ */
+final class TopLevelDomains {
+    static final int INFRASTRUCTURE = 1;
+    static final int GENERIC = 2;
+    static final int COUNTRY_CODE = 4;
+    static final int LOCAL = 8;
+
+    /** edges of node <code>n</code> are <code>[firstEdge[n], firstEdge[n + 1])</code>, sorted by label */
+    private final int[] firstEdge;
+    private final char[] edgeLabels;
+    private final int[] edgeTargets;
+    /** category bitmask per node */
+    private final byte[] categories;
+
+    private TopLevelDomains(Builder root) {
+        final List<Builder> nodes = new ArrayList<Builder>();
+        nodes.add(root);
+        int edges = 0;
+        // breadth-first numbering
+        for (int i = 0; i < nodes.size(); i++) {
+            final Builder node = nodes.get(i);
+            edges += node.children.size();
+            for (Builder child : node.children.values()) {
+                child.index = nodes.size();
+                nodes.add(child);
+            }
+        }
+        firstEdge = new int[nodes.size() + 1];
+        edgeLabels = new char[edges];
+        edgeTargets = new int[edges];
+        categories = new byte[nodes.size()];
+
+        int edge = 0;
+        for (int i = 0; i < nodes.size(); i++) {
+            final Builder node = nodes.get(i);
+            firstEdge[i] = edge;
+            categories[i] = (byte) node.categories;
+            for (Map.Entry<Character, Builder> e : node.children.entrySet()) {
+                edgeLabels[edge] = e.getKey().charValue();
+                edgeTargets[edge] = e.getValue().index;
+                edge++;
+            }
+        }
+        firstEdge[nodes.size()] = edge;
+    }
+
+    /**
+     * Get the categories of the TLD at <code>[start, end)</code> in <code>seq</code>.
+     *
+     * @param seq
+     * @param start
+     * @param end
+     * @param ignoreCase whether to fold US-ASCII upper case letters
+     * @return category bitmask, <code>0</code> if unknown
+     */
+    int lookup(CharSequence seq, int start, int end, boolean ignoreCase) {
+        if (start >= end) {
+            return 0;
+        }
+        int node = 0;
+        for (int i = start; i < end; i++) {
+            char c = seq.charAt(i);
+            if (ignoreCase && c >= 'A' && c <= 'Z') {
+                c += 'a' - 'A';
+            }
+            node = child(node, c);
+            if (node < 0) {
+                return 0;
+            }
+        }
+        return categories[node];
+    }
+
+    private int child(int node, char c) {
+        int lo = firstEdge[node];
+        int hi = firstEdge[node + 1] - 1;
+        while (lo <= hi) {
+            final int mid = (lo + hi) >>> 1;
+            final char label = edgeLabels[mid];
+            if (c < label) {
+                hi = mid - 1;
+            } else if (c > label) {
+                lo = mid + 1;
+            } else {
+                return edgeTargets[mid];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Read a TLD list in the format published by IANA at
+     * <a href="http://data.iana.org/TLD/tlds-alpha-by-domain.txt">http://data.iana.org/TLD/tlds-alpha-by-domain.txt</a>:
+     * one domain per line, <code>#</code> starting a comment. As the list does not categorize its
+     * entries, <code>arpa</code> is taken as infrastructure TLD, other two-letter domains as country code
+     * TLDs and the remainder as generic TLDs; <code>localTlds</code> are added as local TLDs.
+     *
+     * @param in UTF-8 encoded list, not closed
+     * @param localTlds
+     * @return {@link TopLevelDomains}
+     * @throws IOException
+     */
+    static TopLevelDomains read(InputStream in, String[] localTlds) throws IOException {
+        final Builder root = new Builder();
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(in, "UTF-8"));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            final int comment = line.indexOf('#');
+            if (comment >= 0) {
+                line = line.substring(0, comment);
+            }
+            final String tld = toLowerCase(line.trim());
+            if (tld.length() == 0) {
+                continue;
+            }
+            final int category;
+            if ("arpa".equals(tld)) {
+                category = INFRASTRUCTURE;
+            } else if (tld.length() == 2) {
+                category = COUNTRY_CODE;
+            } else {
+                category = GENERIC;
+            }
+            root.add(tld, category);
+        }
+        root.addAll(localTlds, LOCAL);
+        return new TopLevelDomains(root);
+    }
+
+    /**
+     * Create a {@link TopLevelDomains} instance from categorized lists.
+     *
+     * @return {@link TopLevelDomains}
+     */
+    static TopLevelDomains of(String[] infrastructureTlds, String[] genericTlds, String[] countryCodeTlds,
+        String[] localTlds) {
+        final Builder root = new Builder();
+        root.addAll(infrastructureTlds, INFRASTRUCTURE);
+        root.addAll(genericTlds, GENERIC);
+        root.addAll(countryCodeTlds, COUNTRY_CODE);
+        root.addAll(localTlds, LOCAL);
+        return new TopLevelDomains(root);
+    }
+
+    private static String toLowerCase(String s) {
+        final char[] chars = s.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            if (chars[i] >= 'A' && chars[i] <= 'Z') {
+                chars[i] += 'a' - 'A';
+            }
+        }
+        return new String(chars);
+    }
+
+    private static class Builder {
+        final Map<Character, Builder> children = new TreeMap<Character, Builder>();
+        int categories;
+        int index;
+
+        void addAll(String[] tlds, int category) {
+            for (String tld : tlds) {
+                add(tld, category);
+            }
+        }
+
+        void add(String tld, int category) {
+            Builder node = this;
+            for (int i = 0; i < tld.length(); i++) {
+                final Character c = Character.valueOf(tld.charAt(i));
+                Builder child = node.children.get(c);
+                if (child == null) {
+                    child = new Builder();
+                    node.children.put(c, child);
+                }
+                node = child;
+            }
+            node.categories |= category;
+        }
+    }
+}
@@ -23,8 +23,10 @@ import org.junit.Test;
 import javax.validation.ConstraintValidator;
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -136,6 +138,41 @@ public abstract class AbstractCheckDigitTest {
         assertFalse("isValid() Zero Sum", routine.isValid(zeroSum, null));
     }
 
+    /**
+     * Test the <code>char[]</code> and bulk API.
+     */
+    @Test
+    public void testBulk() {
+        CheckDigit checkDigit = (CheckDigit) routine;
+        String[] invalidCheckDigits = createInvalidCodes(valid);
+
+        List<String> codes = new ArrayList<String>();
+        BitSet expected = new BitSet();
+        for (String code : valid) {
+            codes.add(code);
+        }
+        for (String code : invalid) {
+            expected.set(codes.size());
+            codes.add(code);
+        }
+        for (String code : invalidCheckDigits) {
+            expected.set(codes.size());
+            codes.add(code);
+        }
+        expected.set(codes.size());
+        codes.add(null);
+
+        char[][] chars = new char[codes.size()][];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = codes.get(i) == null ? null : codes.get(i).toCharArray();
+            if (chars[i] != null) {
+                assertEquals(codes.get(i), !expected.get(i), checkDigit.isValid(chars[i]));
+            }
+        }
+        assertEquals(expected, checkDigit.validate(codes.toArray(new String[codes.size()])));
+        assertEquals(expected, checkDigit.validate(chars));
+    }
+
     /**
      * Returns an array of codes with invalid check digits.
      *
@@ -21,7 +21,11 @@ import org.junit.Test;
 
 import javax.validation.Payload;
 import java.lang.annotation.Annotation;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -151,4 +155,40 @@ public class DomainValidatorTest {
         assertTrue("b\u00fccher.ch in IDN should validate", validator.isValid("www.xn--bcher-kva.ch", null));
     }
 
+    @Test
+    public void testMatchesDomainNameRegex() {
+        final Pattern label = Pattern.compile("\\p{Alnum}(?>[\\p{Alnum}-]*\\p{Alnum})*");
+        final Pattern domainName = Pattern.compile("^(?:" + label.pattern() + "\\.)+(\\p{Alpha}{2,})$");
+        final String[] parts = { "a", "z9", "com", "ORG", "uk", "-", ".", "x-y", "1", "ü", " ", "localhost" };
+        final Random random = new Random(1034L);
+        final StringBuilder buf = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            buf.setLength(0);
+            final int count = random.nextInt(6);
+            for (int j = 0; j < count; j++) {
+                buf.append(parts[random.nextInt(parts.length)]);
+            }
+            final String candidate = buf.toString();
+            final Matcher matcher = domainName.matcher(candidate);
+            final boolean expected = matcher.matches() && validator.isValidTld(matcher.group(1));
+            assertEquals(candidate, expected, validator.isValid(candidate, null));
+        }
+    }
+
+    @Test
+    public void testLoadTopLevelDomains() throws Exception {
+        try {
+            DomainValidator.loadTopLevelDomains(getClass().getResource("tlds-alpha-by-domain.txt"));
+            assertTrue("example.dev should validate", validator.isValid("example.dev", null));
+            assertTrue(".dev should validate as gTLD", DomainValidator.isValidGenericTld("dev"));
+            assertTrue(".de should validate as ccTLD", DomainValidator.isValidCountryCodeTld("de"));
+            assertTrue(".arpa should validate as iTLD", DomainValidator.isValidInfrastructureTld("arpa"));
+            assertFalse("apache.museum shouldn't validate", validator.isValid("apache.museum", null));
+        } finally {
+            DomainValidator.resetTopLevelDomains();
+        }
+        assertTrue("apache.museum should validate", validator.isValid("apache.museum", null));
+        assertFalse("example.dev shouldn't validate", validator.isValid("example.dev", null));
+    }
+
 }
@@ -21,6 +21,10 @@ package org.apache.bval.extras.constraints.net;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -89,4 +93,61 @@ public class InetAddressValidatorTest {
         assertFalse("IP with five groups should be invalid", validator.isValid("26.34.23.77.234", null));
     }
 
+    /**
+     * Compare IPv4 parsing with the regular expression formerly used.
+     */
+    @Test
+    public void testInet4AddressesMatchRegex() {
+        final String octet = "([01]?\\d\\d?|2[0-4]\\d|25[0-5])";
+        final Pattern ipv4 = Pattern.compile("^" + octet + "\\." + octet + "\\." + octet + "\\." + octet + "$");
+        final char[] alphabet = { '0', '1', '2', '5', '9', '.', 'a', ':', ' ' };
+        final Random random = new Random(4291L);
+        final StringBuilder buf = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            buf.setLength(0);
+            final int length = random.nextInt(18);
+            for (int j = 0; j < length; j++) {
+                buf.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+            final String candidate = buf.toString();
+            assertEquals(candidate, ipv4.matcher(candidate).matches(),
+                InetAddressValidator.isValidInet4Address(candidate));
+        }
+    }
+
+    /**
+     * Test IPv6 addresses.
+     */
+    @Test
+    public void testInet6Addresses() {
+        assertTrue("full IPv6 should be valid", validator.isValid("2001:0db8:0000:0000:0000:ff00:0042:8329", null));
+        assertTrue("IPv6 without leading zeros should be valid", validator.isValid("2001:db8:0:0:0:ff00:42:8329", null));
+        assertTrue("compressed IPv6 should be valid", validator.isValid("2001:db8::ff00:42:8329", null));
+        assertTrue("loopback should be valid", validator.isValid("::1", null));
+        assertTrue("unspecified address should be valid", validator.isValid("::", null));
+        assertTrue("trailing compression should be valid", validator.isValid("fe80::", null));
+        assertTrue("upper case IPv6 should be valid", validator.isValid("FE80::ABCD", null));
+        assertTrue("embedded IPv4 should be valid", validator.isValid("::ffff:192.0.2.128", null));
+        assertTrue("full embedded IPv4 should be valid", validator.isValid("0:0:0:0:0:ffff:192.0.2.128", null));
+        assertTrue("zone ID should be valid", validator.isValid("fe80::1%eth0", null));
+        assertTrue("numeric zone ID should be valid", validator.isValid("fe80::1%1", null));
+
+        assertFalse("empty zone ID should be invalid", validator.isValid("fe80::1%", null));
+        assertFalse("zone ID on IPv4 should be invalid", validator.isValid("10.0.0.1%eth0", null));
+        assertFalse("double compression should be invalid", validator.isValid("2001::db8::1", null));
+        assertFalse("triple colon should be invalid", validator.isValid("2001:::1", null));
+        assertFalse("leading single colon should be invalid", validator.isValid(":1::2", null));
+        assertFalse("trailing single colon should be invalid", validator.isValid("1::2:", null));
+        assertFalse("five hex digits should be invalid", validator.isValid("2001:db8::12345", null));
+        assertFalse("seven groups should be invalid", validator.isValid("1:2:3:4:5:6:7", null));
+        assertFalse("nine groups should be invalid", validator.isValid("1:2:3:4:5:6:7:8:9", null));
+        assertFalse("compression of no group should be invalid", validator.isValid("1:2:3:4::5:6:7:8", null));
+        assertFalse("embedded IPv4 exceeding 128 bits should be invalid",
+            validator.isValid("1:2:3:4:5:6:7:1.2.3.4", null));
+        assertFalse("embedded IPv4 not at the end should be invalid", validator.isValid("::1.2.3.4:1", null));
+        assertFalse("broken embedded IPv4 should be invalid", validator.isValid("::ffff:192.0.2.256", null));
+        assertFalse("non-hex group should be invalid", validator.isValid("2001:db8::g", null));
+        assertFalse("single colon should be invalid", validator.isValid(":", null));
+    }
+
 }
@@ -18,27 +18,73 @@
  */
 package org.apache.bval.cdi;
 
+import javax.enterprise.inject.spi.AnnotatedCallable;
 import javax.enterprise.inject.spi.AnnotatedConstructor;
 import javax.enterprise.inject.spi.AnnotatedField;
 import javax.enterprise.inject.spi.AnnotatedMethod;
+import javax.enterprise.inject.spi.AnnotatedParameter;
 import javax.enterprise.inject.spi.AnnotatedType;
 import javax.enterprise.util.AnnotationLiteral;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
 import java.lang.reflect.Type;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 public class BValAnnotatedType<A> implements AnnotatedType<A> {
     private final AnnotatedType<A> delegate;
     private final Set<Annotation> annotations;
-
+    private final Set<AnnotatedConstructor<A>> constructors;
+    private final Set<AnnotatedMethod<? super A>> methods;
+
+    /**
+     * Bind {@link BValInterceptor} to the whole type.
+     *
+     * @param annotatedType
+     */
     public BValAnnotatedType(final AnnotatedType<A> annotatedType) {
         delegate = annotatedType;
+        annotations = withBinding(annotatedType.getAnnotations());
 
-        annotations = new HashSet<Annotation>(annotatedType.getAnnotations().size());
-        annotations.addAll(annotatedType.getAnnotations());
-        annotations.add(BValBindingLiteral.INSTANCE);
+        constructors = annotatedType.getConstructors();
+        methods = annotatedType.getMethods();
+    }
+
+    /**
+     * Bind {@link BValInterceptor} to the specified constructors and methods only, leaving every other executable of
+     * the type free of interception.
+     *
+     * @param annotatedType
+     * @param validatedConstructors
+     * @param validatedMethods
+     */
+    public BValAnnotatedType(final AnnotatedType<A> annotatedType,
+        final Collection<? extends AnnotatedConstructor<A>> validatedConstructors,
+        final Collection<? extends AnnotatedMethod<? super A>> validatedMethods) {
+        delegate = annotatedType;
+        annotations = annotatedType.getAnnotations();
+
+        constructors = new HashSet<AnnotatedConstructor<A>>(annotatedType.getConstructors().size());
+        for (final AnnotatedConstructor<A> constructor : annotatedType.getConstructors()) {
+            constructors.add(validatedConstructors.contains(constructor)
+                ? new BValAnnotatedConstructor<A>(constructor) : constructor);
+        }
+        methods = new HashSet<AnnotatedMethod<? super A>>(annotatedType.getMethods().size());
+        for (final AnnotatedMethod<? super A> method : annotatedType.getMethods()) {
+            if (validatedMethods.contains(method)) {
+                methods.add(bind(method));
+            } else {
+                methods.add(method);
+            }
+        }
+    }
+
+    private static <X> AnnotatedMethod<X> bind(final AnnotatedMethod<X> method) {
+        return new BValAnnotatedMethod<X>(method);
     }
 
     @Override
@@ -48,12 +94,12 @@ public class BValAnnotatedType<A> implements AnnotatedType<A> {
 
     @Override
     public Set<AnnotatedConstructor<A>> getConstructors() {
-        return delegate.getConstructors();
+        return constructors;
     }
 
     @Override
     public Set<AnnotatedMethod<? super A>> getMethods() {
-        return delegate.getMethods();
+        return methods;
     }
 
     @Override
@@ -73,14 +119,7 @@ public class BValAnnotatedType<A> implements AnnotatedType<A> {
 
     @Override
     public <T extends Annotation> T getAnnotation(final Class<T> annotationType) {
-        for (final Annotation ann : annotations) {
-            if (ann.annotationType().equals(annotationType)) {
-                @SuppressWarnings("unchecked")
-                final T result = (T) ann;
-                return result;
-            }
-        }
-        return null;
+        return findAnnotation(annotations, annotationType);
     }
 
     @Override
@@ -90,12 +129,104 @@ public class BValAnnotatedType<A> implements AnnotatedType<A> {
 
     @Override
     public boolean isAnnotationPresent(Class<? extends Annotation> annotationType) {
+        return findAnnotation(annotations, annotationType) != null;
+    }
+
+    private static <T extends Annotation> T findAnnotation(final Set<Annotation> annotations,
+        final Class<T> annotationType) {
         for (final Annotation ann : annotations) {
             if (ann.annotationType().equals(annotationType)) {
-                return true;
+                @SuppressWarnings("unchecked")
+                final T result = (T) ann;
+                return result;
             }
         }
-        return false;
+        return null;
+    }
+
+    private static Set<Annotation> withBinding(final Set<Annotation> annotations) {
+        final Set<Annotation> result = new HashSet<Annotation>(annotations.size() + 1);
+        result.addAll(annotations);
+        result.add(BValBindingLiteral.INSTANCE);
+        return result;
+    }
+
+    /**
+     * Base for the {@link AnnotatedCallable}s carrying {@link BValBinding} on behalf of their delegate.
+     */
+    private abstract static class BValAnnotatedCallable<X, C extends AnnotatedCallable<X>>
+        implements AnnotatedCallable<X> {
+        protected final C delegate;
+        private final Set<Annotation> annotations;
+
+        protected BValAnnotatedCallable(final C delegate) {
+            this.delegate = delegate;
+            this.annotations = withBinding(delegate.getAnnotations());
+        }
+
+        @Override
+        public List<AnnotatedParameter<X>> getParameters() {
+            return delegate.getParameters();
+        }
+
+        @Override
+        public boolean isStatic() {
+            return delegate.isStatic();
+        }
+
+        @Override
+        public AnnotatedType<X> getDeclaringType() {
+            return delegate.getDeclaringType();
+        }
+
+        @Override
+        public Type getBaseType() {
+            return delegate.getBaseType();
+        }
+
+        @Override
+        public Set<Type> getTypeClosure() {
+            return delegate.getTypeClosure();
+        }
+
+        @Override
+        public <T extends Annotation> T getAnnotation(final Class<T> annotationType) {
+            return findAnnotation(annotations, annotationType);
+        }
+
+        @Override
+        public Set<Annotation> getAnnotations() {
+            return annotations;
+        }
+
+        @Override
+        public boolean isAnnotationPresent(final Class<? extends Annotation> annotationType) {
+            return findAnnotation(annotations, annotationType) != null;
+        }
+    }
+
+    private static class BValAnnotatedConstructor<X> extends BValAnnotatedCallable<X, AnnotatedConstructor<X>>
+        implements AnnotatedConstructor<X> {
+        BValAnnotatedConstructor(final AnnotatedConstructor<X> delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public Constructor<X> getJavaMember() {
+            return delegate.getJavaMember();
+        }
+    }
+
+    private static class BValAnnotatedMethod<X> extends BValAnnotatedCallable<X, AnnotatedMethod<X>>
+        implements AnnotatedMethod<X> {
+        BValAnnotatedMethod(final AnnotatedMethod<X> delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public Method getJavaMember() {
+            return delegate.getJavaMember();
+        }
     }
 
     public static class BValBindingLiteral extends EmptyAnnotationLiteral<BValBinding> implements BValBinding {
@@ -21,7 +21,8 @@ package org.apache.bval.cdi;
 import javax.enterprise.context.spi.CreationalContext;
 import javax.enterprise.event.Observes;
 import javax.enterprise.inject.spi.AfterBeanDiscovery;
-import javax.enterprise.inject.spi.AnnotatedCallable;
+import javax.enterprise.inject.spi.AnnotatedConstructor;
+import javax.enterprise.inject.spi.AnnotatedMethod;
 import javax.enterprise.inject.spi.AnnotatedType;
 import javax.enterprise.inject.spi.Bean;
 import javax.enterprise.inject.spi.BeanManager;
@@ -42,19 +43,34 @@ import javax.validation.executable.ValidateOnExecution;
 import javax.validation.metadata.BeanDescriptor;
 import javax.validation.metadata.MethodType;
 
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.apache.bval.jsr.ApacheValidatorFactory;
+import org.apache.bval.jsr.util.ClassHelper;
+import org.apache.bval.jsr.util.ProxyResolver;
 import org.apache.bval.util.Validate;
 
 /**
- * CDI {@link Extension} for Apache BVal setup.
+ * CDI {@link Extension} for Apache BVal setup.<br/>
+ * Executables are bound to the {@link BValInterceptor} at deployment, from the constraint metadata
+ * available then: an executable that only becomes constrained after
+ * {@link ApacheValidatorFactory#reloadMappingConfig(java.util.Set)} is not intercepted until the next
+ * deployment, whereas reloaded constraints of executables already bound are applied.
  */
 public class BValExtension implements Extension {
     private static final Logger LOGGER = Logger.getLogger(BValExtension.class.getName());
@@ -73,14 +89,13 @@ public class BValExtension implements Extension {
         BValExtension.annotatedTypeFilter = Validate.notNull(annotatedTypeFilter);
     }
 
+    static AnnotatedTypeFilter getAnnotatedTypeFilter() {
+        return annotatedTypeFilter;
+    }
+
     private boolean validatorFound = Boolean.getBoolean("bval.in-container");
     private boolean validatorFactoryFound = Boolean.getBoolean("bval.in-container");
 
-    private boolean validBean;
-    private boolean validConstructors;
-    private boolean validBusinessMethods;
-    private boolean validGetterMethods;
-
     private final Configuration<?> config;
     private ValidatorFactory factory;
     private Validator validator;
@@ -88,6 +103,12 @@ public class BValExtension implements Extension {
     private Set<ExecutableType> globalExecutableTypes;
     private boolean isExecutableValidationEnabled;
 
+    private final ProxyResolver proxyResolver = new ProxyResolver(Thread.currentThread().getContextClassLoader());
+    private final ConcurrentMap<Class<?>, ConcurrentMap<Member, BValInterceptor.ExecutablePlan>> executablePlans =
+        new ConcurrentHashMap<Class<?>, ConcurrentMap<Member, BValInterceptor.ExecutablePlan>>();
+    /** incremented on each mapping reload, which the validator factory serializes */
+    private volatile int planGeneration;
+
     public BValExtension() { // read the config, could be done in a quicker way but this let us get defaults without duplicating code
         config = Validation.byDefaultProvider().configure();
         try {
@@ -95,14 +116,6 @@ public class BValExtension implements Extension {
             globalExecutableTypes =
                 Collections.unmodifiableSet(convertToRuntimeTypes(bootstrap.getDefaultValidatedExecutableTypes()));
             isExecutableValidationEnabled = bootstrap.isExecutableValidationEnabled();
-
-            // TODO we never contain IMPLICIT or ALL
-            validBean = globalExecutableTypes.contains(ExecutableType.IMPLICIT)
-                || globalExecutableTypes.contains(ExecutableType.ALL);
-            validConstructors = validBean || globalExecutableTypes.contains(ExecutableType.CONSTRUCTORS);
-            validBusinessMethods = validBean || globalExecutableTypes.contains(ExecutableType.NON_GETTER_METHODS);
-            validGetterMethods = globalExecutableTypes.contains(ExecutableType.ALL)
-                || globalExecutableTypes.contains(ExecutableType.GETTER_METHODS);
         } catch (final Exception e) { // custom providers can throw an exception
             LOGGER.log(Level.SEVERE, e.getMessage(), e);
 
@@ -150,13 +163,52 @@ public class BValExtension implements Extension {
         return globalExecutableTypes;
     }
 
+    /**
+     * Get the {@link ProxyResolver} of this deployment.
+     *
+     * @return {@link ProxyResolver}
+     */
+    ProxyResolver getProxyResolver() {
+        return proxyResolver;
+    }
+
+    /**
+     * Get the number of mapping reloads seen so far, for {@link BValInterceptor} not to cache plans computed from the
+     * metadata of a previous mapping.
+     *
+     * @return int
+     */
+    int getPlanGeneration() {
+        return planGeneration;
+    }
+
+    /**
+     * Get the executable validation plans {@link BValInterceptor} computed so far for {@code beanClass}; shared by
+     * all interceptor instances so they are computed once per deployment rather than once per bean instance.
+     *
+     * @param beanClass
+     * @return {@link ConcurrentMap}
+     */
+    ConcurrentMap<Member, BValInterceptor.ExecutablePlan> getExecutablePlans(final Class<?> beanClass) {
+        ConcurrentMap<Member, BValInterceptor.ExecutablePlan> plans = executablePlans.get(beanClass);
+        if (plans == null) {
+            plans = new ConcurrentHashMap<Member, BValInterceptor.ExecutablePlan>();
+            final ConcurrentMap<Member, BValInterceptor.ExecutablePlan> existing =
+                executablePlans.putIfAbsent(beanClass, plans);
+            if (existing != null) {
+                plans = existing;
+            }
+        }
+        return plans;
+    }
+
     public void addBvalBinding(final @Observes BeforeBeanDiscovery beforeBeanDiscovery, final BeanManager beanManager) {
         beforeBeanDiscovery.addInterceptorBinding(BValBinding.class);
         beforeBeanDiscovery.addAnnotatedType(beanManager.createAnnotatedType(BValInterceptor.class));
     }
 
     // @WithAnnotations(ValidateOnExecution.class) doesn't check interfaces so not enough
-    public <A> void processAnnotatedType(final @Observes ProcessAnnotatedType<A> pat) {
+    public <A> void processAnnotatedType(final @Observes ProcessAnnotatedType<A> pat, final BeanManager beanManager) {
         if (!isExecutableValidationEnabled) {
             return;
         }
@@ -174,17 +226,39 @@ public class BValExtension implements Extension {
                 ensureFactoryValidator();
                 try {
                     final BeanDescriptor classConstraints = validator.getConstraintsForClass(javaClass);
-                    if (annotatedType.isAnnotationPresent(ValidateOnExecution.class)
-                        || hasValidationAnnotation(annotatedType.getMethods())
-                        || hasValidationAnnotation(annotatedType.getConstructors())
-                        || classConstraints != null && (validBean && classConstraints.isBeanConstrained()
-                            || validConstructors && !classConstraints.getConstrainedConstructors().isEmpty()
-                            || validBusinessMethods
-                                && !classConstraints.getConstrainedMethods(MethodType.NON_GETTER).isEmpty()
-                            || validGetterMethods
-                                && !classConstraints.getConstrainedMethods(MethodType.GETTER).isEmpty())) {
-                        final BValAnnotatedType<A> bValAnnotatedType = new BValAnnotatedType<A>(annotatedType);
-                        pat.setAnnotatedType(bValAnnotatedType);
+                    if (classConstraints == null || classConstraints.getConstrainedConstructors().isEmpty()
+                        && classConstraints.getConstrainedMethods(MethodType.NON_GETTER, MethodType.GETTER).isEmpty()) {
+                        return;
+                    }
+                    final Set<ExecutableType> classConfiguration = classConfiguration(annotatedType);
+
+                    final Collection<AnnotatedConstructor<A>> constructors = new ArrayList<AnnotatedConstructor<A>>();
+                    for (final AnnotatedConstructor<A> constructor : annotatedType.getConstructors()) {
+                        if (classConstraints.getConstraintsForConstructor(
+                            constructor.getJavaMember().getParameterTypes()) != null
+                            && isConstructorValidated(constructor, classConfiguration)) {
+                            constructors.add(constructor);
+                        }
+                    }
+
+                    final Collection<AnnotatedMethod<? super A>> methods = new ArrayList<AnnotatedMethod<? super A>>();
+                    List<AnnotatedType<?>> hierarchy = null;
+                    for (final AnnotatedMethod<? super A> method : annotatedType.getMethods()) {
+                        final Method javaMethod = method.getJavaMember();
+                        if (classConstraints.getConstraintsForMethod(javaMethod.getName(),
+                            javaMethod.getParameterTypes()) == null) {
+                            continue;
+                        }
+                        if (hierarchy == null) {
+                            hierarchy = hierarchy(annotatedType, beanManager);
+                        }
+                        if (isMethodValidated(hierarchy, javaMethod, classConfiguration)) {
+                            methods.add(method);
+                        }
+                    }
+
+                    if (!constructors.isEmpty() || !methods.isEmpty()) {
+                        pat.setAnnotatedType(new BValAnnotatedType<A>(annotatedType, constructors, methods));
                     }
                 } catch (final NoClassDefFoundError ncdfe) {
                     // skip
@@ -197,14 +271,136 @@ public class BValExtension implements Extension {
         }
     }
 
-    private static <A> boolean hasValidationAnnotation(
-        final Collection<? extends AnnotatedCallable<? super A>> methods) {
-        for (final AnnotatedCallable<? super A> m : methods) {
-            if (m.isAnnotationPresent(ValidateOnExecution.class)) {
-                return true;
+    private Set<ExecutableType> classConfiguration(final AnnotatedType<?> annotatedType) {
+        final ValidateOnExecution annotation = annotatedType.getAnnotation(ValidateOnExecution.class);
+        if (annotation == null) {
+            return globalExecutableTypes;
+        }
+        final Set<ExecutableType> classConfiguration = EnumSet.noneOf(ExecutableType.class);
+        for (final ExecutableType type : annotation.type()) {
+            if (ExecutableType.NONE == type) {
+                continue;
+            }
+            if (ExecutableType.ALL == type) {
+                classConfiguration.add(ExecutableType.CONSTRUCTORS);
+                classConfiguration.add(ExecutableType.NON_GETTER_METHODS);
+                classConfiguration.add(ExecutableType.GETTER_METHODS);
+                break;
+            }
+            if (ExecutableType.IMPLICIT == type) {
+                classConfiguration.add(ExecutableType.CONSTRUCTORS);
+                classConfiguration.add(ExecutableType.NON_GETTER_METHODS);
+            } else {
+                classConfiguration.add(type);
             }
         }
-        return false;
+        return classConfiguration;
+    }
+
+    private static boolean isConstructorValidated(final AnnotatedConstructor<?> constructor,
+        final Set<ExecutableType> classConfiguration) {
+        final ValidateOnExecution annotation = constructor.getAnnotation(ValidateOnExecution.class);
+        if (annotation == null) {
+            return classConfiguration.contains(ExecutableType.CONSTRUCTORS);
+        }
+        final Collection<ExecutableType> types = Arrays.asList(annotation.type());
+        return types.contains(ExecutableType.CONSTRUCTORS) || types.contains(ExecutableType.IMPLICIT)
+            || types.contains(ExecutableType.ALL);
+    }
+
+    /**
+     * Get the {@link AnnotatedType}s of the class hierarchy of {@code annotatedType}, most general first.
+     */
+    private static List<AnnotatedType<?>> hierarchy(final AnnotatedType<?> annotatedType,
+        final BeanManager beanManager) {
+        final List<Class<?>> classHierarchy =
+            ClassHelper.fillFullClassHierarchyAsList(new LinkedList<Class<?>>(), annotatedType.getJavaClass());
+        Collections.reverse(classHierarchy);
+
+        final List<AnnotatedType<?>> hierarchy = new ArrayList<AnnotatedType<?>>(classHierarchy.size());
+        for (final Class<?> c : classHierarchy) {
+            hierarchy.add(c == annotatedType.getJavaClass() ? annotatedType : beanManager.createAnnotatedType(c));
+        }
+        return hierarchy;
+    }
+
+    private static boolean isMethodValidated(final List<AnnotatedType<?>> hierarchy, final Method method,
+        final Set<ExecutableType> classConfiguration) {
+        // search on method @ValidateOnExecution
+        ValidateOnExecution validateOnExecution = null;
+        ValidateOnExecution validateOnExecutionType = null;
+        for (final AnnotatedType<?> annotatedType : hierarchy) {
+            AnnotatedMethod<?> annotatedMethod = null;
+            for (final AnnotatedMethod<?> m : annotatedType.getMethods()) {
+                if (!m.getJavaMember().getName().equals(method.getName())
+                    || !Arrays.asList(method.getGenericParameterTypes())
+                        .equals(Arrays.asList(m.getJavaMember().getGenericParameterTypes()))) {
+                    continue;
+                }
+                annotatedMethod = m;
+                break;
+            }
+            try {
+                if (annotatedMethod == null) {
+                    continue;
+                }
+                if (validateOnExecutionType == null) {
+                    final ValidateOnExecution vat = annotatedType.getAnnotation(ValidateOnExecution.class);
+                    if (vat != null) {
+                        validateOnExecutionType = vat;
+                    }
+                }
+                final ValidateOnExecution mvat = annotatedMethod.getAnnotation(ValidateOnExecution.class);
+                if (mvat != null) {
+                    validateOnExecution = mvat;
+                }
+            } catch (final Throwable h) {
+                // no-op
+            }
+        }
+
+        // if not found look in the class declaring the method
+        boolean classMeta = false;
+        if (validateOnExecution == null) {
+            validateOnExecution = validateOnExecutionType;
+            classMeta = validateOnExecution != null;
+        }
+
+        if (validateOnExecution == null) {
+            return doValidMethod(method, classConfiguration);
+        }
+
+        final Set<ExecutableType> config = EnumSet.noneOf(ExecutableType.class);
+        for (final ExecutableType type : validateOnExecution.type()) {
+            if (ExecutableType.NONE == type) {
+                continue;
+            }
+            if (ExecutableType.ALL == type) {
+                config.add(ExecutableType.NON_GETTER_METHODS);
+                config.add(ExecutableType.GETTER_METHODS);
+                break;
+            }
+            if (ExecutableType.IMPLICIT == type) { // on method it just means validate, even on getters
+                config.add(ExecutableType.NON_GETTER_METHODS);
+                if (!classMeta) {
+                    config.add(ExecutableType.GETTER_METHODS);
+                } // else the annotation was not on the method so implicit doesn't mean getters
+            } else {
+                config.add(type);
+            }
+        }
+        return doValidMethod(method, config);
+    }
+
+    private static boolean doValidMethod(final Method method, final Set<ExecutableType> config) {
+        return isGetter(method) ? config.contains(ExecutableType.GETTER_METHODS)
+            : config.contains(ExecutableType.NON_GETTER_METHODS);
+    }
+
+    private static boolean isGetter(final Method method) {
+        final String name = method.getName();
+        return method.getParameterTypes().length == 0 && !Void.TYPE.equals(method.getReturnType())
+            && (name.startsWith("get") || name.startsWith("is") && boolean.class.equals(method.getReturnType()));
     }
 
     public <A> void processBean(final @Observes ProcessBean<A> processBeanEvent) {
@@ -244,6 +440,7 @@ public class BValExtension implements Extension {
         if (!validatorFactoryFound) {
             try { // recreate the factory
                 afterBeanDiscovery.addBean(new ValidatorFactoryBean(factory = config.buildValidatorFactory()));
+                dropPlansOnReload(factory);
             } catch (final Exception e) { // can throw an exception with custom providers
                 LOGGER.log(Level.SEVERE, e.getMessage(), e);
             }
@@ -252,6 +449,7 @@ public class BValExtension implements Extension {
             try {
                 if (validatorFactoryFound) {
                     factory = config.buildValidatorFactory();
+                    dropPlansOnReload(factory);
                 } // else fresh factory already created in previous if
                 afterBeanDiscovery.addBean(new ValidatorBean(factory, factory.getValidator()));
                 validatorFound = true;
@@ -263,6 +461,34 @@ public class BValExtension implements Extension {
         }
     }
 
+    /**
+     * Forget the executable plans of the classes whose mappings {@code validatorFactory} reloads. The per class maps
+     * are emptied in place rather than replaced, as interceptor instances keep a reference to theirs.
+     *
+     * @param validatorFactory
+     */
+    void dropPlansOnReload(final ValidatorFactory validatorFactory) {
+        final ApacheValidatorFactory apacheFactory;
+        try {
+            apacheFactory = validatorFactory.unwrap(ApacheValidatorFactory.class);
+        } catch (final ValidationException e) {
+            return; // another provider
+        }
+        apacheFactory.addMappingReloadListener(new ApacheValidatorFactory.MappingReloadListener() {
+            @Override
+            public void mappingsReloaded(final Set<Class<?>> beanClasses) {
+                // before clearing, so that plans computed meanwhile are not cached afterwards
+                planGeneration++;
+                for (final Class<?> beanClass : beanClasses) {
+                    final ConcurrentMap<Member, BValInterceptor.ExecutablePlan> plans = executablePlans.get(beanClass);
+                    if (plans != null) {
+                        plans.clear();
+                    }
+                }
+            }
+        });
+    }
+
     /**
      * Request that an instance of the specified type be provided by the container.
      * @param clazz
@@ -18,26 +18,15 @@
  */
 package org.apache.bval.cdi;
 
-import org.apache.bval.jsr.util.ClassHelper;
-import org.apache.bval.jsr.util.Proxies;
+import org.apache.bval.jsr.ClassValidator;
 
 import java.io.Serializable;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.Collections;
-import java.util.EnumSet;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import javax.annotation.Priority;
-import javax.enterprise.inject.spi.AnnotatedConstructor;
-import javax.enterprise.inject.spi.AnnotatedMethod;
-import javax.enterprise.inject.spi.AnnotatedType;
-import javax.enterprise.inject.spi.CDI;
 import javax.inject.Inject;
 import javax.interceptor.AroundConstruct;
 import javax.interceptor.AroundInvoke;
@@ -47,16 +36,15 @@ import javax.interceptor.InvocationContext;
 import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
 import javax.validation.Validator;
-import javax.validation.executable.ExecutableType;
 import javax.validation.executable.ExecutableValidator;
 import javax.validation.executable.ValidateOnExecution;
 import javax.validation.metadata.ConstructorDescriptor;
 import javax.validation.metadata.MethodDescriptor;
 
-import static java.util.Arrays.asList;
-
 /**
- * Interceptor class for the {@link BValBinding} {@link InterceptorBinding}.
+ * Interceptor class for the {@link BValBinding} {@link InterceptorBinding}. {@link BValExtension} only binds it to
+ * the constructors and methods which are both constrained and validated according to {@link ValidateOnExecution}, so
+ * the interceptor itself only has to resolve the constraint descriptors.
  */
 @Interceptor
 @BValBinding
@@ -64,9 +52,8 @@ import static java.util.Arrays.asList;
 // TODO: maybe add it through ASM to be compliant with CDI 1.0 containers using simply this class as a template to
 // generate another one for CDI 1.1 impl
 public class BValInterceptor implements Serializable {
-    private transient volatile Map<Method, Boolean> methodConfiguration = new ConcurrentHashMap<Method, Boolean>();
-    private transient volatile Set<ExecutableType> classConfiguration;
-    private transient volatile Boolean constructorValidated;
+    private transient volatile ConcurrentMap<Member, ExecutablePlan> methodPlans;
+    private transient volatile Class<?> beanClass;
 
     @Inject
     private Validator validator;
@@ -81,19 +68,14 @@ public class BValInterceptor implements Serializable {
         @SuppressWarnings("rawtypes")
         final Constructor constructor = context.getConstructor();
         final Class<?> targetClass = constructor.getDeclaringClass();
-        if (!isConstructorValidated(targetClass, constructor)) {
-            return context.proceed();
-        }
-
-        final ConstructorDescriptor constraints =
-            validator.getConstraintsForClass(targetClass).getConstraintsForConstructor(constructor.getParameterTypes());
-        if (constraints == null) { // surely implicit constructor
+        final ExecutablePlan plan = getPlan(targetClass, constructor);
+        if (plan == ExecutablePlan.NONE) {
             return context.proceed();
         }
 
         initExecutableValidator();
 
-        {
+        if (plan.validateParameters) {
             @SuppressWarnings("unchecked")
             final Set<ConstraintViolation<?>> violations =
                 executableValidator.validateConstructorParameters(constructor, context.getParameters());
@@ -104,7 +86,7 @@ public class BValInterceptor implements Serializable {
 
         final Object result = context.proceed();
 
-        {
+        if (plan.validateReturnValue) {
             @SuppressWarnings("unchecked")
             final Set<ConstraintViolation<?>> violations =
                 executableValidator.validateConstructorReturnValue(constructor, context.getTarget());
@@ -119,22 +101,22 @@ public class BValInterceptor implements Serializable {
     @AroundInvoke
     public Object invoke(final InvocationContext context) throws Exception {
         final Method method = context.getMethod();
-        final Class<?> targetClass = Proxies.classFor(context.getTarget().getClass());
-        if (!isMethodValidated(targetClass, method)) {
-            return context.proceed();
-        }
-
-        final MethodDescriptor constraintsForMethod = validator.getConstraintsForClass(targetClass)
-            .getConstraintsForMethod(method.getName(), method.getParameterTypes());
-        if (constraintsForMethod == null) {
+        final Object target = context.getTarget();
+        final ExecutablePlan plan = getPlan(target, method);
+        if (plan == ExecutablePlan.NONE) {
             return context.proceed();
         }
 
         initExecutableValidator();
 
-        {
-            final Set<ConstraintViolation<Object>> violations =
-                executableValidator.validateParameters(context.getTarget(), method, context.getParameters());
+        if (plan.validateParameters) {
+            final Set<ConstraintViolation<Object>> violations;
+            if (executableValidator instanceof ClassValidator) {
+                violations = ((ClassValidator) executableValidator).validateParameters(target, method,
+                    plan.methodDescriptor, context.getParameters());
+            } else {
+                violations = executableValidator.validateParameters(target, method, context.getParameters());
+            }
             if (!violations.isEmpty()) {
                 throw new ConstraintViolationException(violations);
             }
@@ -142,9 +124,14 @@ public class BValInterceptor implements Serializable {
 
         final Object result = context.proceed();
 
-        {
-            final Set<ConstraintViolation<Object>> violations =
-                executableValidator.validateReturnValue(context.getTarget(), method, result);
+        if (plan.validateReturnValue) {
+            final Set<ConstraintViolation<Object>> violations;
+            if (executableValidator instanceof ClassValidator) {
+                violations = ((ClassValidator) executableValidator).validateReturnValue(target, method,
+                    plan.methodDescriptor, result);
+            } else {
+                violations = executableValidator.validateReturnValue(target, method, result);
+            }
             if (!violations.isEmpty()) {
                 throw new ConstraintViolationException(violations);
             }
@@ -153,166 +140,66 @@ public class BValInterceptor implements Serializable {
         return result;
     }
 
-    private boolean isConstructorValidated(final Class<?> targetClass, final Constructor<?> constructor)
-        throws NoSuchMethodException {
-        initClassConfig(targetClass);
-
-        if (constructorValidated == null) {
-            synchronized (this) {
-                if (constructorValidated == null) {
-                    final AnnotatedType<?> annotatedType =
-                        CDI.current().getBeanManager().createAnnotatedType(constructor.getDeclaringClass());
-                    AnnotatedConstructor<?> annotatedConstructor = null;
-                    for (final AnnotatedConstructor<?> ac : annotatedType.getConstructors()) {
-                        if (!constructor.equals(ac.getJavaMember())) {
-                            continue;
-                        }
-                        annotatedConstructor = ac;
-                        break;
-                    }
-                    final ValidateOnExecution annotation = annotatedConstructor != null
-                        ? annotatedConstructor.getAnnotation(ValidateOnExecution.class) : targetClass
-                            .getConstructor(constructor.getParameterTypes()).getAnnotation(ValidateOnExecution.class);
-                    if (annotation == null) {
-                        constructorValidated = classConfiguration.contains(ExecutableType.CONSTRUCTORS);
-                    } else {
-                        final Collection<ExecutableType> types = Arrays.asList(annotation.type());
-                        constructorValidated = types.contains(ExecutableType.CONSTRUCTORS)
-                            || types.contains(ExecutableType.IMPLICIT) || types.contains(ExecutableType.ALL);
-                    }
-                }
-            }
+    private ExecutablePlan getPlan(final Object target, final Method method) {
+        ConcurrentMap<Member, ExecutablePlan> plans = methodPlans;
+        if (plans == null) {
+            beanClass = globalConfiguration.getProxyResolver().classFor(target.getClass());
+            plans = globalConfiguration.getExecutablePlans(beanClass);
+            methodPlans = plans;
         }
-
-        return constructorValidated;
+        ExecutablePlan plan = plans.get(method);
+        if (plan == null) {
+            final int generation = globalConfiguration.getPlanGeneration();
+            plan = cache(plans, method, computePlan(method), generation);
+        }
+        return plan;
     }
 
-    private boolean isMethodValidated(final Class<?> targetClass, final Method method) throws NoSuchMethodException {
-        initClassConfig(targetClass);
-
-        if (methodConfiguration == null) {
-            synchronized (this) {
-                if (methodConfiguration == null) {
-                    methodConfiguration = new ConcurrentHashMap<Method, Boolean>();
-                }
-            }
+    private ExecutablePlan getPlan(final Class<?> targetClass, final Constructor<?> constructor) {
+        final ConcurrentMap<Member, ExecutablePlan> plans = globalConfiguration.getExecutablePlans(targetClass);
+        ExecutablePlan plan = plans.get(constructor);
+        if (plan == null) {
+            final int generation = globalConfiguration.getPlanGeneration();
+            plan = cache(plans, constructor, computePlan(targetClass, constructor), generation);
         }
+        return plan;
+    }
 
-        Boolean methodConfig = methodConfiguration.get(method);
-        if (methodConfig == null) {
-            synchronized (this) {
-                methodConfig = methodConfiguration.get(method);
-                if (methodConfig == null) {
-                    final List<Class<?>> classHierarchy =
-                        ClassHelper.fillFullClassHierarchyAsList(new LinkedList<Class<?>>(), targetClass);
-                    Collections.reverse(classHierarchy);
-
-                    // search on method @ValidateOnExecution
-                    ValidateOnExecution validateOnExecution = null;
-                    ValidateOnExecution validateOnExecutionType = null;
-                    for (final Class<?> c : classHierarchy) {
-                        final AnnotatedType<?> annotatedType = CDI.current().getBeanManager().createAnnotatedType(c);
-                        AnnotatedMethod<?> annotatedMethod = null;
-                        for (final AnnotatedMethod<?> m : annotatedType.getMethods()) {
-                            if (!m.getJavaMember().getName().equals(method.getName())
-                                || !asList(method.getGenericParameterTypes())
-                                    .equals(asList(m.getJavaMember().getGenericParameterTypes()))) {
-                                continue;
-                            }
-                            annotatedMethod = m;
-                            break;
-                        }
-                        try {
-                            if (annotatedMethod == null) {
-                                continue;
-                            }
-                            if (validateOnExecutionType == null) {
-                                final ValidateOnExecution vat = annotatedType.getAnnotation(ValidateOnExecution.class);
-                                if (vat != null) {
-                                    validateOnExecutionType = vat;
-                                }
-                            }
-                            final ValidateOnExecution mvat = annotatedMethod.getAnnotation(ValidateOnExecution.class);
-                            if (mvat != null) {
-                                validateOnExecution = mvat;
-                            }
-                        } catch (final Throwable h) {
-                            // no-op
-                        }
-                    }
-
-                    // if not found look in the class declaring the method
-                    boolean classMeta = false;
-                    if (validateOnExecution == null) {
-                        validateOnExecution = validateOnExecutionType;
-                        classMeta = validateOnExecution != null;
-                    }
-
-                    if (validateOnExecution == null) {
-                        methodConfig = doValidMethod(method, classConfiguration);
-                    } else {
-                        final Set<ExecutableType> config = EnumSet.noneOf(ExecutableType.class);
-                        for (final ExecutableType type : validateOnExecution.type()) {
-                            if (ExecutableType.NONE == type) {
-                                continue;
-                            }
-                            if (ExecutableType.ALL == type) {
-                                config.add(ExecutableType.NON_GETTER_METHODS);
-                                config.add(ExecutableType.GETTER_METHODS);
-                                break;
-                            }
-                            if (ExecutableType.IMPLICIT == type) { // on method it just means validate, even on getters
-                                config.add(ExecutableType.NON_GETTER_METHODS);
-                                if (!classMeta) {
-                                    config.add(ExecutableType.GETTER_METHODS);
-                                } // else the annotation was not on the method so implicit doesn't mean getters
-                            } else {
-                                config.add(type);
-                            }
-                        }
-                        methodConfig = doValidMethod(method, config);
-                    }
-                }
-                methodConfiguration.put(method, methodConfig);
-            }
+    /**
+     * Cache {@code plan} unless the mappings were reloaded since {@code generation}, in which case it may have been
+     * computed from replaced metadata: it is used for this call only.
+     */
+    private ExecutablePlan cache(final ConcurrentMap<Member, ExecutablePlan> plans, final Member executable,
+        final ExecutablePlan plan, final int generation) {
+        final ExecutablePlan existing = plans.putIfAbsent(executable, plan);
+        if (existing != null) {
+            return existing;
         }
-
-        return methodConfig;
+        if (generation != globalConfiguration.getPlanGeneration()) {
+            plans.remove(executable, plan);
+        }
+        return plan;
     }
 
-    private void initClassConfig(Class<?> targetClass) {
-        if (classConfiguration == null) {
-            synchronized (this) {
-                if (classConfiguration == null) {
-                    classConfiguration = EnumSet.noneOf(ExecutableType.class);
+    private ExecutablePlan computePlan(final Method method) {
+        // resolved the way ClassValidator does it so the validation itself is unchanged
+        final Class<?> declaringClass = globalConfiguration.getProxyResolver().classFor(method.getDeclaringClass());
+        final MethodDescriptor descriptor = validator.getConstraintsForClass(declaringClass)
+            .getConstraintsForMethod(method.getName(), method.getParameterTypes());
+        if (descriptor == null) {
+            return ExecutablePlan.NONE;
+        }
+        return ExecutablePlan.of(descriptor, descriptor.hasConstrainedParameters(),
+            descriptor.hasConstrainedReturnValue());
+    }
 
-                    final AnnotatedType<?> annotatedType =
-                        CDI.current().getBeanManager().createAnnotatedType(targetClass);
-                    final ValidateOnExecution annotation = annotatedType.getAnnotation(ValidateOnExecution.class);
-                    if (annotation == null) {
-                        classConfiguration.addAll(globalConfiguration.getGlobalExecutableTypes());
-                    } else {
-                        for (final ExecutableType type : annotation.type()) {
-                            if (ExecutableType.NONE == type) {
-                                continue;
-                            }
-                            if (ExecutableType.ALL == type) {
-                                classConfiguration.add(ExecutableType.CONSTRUCTORS);
-                                classConfiguration.add(ExecutableType.NON_GETTER_METHODS);
-                                classConfiguration.add(ExecutableType.GETTER_METHODS);
-                                break;
-                            }
-                            if (ExecutableType.IMPLICIT == type) {
-                                classConfiguration.add(ExecutableType.CONSTRUCTORS);
-                                classConfiguration.add(ExecutableType.NON_GETTER_METHODS);
-                            } else {
-                                classConfiguration.add(type);
-                            }
-                        }
-                    }
-                }
-            }
+    private ExecutablePlan computePlan(final Class<?> targetClass, final Constructor<?> constructor) {
+        final ConstructorDescriptor descriptor =
+            validator.getConstraintsForClass(targetClass).getConstraintsForConstructor(constructor.getParameterTypes());
+        if (descriptor == null) { // surely implicit constructor
+            return ExecutablePlan.NONE;
         }
+        return ExecutablePlan.of(null, descriptor.hasConstrainedParameters(), descriptor.hasConstrainedReturnValue());
     }
 
     private void initExecutableValidator() {
@@ -325,14 +212,30 @@ public class BValInterceptor implements Serializable {
         }
     }
 
-    private static boolean doValidMethod(final Method method, final Set<ExecutableType> config) {
-        return isGetter(method) ? config.contains(ExecutableType.GETTER_METHODS)
-            : config.contains(ExecutableType.NON_GETTER_METHODS);
-    }
+    /**
+     * Immutable outcome of the per-executable validation decision: computed once per bean class and
+     * {@link Method}/{@link Constructor} so an unconstrained executable only costs a map read per call.
+     */
+    static final class ExecutablePlan {
+        static final ExecutablePlan NONE = new ExecutablePlan(null, false, false);
+
+        final MethodDescriptor methodDescriptor;
+        final boolean validateParameters;
+        final boolean validateReturnValue;
+
+        private ExecutablePlan(final MethodDescriptor methodDescriptor, final boolean validateParameters,
+            final boolean validateReturnValue) {
+            this.methodDescriptor = methodDescriptor;
+            this.validateParameters = validateParameters;
+            this.validateReturnValue = validateReturnValue;
+        }
 
-    private static boolean isGetter(final Method method) {
-        final String name = method.getName();
-        return method.getParameterTypes().length == 0 && !Void.TYPE.equals(method.getReturnType())
-            && (name.startsWith("get") || name.startsWith("is") && boolean.class.equals(method.getReturnType()));
+        static ExecutablePlan of(final MethodDescriptor methodDescriptor, final boolean validateParameters,
+            final boolean validateReturnValue) {
+            if (!validateParameters && !validateReturnValue) {
+                return NONE;
+            }
+            return new ExecutablePlan(methodDescriptor, validateParameters, validateReturnValue);
+        }
     }
 }
@@ -28,6 +28,8 @@ import java.math.BigInteger;
 public class DecimalMaxValidatorForNumber implements ConstraintValidator<DecimalMax, Number> {
 
     private BigDecimal maxValue;
+    private long unscaledMax;
+    private int scale;
 
     @Override
     public void initialize(DecimalMax annotation) {
@@ -36,6 +38,8 @@ public class DecimalMaxValidatorForNumber implements ConstraintValidator<Decimal
         } catch (NumberFormatException nfe) {
             throw new IllegalArgumentException(annotation.value() + " does not represent a valid BigDecimal format");
         }
+        this.unscaledMax = Decimals.unscaledValue(maxValue);
+        this.scale = Decimals.scaleOf(maxValue);
     }
 
     @Override
@@ -43,6 +47,9 @@ public class DecimalMaxValidatorForNumber implements ConstraintValidator<Decimal
         if (value == null) {
             return true;
         }
+        if (unscaledMax != Decimals.NOT_SIMPLE && Decimals.isIntegral(value)) {
+            return Decimals.compare(value.longValue(), 0, unscaledMax, scale) <= 0;
+        }
         if (value instanceof BigDecimal) {
             return ((BigDecimal) value).compareTo(maxValue) != 1;
         }
@@ -30,6 +30,8 @@ import java.math.BigDecimal;
 public class DecimalMaxValidatorForString implements ConstraintValidator<DecimalMax, String> {
 
     private BigDecimal maxValue;
+    private long unscaledMax;
+    private int scale;
 
     @Override
     public void initialize(DecimalMax annotation) {
@@ -38,6 +40,8 @@ public class DecimalMaxValidatorForString implements ConstraintValidator<Decimal
         } catch (NumberFormatException nfe) {
             throw new IllegalArgumentException(annotation.value() + " does not represent a valid BigDecimal format");
         }
+        this.unscaledMax = Decimals.unscaledValue(maxValue);
+        this.scale = Decimals.scaleOf(maxValue);
     }
 
     @Override
@@ -45,6 +49,12 @@ public class DecimalMaxValidatorForString implements ConstraintValidator<Decimal
         if (value == null) {
             return true;
         }
+        if (unscaledMax != Decimals.NOT_SIMPLE) {
+            final long unscaledValue = Decimals.unscaledValue(value);
+            if (unscaledValue != Decimals.NOT_SIMPLE) {
+                return Decimals.compare(unscaledValue, Decimals.scaleOf(value), unscaledMax, scale) <= 0;
+            }
+        }
         try {
             return new BigDecimal(value).compareTo(maxValue) != 1;
         } catch (NumberFormatException nfe) {
@@ -28,6 +28,8 @@ import java.math.BigInteger;
 public class DecimalMinValidatorForNumber implements ConstraintValidator<DecimalMin, Number> {
 
     private BigDecimal minValue;
+    private long unscaledMin;
+    private int scale;
 
     @Override
     public void initialize(DecimalMin annotation) {
@@ -36,6 +38,8 @@ public class DecimalMinValidatorForNumber implements ConstraintValidator<Decimal
         } catch (NumberFormatException nfe) {
             throw new IllegalArgumentException(annotation.value() + " does not represent a valid BigDecimal format");
         }
+        this.unscaledMin = Decimals.unscaledValue(minValue);
+        this.scale = Decimals.scaleOf(minValue);
     }
 
     @Override
@@ -43,6 +47,9 @@ public class DecimalMinValidatorForNumber implements ConstraintValidator<Decimal
         if (value == null) {
             return true;
         }
+        if (unscaledMin != Decimals.NOT_SIMPLE && Decimals.isIntegral(value)) {
+            return Decimals.compare(value.longValue(), 0, unscaledMin, scale) >= 0;
+        }
         if (value instanceof BigDecimal) {
             return ((BigDecimal) value).compareTo(minValue) != -1;
         }
@@ -31,6 +31,8 @@ import java.math.BigDecimal;
 public class DecimalMinValidatorForString implements ConstraintValidator<DecimalMin, String> {
 
     private BigDecimal minValue;
+    private long unscaledMin;
+    private int scale;
 
     @Override
     public void initialize(DecimalMin annotation) {
@@ -39,6 +41,8 @@ public class DecimalMinValidatorForString implements ConstraintValidator<Decimal
         } catch (NumberFormatException nfe) {
             throw new IllegalArgumentException(annotation.value() + " does not represent a valid BigDecimal format");
         }
+        this.unscaledMin = Decimals.unscaledValue(minValue);
+        this.scale = Decimals.scaleOf(minValue);
     }
 
     @Override
@@ -47,6 +51,12 @@ public class DecimalMinValidatorForString implements ConstraintValidator<Decimal
         if (value == null) {
             return true;
         }
+        if (unscaledMin != Decimals.NOT_SIMPLE) {
+            final long unscaledValue = Decimals.unscaledValue(value);
+            if (unscaledValue != Decimals.NOT_SIMPLE) {
+                return Decimals.compare(unscaledValue, Decimals.scaleOf(value), unscaledMin, scale) >= 0;
+            }
+        }
         try {
             return new BigDecimal(value).compareTo(minValue) != -1;
         } catch (NumberFormatException nfe) {
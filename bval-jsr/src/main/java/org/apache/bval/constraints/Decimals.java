@@ -0,0 +1,257 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.constraints;
+
+import java.math.BigDecimal;
+
+/**
+ * Allocation-free decimal arithmetic for the common cases of the numeric constraint validators:
+ * integral wrapper types and short, plain ASCII decimal strings (<code>[+-]digits[.digits]</code>).
+ * Callers fall back to {@link BigDecimal} wherever a method reports {@link #NOT_SIMPLE}.
+ */
+final class Decimals {
+    /**
+     * Marker for values not handled here.
+     */
+    static final long NOT_SIMPLE = Long.MIN_VALUE;
+
+    /**
+     * Maximum number of significant digits of a simple value.
+     */
+    private static final int MAX_DIGITS = 18;
+
+    private static final long[] POWERS_OF_TEN = new long[MAX_DIGITS + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1L;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private Decimals() {
+    }
+
+    /**
+     * Learn whether <code>value</code> is of an integral wrapper type, i.e. its
+     * {@link Number#longValue()} is exact.
+     *
+     * @param value
+     * @return boolean
+     */
+    static boolean isIntegral(Number value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+
+    /**
+     * Get the unscaled value of a simple decimal string, the scale being {@link #scaleOf(String)}.
+     *
+     * @param str
+     * @return unscaled value or {@link #NOT_SIMPLE}
+     */
+    static long unscaledValue(String str) {
+        final int length = str.length();
+        int i = 0;
+        boolean negative = false;
+        if (length > 0 && (str.charAt(0) == '-' || str.charAt(0) == '+')) {
+            negative = str.charAt(0) == '-';
+            i++;
+        }
+        long result = 0;
+        int digits = 0;
+        int significantDigits = 0;
+        boolean dot = false;
+        for (; i < length; i++) {
+            final char c = str.charAt(i);
+            if (c == '.' && !dot) {
+                dot = true;
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                return NOT_SIMPLE;
+            }
+            digits++;
+            if (result != 0 || c != '0') {
+                if (++significantDigits > MAX_DIGITS) {
+                    return NOT_SIMPLE;
+                }
+                result = result * 10 + c - '0';
+            }
+        }
+        if (digits == 0) {
+            return NOT_SIMPLE;
+        }
+        return negative ? -result : result;
+    }
+
+    /**
+     * Get the scale of a string for which {@link #unscaledValue(String)} or
+     * {@link #precisionAndScale(String)} did not return {@link #NOT_SIMPLE}.
+     *
+     * @param str
+     * @return number of fraction digits
+     */
+    static int scaleOf(String str) {
+        final int dot = str.indexOf('.');
+        return dot < 0 ? 0 : str.length() - dot - 1;
+    }
+
+    /**
+     * Get the precision and scale <code>new BigDecimal(str)</code> would have, packed into a
+     * <code>long</code> (precision in the high, scale in the low 32 bits).
+     *
+     * @param str
+     * @return packed precision and scale or {@link #NOT_SIMPLE}
+     */
+    static long precisionAndScale(String str) {
+        final int length = str.length();
+        int i = 0;
+        if (length > 0 && (str.charAt(0) == '-' || str.charAt(0) == '+')) {
+            i++;
+        }
+        int digits = 0;
+        int significantDigits = 0;
+        int scale = 0;
+        boolean dot = false;
+        for (; i < length; i++) {
+            final char c = str.charAt(i);
+            if (c == '.' && !dot) {
+                dot = true;
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                return NOT_SIMPLE;
+            }
+            digits++;
+            if (dot) {
+                scale++;
+            }
+            if (significantDigits > 0 || c != '0') {
+                significantDigits++;
+            }
+        }
+        if (digits == 0) {
+            return NOT_SIMPLE;
+        }
+        // zero has a precision of 1
+        return (long) Math.max(significantDigits, 1) << 32 | scale;
+    }
+
+    /**
+     * Get the precision from a result of {@link #precisionAndScale(String)}.
+     */
+    static int precision(long precisionAndScale) {
+        return (int) (precisionAndScale >>> 32);
+    }
+
+    /**
+     * Get the scale from a result of {@link #precisionAndScale(String)}.
+     */
+    static int scale(long precisionAndScale) {
+        return (int) precisionAndScale;
+    }
+
+    /**
+     * Get the number of digits <code>new BigDecimal(Long.toString(value)).stripTrailingZeros()</code>
+     * has in front of the decimal point.
+     *
+     * @param value
+     * @return int
+     */
+    static int integerDigits(long value) {
+        // negative, to handle Long.MIN_VALUE
+        long n = value > 0 ? -value : value;
+        int result = 1;
+        while (n <= -10) {
+            n /= 10;
+            result++;
+        }
+        return result;
+    }
+
+    /**
+     * Get the unscaled value of a simple {@link BigDecimal}, normalized to a non-negative scale.
+     *
+     * @param value
+     * @return unscaled value or {@link #NOT_SIMPLE}
+     */
+    static long unscaledValue(BigDecimal value) {
+        final BigDecimal normalized = normalize(value);
+        if (normalized == null) {
+            return NOT_SIMPLE;
+        }
+        return normalized.unscaledValue().longValue();
+    }
+
+    /**
+     * Get the scale matching {@link #unscaledValue(BigDecimal)}.
+     *
+     * @param value
+     * @return int
+     */
+    static int scaleOf(BigDecimal value) {
+        return Math.max(value.scale(), 0);
+    }
+
+    private static BigDecimal normalize(BigDecimal value) {
+        final BigDecimal result = value.scale() < 0 ? value.setScale(0) : value;
+        if (result.scale() > MAX_DIGITS || result.precision() > MAX_DIGITS) {
+            return null;
+        }
+        return result;
+    }
+
+    /**
+     * Compare two decimals given as unscaled values and scales.
+     *
+     * @return negative, zero or positive as the first value is less than, equal to or greater than the
+     *         second one
+     */
+    static int compare(long unscaled1, int scale1, long unscaled2, int scale2) {
+        if (scale1 == scale2) {
+            return unscaled1 < unscaled2 ? -1 : unscaled1 == unscaled2 ? 0 : 1;
+        }
+        if (scale1 < scale2) {
+            return compareScaled(unscaled1, scale2 - scale1, unscaled2);
+        }
+        return -compareScaled(unscaled2, scale1 - scale2, unscaled1);
+    }
+
+    /**
+     * Compare <code>x * 10^exponent</code> with <code>y</code>.
+     */
+    private static int compareScaled(long x, int exponent, long y) {
+        if (x == 0) {
+            return y < 0 ? 1 : y == 0 ? 0 : -1;
+        }
+        if (exponent >= POWERS_OF_TEN.length) {
+            // x * 10^exponent exceeds the long range
+            return x > 0 ? 1 : -1;
+        }
+        final long limit = Long.MAX_VALUE / POWERS_OF_TEN[exponent];
+        if (x > limit) {
+            return 1;
+        }
+        if (x < -limit) {
+            return -1;
+        }
+        final long scaled = x * POWERS_OF_TEN[exponent];
+        return scaled < y ? -1 : scaled == y ? 0 : 1;
+    }
+}
@@ -66,6 +66,9 @@ public class DigitsValidatorForNumber implements ConstraintValidator<Digits, Num
             return true;
         }
 
+        if (Decimals.isIntegral(num)) {
+            return integral >= Decimals.integerDigits(num.longValue());
+        }
         BigDecimal bigDecimal;
         if (num instanceof BigDecimal) {
             bigDecimal = (BigDecimal) num;
@@ -67,14 +67,22 @@ public class DigitsValidatorForString implements ConstraintValidator<Digits, Str
             return true;
         }
 
+        final long precisionAndScale = Decimals.precisionAndScale(str);
+        if (precisionAndScale != Decimals.NOT_SIMPLE) {
+            return isValid(Decimals.precision(precisionAndScale), Decimals.scale(precisionAndScale));
+        }
         final BigDecimal bigDecimal = getBigDecimalValue(str);
         if (bigDecimal == null) {
             return false;
         }
 
-        int intLength = bigDecimal.precision() - bigDecimal.scale();
+        return isValid(bigDecimal.precision(), bigDecimal.scale());
+    }
+
+    private boolean isValid(int precision, int scale) {
+        int intLength = precision - scale;
         if (integral >= intLength) {
-            int factionLength = bigDecimal.scale() < 0 ? 0 : bigDecimal.scale();
+            int factionLength = scale < 0 ? 0 : scale;
             return fractional >= factionLength;
         }
         return false;
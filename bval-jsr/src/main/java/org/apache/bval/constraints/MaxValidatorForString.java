@@ -41,6 +41,10 @@ public class MaxValidatorForString implements ConstraintValidator<Max, String> {
         if (value == null) {
             return true;
         }
+        final long unscaledValue = Decimals.unscaledValue(value);
+        if (unscaledValue != Decimals.NOT_SIMPLE) {
+            return Decimals.compare(unscaledValue, Decimals.scaleOf(value), max, 0) <= 0;
+        }
         try {
             return new BigDecimal(value).compareTo(BigDecimal.valueOf(max)) != 1;
         } catch (NumberFormatException nfe) {
@@ -41,6 +41,10 @@ public class MinValidatorForString implements ConstraintValidator<Min, String> {
         if (value == null) {
             return true;
         }
+        final long unscaledValue = Decimals.unscaledValue(value);
+        if (unscaledValue != Decimals.NOT_SIMPLE) {
+            return Decimals.compare(unscaledValue, Decimals.scaleOf(value), minValue, 0) >= 0;
+        }
         try {
             return new BigDecimal(value).compareTo(BigDecimal.valueOf(minValue)) != -1;
         } catch (NumberFormatException nfe) {
@@ -21,6 +21,10 @@ package org.apache.bval.constraints;
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 import javax.validation.constraints.Pattern;
+
+import org.apache.bval.util.regex.Patterns;
+import org.apache.bval.util.regex.RegexMatcher;
+
 import java.util.regex.PatternSyntaxException;
 
 /**
@@ -29,6 +33,7 @@ import java.util.regex.PatternSyntaxException;
  */
 public class PatternValidator implements ConstraintValidator<Pattern, String> {
     protected java.util.regex.Pattern pattern;
+    private CompiledMatcher matcher;
 
     @Override
     public void initialize(Pattern annotation) {
@@ -39,7 +44,8 @@ public class PatternValidator implements ConstraintValidator<Pattern, String> {
         }
 
         try {
-            pattern = java.util.regex.Pattern.compile(annotation.regexp(), intFlag);
+            pattern = Patterns.compile(annotation.regexp(), intFlag);
+            matcher = new CompiledMatcher(pattern, Patterns.matcher(annotation.regexp(), intFlag));
         } catch (PatternSyntaxException e) {
             throw new IllegalArgumentException("Invalid regular expression.", e);
         }
@@ -47,6 +53,29 @@ public class PatternValidator implements ConstraintValidator<Pattern, String> {
 
     @Override
     public boolean isValid(String value, ConstraintValidatorContext context) {
-        return value == null || pattern.matcher(value).matches();
+        if (value == null) {
+            return true;
+        }
+        final java.util.regex.Pattern current = pattern;
+        CompiledMatcher compiled = matcher;
+        if (compiled == null || compiled.pattern != current) {
+            // subclasses may have assigned pattern on their own
+            compiled = new CompiledMatcher(current, Patterns.matcher(current.pattern(), current.flags()));
+            matcher = compiled;
+        }
+        return compiled.matcher.matches(value);
+    }
+
+    /**
+     * {@link RegexMatcher} along with the {@link java.util.regex.Pattern} it was obtained for.
+     */
+    private static class CompiledMatcher {
+        final java.util.regex.Pattern pattern;
+        final RegexMatcher matcher;
+
+        CompiledMatcher(java.util.regex.Pattern pattern, RegexMatcher matcher) {
+            this.pattern = pattern;
+            this.matcher = matcher;
+        }
     }
 }
@@ -116,8 +116,7 @@ final class AnnotationConstraintBuilder<A extends Annotation> {
                                     + ConstraintAnnotationAttributes.MESSAGE.getType());
                             }
                         }
-                        constraintValidation.getAttributes().put(name,
-                            method.invoke(constraintValidation.getAnnotation()));
+                        constraintValidation.getAttributes().put(name, readAttribute(method));
                     }
                 } catch (final ConstraintDefinitionException cde) {
                     throw cde;
@@ -203,6 +202,19 @@ final class AnnotationConstraintBuilder<A extends Annotation> {
         return new Pair(annotatedElt, param);
     }
 
+    /**
+     * Read an attribute of the constraint annotation; annotations created from
+     * XML mappings already hold their resolved values, sparing the reflective call.
+     */
+    private Object readAttribute(final Method method) throws IllegalAccessException, InvocationTargetException {
+        final Map<String, Object> proxied =
+            AnnotationProxyBuilder.getProxiedValues(constraintValidation.getAnnotation());
+        if (proxied != null) {
+            return proxied.get(method.getName());
+        }
+        return method.invoke(constraintValidation.getAnnotation());
+    }
+
     private void buildValidationAppliesTo(final Method method)
         throws InvocationTargetException, IllegalAccessException {
         if (!TypeUtils.isAssignable(method.getReturnType(),
@@ -210,7 +222,7 @@ final class AnnotationConstraintBuilder<A extends Annotation> {
             throw new ConstraintDefinitionException("Return type for validationAppliesTo() must be of type "
                 + ConstraintAnnotationAttributes.VALIDATION_APPLIES_TO.getType());
         }
-        final Object validationAppliesTo = method.invoke(constraintValidation.getAnnotation());
+        final Object validationAppliesTo = readAttribute(method);
         if (!ConstraintTarget.class.isInstance(validationAppliesTo)) {
             throw new ConstraintDefinitionException("validationAppliesTo type is " + ConstraintTarget.class.getName());
         }
@@ -223,7 +235,7 @@ final class AnnotationConstraintBuilder<A extends Annotation> {
                 "Return type for groups() must be of type " + ConstraintAnnotationAttributes.GROUPS.getType());
         }
 
-        final Object raw = method.invoke(constraintValidation.getAnnotation());
+        final Object raw = readAttribute(method);
         Class<?>[] garr;
         if (raw instanceof Class<?>) {
             garr = new Class[] { (Class<?>) raw };
@@ -253,7 +265,7 @@ final class AnnotationConstraintBuilder<A extends Annotation> {
         }
 
         final Class<? extends Payload>[] payload_raw =
-            (Class<? extends Payload>[]) method.invoke(constraintValidation.getAnnotation());
+            (Class<? extends Payload>[]) readAttribute(method);
 
         final Set<Class<? extends Payload>> payloadSet;
         if (payload_raw == null) {
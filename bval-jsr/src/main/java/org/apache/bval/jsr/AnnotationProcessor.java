@@ -119,10 +119,10 @@ public final class AnnotationProcessor {
 
         if (ConvertGroup.class.isInstance(annotation) || ConvertGroup.List.class.isInstance(annotation)) {
             if (!reflection) {
-                Collection<Annotation> annotations = prop.getFeature(JsrFeatures.Property.ANNOTATIONS_TO_PROCESS);
+                Collection<Annotation> annotations = prop.getFeature(JsrFeatures.Property.ANNOTATIONS_TO_PROCESS_KEY);
                 if (annotations == null) {
                     annotations = new ArrayList<Annotation>();
-                    prop.putFeature(JsrFeatures.Property.ANNOTATIONS_TO_PROCESS, annotations);
+                    prop.putFeature(JsrFeatures.Property.ANNOTATIONS_TO_PROCESS_KEY, annotations);
                 }
                 annotations.add(annotation);
             }
@@ -146,8 +146,12 @@ public final class AnnotationProcessor {
          * annotated by @Constraint) whose value element has a return type of an
          * array of constraint annotations in a special way.
          */
-        final Object result =
-            Reflection.getAnnotationValue(annotation, ConstraintAnnotationAttributes.VALUE.getAttributeName());
+        final ConstraintAnnotationAttributes.Worker<? extends Annotation> worker =
+            ConstraintAnnotationAttributes.VALUE.analyze(annotation.annotationType());
+        if (!worker.isValid()) {
+            return false;
+        }
+        final Object result = worker.read(annotation);
         if (result instanceof Annotation[]) {
             boolean changed = false;
             for (final Annotation each : (Annotation[]) result) {
@@ -174,7 +178,7 @@ public final class AnnotationProcessor {
         if (prop == null) {
             return false;
         }
-        AccessStrategy[] strategies = prop.getFeature(Features.Property.REF_CASCADE);
+        AccessStrategy[] strategies = prop.getFeature(Features.Property.REF_CASCADE_KEY);
         if (ObjectUtils.arrayContains(strategies, access)) {
             return false;
         }
@@ -183,7 +187,7 @@ public final class AnnotationProcessor {
         } else {
             strategies = ObjectUtils.arrayAdd(strategies, access);
         }
-        prop.putFeature(Features.Property.REF_CASCADE, strategies);
+        prop.putFeature(Features.Property.REF_CASCADE_KEY, strategies);
         return true;
     }
 
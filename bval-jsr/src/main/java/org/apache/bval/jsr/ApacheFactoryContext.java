@@ -55,6 +55,20 @@ public class ApacheFactoryContext implements ValidatorContext {
         this.metaBeanFinder = metaBeanFinder;
     }
 
+    /**
+     * Create a snapshot of {@code source}, unaffected by later changes to it.
+     *
+     * @param source
+     */
+    private ApacheFactoryContext(ApacheFactoryContext source) {
+        this.factory = source.factory;
+        this.metaBeanFinder = source.getMetaBeanFinder();
+        this.messageInterpolator = source.messageInterpolator;
+        this.traversableResolver = source.traversableResolver;
+        this.parameterNameProvider = source.parameterNameProvider;
+        this.constraintValidatorFactory = source.constraintValidatorFactory;
+    }
+
     /**
      * Get the {@link ApacheValidatorFactory} used by this
      * {@link ApacheFactoryContext}.
@@ -71,7 +85,17 @@ public class ApacheFactoryContext implements ValidatorContext {
      * @return {@link MetaBeanFinder}
      */
     public final MetaBeanFinder getMetaBeanFinder() {
-        return metaBeanFinder;
+        MetaBeanFinder result = metaBeanFinder;
+        if (result == null) {
+            synchronized (this) {
+                result = metaBeanFinder;
+                if (result == null) {
+                    result = factory.newMetaBeanFinder();
+                    metaBeanFinder = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -83,9 +107,11 @@ public class ApacheFactoryContext implements ValidatorContext {
      *   <li>{@link #traversableResolver(TraversableResolver)}</li>
      *   <li>{@link #constraintValidatorFactory(ConstraintValidatorFactory)</li>
      * </ul>
+     * The replacement is built lazily, so that no metadata is built when {@link #getValidator()} finds a cached
+     * validator for this configuration.
      */
     private synchronized void resetMeta() {
-        metaBeanFinder = factory.buildMetaBeanFinder();
+        metaBeanFinder = null;
     }
 
     /**
@@ -133,11 +159,34 @@ public class ApacheFactoryContext implements ValidatorContext {
     }
 
     /**
-     * {@inheritDoc}
+     * {@inheritDoc} Validators are immutable and thread-safe: the factory shares them between contexts of the same
+     * configuration.
      */
     @Override
     public Validator getValidator() {
-        return new ClassValidator(this);
+        return factory.getValidator(this);
+    }
+
+    /**
+     * Create a new {@link ClassValidator} bound to a snapshot of this context.
+     *
+     * @return {@link ClassValidator}
+     */
+    ClassValidator createValidator() {
+        return new ClassValidator(new ApacheFactoryContext(this));
+    }
+
+    /**
+     * Get the key identifying the configuration of this context.
+     *
+     * @return {@link Key}, {@code null} if nothing is overridden
+     */
+    Key getKey() {
+        if (messageInterpolator == null && traversableResolver == null && parameterNameProvider == null
+            && constraintValidatorFactory == null) {
+            return null;
+        }
+        return new Key(messageInterpolator, traversableResolver, parameterNameProvider, constraintValidatorFactory);
     }
 
     /**
@@ -166,4 +215,51 @@ public class ApacheFactoryContext implements ValidatorContext {
         return Boolean
             .parseBoolean(factory.getProperties().get(ApacheValidatorConfiguration.Properties.TREAT_MAPS_LIKE_BEANS));
     }
+
+    boolean isPoolValidationContexts() {
+        return Boolean.parseBoolean(
+            factory.getProperties().get(ApacheValidatorConfiguration.Properties.POOL_VALIDATION_CONTEXTS));
+    }
+
+    /**
+     * Identity-based key of the components overridden by a context.
+     */
+    static final class Key {
+        private final Object[] components;
+        private final int hashCode;
+
+        Key(Object... components) {
+            this.components = components;
+            int h = 1;
+            for (Object component : components) {
+                h = 31 * h + System.identityHashCode(component);
+            }
+            this.hashCode = h;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Object[] other = ((Key) obj).components;
+            if (other.length != components.length) {
+                return false;
+            }
+            for (int i = 0; i < components.length; i++) {
+                if (other[i] != components[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
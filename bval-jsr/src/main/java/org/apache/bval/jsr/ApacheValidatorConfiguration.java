@@ -49,6 +49,15 @@ public interface ApacheValidatorConfiguration extends Configuration<ApacheValida
          */
         String ENABLE_INTROSPECTOR = "apache.bval.enable-introspector";
 
+        /**
+         * true/false. when {@link #ENABLE_INTROSPECTOR} is set, discover the
+         * java-bean properties with plain reflection (sharing the class scan of
+         * the JSR303 metadata) instead of java.beans.Introspector. Hidden, Preferred,
+         * Readonly and other BeanInfo features are not available then.<br>
+         * default: false
+         */
+        String REFLECTION_INTROSPECTOR = "apache.bval.reflection-introspector";
+
         /**
          * true/false. use Apache metaBeans xml format additionally to
          * build metadata with JSR303.
@@ -91,5 +100,53 @@ public interface ApacheValidatorConfiguration extends Configuration<ApacheValida
          * </ol>
          */
         String METABEAN_FACTORY_CLASSNAMES = "apache.bval.metabean-factory-classnames";
+
+        /**
+         * Whether each thread should reuse the structures of its previous
+         * {@link javax.validation.Validator#validate(Object, Class...)} call
+         * (validation context, listener and bookkeeping collections) instead of
+         * allocating new ones. The pooled structures drop their references to the
+         * validated objects and violations after each validation, but each thread
+         * that validated keeps one context per validator until the validator is
+         * garbage collected and the thread next cleans up its thread locals. On
+         * pooled container threads this retains the classes of BVal, and so their
+         * class loader across a redeployment when BVal ships with the application.
+         * default: false
+         */
+        String POOL_VALIDATION_CONTEXTS = "apache.bval.pool-validation-contexts";
+
+        /**
+         * true/false. read validation.xml and the constraint mapping files without
+         * validating them against their XSD. Meant for trusted deployments whose
+         * descriptors were already validated at build time; invalid documents are
+         * then reported late or not at all.<br>
+         * default: false
+         */
+        String SKIP_XML_SCHEMA_VALIDATION = "apache.bval.skip-xml-schema-validation";
+
+        /**
+         * true/false. only index the bean mappings of the constraint mapping
+         * files by class name at bootstrap; each mapped class is loaded and its
+         * constraints are registered when its metadata is first built. Errors in
+         * a bean mapping are then reported on first use of that class.<br>
+         * default: false
+         */
+        String LAZY_XML_MAPPINGS = "apache.bval.lazy-xml-mappings";
+
+        /**
+         * Comma separated locales (e.g. <code>en,fr_FR</code>) whose validation
+         * messages the {@link DefaultMessageInterpolator} loads at bootstrap
+         * instead of on the first violation reported in that locale.
+         */
+        String PRELOAD_MESSAGE_LOCALES = "apache.bval.preload-message-locales";
+
+        /**
+         * Maximum number of interpolated messages the {@link DefaultMessageInterpolator}
+         * keeps in total, over all constraints, templates and locales, dropping the least
+         * recently used ones beyond; <code>0</code> disables the cache. Messages using EL
+         * expressions are never cached.<br>
+         * default: {@value DefaultMessageInterpolator#DEFAULT_MESSAGE_CACHE_SIZE}
+         */
+        String INTERPOLATED_MESSAGE_CACHE_SIZE = "apache.bval.interpolated-message-cache-size";
     }
 }
@@ -23,11 +23,16 @@ import org.apache.bval.MetaBeanBuilder;
 import org.apache.bval.MetaBeanFactory;
 import org.apache.bval.MetaBeanFinder;
 import org.apache.bval.MetaBeanManager;
+import org.apache.bval.ReflectionMetaBeanFactory;
+import org.apache.bval.jsr.groups.GroupsComputer;
 import org.apache.bval.jsr.xml.AnnotationIgnores;
 import org.apache.bval.jsr.xml.MetaConstraint;
-import org.apache.bval.jsr.xml.ValidationMappingParser;
+import org.apache.bval.jsr.util.ProxyResolver;
+import org.apache.bval.jsr.xml.XmlMappings;
+import org.apache.bval.model.MetaBean;
+import org.apache.bval.model.MetaProperty;
 import org.apache.bval.util.AccessStrategy;
-import org.apache.bval.util.ObjectUtils;
+import org.apache.bval.util.DeclaredMembers;
 import org.apache.bval.util.StringUtils;
 import org.apache.bval.util.reflection.Reflection;
 import org.apache.bval.xml.XMLMetaBeanBuilder;
@@ -45,19 +50,32 @@ import javax.validation.Validation;
 import javax.validation.ValidationException;
 import javax.validation.Validator;
 import javax.validation.ValidatorFactory;
+import javax.validation.metadata.ConstructorDescriptor;
+import javax.validation.metadata.ExecutableDescriptor;
+import javax.validation.metadata.MethodDescriptor;
+import javax.validation.metadata.MethodType;
+import javax.validation.metadata.ParameterDescriptor;
 import javax.validation.spi.ConfigurationState;
 import java.io.Closeable;
+import java.io.InputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Description: a factory is a complete configurated object that can create
@@ -70,6 +88,12 @@ public class ApacheValidatorFactory implements ValidatorFactory, Cloneable {
     private static volatile ApacheValidatorFactory DEFAULT_FACTORY;
     private static final ConstraintDefaults DEFAULT_CONSTRAINTS = new ConstraintDefaults();
 
+    /**
+     * Maximum number of distinct {@link ApacheFactoryContext} configurations whose validators are cached, so that
+     * contexts configured with throw-away components do not grow the cache without bound.
+     */
+    private static final int MAX_CACHED_VALIDATORS = 64;
+
     private MessageInterpolator messageResolver;
     private TraversableResolver traversableResolver;
     private ConstraintValidatorFactory constraintValidatorFactory;
@@ -77,27 +101,38 @@ public class ApacheValidatorFactory implements ValidatorFactory, Cloneable {
     private final Map<String, String> properties;
 
     /**
-     * information from xml parsing
+     * information from xml parsing, replaced as a whole by {@link #reloadMappingConfig(Set)}
      */
-    private final AnnotationIgnores annotationIgnores = new AnnotationIgnores();
+    private volatile XmlMappings xmlMappings;
     private final ConstraintCached constraintsCache = new ConstraintCached();
-    private final Map<Class<?>, Class<?>[]> defaultSequences;
+    private final GroupsComputer groupsComputer = new GroupsComputer();
+    private final ProxyResolver proxyResolver;
+    private final DeclaredMembers.Cache declaredMembers = new DeclaredMembers.Cache();
+    private final Collection<Closeable> toClose = new ArrayList<Closeable>();
+    private final MetaBeanFinder defaultMetaBeanFinder;
 
     /**
-     * access strategies for properties with cascade validation @Valid support
+     * finders built by this factory, whose caches {@link #reloadMappingConfig(Set)} invalidates
      */
-    private final ConcurrentMap<Class<?>, List<AccessStrategy>> validAccesses;
-    private final ConcurrentMap<Class<?>, List<MetaConstraint<?, ? extends Annotation>>> constraintMap;
+    private final Set<MetaBeanFinder> metaBeanFinders =
+        Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<MetaBeanFinder, Boolean>()));
+    private final Collection<MappingReloadListener> reloadListeners =
+        new CopyOnWriteArrayList<MappingReloadListener>();
 
-    private final Collection<Closeable> toClose = new ArrayList<Closeable>();
-    private final MetaBeanFinder defaultMetaBeanFinder;
+    /**
+     * validators shared by all callers, reset on {@link #clone()}
+     */
+    private volatile Validator defaultValidator;
+    private ConcurrentMap<ApacheFactoryContext.Key, Validator> contextValidators =
+        new ConcurrentHashMap<ApacheFactoryContext.Key, Validator>();
 
     /**
      * Create MetaBeanManager that uses factories:
      * <ol>
      * <li>if enabled by
      * {@link ApacheValidatorConfiguration.Properties#ENABLE_INTROSPECTOR}, an
-     * {@link IntrospectorMetaBeanFactory}</li>
+     * {@link IntrospectorMetaBeanFactory}, or a {@link ReflectionMetaBeanFactory} if
+     * {@link ApacheValidatorConfiguration.Properties#REFLECTION_INTROSPECTOR} is also set</li>
      * <li>{@link MetaBeanFactory} types (if any) specified by
      * {@link ApacheValidatorConfiguration.Properties#METABEAN_FACTORY_CLASSNAMES}
      * </li>
@@ -114,7 +149,12 @@ public class ApacheValidatorFactory implements ValidatorFactory, Cloneable {
     protected MetaBeanFinder buildMetaBeanFinder() {
         final List<MetaBeanFactory> builders = new ArrayList<MetaBeanFactory>();
         if (Boolean.parseBoolean(getProperties().get(ApacheValidatorConfiguration.Properties.ENABLE_INTROSPECTOR))) {
-            builders.add(new IntrospectorMetaBeanFactory());
+            if (Boolean.parseBoolean(
+                getProperties().get(ApacheValidatorConfiguration.Properties.REFLECTION_INTROSPECTOR))) {
+                builders.add(new ReflectionMetaBeanFactory(declaredMembers));
+            } else {
+                builders.add(new IntrospectorMetaBeanFactory());
+            }
         }
         final String[] factoryClassNames =
             StringUtils.split(getProperties().get(ApacheValidatorConfiguration.Properties.METABEAN_FACTORY_CLASSNAMES));
@@ -174,12 +214,33 @@ public class ApacheValidatorFactory implements ValidatorFactory, Cloneable {
      */
     public ApacheValidatorFactory(ConfigurationState configuration) {
         properties = new HashMap<String, String>(configuration.getProperties());
-        defaultSequences = new HashMap<Class<?>, Class<?>[]>();
-        validAccesses = new ConcurrentHashMap<Class<?>, List<AccessStrategy>>();
-        constraintMap = new ConcurrentHashMap<Class<?>, List<MetaConstraint<?, ? extends Annotation>>>();
+        proxyResolver = new ProxyResolver(Reflection.getClassLoader(ApacheValidatorFactory.class));
 
         parameterNameProvider = configuration.getParameterNameProvider();
         messageResolver = configuration.getMessageInterpolator();
+        if (messageResolver instanceof DefaultMessageInterpolator) {
+            final DefaultMessageInterpolator interpolator = (DefaultMessageInterpolator) messageResolver;
+            interpolator.preloadLocales(getPreloadMessageLocales());
+            final String cacheSize =
+                getProperties().get(ApacheValidatorConfiguration.Properties.INTERPOLATED_MESSAGE_CACHE_SIZE);
+            if (cacheSize != null) {
+                try {
+                    interpolator.setMessageCacheSize(Integer.parseInt(cacheSize.trim()));
+                } catch (final NumberFormatException e) {
+                    throw new ValidationException("Invalid value for "
+                        + ApacheValidatorConfiguration.Properties.INTERPOLATED_MESSAGE_CACHE_SIZE + ": " + cacheSize, e);
+                }
+            }
+            // cached messages are keyed by the constraints a reload drops
+            addMappingReloadListener(new MappingReloadListener() {
+                @Override
+                public void mappingsReloaded(Set<Class<?>> beanClasses) {
+                    if (!beanClasses.isEmpty()) {
+                        interpolator.clearMessageCache();
+                    }
+                }
+            });
+        }
         traversableResolver = configuration.getTraversableResolver();
         constraintValidatorFactory = configuration.getConstraintValidatorFactory();
 
@@ -188,9 +249,10 @@ public class ApacheValidatorFactory implements ValidatorFactory, Cloneable {
             toClose.add(impl.getClosable());
         }
 
-        new ValidationMappingParser(this).processMappingConfig(configuration.getMappingStreams());
+        xmlMappings = new XmlMappings(this);
+        xmlMappings.load(configuration.getMappingStreams(), isLazyXmlMappings(), true);
 
-        defaultMetaBeanFinder = buildMetaBeanFinder();
+        defaultMetaBeanFinder = newMetaBeanFinder();
     }
 
     /**
@@ -203,14 +265,49 @@ public class ApacheValidatorFactory implements ValidatorFactory, Cloneable {
     }
 
     /**
-     * Shortcut method to create a new Validator instance with factory's
-     * settings
+     * Shortcut method to get a Validator instance with factory's
+     * settings. The instance is thread-safe and shared.
      *
-     * @return the new validator instance
+     * @return the validator instance
      */
     @Override
     public Validator getValidator() {
-        return usingContext().getValidator();
+        Validator result = defaultValidator;
+        if (result == null) {
+            synchronized (this) {
+                result = defaultValidator;
+                if (result == null) {
+                    result = usingContext().createValidator();
+                    defaultValidator = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the Validator instance for the configuration of {@code context}, shared with other contexts configured
+     * with the same components.
+     *
+     * @param context
+     * @return {@link Validator}
+     */
+    Validator getValidator(ApacheFactoryContext context) {
+        final ApacheFactoryContext.Key key = context.getKey();
+        if (key == null) {
+            return getValidator();
+        }
+        Validator result = contextValidators.get(key);
+        if (result == null) {
+            result = context.createValidator();
+            if (contextValidators.size() < MAX_CACHED_VALIDATORS) {
+                final Validator existing = contextValidators.putIfAbsent(key, result);
+                if (existing != null) {
+                    result = existing;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -229,7 +326,10 @@ public class ApacheValidatorFactory implements ValidatorFactory, Cloneable {
     @Override
     public synchronized ApacheValidatorFactory clone() {
         try {
-            return (ApacheValidatorFactory) super.clone();
+            final ApacheValidatorFactory result = (ApacheValidatorFactory) super.clone();
+            result.defaultValidator = null;
+            result.contextValidators = new ConcurrentHashMap<ApacheFactoryContext.Key, Validator>();
+            return result;
         } catch (CloneNotSupportedException e) {
             throw new InternalError(); // VM bug.
         }
@@ -379,7 +479,45 @@ public class ApacheValidatorFactory implements ValidatorFactory, Cloneable {
      * @return AnnotationIgnores
      */
     public AnnotationIgnores getAnnotationIgnores() {
-        return annotationIgnores;
+        return xmlMappings.getAnnotationIgnores();
+    }
+
+    /**
+     * Get the current runtime customizations read from XML constraint mappings.
+     * Metadata built in one go should use a single instance.
+     *
+     * @return {@link XmlMappings}
+     */
+    public XmlMappings getXmlMappings() {
+        return xmlMappings;
+    }
+
+    /**
+     * Get the {@link GroupsComputer} shared by the validators of this factory.
+     *
+     * @return {@link GroupsComputer}
+     */
+    public GroupsComputer getGroupsComputer() {
+        return groupsComputer;
+    }
+
+    /**
+     * Get the {@link ProxyResolver} used to validate proxy instances as their proxied class.
+     *
+     * @return {@link ProxyResolver}
+     */
+    public ProxyResolver getProxyResolver() {
+        return proxyResolver;
+    }
+
+    /**
+     * Get the cache of the declared members scanned by the metadata factories of this
+     * {@link ApacheValidatorFactory}.
+     *
+     * @return {@link DeclaredMembers.Cache}
+     */
+    public DeclaredMembers.Cache getDeclaredMembers() {
+        return declaredMembers;
     }
 
     /**
@@ -399,15 +537,7 @@ public class ApacheValidatorFactory implements ValidatorFactory, Cloneable {
      * @param metaConstraint
      */
     public void addMetaConstraint(final Class<?> beanClass, final MetaConstraint<?, ?> metaConstraint) {
-        List<MetaConstraint<?, ? extends Annotation>> slot = constraintMap.get(beanClass);
-        if (slot == null) {
-            slot = new ArrayList<MetaConstraint<?, ? extends Annotation>>();
-            final List<MetaConstraint<?, ? extends Annotation>> old = constraintMap.putIfAbsent(beanClass, slot);
-            if (old != null) {
-                slot = old;
-            }
-        }
-        slot.add(metaConstraint);
+        xmlMappings.addMetaConstraint(beanClass, metaConstraint);
     }
 
     /**
@@ -418,15 +548,7 @@ public class ApacheValidatorFactory implements ValidatorFactory, Cloneable {
      *            defining the property to validate
      */
     public void addValid(Class<?> beanClass, AccessStrategy accessStrategy) {
-        List<AccessStrategy> slot = validAccesses.get(beanClass);
-        if (slot == null) {
-            slot = new ArrayList<AccessStrategy>();
-            final List<AccessStrategy> old = validAccesses.putIfAbsent(beanClass, slot);
-            if (old != null) {
-                slot = old;
-            }
-        }
-        slot.add(accessStrategy);
+        xmlMappings.addValid(beanClass, accessStrategy);
     }
 
     /**
@@ -436,7 +558,19 @@ public class ApacheValidatorFactory implements ValidatorFactory, Cloneable {
      * @param groupSequence
      */
     public void addDefaultSequence(Class<?> beanClass, Class<?>... groupSequence) {
-        defaultSequences.put(beanClass, safeArray(groupSequence));
+        xmlMappings.addDefaultSequence(beanClass, groupSequence);
+    }
+
+    /**
+     * Apply the XML constraint mapping of <code>beanClass</code>, if it was
+     * deferred by {@link ApacheValidatorConfiguration.Properties#LAZY_XML_MAPPINGS}.
+     * Must be called before the runtime customizations of
+     * <code>beanClass</code> are read.
+     *
+     * @param beanClass
+     */
+    public void applyXmlMapping(Class<?> beanClass) {
+        xmlMappings.applyPendingMapping(beanClass);
     }
 
     /**
@@ -448,14 +582,7 @@ public class ApacheValidatorFactory implements ValidatorFactory, Cloneable {
      *         <code>beanClass</code>
      */
     public <T> List<MetaConstraint<T, ? extends Annotation>> getMetaConstraints(Class<T> beanClass) {
-        final List<MetaConstraint<?, ? extends Annotation>> slot = constraintMap.get(beanClass);
-        if (slot == null) {
-            return Collections.emptyList();
-        }
-        // noinspection RedundantCast
-        @SuppressWarnings({ "unchecked", "rawtypes" })
-        final List<MetaConstraint<T, ? extends Annotation>> result = (List) slot;
-        return Collections.unmodifiableList(result);
+        return xmlMappings.getMetaConstraints(beanClass);
     }
 
     /**
@@ -467,8 +594,7 @@ public class ApacheValidatorFactory implements ValidatorFactory, Cloneable {
      * @return {@link List} of {@link AccessStrategy}
      */
     public List<AccessStrategy> getValidAccesses(Class<?> beanClass) {
-        final List<AccessStrategy> slot = validAccesses.get(beanClass);
-        return slot == null ? Collections.<AccessStrategy> emptyList() : Collections.unmodifiableList(slot);
+        return xmlMappings.getValidAccesses(beanClass);
     }
 
     /**
@@ -478,11 +604,159 @@ public class ApacheValidatorFactory implements ValidatorFactory, Cloneable {
      * @return group Class array
      */
     public Class<?>[] getDefaultSequence(Class<?> beanClass) {
-        return safeArray(defaultSequences.get(beanClass));
+        return xmlMappings.getDefaultSequence(beanClass);
     }
 
-    private static Class<?>[] safeArray(Class<?>... array) {
-        return array == null || array.length == 0 ? ObjectUtils.EMPTY_CLASS_ARRAY : array.clone();
+    /**
+     * Replace the XML bean mappings of this factory by those read from <code>xmlStreams</code>, e.g. to change
+     * constraint attributes without a restart. The new mappings are compared with the current ones by class;
+     * the cached metadata of the changed classes, of their subclasses and of the beans linking to them is
+     * dropped from every {@link MetaBeanManager} of this factory and built again on next use. Validations in
+     * progress keep using the metadata they started with. The constraint validators of the dropped metadata are
+     * handed back to their {@link ConstraintValidatorFactory}. Constraint definitions are not reloaded, and
+     * CDI interceptor bindings stay as computed at deployment: an executable that only becomes constrained here
+     * is not validated on invocation.
+     *
+     * @param xmlStreams
+     *            all constraint mapping files, replacing the ones currently applied
+     * @return the bean classes whose cached metadata was dropped
+     * @throws ValidationException
+     *             if a mapping is invalid, in which case the current mappings are kept
+     */
+    public synchronized Set<Class<?>> reloadMappingConfig(Set<InputStream> xmlStreams) {
+        final XmlMappings next = new XmlMappings(this);
+        next.load(xmlStreams, isLazyXmlMappings(), false);
+        final Set<String> changed = next.getChangedClassNames(xmlMappings);
+        xmlMappings = next;
+
+        final Set<Class<?>> invalidated = new LinkedHashSet<Class<?>>();
+        final List<MetaBean> evicted = new ArrayList<MetaBean>();
+        if (!changed.isEmpty()) {
+            final List<MetaBeanFinder> finders;
+            synchronized (metaBeanFinders) {
+                finders = new ArrayList<MetaBeanFinder>(metaBeanFinders);
+            }
+            for (final MetaBeanFinder finder : finders) {
+                if (finder instanceof MetaBeanManager) {
+                    evicted.addAll(((MetaBeanManager) finder).evict(changed));
+                }
+            }
+        }
+        for (final MetaBean beanInfo : evicted) {
+            if (beanInfo.getBeanClass() != null) {
+                invalidated.add(beanInfo.getBeanClass());
+            }
+        }
+        for (final MappingReloadListener listener : reloadListeners) {
+            listener.mappingsReloaded(invalidated);
+        }
+        releaseValidators(evicted);
+        return invalidated;
+    }
+
+    /**
+     * Hand the constraint validators of dropped MetaBeans back to their {@link ConstraintValidatorFactory}, so that
+     * e.g. CDI managed validators do not pile up until the factory is closed.
+     */
+    private static void releaseValidators(final Collection<MetaBean> evicted) {
+        final Set<ConstraintValidation<?>> constraints =
+            Collections.newSetFromMap(new IdentityHashMap<ConstraintValidation<?>, Boolean>());
+        for (final MetaBean beanInfo : evicted) {
+            addConstraints(beanInfo.getValidations(), constraints);
+            for (final MetaProperty prop : beanInfo.getProperties()) {
+                addConstraints(prop.getValidations(), constraints);
+            }
+            final BeanDescriptorImpl descriptor = beanInfo.getFeature(JsrFeatures.Bean.BEAN_DESCRIPTOR_KEY);
+            if (descriptor != null) {
+                for (final MethodDescriptor method : descriptor.getConstrainedMethods(MethodType.GETTER,
+                    MethodType.NON_GETTER)) {
+                    addConstraints(method, constraints);
+                }
+                for (final ConstructorDescriptor constructor : descriptor.getConstrainedConstructors()) {
+                    addConstraints(constructor, constraints);
+                }
+            }
+        }
+        for (final ConstraintValidation<?> constraint : constraints) {
+            constraint.releaseValidators();
+        }
+    }
+
+    private static void addConstraints(final ExecutableDescriptor executable,
+        final Set<ConstraintValidation<?>> target) {
+        addConstraints(executable.getReturnValueDescriptor().getConstraintDescriptors(), target);
+        addConstraints(executable.getCrossParameterDescriptor().getConstraintDescriptors(), target);
+        for (final ParameterDescriptor parameter : executable.getParameterDescriptors()) {
+            addConstraints(parameter.getConstraintDescriptors(), target);
+        }
+    }
+
+    private static void addConstraints(final Collection<?> constraints, final Set<ConstraintValidation<?>> target) {
+        for (final Object constraint : constraints) {
+            if (constraint instanceof ConstraintValidation<?>) {
+                target.add((ConstraintValidation<?>) constraint);
+            }
+        }
+    }
+
+    private static void addConstraints(final org.apache.bval.model.Validation[] validations,
+        final Set<ConstraintValidation<?>> target) {
+        if (validations != null) {
+            addConstraints(Arrays.asList(validations), target);
+        }
+    }
+
+    /**
+     * Register a listener notified after each {@link #reloadMappingConfig(Set)}, to drop state derived from
+     * the metadata of the invalidated classes.
+     *
+     * @param listener
+     */
+    public void addMappingReloadListener(MappingReloadListener listener) {
+        reloadListeners.add(listener);
+    }
+
+    /**
+     * Callback for {@link ApacheValidatorFactory#reloadMappingConfig(Set)}.
+     */
+    public interface MappingReloadListener {
+        /**
+         * Notify that the metadata of <code>beanClasses</code> was invalidated.
+         *
+         * @param beanClasses
+         */
+        void mappingsReloaded(Set<Class<?>> beanClasses);
+    }
+
+    private List<Locale> getPreloadMessageLocales() {
+        final String locales = getProperties().get(ApacheValidatorConfiguration.Properties.PRELOAD_MESSAGE_LOCALES);
+        if (locales == null) {
+            return Collections.emptyList();
+        }
+        final List<Locale> result = new ArrayList<Locale>();
+        for (final String locale : locales.split(",")) {
+            final String[] parts = locale.trim().split("_", 3);
+            if (parts[0].length() > 0) {
+                result.add(new Locale(parts[0], parts.length > 1 ? parts[1] : "", parts.length > 2 ? parts[2] : ""));
+            }
+        }
+        return result;
+    }
+
+    private boolean isLazyXmlMappings() {
+        return Boolean.parseBoolean(getProperties().get(ApacheValidatorConfiguration.Properties.LAZY_XML_MAPPINGS));
+    }
+
+    /**
+     * Build a {@link MetaBeanFinder} with {@link #buildMetaBeanFinder()} and keep track of it for
+     * {@link #reloadMappingConfig(Set)}.
+     *
+     * @return {@link MetaBeanFinder}
+     */
+    MetaBeanFinder newMetaBeanFinder() {
+        final MetaBeanFinder finder = buildMetaBeanFinder();
+        metaBeanFinders.add(finder);
+        return finder;
     }
 
     /**
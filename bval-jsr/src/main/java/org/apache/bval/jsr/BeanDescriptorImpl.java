@@ -23,6 +23,7 @@ import org.apache.bval.jsr.groups.Group;
 import org.apache.bval.jsr.groups.GroupConversionDescriptorImpl;
 import org.apache.bval.jsr.util.ClassHelper;
 import org.apache.bval.jsr.xml.AnnotationIgnores;
+import org.apache.bval.jsr.xml.XmlMappings;
 import org.apache.bval.model.Features;
 import org.apache.bval.model.Features.Bean;
 import org.apache.bval.model.MetaBean;
@@ -98,7 +99,7 @@ public class BeanDescriptorImpl extends ElementDescriptorImpl implements BeanDes
             procedureDescriptors = new HashSet<PropertyDescriptor>();
             for (final MetaProperty prop : metaBean.getProperties()) {
                 if (prop.getValidations().length > 0
-                    || (prop.getMetaBean() != null || prop.getFeature(Features.Property.REF_CASCADE) != null)) {
+                    || (prop.getMetaBean() != null || prop.getFeature(Features.Property.REF_CASCADE_KEY) != null)) {
                     procedureDescriptors.add(getPropertyDescriptor(prop));
                 }
             }
@@ -147,7 +148,7 @@ public class BeanDescriptorImpl extends ElementDescriptorImpl implements BeanDes
             current = current.getSuperclass();
         }
 
-        final Collection<Annotation> annotations = prop.getFeature(JsrFeatures.Property.ANNOTATIONS_TO_PROCESS);
+        final Collection<Annotation> annotations = prop.getFeature(JsrFeatures.Property.ANNOTATIONS_TO_PROCESS_KEY);
         if (annotations != null) {
             for (final Annotation a : annotations) {
                 if (ConvertGroup.List.class.isInstance(a)) {
@@ -217,18 +218,18 @@ public class BeanDescriptorImpl extends ElementDescriptorImpl implements BeanDes
             return null;
         }
         // If no constraints and not cascaded, return null
-        if (prop.getValidations().length == 0 && prop.getFeature(Features.Property.REF_CASCADE) == null) {
+        if (prop.getValidations().length == 0 && prop.getFeature(Features.Property.REF_CASCADE_KEY) == null) {
             return null;
         }
         return getPropertyDescriptor(prop);
     }
 
     private PropertyDescriptor getPropertyDescriptor(final MetaProperty prop) {
-        PropertyDescriptorImpl edesc = prop.getFeature(JsrFeatures.Property.PropertyDescriptor);
+        PropertyDescriptorImpl edesc = prop.getFeature(JsrFeatures.Property.PROPERTY_DESCRIPTOR_KEY);
         if (edesc == null) {
             edesc = new PropertyDescriptorImpl(prop);
             addGroupConvertion(prop, edesc);
-            prop.putFeature(JsrFeatures.Property.PropertyDescriptor, edesc);
+            prop.putFeature(JsrFeatures.Property.PROPERTY_DESCRIPTOR_KEY, edesc);
         }
         return edesc;
     }
@@ -368,7 +369,7 @@ public class BeanDescriptorImpl extends ElementDescriptorImpl implements BeanDes
             } else {
                 isBeanConstrained = false;
                 for (final MetaProperty mprop : metaBean.getProperties()) {
-                    if (mprop.getMetaBean() != null || mprop.getFeature(Features.Property.REF_CASCADE) != null) {
+                    if (mprop.getMetaBean() != null || mprop.getFeature(Features.Property.REF_CASCADE_KEY) != null) {
                         isBeanConstrained = true;
                         break;
                     }
@@ -376,6 +377,16 @@ public class BeanDescriptorImpl extends ElementDescriptorImpl implements BeanDes
             }
         }
 
+        /**
+         * Use the annotation ignores of the mappings the bean was built from, which reloaded mappings do not
+         * change.
+         */
+        private AnnotationIgnores getAnnotationIgnores() {
+            final XmlMappings mappings = metaBean.getFeature(JsrFeatures.Bean.XML_MAPPINGS_KEY);
+            return mappings == null ? factoryContext.getFactory().getAnnotationIgnores()
+                : mappings.getAnnotationIgnores();
+        }
+
         private void buildConstructorConstraints() throws InvocationTargetException, IllegalAccessException {
             for (final Constructor<?> cons : Reflection.getDeclaredConstructors(metaBean.getBeanClass())) {
                 final ConstructorDescriptorImpl consDesc = new ConstructorDescriptorImpl(metaBean, EMPTY_VALIDATION);
@@ -385,7 +396,7 @@ public class BeanDescriptorImpl extends ElementDescriptorImpl implements BeanDes
                 final boolean isInnerClass = cons.getDeclaringClass().getEnclosingClass() != null
                     && !Modifier.isStatic(cons.getDeclaringClass().getModifiers());
 
-                final AnnotationIgnores annotationIgnores = factoryContext.getFactory().getAnnotationIgnores();
+                final AnnotationIgnores annotationIgnores = getAnnotationIgnores();
 
                 {
                     final Annotation[][] paramsAnnos = cons.getParameterAnnotations();
@@ -479,7 +490,7 @@ public class BeanDescriptorImpl extends ElementDescriptorImpl implements BeanDes
 
         private void processAnnotations(final Method mtd, final InvocableElementDescriptor consDesc,
             final Class<?> clazz, final Annotation anno) throws InvocationTargetException, IllegalAccessException {
-            if (mtd == null || !factoryContext.getFactory().getAnnotationIgnores().isIgnoreAnnotationOnReturn(mtd)) {
+            if (mtd == null || !getAnnotationIgnores().isIgnoreAnnotationOnReturn(mtd)) {
                 final ReturnAccess returnAccess = new ReturnAccess(clazz);
                 final AppendValidationToList validations = new AppendValidationToList();
                 processAnnotation(anno, consDesc, returnAccess, validations);
@@ -498,7 +509,7 @@ public class BeanDescriptorImpl extends ElementDescriptorImpl implements BeanDes
             }
 
             if (mtd == null
-                || !factoryContext.getFactory().getAnnotationIgnores().isIgnoreAnnotationOnCrossParameter(mtd)) {
+                || !getAnnotationIgnores().isIgnoreAnnotationOnCrossParameter(mtd)) {
                 final ParametersAccess parametersAccess = new ParametersAccess();
                 final AppendValidationToList validations = new AppendValidationToList();
                 processAnnotation(anno, consDesc, parametersAccess, validations);
@@ -646,7 +657,7 @@ public class BeanDescriptorImpl extends ElementDescriptorImpl implements BeanDes
                 if (propertyAccessor) {
                     final MetaProperty prop =
                         metaBean.getProperty(Introspector.decapitalize(method.getName().substring(3)));
-                    if (prop != null && prop.getFeature(Features.Property.REF_CASCADE) != null) {
+                    if (prop != null && prop.getFeature(Features.Property.REF_CASCADE_KEY) != null) {
                         methodDesc.setCascaded(true);
                     }
                 }
@@ -714,7 +725,7 @@ public class BeanDescriptorImpl extends ElementDescriptorImpl implements BeanDes
 
         private void processMethod(final Method method, final MethodDescriptorImpl methodDesc)
             throws InvocationTargetException, IllegalAccessException {
-            final AnnotationIgnores annotationIgnores = factoryContext.getFactory().getAnnotationIgnores();
+            final AnnotationIgnores annotationIgnores = getAnnotationIgnores();
 
             { // reflection
                 if (!annotationIgnores.isIgnoreAnnotations(method)) {
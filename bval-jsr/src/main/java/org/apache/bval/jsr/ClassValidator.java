@@ -22,6 +22,7 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -54,7 +55,7 @@ import org.apache.bval.jsr.util.ClassHelper;
 import org.apache.bval.jsr.util.NodeImpl;
 import org.apache.bval.jsr.util.PathImpl;
 import org.apache.bval.jsr.util.PathNavigation;
-import org.apache.bval.jsr.util.Proxies;
+import org.apache.bval.jsr.util.ProxyResolver;
 import org.apache.bval.jsr.util.ValidationContextTraversal;
 import org.apache.bval.model.Features;
 import org.apache.bval.model.FeaturesCapable;
@@ -96,12 +97,20 @@ public class ClassValidator implements CascadingPropertyValidator, ExecutableVal
     protected final ApacheFactoryContext factoryContext;
 
     /**
-     * {@link GroupsComputer} used
+     * {@link GroupsComputer} used, shared factory-wide
      */
-    protected final GroupsComputer groupsComputer = new GroupsComputer();
+    protected final GroupsComputer groupsComputer;
 
     private final MetaBeanFinder metaBeanFinder;
 
+    private final ProxyResolver proxyResolver;
+
+    /**
+     * per-thread context of the last {@link #validate(Object, Class...)} call, if pooling is enabled; released before
+     * being pooled, so that it keeps no validated object, but retained by every thread that validated
+     */
+    private final ThreadLocal<GroupValidationContextImpl<?>> contextPool;
+
     /**
      * Create a new ClassValidator instance.
      *
@@ -110,6 +119,10 @@ public class ClassValidator implements CascadingPropertyValidator, ExecutableVal
     public ClassValidator(ApacheFactoryContext factoryContext) {
         this.factoryContext = factoryContext;
         metaBeanFinder = factoryContext.getMetaBeanFinder();
+        groupsComputer = factoryContext.getFactory().getGroupsComputer();
+        proxyResolver = factoryContext.getFactory().getProxyResolver();
+        contextPool =
+            factoryContext.isPoolValidationContexts() ? new ThreadLocal<GroupValidationContextImpl<?>>() : null;
     }
 
     // Validator implementation
@@ -134,14 +147,46 @@ public class ClassValidator implements CascadingPropertyValidator, ExecutableVal
 
         try {
             final Class<T> objectClass = (Class<T>) object.getClass();
-            final MetaBean objectMetaBean = metaBeanFinder.findForClass(objectClass);
-            final GroupValidationContext<T> context = createContext(objectMetaBean, object, objectClass, groups);
-            return validateBeanWithGroups(context, context.getGroups());
+            final MetaBean objectMetaBean = metaBeanFinder.findForClass(proxyResolver.classFor(objectClass));
+            if (contextPool == null) {
+                final GroupValidationContext<T> context = createContext(objectMetaBean, object, objectClass, groups);
+                return validateBeanWithGroups(context, context.getGroups());
+            }
+            final GroupValidationContextImpl<T> context = acquireContext(objectMetaBean, object, objectClass, groups);
+            try {
+                return validateBeanWithGroups(context, context.getGroups());
+            } finally {
+                // drop the validated object graph before the thread keeps the context
+                context.release();
+                contextPool.set(context);
+            }
         } catch (final RuntimeException ex) {
             throw unrecoverableValidationError(ex, object);
         }
     }
 
+    /**
+     * Take the pooled context of the current thread, or create one if it is in use by an enclosing validation.
+     */
+    private <T> GroupValidationContextImpl<T> acquireContext(MetaBean metaBean, T object, Class<T> objectClass,
+        Class<?>... groups) {
+        @SuppressWarnings("unchecked")
+        GroupValidationContextImpl<T> context = (GroupValidationContextImpl<T>) contextPool.get();
+        if (context == null) {
+            context = new GroupValidationContextImpl<T>(new ConstraintValidationListener<T>(object, objectClass),
+                factoryContext.getMessageInterpolator(), factoryContext.getTraversableResolver(),
+                factoryContext.getParameterNameProvider(), factoryContext.getConstraintValidatorFactory(), metaBean);
+        } else {
+            contextPool.set(null);
+            context.reset(object, objectClass, factoryContext.getMessageInterpolator(),
+                factoryContext.getTraversableResolver(), factoryContext.getParameterNameProvider(),
+                factoryContext.getConstraintValidatorFactory(), metaBean);
+        }
+        context.setBean(object, metaBean);
+        context.setGroups(groupsComputer.computeGroups(groups));
+        return context;
+    }
+
     private <T> Set<ConstraintViolation<T>> validateBeanWithGroups(final GroupValidationContext<T> context,
         final Groups sequence) {
         final ConstraintValidationListener<T> result = context.getListener();
@@ -241,6 +286,32 @@ public class ClassValidator implements CascadingPropertyValidator, ExecutableVal
         return validateValueImpl(notNull("bean type", beanType), null, propertyName, value, cascade, groups);
     }
 
+    /**
+     * Create a {@link PropertyValidator} bound to the property named <code>propertyName</code> of
+     * <code>beanType</code> and to <code>groups</code>. Metadata resolution, path navigation and group
+     * computation happen once, here, rather than upon each validation call. Nested property paths
+     * are accepted but are navigated on every call.
+     *
+     * @param beanType     the bean type
+     * @param propertyName property to validate
+     * @param groups       group or list of groups targeted for validation (default to
+     *                     {@link javax.validation.groups.Default})
+     * @return {@link PropertyValidator}
+     * @throws IllegalArgumentException if <code>beanType</code> is null, if
+     *                                  <code>propertyName</code> null, empty or not a valid object
+     *                                  property or if null is passed to the varargs groups
+     */
+    public <T> PropertyValidator<T> forProperty(Class<T> beanType, String propertyName, Class<?>... groups) {
+        notNull("bean type", beanType);
+        checkPropertyName(propertyName);
+        checkGroups(groups);
+        try {
+            return new BoundPropertyValidator<T>(beanType, propertyName, groups);
+        } catch (final RuntimeException ex) {
+            throw unrecoverableValidationError(ex, beanType);
+        }
+    }
+
     /**
      * {@inheritDoc} Return the descriptor object describing bean constraints. The returned object (and associated
      * objects including <code>ConstraintDescriptor<code>s) are immutable.
@@ -256,9 +327,9 @@ public class ClassValidator implements CascadingPropertyValidator, ExecutableVal
         notNull("class", clazz);
         try {
             final MetaBean metaBean = metaBeanFinder.findForClass(clazz); // don't throw an exception because of a missing validator here
-            BeanDescriptorImpl edesc = metaBean.getFeature(JsrFeatures.Bean.BEAN_DESCRIPTOR);
+            BeanDescriptorImpl edesc = metaBean.getFeature(JsrFeatures.Bean.BEAN_DESCRIPTOR_KEY);
             if (edesc == null) {
-                edesc = metaBean.initFeature(JsrFeatures.Bean.BEAN_DESCRIPTOR, createBeanDescriptor(metaBean));
+                edesc = metaBean.initFeature(JsrFeatures.Bean.BEAN_DESCRIPTOR_KEY, createBeanDescriptor(metaBean));
             }
             return edesc;
         } catch (final ConstraintDefinitionException definitionEx) {
@@ -422,21 +493,12 @@ public class ClassValidator implements CascadingPropertyValidator, ExecutableVal
         // ### Then, the cascaded beans (@Valid)
         for (final MetaProperty prop : context.getMetaBean().getProperties()) {
             final Group group = context.getCurrentGroup();
-            final Group mappedGroup;
-
-            final Object feature = prop.getFeature(JsrFeatures.Property.PropertyDescriptor);
-            if (feature == null) {
-                mappedGroup = group;
-            } else {
-                mappedGroup = PropertyDescriptorImpl.class.cast(feature).mapGroup(group);
-            }
 
-            if (group == mappedGroup) {
-                validateCascadedBean(context, prop, null);
-            } else {
-                final Groups propertyGroup = groupsComputer.computeGroups(new Class<?>[] { mappedGroup.getGroup() });
-                validateCascadedBean(context, prop, propertyGroup);
-            }
+            final PropertyDescriptorImpl descriptor = prop.getFeature(JsrFeatures.Property.PROPERTY_DESCRIPTOR_KEY);
+            // null when no @ConvertGroup applies
+            final Groups propertyGroup =
+                descriptor == null ? null : descriptor.getConvertedGroups(group, groupsComputer);
+            validateCascadedBean(context, prop, propertyGroup);
             context.setCurrentGroup(group);
         }
     }
@@ -486,7 +548,7 @@ public class ClassValidator implements CascadingPropertyValidator, ExecutableVal
      */
     private void validateCascadedBean(final GroupValidationContext<?> context, final MetaProperty prop,
         final Groups groups) {
-        final AccessStrategy[] access = prop.getFeature(Features.Property.REF_CASCADE);
+        final AccessStrategy[] access = prop.getFeature(Features.Property.REF_CASCADE_KEY);
         if (access != null) { // different accesses to relation
             // save old values from context
             final Object bean = context.getBean();
@@ -560,7 +622,7 @@ public class ClassValidator implements CascadingPropertyValidator, ExecutableVal
     private List<Group> expandDefaultGroup(GroupValidationContext<?> context) {
         if (context.getCurrentGroup().isDefault()) {
             // mention if metaBean redefines the default group
-            final List<Group> groupSeq = context.getMetaBean().getFeature(JsrFeatures.Bean.GROUP_SEQUENCE);
+            final List<Group> groupSeq = context.getMetaBean().getFeature(JsrFeatures.Bean.GROUP_SEQUENCE_KEY);
             if (groupSeq != null) {
                 context.getGroups().assertDefaultGroupSequenceIsExpandable(groupSeq);
             }
@@ -653,24 +715,29 @@ public class ClassValidator implements CascadingPropertyValidator, ExecutableVal
 
     protected <T> GroupValidationContext<T> createInvocableContext(MetaBean metaBean, T object, Class<T> objectClass,
         Class<?>... groups) {
+        return createInvocableContext(metaBean, object, objectClass, computeInvocableGroups(metaBean, groups));
+    }
+
+    private <T> GroupValidationContext<T> createInvocableContext(MetaBean metaBean, T object, Class<T> objectClass,
+        Groups groups) {
         final ConstraintValidationListener<T> listener = new ConstraintValidationListener<T>(object, objectClass);
         final GroupValidationContextImpl<T> context = new GroupValidationContextImpl<T>(listener,
             factoryContext.getMessageInterpolator(), factoryContext.getTraversableResolver(),
             factoryContext.getParameterNameProvider(), factoryContext.getConstraintValidatorFactory(), metaBean);
         context.setBean(object, metaBean);
+        context.setGroups(groups);
+        return context;
+    }
+
+    private Groups computeInvocableGroups(final MetaBean metaBean, final Class<?>[] groups) {
         final Groups computedGroup = groupsComputer.computeGroups(groups);
         if (Collections.singletonList(Group.DEFAULT).equals(computedGroup.getGroups())
-            && metaBean.getFeature(JsrFeatures.Bean.GROUP_SEQUENCE) != null) {
+            && metaBean.getFeature(JsrFeatures.Bean.GROUP_SEQUENCE_KEY) != null) {
             final Groups sequence = new Groups();
-            @SuppressWarnings("unchecked")
-            final List<? extends Group> sequenceGroups =
-                List.class.cast(metaBean.getFeature(JsrFeatures.Bean.GROUP_SEQUENCE));
-            sequence.getGroups().addAll(sequenceGroups);
-            context.setGroups(sequence);
-        } else {
-            context.setGroups(computedGroup);
+            sequence.getGroups().addAll(metaBean.getFeature(JsrFeatures.Bean.GROUP_SEQUENCE_KEY));
+            return sequence;
         }
-        return context;
+        return computedGroup;
     }
 
     /**
@@ -745,125 +812,83 @@ public class ClassValidator implements CascadingPropertyValidator, ExecutableVal
     private <T> Set<ConstraintViolation<T>> validateInvocationParameters(final Member invocable,
         final Object[] parameterValues, final InvocableElementDescriptor constructorDescriptor, final Class<?>[] gps,
         final NodeImpl rootNode, final Object rootBean) {
-        final Set<ConstraintViolation<T>> violations = new HashSet<ConstraintViolation<T>>();
+        final InvocableElementDescriptor.CompiledParameters compiled = constructorDescriptor.getCompiledParameters();
+        final Groups groups = computeInvocableGroups(constructorDescriptor.getMetaBean(), gps);
+
+        if (!constructorDescriptor.isCascaded() && !compiled.appliesTo(groups)) {
+            compiled.initValidators(factoryContext.getConstraintValidatorFactory());
+            return Collections.emptySet();
+        }
 
         @SuppressWarnings("unchecked")
         final GroupValidationContext<ConstraintValidationListener<?>> parametersContext = createInvocableContext(
-            constructorDescriptor.getMetaBean(), rootBean, Class.class.cast(invocable.getDeclaringClass()), gps);
+            constructorDescriptor.getMetaBean(), rootBean, Class.class.cast(invocable.getDeclaringClass()), groups);
 
-        @SuppressWarnings("unchecked")
-        final GroupValidationContext<Object> crossParameterContext = createContext(constructorDescriptor.getMetaBean(),
-            rootBean, Class.class.cast(invocable.getDeclaringClass()), gps);
+        // only needed for cross-parameter constraints and the cascading of the whole invocable
+        final GroupValidationContext<Object> crossParameterContext;
+        if (compiled.crossParameterConstraints.length > 0 || constructorDescriptor.isCascaded()) {
+            @SuppressWarnings("unchecked")
+            final GroupValidationContext<Object> context = createContext(constructorDescriptor.getMetaBean(),
+                rootBean, Class.class.cast(invocable.getDeclaringClass()), gps);
+            crossParameterContext = context;
+        } else {
+            crossParameterContext = null;
+        }
 
         if (rootBean == null) {
             final Constructor<?> m = Constructor.class.cast(invocable);
             parametersContext.setConstructor(m);
-            crossParameterContext.setConstructor(m);
+            if (crossParameterContext != null) {
+                crossParameterContext.setConstructor(m);
+            }
         } else { // could be more sexy but that's ok for now
             final Method m = Method.class.cast(invocable);
             parametersContext.setMethod(m);
-            crossParameterContext.setMethod(m);
+            if (crossParameterContext != null) {
+                crossParameterContext.setMethod(m);
+            }
         }
 
-        final Groups groups = parametersContext.getGroups();
+        final ParameterDescriptorImpl[] parameterDescriptors = compiled.parameters;
+        final ElementDescriptorImpl crossParamDescriptor = compiled.crossParameter;
 
-        final List<ParameterDescriptor> parameterDescriptors = constructorDescriptor.getParameterDescriptors();
-        final ElementDescriptorImpl crossParamDescriptor =
-            ElementDescriptorImpl.class.cast(constructorDescriptor.getCrossParameterDescriptor());
-        final Set<ConstraintDescriptor<?>> crossParamConstraints = crossParamDescriptor.getConstraintDescriptors();
-
-        crossParameterContext.setBean(parameterValues);
-        crossParameterContext.moveDown(rootNode);
-        crossParameterContext.moveDown("<cross-parameter>");
-        crossParameterContext.setKind(ElementKind.CROSS_PARAMETER);
+        if (crossParameterContext != null) {
+            crossParameterContext.setBean(parameterValues);
+            crossParameterContext.moveDown(rootNode);
+            crossParameterContext.moveDown("<cross-parameter>");
+            crossParameterContext.setKind(ElementKind.CROSS_PARAMETER);
+        }
 
         parametersContext.moveDown(rootNode);
         parametersContext.setParameters(parameterValues);
 
         for (final Group current : groups.getGroups()) {
-            for (int i = 0; i < parameterValues.length; i++) {
-                final ParameterDescriptorImpl paramDesc =
-                    ParameterDescriptorImpl.class.cast(parameterDescriptors.get(i));
-                parametersContext.setBean(parameterValues[i]);
-                parametersContext.moveDown(new NodeImpl.ParameterNodeImpl(paramDesc.getName(), i));
-                for (final ConstraintDescriptor<?> constraintDescriptor : paramDesc.getConstraintDescriptors()) {
-                    final ConstraintValidation<?> validation = ConstraintValidation.class.cast(constraintDescriptor);
-                    parametersContext.setCurrentGroup(paramDesc.mapGroup(current));
-                    validation.validateGroupContext(parametersContext);
-                }
-                parametersContext.moveUp(null, null);
-            }
-
-            for (final ConstraintDescriptor<?> d : crossParamConstraints) {
-                final ConstraintValidation<?> validation = ConstraintValidation.class.cast(d);
-                crossParameterContext.setCurrentGroup(crossParamDescriptor.mapGroup(current));
-                validation.validateGroupContext(crossParameterContext);
-            }
+            validateParameterConstraints(parametersContext, crossParameterContext, compiled, parameterValues, current);
 
-            if (gps.length == 0 && parametersContext.getListener().getConstraintViolations().size()
-                + crossParameterContext.getListener().getConstraintViolations().size() > 0) {
+            if (gps.length == 0 && violationCount(parametersContext, crossParameterContext) > 0) {
                 break;
             }
         }
 
-        for (final Group current : groups.getGroups()) {
-            for (int i = 0; i < parameterValues.length; i++) {
-                final ParameterDescriptorImpl paramDesc =
-                    ParameterDescriptorImpl.class.cast(parameterDescriptors.get(i));
-                if (paramDesc.isCascaded() && parameterValues[i] != null) {
-                    parametersContext.setBean(parameterValues[i]);
-                    parametersContext.moveDown(new NodeImpl.ParameterNodeImpl(paramDesc.getName(), i));
-                    initMetaBean(parametersContext, factoryContext.getMetaBeanFinder(), parameterValues[i].getClass());
-                    parametersContext.setCurrentGroup(paramDesc.mapGroup(current));
-                    ValidationHelper.validateContext(parametersContext, new JsrValidationCallback(parametersContext),
-                        factoryContext.isTreatMapsLikeBeans());
-                    parametersContext.moveUp(null, null);
-                }
+        if (compiled.cascaded) {
+            for (final Group current : groups.getGroups()) {
+                cascadeParameters(parametersContext, parameterDescriptors, parameterValues, current);
             }
         }
 
         for (final List<Group> eachSeq : groups.getSequences()) {
             for (final Group current : eachSeq) {
-                for (int i = 0; i < parameterValues.length; i++) {
-                    final ParameterDescriptorImpl paramDesc =
-                        ParameterDescriptorImpl.class.cast(parameterDescriptors.get(i));
-                    parametersContext.setBean(parameterValues[i]);
-                    parametersContext.moveDown(new NodeImpl.ParameterNodeImpl(paramDesc.getName(), i));
-                    for (final ConstraintDescriptor<?> constraintDescriptor : paramDesc.getConstraintDescriptors()) {
-                        final ConstraintValidation<?> validation =
-                            ConstraintValidation.class.cast(constraintDescriptor);
-                        parametersContext.setCurrentGroup(paramDesc.mapGroup(current));
-                        validation.validateGroupContext(parametersContext);
-                    }
-                    parametersContext.moveUp(null, null);
-                }
+                validateParameterConstraints(parametersContext, crossParameterContext, compiled, parameterValues,
+                    current);
 
-                for (final ConstraintDescriptor<?> d : crossParamConstraints) {
-                    final ConstraintValidation<?> validation = ConstraintValidation.class.cast(d);
-                    crossParameterContext.setCurrentGroup(crossParamDescriptor.mapGroup(current));
-                    validation.validateGroupContext(crossParameterContext);
-                }
-
-                if (parametersContext.getListener().getConstraintViolations().size()
-                    + crossParameterContext.getListener().getConstraintViolations().size() > 0) {
+                if (violationCount(parametersContext, crossParameterContext) > 0) {
                     break;
                 }
             }
 
-            for (final Group current : eachSeq) {
-                for (int i = 0; i < parameterValues.length; i++) {
-                    final ParameterDescriptorImpl paramDesc =
-                        ParameterDescriptorImpl.class.cast(parameterDescriptors.get(i));
-                    if (paramDesc.isCascaded() && parameterValues[i] != null) {
-                        parametersContext.setBean(parameterValues[i]);
-                        parametersContext.moveDown(new NodeImpl.ParameterNodeImpl(paramDesc.getName(), i));
-                        initMetaBean(parametersContext, factoryContext.getMetaBeanFinder(),
-                            parameterValues[i].getClass());
-                        parametersContext.setCurrentGroup(paramDesc.mapGroup(current));
-                        ValidationHelper.validateContext(parametersContext,
-                            new JsrValidationCallback(parametersContext), factoryContext.isTreatMapsLikeBeans());
-                        parametersContext.moveUp(null, null);
-                    }
+            if (compiled.cascaded) {
+                for (final Group current : eachSeq) {
+                    cascadeParameters(parametersContext, parameterDescriptors, parameterValues, current);
                 }
             }
         }
@@ -913,15 +938,72 @@ public class ClassValidator implements CascadingPropertyValidator, ExecutableVal
         @SuppressWarnings("unchecked")
         final Set<ConstraintViolation<T>> parameterViolations =
             Set.class.cast(parametersContext.getListener().getConstraintViolations());
-        violations.addAll(parameterViolations);
+        if (crossParameterContext == null || crossParameterContext.getListener().isEmpty()) {
+            return parameterViolations;
+        }
         @SuppressWarnings("unchecked")
         final Set<ConstraintViolation<T>> crossParameterViolations =
             Set.class.cast(crossParameterContext.getListener().getConstraintViolations());
+        if (parameterViolations.isEmpty()) {
+            return crossParameterViolations;
+        }
+        final Set<ConstraintViolation<T>> violations =
+            new HashSet<ConstraintViolation<T>>(parameterViolations.size() + crossParameterViolations.size());
+        violations.addAll(parameterViolations);
         violations.addAll(crossParameterViolations);
-
         return violations;
     }
 
+    private static void validateParameterConstraints(
+        final GroupValidationContext<ConstraintValidationListener<?>> parametersContext,
+        final GroupValidationContext<Object> crossParameterContext,
+        final InvocableElementDescriptor.CompiledParameters compiled, final Object[] parameterValues,
+        final Group current) {
+        for (int i = 0; i < parameterValues.length; i++) {
+            final ConstraintValidation<?>[] constraints = compiled.parameterConstraints[i];
+            if (constraints.length == 0) {
+                parametersContext.setBean(null, null); // the state moveUp() leaves
+                continue;
+            }
+            final ParameterDescriptorImpl paramDesc = compiled.parameters[i];
+            parametersContext.setBean(parameterValues[i]);
+            parametersContext.moveDown(new NodeImpl.ParameterNodeImpl(paramDesc.getName(), i));
+            for (final ConstraintValidation<?> validation : constraints) {
+                parametersContext.setCurrentGroup(paramDesc.mapGroup(current));
+                validation.validateGroupContext(parametersContext);
+            }
+            parametersContext.moveUp(null, null);
+        }
+
+        for (final ConstraintValidation<?> validation : compiled.crossParameterConstraints) {
+            crossParameterContext.setCurrentGroup(compiled.crossParameter.mapGroup(current));
+            validation.validateGroupContext(crossParameterContext);
+        }
+    }
+
+    private void cascadeParameters(final GroupValidationContext<ConstraintValidationListener<?>> parametersContext,
+        final ParameterDescriptorImpl[] parameterDescriptors, final Object[] parameterValues, final Group current) {
+        for (int i = 0; i < parameterValues.length; i++) {
+            final ParameterDescriptorImpl paramDesc = parameterDescriptors[i];
+            if (paramDesc.isCascaded() && parameterValues[i] != null) {
+                parametersContext.setBean(parameterValues[i]);
+                parametersContext.moveDown(new NodeImpl.ParameterNodeImpl(paramDesc.getName(), i));
+                initMetaBean(parametersContext, factoryContext.getMetaBeanFinder(), parameterValues[i].getClass());
+                parametersContext.setCurrentGroup(paramDesc.mapGroup(current));
+                ValidationHelper.validateContext(parametersContext, new JsrValidationCallback(parametersContext),
+                    factoryContext.isTreatMapsLikeBeans());
+                parametersContext.moveUp(null, null);
+            }
+        }
+    }
+
+    private static int violationCount(final GroupValidationContext<?> parametersContext,
+        final GroupValidationContext<?> crossParameterContext) {
+        final int count = parametersContext.getListener().getConstraintViolations().size();
+        return crossParameterContext == null ? count
+            : count + crossParameterContext.getListener().getConstraintViolations().size();
+    }
+
     private static void checkValidationAppliesTo(final Collection<? extends ElementDescriptor> descriptors,
         final ConstraintTarget forbidden) {
         for (final ElementDescriptor descriptor : descriptors) {
@@ -971,15 +1053,19 @@ public class ClassValidator implements CascadingPropertyValidator, ExecutableVal
         final Set<ConstraintDescriptor<?>> returnedValueConstraints =
             returnedValueDescriptor.getConstraintDescriptors();
 
+        final Groups groups = computeInvocableGroups(methodDescriptor.getMetaBean(), gps);
+        if (!returnedValueDescriptor.isCascaded()
+            && !appliesTo(returnedValueConstraints, returnedValueDescriptor, groups)) {
+            return Collections.emptySet();
+        }
+
         @SuppressWarnings("unchecked")
         final GroupValidationContext<T> context = createInvocableContext(methodDescriptor.getMetaBean(), createdObject,
-            Class.class.cast(Proxies.classFor(clazz)), gps);
+            Class.class.cast(proxyResolver.classFor(clazz)), groups);
         context.moveDown(rootNode);
         context.moveDown(new NodeImpl.ReturnValueNodeImpl());
         context.setReturnValue(rootBean);
 
-        final Groups groups = context.getGroups();
-
         for (final Group current : groups.getGroups()) {
             for (final ConstraintDescriptor<?> d : returnedValueConstraints) {
                 final ConstraintValidation<?> validation = ConstraintValidation.class.cast(d);
@@ -1039,6 +1125,31 @@ public class ClassValidator implements CascadingPropertyValidator, ExecutableVal
         return context.getListener().getConstraintViolations();
     }
 
+    /**
+     * Learn whether any of {@code constraints} belongs to one of {@code groups}, as is or converted by
+     * {@code descriptor}, initializing their validators as validating them would.
+     */
+    private boolean appliesTo(final Set<ConstraintDescriptor<?>> constraints, final ElementDescriptorImpl descriptor,
+        final Groups groups) {
+        for (final ConstraintDescriptor<?> d : constraints) {
+            final ConstraintValidation<?> validation = ConstraintValidation.class.cast(d);
+            for (final Group group : groups.getGroups()) {
+                if (InvocableElementDescriptor.CompiledParameters.isMemberOf(validation, descriptor, group)) {
+                    return true;
+                }
+            }
+            for (final List<Group> sequence : groups.getSequences()) {
+                for (final Group group : sequence) {
+                    if (InvocableElementDescriptor.CompiledParameters.isMemberOf(validation, descriptor, group)) {
+                        return true;
+                    }
+                }
+            }
+            validation.initValidator(factoryContext.getConstraintValidatorFactory());
+        }
+        return false;
+    }
+
     @Override
     public <T> Set<ConstraintViolation<T>> validateParameters(T object, Method method, Object[] parameterValues,
         Class<?>... groups) {
@@ -1050,7 +1161,26 @@ public class ClassValidator implements CascadingPropertyValidator, ExecutableVal
             notNull("Each group", g);
         }
 
-        final MethodDescriptorImpl methodDescriptor = findMethodDescriptor(object, method);
+        return validateParameters(object, method, findMethodDescriptor(object, method), parameterValues, groups);
+    }
+
+    /**
+     * Validate the parameters of a method invocation against an already resolved
+     * {@link javax.validation.metadata.MethodDescriptor}, sparing callers that keep their own per-{@link Method} cache
+     * (such as the CDI interceptor) the descriptor lookup of
+     * {@link #validateParameters(Object, Method, Object[], Class...)}.
+     *
+     * @param object
+     * @param method
+     * @param descriptor as returned by {@link #getConstraintsForClass(Class)} for the declaring class of
+     *            {@code method}; may be {@code null}
+     * @param parameterValues
+     * @param groups
+     * @return {@link Set} of {@link ConstraintViolation}
+     */
+    public <T> Set<ConstraintViolation<T>> validateParameters(T object, Method method,
+        javax.validation.metadata.MethodDescriptor descriptor, Object[] parameterValues, Class<?>... groups) {
+        final MethodDescriptorImpl methodDescriptor = MethodDescriptorImpl.class.cast(descriptor);
         if (methodDescriptor == null
             || !(methodDescriptor.hasConstrainedParameters() || methodDescriptor.hasConstrainedReturnValue())) { // no constraint
             return Collections.emptySet();
@@ -1089,7 +1219,25 @@ public class ClassValidator implements CascadingPropertyValidator, ExecutableVal
         notNull("method", method);
         notNull("groups", groups);
 
-        final MethodDescriptorImpl methodDescriptor = findMethodDescriptor(object, method);
+        return validateReturnValue(object, method, findMethodDescriptor(object, method), returnValue, groups);
+    }
+
+    /**
+     * Validate the return value of a method invocation against an already resolved
+     * {@link javax.validation.metadata.MethodDescriptor}.
+     *
+     * @param object
+     * @param method
+     * @param descriptor as returned by {@link #getConstraintsForClass(Class)} for the declaring class of
+     *            {@code method}
+     * @param returnValue
+     * @param groups
+     * @return {@link Set} of {@link ConstraintViolation}
+     * @see #validateParameters(Object, Method, javax.validation.metadata.MethodDescriptor, Object[], Class...)
+     */
+    public <T> Set<ConstraintViolation<T>> validateReturnValue(T object, Method method,
+        javax.validation.metadata.MethodDescriptor descriptor, Object returnValue, Class<?>... groups) {
+        final MethodDescriptorImpl methodDescriptor = MethodDescriptorImpl.class.cast(descriptor);
         if (methodDescriptor == null) {
             throw new ValidationException("Method " + method + " doesn't belong to class " + object.getClass());
         }
@@ -1107,8 +1255,8 @@ public class ClassValidator implements CascadingPropertyValidator, ExecutableVal
     }
 
     private <T> MethodDescriptorImpl findMethodDescriptor(final T object, final Method method) {
-        return MethodDescriptorImpl.class
-            .cast(BeanDescriptorImpl.class.cast(getConstraintsForClass(Proxies.classFor(method.getDeclaringClass())))
+        return MethodDescriptorImpl.class.cast(
+            BeanDescriptorImpl.class.cast(getConstraintsForClass(proxyResolver.classFor(method.getDeclaringClass())))
                 .getInternalConstraintsForMethod(method.getName(), method.getParameterTypes()));
     }
 
@@ -1154,6 +1302,159 @@ public class ClassValidator implements CascadingPropertyValidator, ExecutableVal
 
     }
 
+    /**
+     * {@link PropertyValidator} implementation: a simple property is resolved to its {@link MetaProperty},
+     * {@link Validation}s, type and {@link Groups} at construction; nested paths fall back to
+     * {@link ClassValidator#validateValueImpl(Class, Object, String, Object, boolean, Class...)}.
+     */
+    private class BoundPropertyValidator<T> implements PropertyValidator<T> {
+        private final Class<T> beanType;
+        private final String propertyName;
+        private final Class<?>[] groupClasses;
+
+        private final MetaBean metaBean;
+        private final MetaProperty metaProperty;
+        private final Validation[] validations;
+        private final Type propertyType;
+        private final Groups groups;
+        private final List<Group> defaultSequence;
+
+        BoundPropertyValidator(final Class<T> beanType, final String propertyName, final Class<?>[] groups) {
+            this.beanType = beanType;
+            this.propertyName = propertyName;
+            this.groupClasses = groups.clone();
+
+            final MetaBean initialMetaBean = new DynamicMetaBean(metaBeanFinder);
+            initialMetaBean.setBeanClass(beanType);
+            final GroupValidationContext<T> context = createContext(initialMetaBean, null, beanType, groups);
+            final ValidationContextTraversal contextTraversal = createValidationContextTraversal(context);
+            PathNavigation.navigate(propertyName, contextTraversal);
+
+            if (isSimpleProperty(propertyName) && context.getMetaProperty() != null) {
+                this.metaBean = context.getMetaBean();
+                this.metaProperty = context.getMetaProperty();
+                this.validations = ObjectUtils.defaultIfNull(metaProperty.getValidations(), new Validation[0]);
+                this.propertyType = contextTraversal.getType();
+                this.groups = context.getGroups();
+                this.defaultSequence = metaBean.getFeature(JsrFeatures.Bean.GROUP_SEQUENCE_KEY);
+                if (defaultSequence != null) {
+                    this.groups.assertDefaultGroupSequenceIsExpandable(defaultSequence);
+                }
+            } else {
+                this.metaBean = null;
+                this.metaProperty = null;
+                this.validations = null;
+                this.propertyType = null;
+                this.groups = null;
+                this.defaultSequence = null;
+            }
+        }
+
+        @Override
+        public Class<T> getBeanType() {
+            return beanType;
+        }
+
+        @Override
+        public String getPropertyName() {
+            return propertyName;
+        }
+
+        @Override
+        public Set<ConstraintViolation<T>> validateValue(final Object value) {
+            if (metaProperty == null) {
+                return validateValueImpl(beanType, null, propertyName, value, false, groupClasses);
+            }
+            //TCK doesn't care what type a property is if there are no constraints to validate:
+            if (validations.length == 0) {
+                return Collections.<ConstraintViolation<T>> emptySet();
+            }
+            try {
+                if (!TypeUtils.isAssignable(value == null ? null : value.getClass(), propertyType)) {
+                    throw new IncompatiblePropertyValueException(String.format(
+                        "%3$s is not a valid value for property %2$s of type %1$s", beanType, propertyName, value));
+                }
+                final GroupValidationContext<T> context = createBoundContext(null);
+                context.setFixedValue(value);
+                return validate(context);
+            } catch (final RuntimeException ex) {
+                throw unrecoverableValidationError(ex, value);
+            }
+        }
+
+        @Override
+        public Set<ConstraintViolation<T>> validateProperty(final T object) {
+            notNull("validated object", object);
+            // a subclass may declare further constraints on the property, so use the general route:
+            if (metaProperty == null || object.getClass() != beanType) {
+                return ClassValidator.this.validateProperty(object, propertyName, groupClasses);
+            }
+            try {
+                return validate(createBoundContext(object));
+            } catch (final RuntimeException ex) {
+                throw unrecoverableValidationError(ex, object);
+            }
+        }
+
+        private GroupValidationContext<T> createBoundContext(final T object) {
+            final ConstraintValidationListener<T> listener = new ConstraintValidationListener<T>(object, beanType);
+            final GroupValidationContextImpl<T> context = new GroupValidationContextImpl<T>(listener,
+                factoryContext.getMessageInterpolator(), factoryContext.getTraversableResolver(),
+                factoryContext.getParameterNameProvider(), factoryContext.getConstraintValidatorFactory(), metaBean);
+            context.setBean(object, metaBean);
+            context.setGroups(groups);
+            context.setMetaProperty(metaProperty);
+            return context;
+        }
+
+        private Set<ConstraintViolation<T>> validate(final GroupValidationContext<T> context) {
+            final ConstraintValidationListener<T> result = context.getListener();
+
+            // 1. process groups
+            for (final Group current : groups.getGroups()) {
+                context.setCurrentGroup(current);
+                validateInGroup(context);
+            }
+
+            // 2. process sequences
+            final int groupViolations = result.violationsSize();
+            outer: for (final List<Group> eachSeq : groups.getSequences()) {
+                for (final Group current : eachSeq) {
+                    context.setCurrentGroup(current);
+                    validateInGroup(context);
+                    if (result.violationsSize() > groupViolations) {
+                        break outer;
+                    }
+                }
+            }
+            return result.getConstraintViolations();
+        }
+
+        private void validateInGroup(final GroupValidationContext<T> context) {
+            if (defaultSequence == null || !context.getCurrentGroup().isDefault()) {
+                validateBoundProperty(context);
+                return;
+            }
+            final Group currentGroup = context.getCurrentGroup();
+            for (final Group each : defaultSequence) {
+                context.setCurrentGroup(each);
+                validateBoundProperty(context);
+                // continue validation, even if errors already found
+            }
+            context.setCurrentGroup(currentGroup); // restore
+        }
+
+        private void validateBoundProperty(final GroupValidationContext<T> context) {
+            for (final Validation validation : validations) {
+                validation.validate(context);
+            }
+        }
+
+        private boolean isSimpleProperty(final String name) {
+            return name.indexOf('.') < 0 && name.indexOf('[') < 0;
+        }
+    }
+
     /**
      * Create a {@link ValidationContextTraversal} instance for this {@link ClassValidator}.
      * 
@@ -16,6 +16,7 @@
  */
 package org.apache.bval.jsr;
 
+import org.apache.bval.jsr.xml.AnnotationProxyBuilder;
 import org.apache.bval.util.reflection.Reflection;
 import org.apache.bval.util.reflection.TypeUtils;
 import org.apache.commons.weaver.privilizer.Privilizing;
@@ -201,8 +202,9 @@ public enum ConstraintAnnotationAttributes {
         }
 
         public <T> T read(final Annotation constraint) {
+            final Map<String, Object> proxied = AnnotationProxyBuilder.getProxiedValues(constraint);
             @SuppressWarnings("unchecked")
-            final T result = (T) doInvoke(constraint);
+            final T result = (T) (proxied == null ? doInvoke(constraint) : proxied.get(attributeName));
             return result;
         }
 
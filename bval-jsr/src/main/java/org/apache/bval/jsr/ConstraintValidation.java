@@ -65,9 +65,16 @@ public class ConstraintValidation<T extends Annotation> implements Validation, C
     private final Map<String, Object> attributes;
     private T annotation; // for metadata request API
     private volatile ConstraintValidator<T, ?> validator;
+    private volatile ConstraintValidatorFactory validatorFactory;
 
     private Set<ConstraintValidation<?>> composedConstraints;
 
+    /**
+     * Transitive composing constraints in evaluation order, computed on first validation of a
+     * report-as-single-violation composite.
+     */
+    private volatile FlattenedComposition flattenedComposition;
+
     private boolean validated = false;
 
     /**
@@ -151,24 +158,7 @@ public class ConstraintValidation<T extends Annotation> implements Validation, C
      * @param context root
      */
     public void validateGroupContext(final GroupValidationContext<?> context) {
-        if (validator == null) {
-            synchronized (this) {
-                if (validator == null) {
-                    try {
-                        validator = getConstraintValidator(context.getConstraintValidatorFactory(), annotation,
-                            validatorClasses, owner, access);
-                        if (validator != null) {
-                            validator.initialize(annotation);
-                        }
-                    } catch (final RuntimeException re) {
-                        if (ValidationException.class.isInstance(re)) {
-                            throw re;
-                        }
-                        throw new ConstraintDefinitionException(re);
-                    }
-                }
-            }
-        }
+        initValidator(context);
 
         context.setConstraintValidation(this);
         /**
@@ -196,22 +186,16 @@ public class ConstraintValidation<T extends Annotation> implements Validation, C
 
             boolean failed = listener.hasViolations();
             try {
-                // stop validating when already failed and
-                // ReportAsSingleInvalidConstraint = true ?
-                for (Iterator<ConstraintValidation<?>> composed = getComposingValidations().iterator(); !failed
-                    && composed.hasNext();) {
-                    composed.next().validate(context);
-                    failed = listener.hasViolations();
-                }
+                // violations of composing constraints are not reported individually,
+                // so it is enough to find the first one that fails
+                failed = failed || !isValidComposition(context);
             } finally {
                 listener.endReportAsSingle();
-                // Restore current constraint validation
-                context.setConstraintValidation(this);
             }
 
             if (failed) {
                 // TODO RSt - how should the composed constraint error report look like?
-                addErrors(context, new ConstraintValidatorContextImpl(context, this)); // add defaultErrorMessage only
+                addErrors(context, context.getConstraintValidatorContext(this)); // add defaultErrorMessage only
                 return;
             }
         } else {
@@ -226,13 +210,144 @@ public class ConstraintValidation<T extends Annotation> implements Validation, C
         if (validator != null) {
             @SuppressWarnings("unchecked")
             final ConstraintValidator<T, Object> objectValidator = (ConstraintValidator<T, Object>) validator;
-            final ConstraintValidatorContextImpl jsrContext = new ConstraintValidatorContextImpl(context, this);
+            final ConstraintValidatorContextImpl jsrContext = context.getConstraintValidatorContext(this);
             if (!objectValidator.isValid(context.getValidatedValue(), jsrContext)) {
                 addErrors(context, jsrContext);
             }
         }
     }
 
+    private void initValidator(final GroupValidationContext<?> context) {
+        initValidator(context.getConstraintValidatorFactory());
+    }
+
+    void initValidator(final ConstraintValidatorFactory factory) {
+        if (validator == null) {
+            synchronized (this) {
+                if (validator == null) {
+                    try {
+                        validator = getConstraintValidator(factory, annotation, validatorClasses, owner, access);
+                        if (validator != null) {
+                            validatorFactory = factory;
+                            validator.initialize(annotation);
+                        }
+                    } catch (final RuntimeException re) {
+                        if (ValidationException.class.isInstance(re)) {
+                            throw re;
+                        }
+                        throw new ConstraintDefinitionException(re);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Hand the validators of this constraint and of its composing constraints back to the
+     * {@link ConstraintValidatorFactory} they were obtained from, once this constraint is no longer in use.
+     */
+    void releaseValidators() {
+        final ConstraintValidator<T, ?> current = validator;
+        if (current != null) {
+            validatorFactory.releaseInstance(current);
+        }
+        for (final ConstraintValidation<?> composed : getComposingValidations()) {
+            composed.releaseValidators();
+        }
+    }
+
+    /**
+     * Evaluate the transitive composing constraints of a report-as-single-violation composite as one
+     * check, without switching the context or resetting the {@link ConstraintValidatorContextImpl} per
+     * constraint, stopping at the first failure. This is equivalent to validating the composing
+     * constraints recursively, as none of their violations are reported, and a failing composite
+     * (whether reported as single violation or not) stops its report-as-single-violation parent.
+     * A composing constraint that is skipped skips its own composing constraints with it. Only composites
+     * reported as single violation are evaluated this way; the others, such as the credit card constraints
+     * of bval-extras ({@code @Visa} etc.), keep validating their composing constraints one by one.
+     *
+     * @param context
+     * @return whether all composing constraints are satisfied
+     */
+    private boolean isValidComposition(final GroupValidationContext<?> context) {
+        final Class<?> group = context.getCurrentGroup().getGroup();
+        final Class<?> currentOwner = context.getCurrentOwner();
+        final boolean checkReachable = context.getMetaProperty() != null;
+        final FlattenedComposition composition = getFlattenedComposition();
+        ConstraintValidatorContextImpl jsrContext = null;
+
+        int i = 0;
+        while (i < composition.constraints.length) {
+            final ConstraintValidation<?> composed = composition.constraints[i];
+            composed.initValidator(context);
+            if (!composed.isMemberOf(group) || currentOwner != null && !composed.owner.equals(currentOwner)
+                || composed.validator != null && !context.collectValidated(composed.validator)
+                || checkReachable && !composed.isReachable(context)) {
+                i = composition.subtreeEnds[i];
+                continue;
+            }
+            i++;
+            if (composed.validator == null) {
+                continue;
+            }
+            if (jsrContext == null) {
+                // shared, as whatever the composing validators report is discarded
+                jsrContext = context.getConstraintValidatorContext(this);
+            }
+            @SuppressWarnings("unchecked")
+            final ConstraintValidator<?, Object> objectValidator = (ConstraintValidator<?, Object>) composed.validator;
+            if (!objectValidator.isValid(context.getValidatedValue(), jsrContext)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private FlattenedComposition getFlattenedComposition() {
+        FlattenedComposition result = flattenedComposition;
+        if (result == null) {
+            final List<ConstraintValidation<?>> flattened = new ArrayList<ConstraintValidation<?>>();
+            final List<Integer> subtreeEnds = new ArrayList<Integer>();
+            flatten(this, flattened, subtreeEnds);
+            result = new FlattenedComposition(flattened, subtreeEnds);
+            flattenedComposition = result;
+        }
+        return result;
+    }
+
+    /**
+     * Add the composing constraints of <code>constraint</code> to <code>target</code>, each followed by
+     * its own composing constraints, and record in <code>subtreeEnds</code> the index just past the
+     * composing constraints of each added one.
+     */
+    private static void flatten(ConstraintValidation<?> constraint, List<ConstraintValidation<?>> target,
+        List<Integer> subtreeEnds) {
+        for (final ConstraintValidation<?> composed : constraint.getComposingValidations()) {
+            final int index = target.size();
+            target.add(composed);
+            subtreeEnds.add(null);
+            flatten(composed, target, subtreeEnds);
+            subtreeEnds.set(index, Integer.valueOf(target.size()));
+        }
+    }
+
+    /**
+     * Transitive composing constraints in depth-first order, with the index just past the subtree of
+     * each one, so that a skipped composite can skip its composing constraints.
+     */
+    private static class FlattenedComposition {
+        final ConstraintValidation<?>[] constraints;
+        final int[] subtreeEnds;
+
+        FlattenedComposition(List<ConstraintValidation<?>> constraints, List<Integer> subtreeEnds) {
+            this.constraints = constraints.toArray(new ConstraintValidation<?>[constraints.size()]);
+            this.subtreeEnds = new int[subtreeEnds.size()];
+            for (int i = 0; i < this.subtreeEnds.length; i++) {
+                this.subtreeEnds[i] = subtreeEnds.get(i).intValue();
+            }
+        }
+    }
+
     private <A extends Annotation> ConstraintValidator<A, ? super T> getConstraintValidator(
         ConstraintValidatorFactory factory, A annotation,
         Class<? extends ConstraintValidator<A, ?>>[] constraintClasses, Class<?> owner, AccessStrategy access) {
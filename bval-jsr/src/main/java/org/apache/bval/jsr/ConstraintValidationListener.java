@@ -36,9 +36,9 @@ import java.util.Set;
  * @version $Rev: 1503686 $ $Date: 2013-07-16 14:38:56 +0200 (mar., 16 juil. 2013) $
  */
 public final class ConstraintValidationListener<T> implements ValidationListener {
-    private final Set<ConstraintViolation<T>> constraintViolations = new HashSet<ConstraintViolation<T>>();
-    private final T rootBean;
-    private final Class<T> rootBeanType;
+    private Set<ConstraintViolation<T>> constraintViolations = new HashSet<ConstraintViolation<T>>();
+    private T rootBean;
+    private Class<T> rootBeanType;
     // the validation process is single-threaded and it's unlikely to change in the near future (otherwise use AtomicInteger).
     private int compositeDepth = 0;
     private boolean hasCompositeError;
@@ -61,6 +61,30 @@ public final class ConstraintValidationListener<T> implements ValidationListener
         addError(reason, null, context);
     }
 
+    /**
+     * Prepare this {@link #release()}d instance for a new validation process.
+     *
+     * @param aRootBean
+     * @param rootBeanType
+     */
+    void reset(T aRootBean, Class<T> rootBeanType) {
+        this.rootBean = aRootBean;
+        this.rootBeanType = rootBeanType;
+        // the previous set has been handed out with the validation results
+        this.constraintViolations = new HashSet<ConstraintViolation<T>>();
+    }
+
+    /**
+     * Drop the references to the finished validation process.
+     */
+    void release() {
+        rootBean = null;
+        rootBeanType = null;
+        constraintViolations = null;
+        compositeDepth = 0;
+        hasCompositeError = false;
+    }
+
     /**
      * {@inheritDoc}
      */
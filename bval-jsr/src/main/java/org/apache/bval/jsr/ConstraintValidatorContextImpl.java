@@ -31,7 +31,6 @@ import javax.validation.Path;
 import javax.validation.ValidationException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -39,9 +38,12 @@ import java.util.List;
  * a {@link ConstraintValidation} to its adapted {@link ConstraintValidator}. <br/>
  */
 public class ConstraintValidatorContextImpl implements ConstraintValidatorContext {
-    private final List<ValidationListener.Error> errorMessages = new LinkedList<ValidationListener.Error>();
+    /**
+     * custom violations, created on demand
+     */
+    private List<ValidationListener.Error> errorMessages;
 
-    private final ConstraintValidation<?> constraintDescriptor;
+    private ConstraintValidation<?> constraintDescriptor;
     private final GroupValidationContext<?> validationContext;
 
     private boolean defaultDisabled;
@@ -65,6 +67,19 @@ public class ConstraintValidatorContextImpl implements ConstraintValidatorContex
         defaultDisabled = true;
     }
 
+    /**
+     * Prepare this instance for the validation of another constraint.
+     *
+     * @param aConstraintValidation
+     */
+    void reset(ConstraintValidation<?> aConstraintValidation) {
+        constraintDescriptor = aConstraintValidation;
+        defaultDisabled = false;
+        if (errorMessages != null) {
+            errorMessages.clear();
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -161,12 +176,14 @@ public class ConstraintValidatorContextImpl implements ConstraintValidatorContex
      * @return List
      */
     public List<ValidationListener.Error> getErrorMessages() {
-        if (defaultDisabled && errorMessages.isEmpty()) {
+        final boolean noCustomMessages = errorMessages == null || errorMessages.isEmpty();
+        if (defaultDisabled && noCustomMessages) {
             throw new ValidationException(
                 "At least one custom message must be created if the default error message gets disabled.");
         }
 
-        List<ValidationListener.Error> returnedErrorMessages = new ArrayList<ValidationListener.Error>(errorMessages);
+        List<ValidationListener.Error> returnedErrorMessages = noCustomMessages
+            ? new ArrayList<ValidationListener.Error>(1) : new ArrayList<ValidationListener.Error>(errorMessages);
         if (!defaultDisabled) {
             returnedErrorMessages.add(new ValidationListener.Error(getDefaultConstraintMessageTemplate(),
                 validationContext.getPropertyPath(), null));
@@ -188,6 +205,9 @@ public class ConstraintValidatorContextImpl implements ConstraintValidatorContex
      * @param propertyPath
      */
     public void addError(String messageTemplate, Path propertyPath) {
+        if (errorMessages == null) {
+            errorMessages = new ArrayList<ValidationListener.Error>();
+        }
         errorMessages.add(new ValidationListener.Error(messageTemplate, propertyPath, null));
     }
 }
@@ -25,15 +25,30 @@ import javax.validation.ConstraintValidatorFactory;
 import javax.validation.ValidationException;
 import java.io.Closeable;
 import java.io.IOException;
-import java.util.Collection;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Description: create constraint instances with the default / no-arg constructor <br/>
+ * Whether a validator class is obtained from CDI or through its constructor is
+ * decided on its first instantiation and remembered afterwards. CDI managed
+ * instances are tracked until {@link #releaseInstance(ConstraintValidator)}, which
+ * the {@link ApacheValidatorFactory} calls when it drops the metadata using them,
+ * or until {@link #close()}.
  */
 public class DefaultConstraintValidatorFactory implements ConstraintValidatorFactory, Closeable {
-    private final Collection<BValExtension.Releasable<?>> releasables =
-        new CopyOnWriteArrayList<BValExtension.Releasable<?>>();
+    private final Map<ConstraintValidator<?, ?>, BValExtension.Releasable<?>> releasables =
+        Collections.synchronizedMap(new IdentityHashMap<ConstraintValidator<?, ?>, BValExtension.Releasable<?>>());
+    private final ConcurrentMap<Class<?>, Constructor<?>> constructors =
+        new ConcurrentHashMap<Class<?>, Constructor<?>>();
+    private final Set<Class<?>> cdiManaged = Collections.newSetFromMap(new ConcurrentHashMap<Class<?>, Boolean>());
     private volatile Boolean useCdi = null; // store it to avoid NoClassDefFoundError when cdi is not present (it is slow) + lazily (to wait cdi is started)
 
     /**
@@ -44,6 +59,35 @@ public class DefaultConstraintValidatorFactory implements ConstraintValidatorFac
      */
     @Override
     public <T extends ConstraintValidator<?, ?>> T getInstance(final Class<T> constraintClass) {
+        // 2011-03-27 jw: Do not use PrivilegedAction.
+        // Otherwise any user code would be executed with the privileges of this class.
+        try {
+            if (cdiManaged.contains(constraintClass)) {
+                final T instance = inject(constraintClass);
+                if (instance != null) {
+                    return instance;
+                }
+            }
+            @SuppressWarnings("unchecked")
+            Constructor<T> constructor = (Constructor<T>) constructors.get(constraintClass);
+            if (constructor == null) {
+                if (!cdiManaged.contains(constraintClass) && isUseCdi()) {
+                    final T instance = inject(constraintClass);
+                    if (instance != null) {
+                        cdiManaged.add(constraintClass);
+                        return instance;
+                    }
+                }
+                constructor = constraintClass.getDeclaredConstructor();
+                constructors.putIfAbsent(constraintClass, constructor);
+            }
+            return constructor.newInstance();
+        } catch (final Exception ex) {
+            throw new ValidationException("Cannot instantiate : " + constraintClass, ex);
+        }
+    }
+
+    private boolean isUseCdi() {
         if (useCdi == null) {
             synchronized (this) {
                 if (useCdi == null) {
@@ -57,42 +101,41 @@ public class DefaultConstraintValidatorFactory implements ConstraintValidatorFac
                 }
             }
         }
+        return useCdi.booleanValue();
+    }
 
-        // 2011-03-27 jw: Do not use PrivilegedAction.
-        // Otherwise any user code would be executed with the privileges of this class.
+    private <T extends ConstraintValidator<?, ?>> T inject(final Class<T> constraintClass) {
         try {
-            if (useCdi) {
-                try {
-                    final BValExtension.Releasable<T> instance = BValExtension.inject(constraintClass);
-                    if (instance != null) {
-                        releasables.add(instance);
-                        return instance.getInstance();
-                    }
-                    throw new IllegalStateException("Can't create " + constraintClass.getName());
-                } catch (final Exception e) {
-                    return constraintClass.newInstance();
-                } catch (final NoClassDefFoundError error) {
-                    return constraintClass.newInstance();
-                }
+            final BValExtension.Releasable<T> releasable = BValExtension.inject(constraintClass);
+            if (releasable != null) {
+                final T instance = releasable.getInstance();
+                releasables.put(instance, releasable);
+                return instance;
             }
-            return constraintClass.newInstance();
-        } catch (final Exception ex) {
-            throw new ValidationException("Cannot instantiate : " + constraintClass, ex);
+        } catch (final Exception e) {
+            // fall back to the constructor
+        } catch (final NoClassDefFoundError error) {
+            // fall back to the constructor
         }
+        return null;
     }
 
     @Override
     public void releaseInstance(final ConstraintValidator<?, ?> instance) {
-        // no-op
+        final BValExtension.Releasable<?> releasable = releasables.remove(instance);
+        if (releasable != null) {
+            releasable.release();
+        }
     }
 
     @Override
     public void close() throws IOException {
-        for (final BValExtension.Releasable<?> releasable : releasables) {
-            // ensure to call this callback
-            releaseInstance(ConstraintValidator.class.cast(releasable.getInstance()));
-            releasable.release();
+        final List<ConstraintValidator<?, ?>> instances;
+        synchronized (releasables) {
+            instances = new ArrayList<ConstraintValidator<?, ?>>(releasables.keySet());
+        }
+        for (final ConstraintValidator<?, ?> instance : instances) {
+            releaseInstance(instance);
         }
-        releasables.clear();
     }
 }
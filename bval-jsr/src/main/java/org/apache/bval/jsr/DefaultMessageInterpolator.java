@@ -22,13 +22,20 @@ import org.apache.commons.weaver.privilizer.Privilizing;
 import org.apache.commons.weaver.privilizer.Privilizing.CallTo;
 
 import javax.validation.MessageInterpolator;
+import javax.validation.metadata.ConstraintDescriptor;
 
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
@@ -47,6 +54,9 @@ public class DefaultMessageInterpolator implements MessageInterpolator {
     private static final String DEFAULT_VALIDATION_MESSAGES = "org.apache.bval.jsr.ValidationMessages";
     private static final String USER_VALIDATION_MESSAGES = "ValidationMessages";
 
+    /** Default maximum number of interpolated messages kept by an instance. */
+    public static final int DEFAULT_MESSAGE_CACHE_SIZE = 1000;
+
     /** Regular expression used to do message interpolation. */
     private static final Pattern messageParameterPattern = Pattern.compile("(\\{[\\w\\.]+\\})");
 
@@ -56,8 +66,29 @@ public class DefaultMessageInterpolator implements MessageInterpolator {
     /** User specified resource bundles hashed against their locale. */
     private final Map<Locale, ResourceBundle> userBundlesMap = new ConcurrentHashMap<Locale, ResourceBundle>();
 
-    /** Builtin resource bundles hashed against their locale. */
-    private final Map<Locale, ResourceBundle> defaultBundlesMap = new ConcurrentHashMap<Locale, ResourceBundle>();
+    /**
+     * User and builtin messages merged per locale, user messages taking precedence. A locale
+     * without user bundle is cached as well, so bundle lookups happen once per locale.
+     */
+    private final ConcurrentMap<Locale, Map<String, BundleMessage>> messagesMap =
+        new ConcurrentHashMap<Locale, Map<String, BundleMessage>>();
+
+    private volatile int messageCacheSize = DEFAULT_MESSAGE_CACHE_SIZE;
+
+    /**
+     * Interpolated messages not depending on the validated value, keyed by template, locale and
+     * constraint descriptor identity. The least recently used message is dropped beyond
+     * {@link #messageCacheSize} messages in total.
+     */
+    private final Map<MessageKey, String> messageCache =
+        Collections.synchronizedMap(new LinkedHashMap<MessageKey, String>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<MessageKey, String> eldest) {
+                return size() > messageCacheSize;
+            }
+        });
 
     private final MessageEvaluator evaluator;
 
@@ -75,13 +106,11 @@ public class DefaultMessageInterpolator implements MessageInterpolator {
     public DefaultMessageInterpolator(ResourceBundle resourceBundle) {
         defaultLocale = Locale.getDefault();
 
-        // feed the cache with defaults at least
-        findDefaultResourceBundle(defaultLocale);
-        if (resourceBundle == null) {
-            findUserResourceBundle(defaultLocale);
-        } else {
+        if (resourceBundle != null) {
             userBundlesMap.put(defaultLocale, resourceBundle);
         }
+        // feed the cache with defaults at least
+        findMessages(defaultLocale);
 
         MessageEvaluator ev = null;
         try {
@@ -96,16 +125,24 @@ public class DefaultMessageInterpolator implements MessageInterpolator {
     /** {@inheritDoc} */
     @Override
     public String interpolate(String message, Context context) {
-        // probably no need for caching, but it could be done by parameters since the map
-        // is immutable and uniquely built per Validation definition, the comparison has to be based on == and not equals though
         return interpolate(message, context, defaultLocale);
     }
 
     /** {@inheritDoc} */
     @Override
     public String interpolate(String message, Context context, Locale locale) {
-        return interpolateMessage(message, context.getConstraintDescriptor().getAttributes(), locale,
-            context.getValidatedValue());
+        final ConstraintDescriptor<?> descriptor = context.getConstraintDescriptor();
+        if (messageCacheSize <= 0) {
+            return interpolateMessage(message, descriptor.getAttributes(), locale, context.getValidatedValue(), null);
+        }
+        // the attributes are immutable and uniquely built per constraint definition, so the descriptor
+        // identity stands for them
+        final MessageKey key = new MessageKey(message, locale, descriptor);
+        final String cached = messageCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        return interpolateMessage(message, descriptor.getAttributes(), locale, context.getValidatedValue(), key);
     }
 
     /**
@@ -118,19 +155,19 @@ public class DefaultMessageInterpolator implements MessageInterpolator {
      * @param message              the message to interpolate
      * @param annotationParameters the parameters of the annotation for which to interpolate this message
      * @param locale               the <code>Locale</code> to use for the resource bundle.
+     * @param cacheKey             the key to cache the result under, if it does not depend on the validated value
      * @return the interpolated message.
      */
     private String interpolateMessage(String message, Map<String, Object> annotationParameters, Locale locale,
-        Object validatedValue) {
-        ResourceBundle userResourceBundle = findUserResourceBundle(locale);
-        ResourceBundle defaultResourceBundle = findDefaultResourceBundle(locale);
+        Object validatedValue, MessageKey cacheKey) {
+        final Map<String, BundleMessage> messages = findMessages(locale);
 
         String userBundleResolvedMessage;
         String resolvedMessage = message;
         boolean evaluatedDefaultBundleOnce = false;
         do {
             // search the user bundle recursive (step1)
-            userBundleResolvedMessage = replaceVariables(resolvedMessage, userResourceBundle, locale, true);
+            userBundleResolvedMessage = replaceVariables(resolvedMessage, messages, true);
 
             // exit condition - we have at least tried to validate against the default bundle and there were no
             // further replacements
@@ -139,7 +176,7 @@ public class DefaultMessageInterpolator implements MessageInterpolator {
             }
 
             // search the default bundle non recursive (step2)
-            resolvedMessage = replaceVariables(userBundleResolvedMessage, defaultResourceBundle, locale, false);
+            resolvedMessage = replaceVariables(userBundleResolvedMessage, messages, false);
 
             evaluatedDefaultBundleOnce = true;
         } while (true);
@@ -147,7 +184,8 @@ public class DefaultMessageInterpolator implements MessageInterpolator {
         // resolve annotation attributes (step 4)
         resolvedMessage = replaceAnnotationAttributes(resolvedMessage, annotationParameters);
 
-        // EL handling
+        // EL handling; without expressions the validated value cannot show up in the message
+        final boolean expressions = evaluator != null && resolvedMessage.contains("${");
         if (evaluator != null) {
             resolvedMessage = evaluator.interpolate(resolvedMessage, annotationParameters, validatedValue);
         }
@@ -156,6 +194,9 @@ public class DefaultMessageInterpolator implements MessageInterpolator {
         resolvedMessage =
             resolvedMessage.replace("\\{", "{").replace("\\}", "}").replace("\\\\", "\\").replace("\\$", "$");
 
+        if (cacheKey != null && !expressions) {
+            messageCache.put(cacheKey, resolvedMessage);
+        }
         return resolvedMessage;
     }
 
@@ -203,13 +244,17 @@ public class DefaultMessageInterpolator implements MessageInterpolator {
         return rb;
     }
 
-    private String replaceVariables(String message, ResourceBundle bundle, Locale locale, boolean recurse) {
+    /**
+     * Replace the message parameters found among the user (<code>user == true</code>, recursively)
+     * or builtin (<code>user == false</code>) messages.
+     */
+    private String replaceVariables(String message, Map<String, BundleMessage> messages, boolean user) {
         final Matcher matcher = messageParameterPattern.matcher(message);
         final StringBuffer sb = new StringBuffer(64);
         String resolvedParameterValue;
         while (matcher.find()) {
             final String parameter = matcher.group(1);
-            resolvedParameterValue = resolveParameter(parameter, bundle, locale, recurse);
+            resolvedParameterValue = resolveParameter(parameter, messages, user);
 
             matcher.appendReplacement(sb, sanitizeForAppendReplacement(resolvedParameterValue));
         }
@@ -239,47 +284,59 @@ public class DefaultMessageInterpolator implements MessageInterpolator {
         return sb.toString();
     }
 
-    private String resolveParameter(String parameterName, ResourceBundle bundle, Locale locale, boolean recurse) {
-        String parameterValue;
-        try {
-            if (bundle != null) {
-                parameterValue = bundle.getString(removeCurlyBrace(parameterName));
-                if (recurse) {
-                    parameterValue = replaceVariables(parameterValue, bundle, locale, recurse);
-                }
-            } else {
-                parameterValue = parameterName;
-            }
-        } catch (final MissingResourceException e) {
+    private String resolveParameter(String parameterName, Map<String, BundleMessage> messages, boolean user) {
+        final BundleMessage found = messages.get(removeCurlyBrace(parameterName));
+        if (found == null || found.user != user) {
             // return parameter itself
-            parameterValue = parameterName;
+            return parameterName;
         }
-
-        return parameterValue;
+        return user ? replaceVariables(found.value, messages, true) : found.value;
     }
 
     private String removeCurlyBrace(String parameter) {
         return parameter.substring(1, parameter.length() - 1);
     }
 
-    private ResourceBundle findDefaultResourceBundle(Locale locale) {
-        ResourceBundle bundle = defaultBundlesMap.get(locale);
-        if (bundle == null) {
-            bundle = ResourceBundle.getBundle(DEFAULT_VALIDATION_MESSAGES, locale);
-            defaultBundlesMap.put(locale, bundle);
+    private Map<String, BundleMessage> findMessages(Locale locale) {
+        Map<String, BundleMessage> messages = messagesMap.get(locale);
+        if (messages == null) {
+            messages = new HashMap<String, BundleMessage>();
+            addMessages(messages, ResourceBundle.getBundle(DEFAULT_VALIDATION_MESSAGES, locale), false);
+            addMessages(messages, findUserResourceBundle(locale), true);
+            final Map<String, BundleMessage> previous = messagesMap.putIfAbsent(locale, messages);
+            if (previous != null) {
+                messages = previous;
+            }
         }
-        return bundle;
+        return messages;
     }
 
-    private ResourceBundle findUserResourceBundle(Locale locale) {
-        ResourceBundle bundle = userBundlesMap.get(locale);
+    private static void addMessages(Map<String, BundleMessage> messages, ResourceBundle bundle, boolean user) {
         if (bundle == null) {
-            bundle = getFileBasedResourceBundle(locale);
-            if (bundle != null) {
-                userBundlesMap.put(locale, bundle);
+            return;
+        }
+        for (final Enumeration<String> keys = bundle.getKeys(); keys.hasMoreElements();) {
+            final String key = keys.nextElement();
+            final Object value = bundle.getObject(key);
+            if (value instanceof String) {
+                messages.put(key, new BundleMessage((String) value, user));
             }
         }
-        return bundle;
+    }
+
+    private ResourceBundle findUserResourceBundle(Locale locale) {
+        final ResourceBundle bundle = userBundlesMap.get(locale);
+        return bundle == null ? getFileBasedResourceBundle(locale) : bundle;
+    }
+
+    /**
+     * Load the messages of <code>locales</code> ahead of their first use.
+     * @param locales
+     */
+    public void preloadLocales(Collection<Locale> locales) {
+        for (final Locale locale : locales) {
+            findMessages(locale);
+        }
     }
 
     /**
@@ -290,6 +347,24 @@ public class DefaultMessageInterpolator implements MessageInterpolator {
         defaultLocale = locale;
     }
 
+    /**
+     * Set the maximum number of interpolated messages this {@link DefaultMessageInterpolator} keeps in total,
+     * dropping the least recently used ones beyond; <code>0</code> disables the cache. Messages using EL
+     * expressions are never cached.
+     * @param size
+     */
+    public void setMessageCacheSize(int size) {
+        messageCacheSize = size;
+        clearMessageCache();
+    }
+
+    /**
+     * Forget the interpolated messages, e.g. when the constraints they were built for are dropped.
+     */
+    void clearMessageCache() {
+        messageCache.clear();
+    }
+
     /**
      * Escapes the string to comply with
      * {@link Matcher#appendReplacement(StringBuffer, String)} requirements.
@@ -301,4 +376,51 @@ public class DefaultMessageInterpolator implements MessageInterpolator {
     private String sanitizeForAppendReplacement(String src) {
         return src.replace("\\", "\\\\").replace("$", "\\$");
     }
+
+    /**
+     * Cache key of an interpolated message; the constraint descriptor is compared by identity.
+     */
+    private static final class MessageKey {
+        private final String template;
+        private final Locale locale;
+        private final ConstraintDescriptor<?> descriptor;
+        private final int hashCode;
+
+        MessageKey(String template, Locale locale, ConstraintDescriptor<?> descriptor) {
+            this.template = template;
+            this.locale = locale;
+            this.descriptor = descriptor;
+            this.hashCode = (31 * template.hashCode() + locale.hashCode()) * 31 + System.identityHashCode(descriptor);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof MessageKey)) {
+                return false;
+            }
+            final MessageKey other = (MessageKey) obj;
+            return descriptor == other.descriptor && template.equals(other.template) && locale.equals(other.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * A resource bundle value and whether it comes from the user bundle.
+     */
+    private static final class BundleMessage {
+        final String value;
+        final boolean user;
+
+        BundleMessage(String value, boolean user) {
+            this.value = value;
+            this.user = user;
+        }
+    }
 }
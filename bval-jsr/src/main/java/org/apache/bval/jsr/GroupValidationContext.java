@@ -81,6 +81,14 @@ public interface GroupValidationContext<T> extends ValidationContext<ConstraintV
      */
     ConstraintValidation<?> getConstraintValidation();
 
+    /**
+     * Get the {@link ConstraintValidatorContextImpl} to pass to the validator of {@code constraint}; only valid until
+     * the next call.
+     * @param constraint
+     * @return {@link ConstraintValidatorContextImpl}
+     */
+    ConstraintValidatorContextImpl getConstraintValidatorContext(ConstraintValidation<?> constraint);
+
     /**
      * Get the value being validated.
      * @return Object
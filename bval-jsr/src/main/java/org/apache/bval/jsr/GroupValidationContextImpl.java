@@ -47,10 +47,10 @@ import java.util.Set;
 final class GroupValidationContextImpl<T> extends BeanValidationContext<ConstraintValidationListener<T>>
     implements GroupValidationContext<T>, MessageInterpolator.Context {
 
-    private final MessageInterpolator messageResolver;
-    private final PathImpl path;
-    private final MetaBean rootMetaBean;
-    private final ParameterNameProvider parameterNameProvider;
+    private MessageInterpolator messageResolver;
+    private PathImpl path;
+    private MetaBean rootMetaBean;
+    private ParameterNameProvider parameterNameProvider;
 
     /**
      * the groups in the sequence of validation to take place
@@ -70,8 +70,13 @@ final class GroupValidationContextImpl<T> extends BeanValidationContext<Constrai
     private HashSet<ConstraintValidatorIdentity> validatedConstraints = new HashSet<ConstraintValidatorIdentity>();
 
     private ConstraintValidation<?> constraintValidation;
-    private final TraversableResolver traversableResolver;
-    private final ConstraintValidatorFactory constraintValidatorFactory;
+    private TraversableResolver traversableResolver;
+    private ConstraintValidatorFactory constraintValidatorFactory;
+
+    /**
+     * handed to the constraint validators, one at a time
+     */
+    private ConstraintValidatorContextImpl constraintValidatorContext;
 
     private Object[] parameters;
     private Object returnValue;
@@ -91,6 +96,12 @@ final class GroupValidationContextImpl<T> extends BeanValidationContext<Constrai
         TraversableResolver traversableResolver, ParameterNameProvider parameterNameProvider,
         ConstraintValidatorFactory constraintValidatorFactory, MetaBean rootMetaBean) {
         super(listener, new HashMap<GraphBeanIdentity, Set<PathImpl>>());
+        init(aMessageResolver, traversableResolver, parameterNameProvider, constraintValidatorFactory, rootMetaBean);
+    }
+
+    private void init(MessageInterpolator aMessageResolver, TraversableResolver traversableResolver,
+        ParameterNameProvider parameterNameProvider, ConstraintValidatorFactory constraintValidatorFactory,
+        MetaBean rootMetaBean) {
         this.messageResolver = aMessageResolver;
         this.constraintValidatorFactory = constraintValidatorFactory;
         this.traversableResolver = CachingTraversableResolver.cacheFor(traversableResolver);
@@ -99,6 +110,54 @@ final class GroupValidationContextImpl<T> extends BeanValidationContext<Constrai
         this.path = PathImpl.create();
     }
 
+    /**
+     * Prepare this {@link #release()}d instance for a new validation process, as if it had just been created.
+     *
+     * @param rootBean
+     * @param rootBeanType
+     * @param aMessageResolver
+     * @param traversableResolver
+     * @param parameterNameProvider
+     * @param constraintValidatorFactory
+     * @param rootMetaBean
+     */
+    void reset(T rootBean, Class<T> rootBeanType, MessageInterpolator aMessageResolver,
+        TraversableResolver traversableResolver, ParameterNameProvider parameterNameProvider,
+        ConstraintValidatorFactory constraintValidatorFactory, MetaBean rootMetaBean) {
+        getListener().reset(rootBean, rootBeanType);
+        init(aMessageResolver, traversableResolver, parameterNameProvider, constraintValidatorFactory, rootMetaBean);
+    }
+
+    /**
+     * Clear the state of the finished validation process, keeping the allocated structures for
+     * {@link #reset(Object, Class, MessageInterpolator, TraversableResolver, ParameterNameProvider,
+     * ConstraintValidatorFactory, MetaBean)}, without retaining any validated object.
+     */
+    void release() {
+        getListener().release();
+        resetValidated();
+        validatedConstraints.clear();
+        setBean(null, null);
+        setFixed(false);
+        groups = null;
+        currentGroup = null;
+        currentOwner = null;
+        constraintValidation = null;
+        parameters = null;
+        returnValue = null;
+        method = null;
+        constructor = null;
+        messageResolver = null;
+        traversableResolver = null;
+        parameterNameProvider = null;
+        constraintValidatorFactory = null;
+        rootMetaBean = null;
+        path = null;
+        if (constraintValidatorContext != null) {
+            constraintValidatorContext.reset(null);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -287,6 +346,20 @@ final class GroupValidationContextImpl<T> extends BeanValidationContext<Constrai
         return constraintValidation;
     }
 
+    /**
+     * {@inheritDoc} The same instance is reset and handed out for each constraint, as the messages it collects are
+     * consumed before the next constraint is validated.
+     */
+    @Override
+    public ConstraintValidatorContextImpl getConstraintValidatorContext(ConstraintValidation<?> constraint) {
+        if (constraintValidatorContext == null) {
+            constraintValidatorContext = new ConstraintValidatorContextImpl(this, constraint);
+        } else {
+            constraintValidatorContext.reset(constraint);
+        }
+        return constraintValidatorContext;
+    }
+
     /**
      * {@inheritDoc}
      */
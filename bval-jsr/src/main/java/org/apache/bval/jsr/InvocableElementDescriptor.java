@@ -16,9 +16,12 @@
  */
 package org.apache.bval.jsr;
 
+import org.apache.bval.jsr.groups.Group;
+import org.apache.bval.jsr.groups.Groups;
 import org.apache.bval.model.MetaBean;
 import org.apache.bval.model.Validation;
 
+import javax.validation.ConstraintValidatorFactory;
 import javax.validation.metadata.ConstraintDescriptor;
 import javax.validation.metadata.CrossParameterDescriptor;
 import javax.validation.metadata.ElementDescriptor;
@@ -37,6 +40,7 @@ public class InvocableElementDescriptor extends ElementDescriptorImpl implements
     private ReturnValueDescriptor returnValueDescriptor;
     private CrossParameterDescriptor crossParameterDescriptor;
     private final List<ParameterDescriptor> parameterDescriptors = new ArrayList<ParameterDescriptor>();
+    private volatile CompiledParameters compiledParameters;
 
     protected InvocableElementDescriptor(final MetaBean metaBean, final Class<?> elementClass,
         final Validation[] validations) {
@@ -85,6 +89,19 @@ public class InvocableElementDescriptor extends ElementDescriptorImpl implements
         return getCrossParameterDescriptor().hasConstraints();
     }
 
+    /**
+     * Get the parameter and cross-parameter validations of this descriptor in array form. Computed on first use, i.e.
+     * once the descriptor has been fully built.
+     *
+     * @return {@link CompiledParameters}
+     */
+    CompiledParameters getCompiledParameters() {
+        if (compiledParameters == null) {
+            compiledParameters = new CompiledParameters(this);
+        }
+        return compiledParameters;
+    }
+
     public ReturnValueDescriptor getReturnValueDescriptor() {
         return returnValueDescriptor;
     }
@@ -103,4 +120,117 @@ public class InvocableElementDescriptor extends ElementDescriptorImpl implements
     public Set<ConstraintDescriptor<?>> getConstraintDescriptors() {
         return Set.class.cast(NO_CONSTRAINTS);
     }
+
+    /**
+     * Immutable, array based view of the parameter and cross-parameter validations of an
+     * {@link InvocableElementDescriptor}, sparing executable validation the iteration of the descriptor sets and
+     * letting it find out upfront whether anything applies to the requested groups at all.
+     */
+    static final class CompiledParameters {
+        final ParameterDescriptorImpl[] parameters;
+        final ConstraintValidation<?>[][] parameterConstraints;
+        final ElementDescriptorImpl crossParameter;
+        final ConstraintValidation<?>[] crossParameterConstraints;
+        final boolean cascaded;
+
+        private CompiledParameters(final InvocableElementDescriptor descriptor) {
+            final List<ParameterDescriptor> descriptors = descriptor.getParameterDescriptors();
+            parameters = new ParameterDescriptorImpl[descriptors.size()];
+            parameterConstraints = new ConstraintValidation<?>[parameters.length][];
+            boolean anyCascaded = false;
+            for (int i = 0; i < parameters.length; i++) {
+                parameters[i] = ParameterDescriptorImpl.class.cast(descriptors.get(i));
+                parameterConstraints[i] = toArray(parameters[i].getConstraintDescriptors());
+                anyCascaded |= parameters[i].isCascaded();
+            }
+            crossParameter = ElementDescriptorImpl.class.cast(descriptor.getCrossParameterDescriptor());
+            crossParameterConstraints = toArray(crossParameter.getConstraintDescriptors());
+            cascaded = anyCascaded;
+        }
+
+        /**
+         * Learn whether validating parameters for {@code groups} can raise any violation, that is whether a parameter
+         * is cascaded or a (cross-)parameter constraint belongs to one of the groups, as is or converted.
+         *
+         * @param groups
+         * @return boolean
+         */
+        boolean appliesTo(final Groups groups) {
+            if (cascaded) {
+                return true;
+            }
+            for (final Group group : groups.getGroups()) {
+                if (appliesTo(group)) {
+                    return true;
+                }
+            }
+            for (final List<Group> sequence : groups.getSequences()) {
+                for (final Group group : sequence) {
+                    if (appliesTo(group)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private boolean appliesTo(final Group group) {
+            for (int i = 0; i < parameters.length; i++) {
+                if (anyMemberOf(parameterConstraints[i], parameters[i], group)) {
+                    return true;
+                }
+            }
+            return anyMemberOf(crossParameterConstraints, crossParameter, group);
+        }
+
+        /**
+         * Initialize the validators of all (cross-)parameter constraints as validating them would, so that skipping
+         * the validation does not hide constraint definition errors.
+         *
+         * @param factory
+         */
+        void initValidators(final ConstraintValidatorFactory factory) {
+            for (final ConstraintValidation<?>[] constraints : parameterConstraints) {
+                for (final ConstraintValidation<?> validation : constraints) {
+                    validation.initValidator(factory);
+                }
+            }
+            for (final ConstraintValidation<?> validation : crossParameterConstraints) {
+                validation.initValidator(factory);
+            }
+        }
+
+        private static boolean anyMemberOf(final ConstraintValidation<?>[] constraints,
+            final ElementDescriptorImpl descriptor, final Group group) {
+            for (final ConstraintValidation<?> validation : constraints) {
+                if (isMemberOf(validation, descriptor, group)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Learn whether {@code validation} belongs to {@code group}, as is or converted by {@code descriptor}.
+         *
+         * @param validation
+         * @param descriptor
+         * @param group
+         * @return boolean
+         */
+        static boolean isMemberOf(final ConstraintValidation<?> validation, final ElementDescriptorImpl descriptor,
+            final Group group) {
+            return validation.isMemberOf(group.getGroup())
+                || validation.isMemberOf(descriptor.mapGroup(group).getGroup());
+        }
+
+        private static ConstraintValidation<?>[] toArray(final Set<ConstraintDescriptor<?>> constraints) {
+            final ConstraintValidation<?>[] result = new ConstraintValidation<?>[constraints.size()];
+            int i = 0;
+            for (final ConstraintDescriptor<?> constraint : constraints) {
+                result[i++] = ConstraintValidation.class.cast(constraint);
+            }
+            return result;
+        }
+    }
 }
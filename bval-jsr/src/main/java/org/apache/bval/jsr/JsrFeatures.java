@@ -18,6 +18,13 @@
  */
 package org.apache.bval.jsr;
 
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.bval.jsr.groups.Group;
+import org.apache.bval.jsr.xml.XmlMappings;
+import org.apache.bval.model.FeatureKey;
 import org.apache.bval.model.Features;
 
 /**
@@ -42,6 +49,8 @@ public interface JsrFeatures {
     interface Property extends Features.Property {
         /** INFO: cached PropertyDescriptorImpl of the property */
         String PropertyDescriptor = "PropertyDescriptor";
+        /** typed {@link #PropertyDescriptor} */
+        FeatureKey<PropertyDescriptorImpl> PROPERTY_DESCRIPTOR_KEY = FeatureKey.of(PropertyDescriptor);
         /**
          * INFO: Class[] with the groups to validate a REF_CASCADE
          */
@@ -49,6 +58,8 @@ public interface JsrFeatures {
 
         // Collection<Annotation>
         String ANNOTATIONS_TO_PROCESS = "annotationToProcess";
+        /** typed {@link #ANNOTATIONS_TO_PROCESS} */
+        FeatureKey<Collection<Annotation>> ANNOTATIONS_TO_PROCESS_KEY = FeatureKey.of(ANNOTATIONS_TO_PROCESS);
     }
 
     /**
@@ -60,10 +71,21 @@ public interface JsrFeatures {
          * (redefined default group)
          **/
         String GROUP_SEQUENCE = "GroupSequence";
+        /** typed {@link #GROUP_SEQUENCE} */
+        FeatureKey<List<Group>> GROUP_SEQUENCE_KEY = FeatureKey.of(GROUP_SEQUENCE);
 
         /**
          * INFO: cached BeanDescriptorImpl of the bean
          */
         String BEAN_DESCRIPTOR = "BeanDescriptor";
+        /** typed {@link #BEAN_DESCRIPTOR} */
+        FeatureKey<BeanDescriptorImpl> BEAN_DESCRIPTOR_KEY = FeatureKey.of(BEAN_DESCRIPTOR);
+
+        /**
+         * INFO: the {@link XmlMappings} the bean was built from
+         */
+        String XML_MAPPINGS = "XmlMappings";
+        /** typed {@link #XML_MAPPINGS} */
+        FeatureKey<XmlMappings> XML_MAPPINGS_KEY = FeatureKey.of(XML_MAPPINGS);
     }
 }
@@ -22,6 +22,7 @@ import org.apache.bval.MetaBeanFactory;
 import org.apache.bval.jsr.groups.Group;
 import org.apache.bval.jsr.util.ClassHelper;
 import org.apache.bval.jsr.xml.MetaConstraint;
+import org.apache.bval.jsr.xml.XmlMappings;
 import org.apache.bval.model.Features.Property;
 import org.apache.bval.model.Meta;
 import org.apache.bval.model.MetaBean;
@@ -30,6 +31,7 @@ import org.apache.bval.model.MetaMethod;
 import org.apache.bval.model.MetaParameter;
 import org.apache.bval.model.MetaProperty;
 import org.apache.bval.util.AccessStrategy;
+import org.apache.bval.util.DeclaredMembers;
 import org.apache.bval.util.FieldAccess;
 import org.apache.bval.util.MethodAccess;
 import org.apache.bval.util.reflection.Reflection;
@@ -89,11 +91,17 @@ public class JsrMetaBeanFactory implements MetaBeanFactory {
     public void buildMetaBean(MetaBean metabean) {
         try {
             final Class<?> beanClass = metabean.getBeanClass();
-            processGroupSequence(beanClass, metabean);
+            // a single snapshot for the whole bean, the factory may swap in reloaded mappings meanwhile
+            final XmlMappings mappings = factory.getXmlMappings();
+            metabean.putFeature(JsrFeatures.Bean.XML_MAPPINGS_KEY, mappings);
 
             // process class, superclasses and interfaces
             final List<Class<?>> classSequence =
                 ClassHelper.fillFullClassHierarchyAsList(new ArrayList<Class<?>>(), beanClass);
+            for (final Class<?> eachClass : classSequence) {
+                mappings.applyPendingMapping(eachClass);
+            }
+            processGroupSequence(mappings, beanClass, metabean);
 
             // start with superclasses and go down the hierarchy so that
             // the child classes are processed last to have the chance to
@@ -102,8 +110,9 @@ public class JsrMetaBeanFactory implements MetaBeanFactory {
             // time of processing
             for (int i = classSequence.size() - 1; i >= 0; i--) {
                 Class<?> eachClass = classSequence.get(i);
-                processClass(eachClass, metabean);
-                processGroupSequence(eachClass, metabean, "{GroupSequence:" + eachClass.getCanonicalName() + "}");
+                processClass(mappings, eachClass, metabean);
+                processGroupSequence(mappings, eachClass, metabean,
+                    "{GroupSequence:" + eachClass.getCanonicalName() + "}");
             }
 
         } catch (IllegalAccessException e) {
@@ -116,28 +125,29 @@ public class JsrMetaBeanFactory implements MetaBeanFactory {
     /**
      * Process class annotations, field and method annotations.
      * 
+     * @param mappings
      * @param beanClass
      * @param metabean
      * @throws IllegalAccessException
      * @throws InvocationTargetException
      */
-    private void processClass(Class<?> beanClass, MetaBean metabean)
+    private void processClass(XmlMappings mappings, Class<?> beanClass, MetaBean metabean)
         throws IllegalAccessException, InvocationTargetException {
 
         // if NOT ignore class level annotations
-        if (!factory.getAnnotationIgnores().isIgnoreAnnotations(beanClass)) {
+        if (!mappings.getAnnotationIgnores().isIgnoreAnnotations(beanClass)) {
             annotationProcessor.processAnnotations(null, beanClass, beanClass, null,
                 new AppendValidationToMeta(metabean));
         }
 
         final Collection<String> missingValid = new ArrayList<String>();
 
-        final Field[] fields = Reflection.getDeclaredFields(beanClass);
-        for (final Field field : fields) {
+        final DeclaredMembers members = factory.getDeclaredMembers().get(beanClass);
+        for (final Field field : members.getFields()) {
             MetaProperty metaProperty = metabean.getProperty(field.getName());
             // create a property for those fields for which there is not yet a
             // MetaProperty
-            if (!factory.getAnnotationIgnores().isIgnoreAnnotations(field)) {
+            if (!mappings.getAnnotationIgnores().isIgnoreAnnotations(field)) {
                 AccessStrategy access = new FieldAccess(field);
                 boolean create = metaProperty == null;
                 if (create) {
@@ -153,38 +163,32 @@ public class JsrMetaBeanFactory implements MetaBeanFactory {
                 }
             }
         }
-        final Method[] methods = Reflection.getDeclaredMethods(beanClass);
-        for (final Method method : methods) {
-            if (method.isSynthetic() || method.isBridge()) {
-                continue;
-            }
-            String propName = null;
-            if (method.getParameterTypes().length == 0) {
-                propName = MethodAccess.getPropertyName(method);
-            }
-            if (propName != null) {
-                if (!factory.getAnnotationIgnores().isIgnoreAnnotations(method)) {
-                    AccessStrategy access = new MethodAccess(propName, method);
-                    MetaProperty metaProperty = metabean.getProperty(propName);
-                    boolean create = metaProperty == null;
-                    // create a property for those methods for which there is
-                    // not yet a MetaProperty
-                    if (create) {
-                        metaProperty = addMetaProperty(metabean, access);
-                    }
-                    if (!annotationProcessor.processAnnotations(metaProperty, beanClass, method, access,
-                        new AppendValidationToMeta(metaProperty)) && create) {
-                        metabean.putProperty(propName, null);
-                    }
+        final Method[] getters = members.getGetters();
+        final String[] getterNames = members.getGetterNames();
+        for (int i = 0; i < getters.length; i++) {
+            final Method method = getters[i];
+            final String propName = getterNames[i];
+            if (!mappings.getAnnotationIgnores().isIgnoreAnnotations(method)) {
+                AccessStrategy access = new MethodAccess(propName, method);
+                MetaProperty metaProperty = metabean.getProperty(propName);
+                boolean create = metaProperty == null;
+                // create a property for those methods for which there is
+                // not yet a MetaProperty
+                if (create) {
+                    metaProperty = addMetaProperty(metabean, access);
+                }
+                if (!annotationProcessor.processAnnotations(metaProperty, beanClass, method, access,
+                    new AppendValidationToMeta(metaProperty)) && create) {
+                    metabean.putProperty(propName, null);
                 }
             }
         }
 
-        addXmlConstraints(beanClass, metabean);
+        addXmlConstraints(mappings, beanClass, metabean);
 
         for (final String name : missingValid) {
             final MetaProperty metaProperty = metabean.getProperty(name);
-            if (metaProperty != null && metaProperty.getFeature(Property.REF_CASCADE) == null) {
+            if (metaProperty != null && metaProperty.getFeature(Property.REF_CASCADE_KEY) == null) {
                 throw new ConstraintDeclarationException("@ConvertGroup needs @Valid");
             }
         }
@@ -194,14 +198,15 @@ public class JsrMetaBeanFactory implements MetaBeanFactory {
     /**
      * Add cascade validation and constraints from xml mappings
      * 
+     * @param mappings
      * @param beanClass
      * @param metabean
      * @throws IllegalAccessException
      * @throws InvocationTargetException
      */
-    private void addXmlConstraints(Class<?> beanClass, MetaBean metabean)
+    private void addXmlConstraints(XmlMappings mappings, Class<?> beanClass, MetaBean metabean)
         throws IllegalAccessException, InvocationTargetException {
-        for (final MetaConstraint<?, ? extends Annotation> metaConstraint : factory.getMetaConstraints(beanClass)) {
+        for (final MetaConstraint<?, ? extends Annotation> metaConstraint : mappings.getMetaConstraints(beanClass)) {
             Meta meta;
             AccessStrategy access = metaConstraint.getAccessStrategy();
             boolean create = false;
@@ -267,7 +272,7 @@ public class JsrMetaBeanFactory implements MetaBeanFactory {
                 metabean.putProperty(access.getPropertyName(), null);
             }
         }
-        for (final AccessStrategy access : factory.getValidAccesses(beanClass)) {
+        for (final AccessStrategy access : mappings.getValidAccesses(beanClass)) {
             if (access.getElementType() == ElementType.PARAMETER) {
                 continue;
             }
@@ -283,18 +288,18 @@ public class JsrMetaBeanFactory implements MetaBeanFactory {
         }
     }
 
-    private void processGroupSequence(Class<?> beanClass, MetaBean metabean) {
-        processGroupSequence(beanClass, metabean, JsrFeatures.Bean.GROUP_SEQUENCE);
+    private void processGroupSequence(XmlMappings mappings, Class<?> beanClass, MetaBean metabean) {
+        processGroupSequence(mappings, beanClass, metabean, JsrFeatures.Bean.GROUP_SEQUENCE);
     }
 
-    private void processGroupSequence(Class<?> beanClass, MetaBean metabean, String key) {
+    private void processGroupSequence(XmlMappings mappings, Class<?> beanClass, MetaBean metabean, String key) {
         GroupSequence annotation = beanClass.getAnnotation(GroupSequence.class);
         List<Group> groupSeq = metabean.getFeature(key);
         if (groupSeq == null) {
             groupSeq =
                 metabean.initFeature(key, new ArrayList<Group>(annotation == null ? 1 : annotation.value().length));
         }
-        Class<?>[] groupClasses = factory.getDefaultSequence(beanClass);
+        Class<?>[] groupClasses = mappings.getDefaultSequence(beanClass);
         if (groupClasses == null || groupClasses.length == 0) {
             if (annotation == null) {
                 groupSeq.add(Group.DEFAULT);
@@ -323,17 +328,14 @@ public class JsrMetaBeanFactory implements MetaBeanFactory {
     }
 
     /**
-     * Add a {@link MetaProperty} to a {@link MetaBean}.
+     * Add a {@link MetaProperty} to a {@link MetaBean}, unless frozen (see {@link MetaBean#createProperty(String)}).
      * @param parentMetaBean
      * @param access
      * @return the created {@link MetaProperty}
      */
     public static MetaProperty addMetaProperty(MetaBean parentMetaBean, AccessStrategy access) {
-        final MetaProperty result = new MetaProperty();
-        final String name = access.getPropertyName();
-        result.setName(name);
+        final MetaProperty result = parentMetaBean.createProperty(access.getPropertyName());
         result.setType(access.getJavaType());
-        parentMetaBean.putProperty(name, result);
         return result;
     }
 }
@@ -18,18 +18,27 @@
  */
 package org.apache.bval.jsr;
 
+import org.apache.bval.jsr.groups.Group;
+import org.apache.bval.jsr.groups.Groups;
+import org.apache.bval.jsr.groups.GroupsComputer;
 import org.apache.bval.model.Features;
 import org.apache.bval.model.MetaProperty;
 
 import javax.validation.metadata.PropertyDescriptor;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 /**
  * Description: {@link PropertyDescriptor} implementation.<br/>
  *
  * TODO: use it instead of MetaProperty!
  */
 class PropertyDescriptorImpl extends ElementDescriptorImpl implements PropertyDescriptor {
+    private static final Groups NOT_CONVERTED = new Groups();
+
     private String propertyPath;
+    private final ConcurrentMap<Group, Groups> convertedGroups = new ConcurrentHashMap<Group, Groups>();
 
     /**
      * Create a new PropertyDescriptorImpl instance.
@@ -38,7 +47,7 @@ class PropertyDescriptorImpl extends ElementDescriptorImpl implements PropertyDe
      */
     PropertyDescriptorImpl(MetaProperty property) {
         super(property.getParentMetaBean(), property.getTypeClass(), property.getValidations());
-        setCascaded(property.getMetaBean() != null || property.getFeature(Features.Property.REF_CASCADE) != null);
+        setCascaded(property.getMetaBean() != null || property.getFeature(Features.Property.REF_CASCADE_KEY) != null);
         setPropertyPath(property.getName());
     }
 
@@ -59,6 +68,31 @@ class PropertyDescriptorImpl extends ElementDescriptorImpl implements PropertyDe
         return propertyPath;
     }
 
+    /**
+     * Get the {@link Groups} to cascade with when validating this property for {@code group}, according to the
+     * group conversions (@ConvertGroup) of this property. Computed once per source group.
+     *
+     * @param group
+     * @param groupsComputer
+     * @return {@link Groups}, {@code null} if {@code group} is not converted
+     */
+    Groups getConvertedGroups(final Group group, final GroupsComputer groupsComputer) {
+        Groups groups = convertedGroups.get(group);
+        if (groups == null) {
+            final Group mappedGroup = mapGroup(group);
+            groups = mappedGroup == group ? NOT_CONVERTED
+                : groupsComputer.computeGroups(new Class<?>[] { mappedGroup.getGroup() });
+            convertedGroups.putIfAbsent(group, groups);
+        }
+        return groups == NOT_CONVERTED ? null : groups;
+    }
+
+    @Override
+    public void addGroupMapping(final Group from, final Group to) {
+        super.addGroupMapping(from, to);
+        convertedGroups.clear();
+    }
+
     /**
      * {@inheritDoc}
      */
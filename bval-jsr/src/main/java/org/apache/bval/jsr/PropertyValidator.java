@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.jsr;
+
+import java.util.Set;
+
+import javax.validation.ConstraintViolation;
+
+/**
+ * Description: a validator bound once to a bean type, a (simple) property name and a set of
+ * groups. Metadata lookup, path navigation and group computation take place when the handle
+ * is created, so that repeated invocations only run the constraints of the bound property.
+ * Instances are obtained from {@link ClassValidator#forProperty(Class, String, Class...)}, e.g.
+ * <code>validator.unwrap(ClassValidator.class).forProperty(Person.class, "name")</code>.<br/>
+ * Implementations are thread-safe.
+ * 
+ * @param <T> bean type
+ */
+public interface PropertyValidator<T> {
+
+    /**
+     * Get the bean type this {@link PropertyValidator} is bound to.
+     * 
+     * @return Class
+     */
+    Class<T> getBeanType();
+
+    /**
+     * Get the name of the property this {@link PropertyValidator} is bound to.
+     * 
+     * @return String
+     */
+    String getPropertyName();
+
+    /**
+     * Validates the bound property as it would be if its value were <code>value</code>.
+     * Equivalent to {@link javax.validation.Validator#validateValue(Class, String, Object, Class...)}.
+     * 
+     * @param value
+     * @return the resulting {@link Set} of {@link ConstraintViolation}s.
+     */
+    Set<ConstraintViolation<T>> validateValue(Object value);
+
+    /**
+     * Validates the bound property of <code>object</code>.
+     * Equivalent to {@link javax.validation.Validator#validateProperty(Object, String, Class...)}.
+     * 
+     * @param object
+     * @return the resulting {@link Set} of {@link ConstraintViolation}s.
+     */
+    Set<ConstraintViolation<T>> validateProperty(T object);
+}
@@ -19,6 +19,8 @@
 package org.apache.bval.jsr.groups;
 
 import javax.validation.GroupDefinitionException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -30,10 +32,35 @@ import java.util.List;
  */
 public class Groups {
     /** The list of single groups. */
-    final List<Group> groups = new LinkedList<Group>();
+    final List<Group> groups;
 
     /** The list of sequences. */
-    final List<List<Group>> sequences = new LinkedList<List<Group>>();
+    final List<List<Group>> sequences;
+
+    /**
+     * Create a new, empty Groups instance.
+     */
+    public Groups() {
+        groups = new LinkedList<Group>();
+        sequences = new LinkedList<List<Group>>();
+    }
+
+    private Groups(final Groups source) {
+        groups = Collections.unmodifiableList(new ArrayList<Group>(source.groups));
+        final List<List<Group>> frozenSequences = new ArrayList<List<Group>>(source.sequences.size());
+        for (final List<Group> sequence : source.sequences) {
+            frozenSequences.add(Collections.unmodifiableList(new ArrayList<Group>(sequence)));
+        }
+        sequences = Collections.unmodifiableList(frozenSequences);
+    }
+
+    /**
+     * Get an unmodifiable copy of this {@link Groups}, which can be shared among validations.
+     * @return {@link Groups}
+     */
+    Groups immutable() {
+        return new Groups(this);
+    }
 
     /**
      * Get the Groups.
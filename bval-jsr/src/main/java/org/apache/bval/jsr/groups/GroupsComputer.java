@@ -30,11 +30,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Description: compute group order, based on the RI behavior as to guarantee
  * compatibility with interpretations of the spec.<br/>
- * Implementation is thread-safe.
+ * Implementation is thread-safe; the {@link Groups} computed from group arrays are immutable and cached.
  */
 public class GroupsComputer {
     public static final Class<?>[] DEFAULT_GROUP = new Class<?>[] { Default.class };
@@ -42,12 +43,18 @@ public class GroupsComputer {
     /** The default group array used in case any of the validate methods is called without a group. */
     private static final Groups DEFAULT_GROUPS;
     static {
-        DEFAULT_GROUPS = new GroupsComputer().computeGroups(Arrays.asList(DEFAULT_GROUP));
+        DEFAULT_GROUPS = new GroupsComputer().computeGroups(Arrays.asList(DEFAULT_GROUP)).immutable();
     }
 
     /** caching resolved groups in a thread-safe map. */
     private final Map<Class<?>, List<Group>> resolvedSequences = new ConcurrentHashMap<Class<?>, List<Group>>();
 
+    /**
+     * caching computed {@link Groups}, keyed by the group class for a single group and by the {@link List} of group
+     * classes otherwise.
+     */
+    private final ConcurrentMap<Object, Groups> computedGroups = new ConcurrentHashMap<Object, Groups>();
+
     /**
      * Compute groups from an array of group classes.
      * @param groups
@@ -63,7 +70,21 @@ public class GroupsComputer {
             return DEFAULT_GROUPS;
         }
 
-        return computeGroups(Arrays.asList(groups));
+        final Object key = groups.length == 1 ? groups[0] : Arrays.asList(groups);
+        if (key == null) {
+            throw new IllegalArgumentException("At least one group has to be specified.");
+        }
+        Groups result = computedGroups.get(key);
+        if (result == null) {
+            result = computeGroups(Arrays.asList(groups)).immutable();
+            // copy the caller's array as the key
+            final Groups existing = computedGroups
+                .putIfAbsent(groups.length == 1 ? key : Arrays.asList(groups.clone()), result);
+            if (existing != null) {
+                result = existing;
+            }
+        }
+        return result;
     }
 
     /**
@@ -22,11 +22,22 @@ import javax.validation.ParameterNameProvider;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public class DefaultParameterNameProvider implements ParameterNameProvider {
     private static final String ARG = "arg";
 
+    // name lists only depend on the parameter count, share them for the common arities
+    private static final List<List<String>> NAMES;
+    static {
+        final List<List<String>> names = new ArrayList<List<String>>();
+        for (int length = 0; length < 16; length++) {
+            names.add(Collections.unmodifiableList(newNames(length)));
+        }
+        NAMES = Collections.unmodifiableList(names);
+    }
+
     @Override
     public List<String> getParameterNames(Constructor<?> constructor) {
         return names(constructor.getParameterTypes().length);
@@ -38,7 +49,11 @@ public class DefaultParameterNameProvider implements ParameterNameProvider {
     }
 
     private static List<String> names(final int length) {
-        final List<String> list = new ArrayList<String>();
+        return length < NAMES.size() ? NAMES.get(length) : Collections.unmodifiableList(newNames(length));
+    }
+
+    private static List<String> newNames(final int length) {
+        final List<String> list = new ArrayList<String>(length);
         for (int i = 0; i < length; i++) {
             list.add(ARG + i);
         }
@@ -18,35 +18,101 @@
  */
 package org.apache.bval.jsr.util;
 
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
+/**
+ * Proxy class detection based on common naming and marker interface conventions.
+ *
+ * @see ProxyResolver for a cached, {@link ProxyDetector} aware alternative
+ */
 public final class Proxies {
     private static final Set<String> KNOWN_PROXY_CLASSNAMES;
 
     static {
         final Set<String> s = new HashSet<String>();
         s.add("org.jboss.weld.bean.proxy.ProxyObject");
+        s.add("org.jboss.weld.interceptor.proxy.LifecycleMixin");
+        s.add("org.apache.webbeans.proxy.OwbNormalScopeProxy");
+        s.add("org.apache.webbeans.proxy.OwbInterceptorProxy");
+        s.add("javassist.util.proxy.ProxyObject");
+        s.add("javassist.util.proxy.Proxy");
+        s.add("net.sf.cglib.proxy.Factory");
+        s.add("org.springframework.cglib.proxy.Factory");
+        s.add("org.springframework.aop.SpringProxy");
+        s.add("org.hibernate.proxy.HibernateProxy");
         KNOWN_PROXY_CLASSNAMES = Collections.unmodifiableSet(s);
     }
 
-    // get rid of proxies which probably contains wrong annotation metamodel
-    public static <T> Class<?> classFor(final Class<?> clazz) { // TODO: do we want a SPI with impl for guice, owb, openejb, ...?
-        if (isProxyClass(clazz)) {
-            final Class<?> parent = clazz.getSuperclass();
-            if (parent != null) {
-                return classFor(clazz.getSuperclass());
+    /**
+     * Recognizes classes implementing the marker interface of a known proxying framework.
+     */
+    static final ProxyDetector MARKER_INTERFACES = new ProxyDetector() {
+        @Override
+        public boolean isProxy(final Class<?> clazz) {
+            if (KNOWN_PROXY_CLASSNAMES.contains(clazz.getName())) {
+                return true;
+            }
+            for (final Class<?> itf : clazz.getInterfaces()) {
+                if (KNOWN_PROXY_CLASSNAMES.contains(itf.getName())) {
+                    return true;
+                }
             }
+            return false;
         }
-        return clazz;
+    };
+
+    /**
+     * Recognizes classes named after the usual proxy conventions.
+     */
+    static final ProxyDetector NAMING_CONVENTIONS = new ProxyDetector() {
+        @Override
+        public boolean isProxy(final Class<?> clazz) {
+            final String name = clazz.getName();
+            // a lot of proxies use $$ to avoid conflicts with inner/anonymous classes
+            return clazz.getSimpleName().contains("$$") || name.contains("$ByteBuddy$")
+                || name.contains("$HibernateProxy$");
+        }
+    };
+
+    static final List<ProxyDetector> DETECTORS =
+        Collections.unmodifiableList(Arrays.asList(MARKER_INTERFACES, NAMING_CONVENTIONS));
+
+    // get rid of proxies which probably contains wrong annotation metamodel
+    public static <T> Class<?> classFor(final Class<?> clazz) {
+        return classFor(clazz, DETECTORS);
+    }
+
+    /**
+     * Walk up the superclasses of a detected proxy class. JDK dynamic proxies are never unwrapped, as their
+     * superclass is {@link Proxy} whatever they proxy, and neither {@link Proxy} nor {@link Object} is ever
+     * returned for a proxy class, as either would drop every constraint of the proxied bean.
+     */
+    static Class<?> classFor(final Class<?> clazz, final List<ProxyDetector> detectors) {
+        Class<?> current = clazz;
+        while (isUnwrappable(current) && isProxyClass(current, detectors)) {
+            current = current.getSuperclass();
+        }
+        return current;
     }
 
-    private static boolean isProxyClass(Class<?> clazz) {
-        if (KNOWN_PROXY_CLASSNAMES.contains(clazz.getName())) {
-            return true;
+    private static boolean isUnwrappable(final Class<?> clazz) {
+        final Class<?> superclass = clazz.getSuperclass();
+        return superclass != null && superclass != Object.class && superclass != Proxy.class
+            && !Proxy.isProxyClass(clazz);
+    }
+
+    private static boolean isProxyClass(final Class<?> clazz, final List<ProxyDetector> detectors) {
+        for (final ProxyDetector detector : detectors) {
+            if (detector.isProxy(clazz)) {
+                return true;
+            }
         }
-        return clazz.getSimpleName().contains("$$");// a lot of proxies use this convention to avoid conflicts with inner/anonymous classes
+        return false;
     }
 
     private Proxies() {
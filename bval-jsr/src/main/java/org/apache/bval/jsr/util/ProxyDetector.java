@@ -0,0 +1,35 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.jsr.util;
+
+/**
+ * SPI to recognize the classes generated by proxying frameworks (CDI containers, AOP, ORM enhancers...), whose
+ * constraint metadata is that of their superclass. Implementations are discovered through
+ * {@link java.util.ServiceLoader} as {@code META-INF/services/org.apache.bval.jsr.util.ProxyDetector} entries, in
+ * addition to the detectors of {@link Proxies}.
+ */
+public interface ProxyDetector {
+    /**
+     * Learn whether {@code clazz} is a proxy class, to be validated as its superclass.
+     *
+     * @param clazz
+     * @return boolean
+     */
+    boolean isProxy(Class<?> clazz);
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.jsr.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Resolves the class to validate instances of a (possibly proxy) class as, using the built-in detectors of
+ * {@link Proxies} and the {@link ProxyDetector}s registered for {@link ServiceLoader}. Results are cached per class,
+ * so instances are meant to live as long as the classes they see, e.g. one per validator factory.
+ */
+public class ProxyResolver {
+    private static final Logger log = Logger.getLogger(ProxyResolver.class.getName());
+
+    private final List<ProxyDetector> detectors;
+    private final ConcurrentMap<Class<?>, Class<?>> unproxiedClasses = new ConcurrentHashMap<Class<?>, Class<?>>();
+
+    /**
+     * Create a new ProxyResolver instance.
+     *
+     * @param loader used to discover additional {@link ProxyDetector}s
+     */
+    public ProxyResolver(final ClassLoader loader) {
+        final List<ProxyDetector> all = new ArrayList<ProxyDetector>(Proxies.DETECTORS);
+        try {
+            for (final ProxyDetector detector : ServiceLoader.load(ProxyDetector.class, loader)) {
+                all.add(detector);
+            }
+        } catch (final ServiceConfigurationError e) {
+            log.log(Level.WARNING, "Unable to load " + ProxyDetector.class.getName() + " services", e);
+        }
+        detectors = Collections.unmodifiableList(all);
+    }
+
+    /**
+     * Get the class to validate instances of {@code clazz} as.
+     *
+     * @param clazz
+     * @return {@code clazz} or its first non proxy superclass
+     */
+    public Class<?> classFor(final Class<?> clazz) {
+        Class<?> result = unproxiedClasses.get(clazz);
+        if (result == null) {
+            result = Proxies.classFor(clazz, detectors);
+            final Class<?> existing = unproxiedClasses.putIfAbsent(clazz, result);
+            if (existing != null) {
+                result = existing;
+            }
+        }
+        return result;
+    }
+}
@@ -20,14 +20,16 @@ package org.apache.bval.jsr.xml;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Member;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * Description: This class instantiated during the parsing of the XML configuration
- * data and keeps track of the annotations which should be ignored.<br/>
+ * data and keeps track of the annotations which should be ignored. Safe for
+ * concurrent use, as bean mappings may be applied lazily while other classes are read.<br/>
  */
 public final class AnnotationIgnores {
 
@@ -38,7 +40,7 @@ public final class AnnotationIgnores {
      * xml configuration. 
      * If 'ignore-annotations' is not specified: default = true
      */
-    private final Map<Class<?>, Boolean> ignoreAnnotationDefaults = new HashMap<Class<?>, Boolean>();
+    private final Map<Class<?>, Boolean> ignoreAnnotationDefaults = new ConcurrentHashMap<Class<?>, Boolean>();
 
     /**
      * Keeps track of explicitly excluded members (fields and properties) for a given class.
@@ -47,15 +49,15 @@ public final class AnnotationIgnores {
      * <code>true</code> in the configuration
      * for this class.
      */
-    private final Map<Class<?>, Map<Member, Boolean>> ignoreAnnotationOnMember =
-        new HashMap<Class<?>, Map<Member, Boolean>>();
+    private final ConcurrentMap<Class<?>, Map<Member, Boolean>> ignoreAnnotationOnMember =
+        new ConcurrentHashMap<Class<?>, Map<Member, Boolean>>();
 
-    private final Map<Class<?>, Boolean> ignoreAnnotationOnClass = new HashMap<Class<?>, Boolean>();
+    private final Map<Class<?>, Boolean> ignoreAnnotationOnClass = new ConcurrentHashMap<Class<?>, Boolean>();
 
-    private final Map<Class<?>, Map<Member, Map<Integer, Boolean>>> ignoreAnnotationOnParameter =
-        new HashMap<Class<?>, Map<Member, Map<Integer, Boolean>>>();
-    private final Map<Member, Boolean> ignoreAnnotationOnReturn = new HashMap<Member, Boolean>();
-    private final Map<Member, Boolean> ignoreAnnotationOnCrossParameter = new HashMap<Member, Boolean>();
+    private final ConcurrentMap<Class<?>, ConcurrentMap<Member, Map<Integer, Boolean>>> ignoreAnnotationOnParameter =
+        new ConcurrentHashMap<Class<?>, ConcurrentMap<Member, Map<Integer, Boolean>>>();
+    private final Map<Member, Boolean> ignoreAnnotationOnReturn = new ConcurrentHashMap<Member, Boolean>();
+    private final Map<Member, Boolean> ignoreAnnotationOnCrossParameter = new ConcurrentHashMap<Member, Boolean>();
 
     /**
      * Record the ignore state for a particular annotation type.
@@ -72,7 +74,8 @@ public final class AnnotationIgnores {
      * @return boolean
      */
     public boolean getDefaultIgnoreAnnotation(Class<?> clazz) {
-        return ignoreAnnotationDefaults.containsKey(clazz) && ignoreAnnotationDefaults.get(clazz);
+        final Boolean value = ignoreAnnotationDefaults.get(clazz);
+        return value != null && value.booleanValue();
     }
 
     /**
@@ -83,8 +86,11 @@ public final class AnnotationIgnores {
         Class<?> beanClass = member.getDeclaringClass();
         Map<Member, Boolean> memberList = ignoreAnnotationOnMember.get(beanClass);
         if (memberList == null) {
-            memberList = new HashMap<Member, Boolean>();
-            ignoreAnnotationOnMember.put(beanClass, memberList);
+            memberList = new ConcurrentHashMap<Member, Boolean>();
+            final Map<Member, Boolean> old = ignoreAnnotationOnMember.putIfAbsent(beanClass, memberList);
+            if (old != null) {
+                memberList = old;
+            }
         }
         memberList.put(member, value);
     }
@@ -114,15 +120,22 @@ public final class AnnotationIgnores {
 
     public void setIgnoreAnnotationsOnParameter(final Member method, final int i, final boolean value) {
         final Class<?> beanClass = method.getDeclaringClass();
-        Map<Member, Map<Integer, Boolean>> memberList = ignoreAnnotationOnParameter.get(beanClass);
+        ConcurrentMap<Member, Map<Integer, Boolean>> memberList = ignoreAnnotationOnParameter.get(beanClass);
         if (memberList == null) {
-            memberList = new HashMap<Member, Map<Integer, Boolean>>();
-            ignoreAnnotationOnParameter.put(beanClass, memberList);
+            memberList = new ConcurrentHashMap<Member, Map<Integer, Boolean>>();
+            final ConcurrentMap<Member, Map<Integer, Boolean>> old =
+                ignoreAnnotationOnParameter.putIfAbsent(beanClass, memberList);
+            if (old != null) {
+                memberList = old;
+            }
         }
         Map<Integer, Boolean> indexes = memberList.get(method);
         if (indexes == null) {
-            indexes = new HashMap<Integer, Boolean>();
-            memberList.put(method, indexes);
+            indexes = new ConcurrentHashMap<Integer, Boolean>();
+            final Map<Integer, Boolean> old = memberList.putIfAbsent(method, indexes);
+            if (old != null) {
+                indexes = old;
+            }
         }
         indexes.put(i, value);
     }
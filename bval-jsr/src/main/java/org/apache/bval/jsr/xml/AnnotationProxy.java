@@ -21,6 +21,9 @@ import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.SortedSet;
@@ -31,6 +34,8 @@ import java.util.TreeSet;
  * InvocationHandler implementation of <code>Annotation</code> that pretends it
  * is a "real" source code annotation.
  * <p/>
+ * Element values are resolved once at construction; element accessors as well as
+ * {@link Annotation}'s own methods are answered without reflective dispatch.
  */
 class AnnotationProxy implements Annotation, InvocationHandler, Serializable {
 
@@ -39,6 +44,8 @@ class AnnotationProxy implements Annotation, InvocationHandler, Serializable {
 
     private final Class<? extends Annotation> annotationType;
     private final Map<String, Object> values;
+    private transient volatile int hashCode;
+    private transient volatile String toString;
 
     /**
      * Create a new AnnotationProxy instance.
@@ -48,7 +55,7 @@ class AnnotationProxy implements Annotation, InvocationHandler, Serializable {
      */
     public <A extends Annotation> AnnotationProxy(AnnotationProxyBuilder<A> descriptor) {
         this.annotationType = descriptor.getType();
-        values = getAnnotationValues(descriptor);
+        values = Collections.unmodifiableMap(getAnnotationValues(descriptor));
     }
 
     private <A extends Annotation> Map<String, Object> getAnnotationValues(AnnotationProxyBuilder<A> descriptor) {
@@ -70,13 +77,37 @@ class AnnotationProxy implements Annotation, InvocationHandler, Serializable {
         return result;
     }
 
+    /**
+     * Get the resolved element values of this annotation.
+     * 
+     * @return unmodifiable {@link Map} of element name to value
+     */
+    Map<String, Object> getValues() {
+        return values;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-        if (values.containsKey(method.getName())) {
-            return values.get(method.getName());
+        final String name = method.getName();
+        final Object value = values.get(name);
+        if (value != null) {
+            return value;
+        }
+        if (args == null || args.length == 0) {
+            if ("annotationType".equals(name)) {
+                return annotationType;
+            }
+            if ("hashCode".equals(name)) {
+                return hashCode();
+            }
+            if ("toString".equals(name)) {
+                return toString();
+            }
+        } else if (args.length == 1 && "equals".equals(name)) {
+            return proxy == args[0] || equals(args[0]);
         }
         return method.invoke(this, args);
     }
@@ -89,22 +120,73 @@ class AnnotationProxy implements Annotation, InvocationHandler, Serializable {
         return annotationType;
     }
 
+    /**
+     * Implements the {@link Annotation#equals(Object)} contract against any
+     * annotation of the same type.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!annotationType.isInstance(obj)) {
+            return false;
+        }
+        final Map<String, Object> otherValues = AnnotationProxyBuilder.getProxiedValues((Annotation) obj);
+        for (Map.Entry<String, Object> e : values.entrySet()) {
+            final Object other;
+            if (otherValues == null) {
+                try {
+                    other = annotationType.getMethod(e.getKey()).invoke(obj);
+                } catch (Exception ex) {
+                    return false;
+                }
+            } else {
+                other = otherValues.get(e.getKey());
+            }
+            if (!valueEquals(e.getValue(), other)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Implements the {@link Annotation#hashCode()} contract; computed once.
+     */
+    @Override
+    public int hashCode() {
+        int result = hashCode;
+        if (result == 0) {
+            for (Map.Entry<String, Object> e : values.entrySet()) {
+                result += (127 * e.getKey().hashCode()) ^ valueHashCode(e.getValue());
+            }
+            hashCode = result;
+        }
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public String toString() {
-        StringBuilder result = new StringBuilder();
-        result.append('@').append(annotationType().getName()).append('(');
-        boolean comma = false;
-        for (String m : getMethodsSorted()) {
-            if (comma)
-                result.append(", ");
-            result.append(m).append('=').append(values.get(m));
-            comma = true;
-        }
-        result.append(")");
-        return result.toString();
+        String result = toString;
+        if (result == null) {
+            final StringBuilder buf = new StringBuilder();
+            buf.append('@').append(annotationType().getName()).append('(');
+            boolean comma = false;
+            for (String m : getMethodsSorted()) {
+                if (comma)
+                    buf.append(", ");
+                buf.append(m).append('=').append(values.get(m));
+                comma = true;
+            }
+            buf.append(")");
+            result = buf.toString();
+            toString = result;
+        }
+        return result;
     }
 
     private SortedSet<String> getMethodsSorted() {
@@ -112,4 +194,69 @@ class AnnotationProxy implements Annotation, InvocationHandler, Serializable {
         result.addAll(values.keySet());
         return result;
     }
+
+    private static boolean valueEquals(Object value, Object other) {
+        if (value == null || other == null || !value.getClass().isArray()) {
+            return value == null ? other == null : value.equals(other);
+        }
+        if (value.getClass() != other.getClass()) {
+            return false;
+        }
+        if (value instanceof Object[]) {
+            return Arrays.equals((Object[]) value, (Object[]) other);
+        }
+        if (value instanceof int[]) {
+            return Arrays.equals((int[]) value, (int[]) other);
+        }
+        if (value instanceof long[]) {
+            return Arrays.equals((long[]) value, (long[]) other);
+        }
+        if (value instanceof boolean[]) {
+            return Arrays.equals((boolean[]) value, (boolean[]) other);
+        }
+        if (value instanceof double[]) {
+            return Arrays.equals((double[]) value, (double[]) other);
+        }
+        if (value instanceof float[]) {
+            return Arrays.equals((float[]) value, (float[]) other);
+        }
+        if (value instanceof char[]) {
+            return Arrays.equals((char[]) value, (char[]) other);
+        }
+        if (value instanceof short[]) {
+            return Arrays.equals((short[]) value, (short[]) other);
+        }
+        return Arrays.equals((byte[]) value, (byte[]) other);
+    }
+
+    private static int valueHashCode(Object value) {
+        if (value == null || !value.getClass().isArray()) {
+            return value == null ? 0 : value.hashCode();
+        }
+        if (value instanceof Object[]) {
+            return Arrays.hashCode((Object[]) value);
+        }
+        if (value instanceof int[]) {
+            return Arrays.hashCode((int[]) value);
+        }
+        if (value instanceof long[]) {
+            return Arrays.hashCode((long[]) value);
+        }
+        if (value instanceof boolean[]) {
+            return Arrays.hashCode((boolean[]) value);
+        }
+        if (value instanceof double[]) {
+            return Arrays.hashCode((double[]) value);
+        }
+        if (value instanceof float[]) {
+            return Arrays.hashCode((float[]) value);
+        }
+        if (value instanceof char[]) {
+            return Arrays.hashCode((char[]) value);
+        }
+        if (value instanceof short[]) {
+            return Arrays.hashCode((short[]) value);
+        }
+        return Arrays.hashCode((byte[]) value);
+    }
 }
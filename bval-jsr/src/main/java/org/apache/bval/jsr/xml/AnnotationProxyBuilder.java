@@ -76,6 +76,24 @@ public final class AnnotationProxyBuilder<A extends Annotation> {
         return Reflection.getDeclaredMethods(annotationType);
     }
 
+    /**
+     * Get the element values of an annotation created by an
+     * {@link AnnotationProxyBuilder}, as resolved when it was created.
+     * 
+     * @param annotation
+     * @return unmodifiable {@link Map} of element name to value, or <code>null</code>
+     *         if <code>annotation</code> was not created by this class
+     */
+    public static Map<String, Object> getProxiedValues(final Annotation annotation) {
+        if (annotation instanceof Proxy) {
+            final InvocationHandler handler = Proxy.getInvocationHandler(annotation);
+            if (handler instanceof AnnotationProxy) {
+                return ((AnnotationProxy) handler).getValues();
+            }
+        }
+        return null;
+    }
+
     /**
      * Create a new AnnotationProxyBuilder instance.
      *
@@ -98,6 +116,11 @@ public final class AnnotationProxyBuilder<A extends Annotation> {
     @SuppressWarnings("unchecked")
     public AnnotationProxyBuilder(A annot) {
         this((Class<A>) annot.annotationType());
+        final Map<String, Object> proxied = getProxiedValues(annot);
+        if (proxied != null) {
+            elements.putAll(proxied);
+            return;
+        }
         // Obtain the "elements" of the annotation
         for (Method m : methods) {
             final boolean mustUnset = Reflection.setAccessible(m, true);
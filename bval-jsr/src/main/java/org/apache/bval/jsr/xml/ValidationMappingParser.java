@@ -19,6 +19,7 @@ package org.apache.bval.jsr.xml;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Serializable;
+import java.io.StringWriter;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
@@ -32,18 +33,19 @@ import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.validation.Constraint;
 import javax.validation.ConstraintValidator;
 import javax.validation.Payload;
 import javax.validation.ValidationException;
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Unmarshaller;
-import javax.xml.transform.stream.StreamSource;
-import javax.xml.validation.Schema;
+import javax.xml.bind.Marshaller;
+import javax.xml.namespace.QName;
 
 import org.apache.bval.jsr.ApacheValidatorFactory;
 import org.apache.bval.jsr.ConstraintAnnotationAttributes;
@@ -68,12 +70,58 @@ public class ValidationMappingParser {
         .unmodifiableSet(EnumSet.of(ConstraintAnnotationAttributes.GROUPS, ConstraintAnnotationAttributes.MESSAGE,
             ConstraintAnnotationAttributes.PAYLOAD, ConstraintAnnotationAttributes.VALIDATION_APPLIES_TO));
 
-    private final Set<Class<?>> processedClasses;
+    private final ConcurrentMap<String, BeanMapping> beanMappings;
+    private final ConcurrentMap<String, BeanMapping> pendingBeans;
     private final ApacheValidatorFactory factory;
+    private final XmlMappings mappings;
 
+    /**
+     * A parsed bean mapping, kept by class name so that it can be processed lazily and compared on reload.
+     */
+    private static class BeanMapping {
+        final BeanType bean;
+        final String defaultPackage;
+        private volatile String signature;
+
+        BeanMapping(BeanType bean, String defaultPackage) {
+            this.bean = bean;
+            this.defaultPackage = defaultPackage;
+        }
+
+        /**
+         * @return the marshalled form of the mapping, equal for equivalent mappings
+         */
+        String getSignature() {
+            if (signature == null) {
+                final StringWriter writer = new StringWriter();
+                try {
+                    final Marshaller marshaller =
+                        ValidationParser.getJAXBContext(ConstraintMappingsType.class).createMarshaller();
+                    marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
+                    marshaller.marshal(new JAXBElement<BeanType>(new QName("bean"), BeanType.class, bean), writer);
+                } catch (final JAXBException e) {
+                    throw new ValidationException("Unable to compare XML mapping of " + bean.getClazz(), e);
+                }
+                signature = defaultPackage + ':' + writer;
+            }
+            return signature;
+        }
+    }
+
+    /**
+     * Create a parser registering the bean mappings in the current {@link XmlMappings} of {@code factory}.
+     *
+     * @param factory
+     */
     public ValidationMappingParser(ApacheValidatorFactory factory) {
+        this(factory, factory.getXmlMappings());
+    }
+
+    ValidationMappingParser(ApacheValidatorFactory factory, XmlMappings mappings) {
         this.factory = factory;
-        this.processedClasses = new HashSet<Class<?>>();
+        this.mappings = mappings;
+        this.beanMappings = new ConcurrentHashMap<String, BeanMapping>();
+        this.pendingBeans = new ConcurrentHashMap<String, BeanMapping>();
     }
 
     /**
@@ -82,43 +130,108 @@ public class ValidationMappingParser {
      * @param xmlStreams - one or more contraints.xml file streams to parse
      */
     public void processMappingConfig(Set<InputStream> xmlStreams) throws ValidationException {
+        processMappingConfig(xmlStreams, false, true);
+    }
+
+    /**
+     * Parse files with constraint mappings and collect information in the factory.
+     * Constraint definitions are always processed immediately.
+     *
+     * @param xmlStreams - one or more contraints.xml file streams to parse
+     * @param lazy - whether to only index the bean mappings by class name and defer loading the classes
+     *            and registering their constraints until {@link #applyPendingMapping(Class)}
+     * @param constraintDefinitions - whether to register the constraint definitions, which cannot be replaced
+     *            once registered
+     */
+    public void processMappingConfig(Set<InputStream> xmlStreams, boolean lazy, boolean constraintDefinitions)
+        throws ValidationException {
         for (final InputStream xmlStream : xmlStreams) {
             ConstraintMappingsType mapping = parseXmlMappings(xmlStream);
 
             final String defaultPackage = mapping.getDefaultPackage();
-            processConstraintDefinitions(mapping.getConstraintDefinition(), defaultPackage);
+            if (constraintDefinitions) {
+                processConstraintDefinitions(mapping.getConstraintDefinition(), defaultPackage);
+            }
             for (final BeanType bean : mapping.getBean()) {
-                Class<?> beanClass = loadClass(bean.getClazz(), defaultPackage);
-                if (!processedClasses.add(beanClass)) {
+                final String className = toQualifiedClassName(bean.getClazz(), defaultPackage);
+                final BeanMapping beanMapping = new BeanMapping(bean, defaultPackage);
+                if (beanMappings.putIfAbsent(className, beanMapping) != null) {
                     // spec: A given class must not be described more than once amongst all
                     //  the XML mapping descriptors.
-                    throw new ValidationException(beanClass.getName() + " has already be configured in xml.");
+                    throw new ValidationException(className + " has already be configured in xml.");
                 }
+                if (lazy) {
+                    pendingBeans.put(className, beanMapping);
+                } else {
+                    processBean(bean, loadClass(className), defaultPackage);
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the names of the classes whose bean mapping was added, removed or changed compared to {@code previous}.
+     *
+     * @param previous
+     * @return Set of class names
+     */
+    Set<String> getChangedClassNames(ValidationMappingParser previous) {
+        final Set<String> result = new HashSet<String>();
+        for (final Map.Entry<String, BeanMapping> entry : beanMappings.entrySet()) {
+            final BeanMapping old = previous.beanMappings.get(entry.getKey());
+            if (old == null || !old.getSignature().equals(entry.getValue().getSignature())) {
+                result.add(entry.getKey());
+            }
+        }
+        for (final String className : previous.beanMappings.keySet()) {
+            if (!beanMappings.containsKey(className)) {
+                result.add(className);
+            }
+        }
+        return result;
+    }
 
-                boolean ignoreAnnotations = bean.getIgnoreAnnotations() == null ? true : bean.getIgnoreAnnotations();
-                factory.getAnnotationIgnores().setDefaultIgnoreAnnotation(beanClass, ignoreAnnotations);
-                processClassLevel(bean.getClassType(), beanClass, defaultPackage);
-                processConstructorLevel(bean.getConstructor(), beanClass, defaultPackage, ignoreAnnotations);
-                processFieldLevel(bean.getField(), beanClass, defaultPackage, ignoreAnnotations);
-                final Collection<String> potentialMethodName =
-                    processPropertyLevel(bean.getGetter(), beanClass, defaultPackage, ignoreAnnotations);
-                processMethodLevel(bean.getMethod(), beanClass, defaultPackage, ignoreAnnotations, potentialMethodName);
-                processedClasses.add(beanClass);
+    /**
+     * Process the mapping of {@code beanClass} if it was deferred by
+     * {@link #processMappingConfig(Set, boolean, boolean)}.
+     * Concurrent callers for the same class wait until the mapping has been fully applied.
+     *
+     * @param beanClass
+     */
+    public void applyPendingMapping(Class<?> beanClass) {
+        if (pendingBeans.isEmpty() || !pendingBeans.containsKey(beanClass.getName())) {
+            return;
+        }
+        synchronized (pendingBeans) {
+            final BeanMapping pending = pendingBeans.get(beanClass.getName());
+            if (pending != null) {
+                try {
+                    processBean(pending.bean, beanClass, pending.defaultPackage);
+                } finally {
+                    // removed only now so that unlocked callers cannot skip a mapping still in progress
+                    pendingBeans.remove(beanClass.getName());
+                }
             }
         }
     }
 
+    private void processBean(BeanType bean, Class<?> beanClass, String defaultPackage) {
+        boolean ignoreAnnotations = bean.getIgnoreAnnotations() == null ? true : bean.getIgnoreAnnotations();
+        mappings.getAnnotationIgnores().setDefaultIgnoreAnnotation(beanClass, ignoreAnnotations);
+        processClassLevel(bean.getClassType(), beanClass, defaultPackage);
+        processConstructorLevel(bean.getConstructor(), beanClass, defaultPackage, ignoreAnnotations);
+        processFieldLevel(bean.getField(), beanClass, defaultPackage, ignoreAnnotations);
+        final Collection<String> potentialMethodName =
+            processPropertyLevel(bean.getGetter(), beanClass, defaultPackage, ignoreAnnotations);
+        processMethodLevel(bean.getMethod(), beanClass, defaultPackage, ignoreAnnotations, potentialMethodName);
+    }
+
     /** @param in XML stream to parse using the validation-mapping-1.0.xsd */
     private ConstraintMappingsType parseXmlMappings(final InputStream in) {
         ConstraintMappingsType mappings;
         try {
-            final JAXBContext jc = JAXBContext.newInstance(ConstraintMappingsType.class);
-            final Unmarshaller unmarshaller = jc.createUnmarshaller();
-            unmarshaller.setSchema(getSchema());
-            final StreamSource stream = new StreamSource(in);
-            final JAXBElement<ConstraintMappingsType> root =
-                unmarshaller.unmarshal(stream, ConstraintMappingsType.class);
-            mappings = root.getValue();
+            mappings = ValidationParser.unmarshal(in, ConstraintMappingsType.class, VALIDATION_MAPPING_XSD,
+                !ValidationParser.isSkipSchemaValidation(factory.getProperties()));
         } catch (final JAXBException e) {
             throw new ValidationException("Failed to parse XML deployment descriptor file.", e);
         } finally {
@@ -132,11 +245,6 @@ public class ValidationMappingParser {
         return mappings;
     }
 
-    /** @return validation-mapping-1.0.xsd based schema */
-    private Schema getSchema() {
-        return ValidationParser.getSchema(VALIDATION_MAPPING_XSD);
-    }
-
     private void processClassLevel(ClassType classType, Class<?> beanClass, String defaultPackage) {
         if (classType == null) {
             return;
@@ -144,19 +252,19 @@ public class ValidationMappingParser {
 
         // ignore annotation
         if (classType.getIgnoreAnnotations() != null) {
-            factory.getAnnotationIgnores().setIgnoreAnnotationsOnClass(beanClass, classType.getIgnoreAnnotations());
+            mappings.getAnnotationIgnores().setIgnoreAnnotationsOnClass(beanClass, classType.getIgnoreAnnotations());
         }
 
         // group sequence
         Class<?>[] groupSequence = createGroupSequence(classType.getGroupSequence(), defaultPackage);
         if (groupSequence != null) {
-            factory.addDefaultSequence(beanClass, groupSequence);
+            mappings.addDefaultSequence(beanClass, groupSequence);
         }
 
         // constraints
         for (ConstraintType constraint : classType.getConstraint()) {
             MetaConstraint<?, ?> metaConstraint = createConstraint(constraint, beanClass, null, defaultPackage);
-            factory.addMetaConstraint(beanClass, metaConstraint);
+            mappings.addMetaConstraint(beanClass, metaConstraint);
         }
     }
 
@@ -203,30 +311,34 @@ public class ValidationMappingParser {
     }
 
     private Object getElementValue(ElementType elementType, Class<?> returnType, String defaultPackage) {
-        removeEmptyContentElements(elementType);
+        final List<Serializable> content = getNonEmptyContent(elementType);
 
         boolean isArray = returnType.isArray();
         if (!isArray) {
-            if (elementType.getContent().size() != 1) {
+            if (content.size() != 1) {
                 throw new ValidationException("Attempt to specify an array where single value is expected.");
             }
-            return getSingleValue(elementType.getContent().get(0), returnType, defaultPackage);
+            return getSingleValue(content.get(0), returnType, defaultPackage);
         }
         List<Object> values = new ArrayList<Object>();
-        for (Serializable s : elementType.getContent()) {
+        for (Serializable s : content) {
             values.add(getSingleValue(s, returnType.getComponentType(), defaultPackage));
         }
         return values.toArray((Object[]) Array.newInstance(returnType.getComponentType(), values.size()));
     }
 
-    private void removeEmptyContentElements(ElementType elementType) {
-        List<Serializable> contentToDelete = new ArrayList<Serializable>();
-        for (Serializable content : elementType.getContent()) {
-            if (content instanceof String && ((String) content).matches("[\\n ].*")) {
-                contentToDelete.add(content);
+    /**
+     * Get the content of {@code elementType} without whitespace-only text. The parsed document is left untouched
+     * so that it can be processed again or compared after a reload.
+     */
+    private List<Serializable> getNonEmptyContent(ElementType elementType) {
+        final List<Serializable> content = new ArrayList<Serializable>(elementType.getContent().size());
+        for (Serializable each : elementType.getContent()) {
+            if (!(each instanceof String && ((String) each).matches("[\\n ].*"))) {
+                content.add(each);
             }
         }
-        elementType.getContent().removeAll(contentToDelete);
+        return content;
     }
 
     @SuppressWarnings("unchecked")
@@ -385,7 +497,7 @@ public class ValidationMappingParser {
             // ignore annotations
             final boolean ignoreMethodAnnotation =
                 methodType.getIgnoreAnnotations() == null ? parentIgnoreAnn : methodType.getIgnoreAnnotations();
-            factory.getAnnotationIgnores().setIgnoreAnnotationsOnMember(method, ignoreMethodAnnotation);
+            mappings.getAnnotationIgnores().setIgnoreAnnotationsOnMember(method, ignoreMethodAnnotation);
 
             final boolean ignoreAnn;
             if (methodType.getIgnoreAnnotations() == null) {
@@ -401,13 +513,13 @@ public class ValidationMappingParser {
                     final MetaConstraint<?, ?> constraint =
                         createConstraint(constraintType, beanClass, method, defaultPackage);
                     constraint.setIndex(i);
-                    factory.addMetaConstraint(beanClass, constraint);
+                    mappings.addMetaConstraint(beanClass, constraint);
                 }
                 if (p.getValid() != null) {
                     final MetaConstraint<?, ?> constraint = new MetaConstraint<A, Annotation>(beanClass, method,
                         AnnotationProxyBuilder.ValidAnnotation.INSTANCE);
                     constraint.setIndex(i);
-                    factory.addMetaConstraint(beanClass, constraint);
+                    mappings.addMetaConstraint(beanClass, constraint);
                 }
 
                 if (p.getConvertGroup() != null) {
@@ -417,13 +529,13 @@ public class ValidationMappingParser {
                         final MetaConstraint<?, ?> constraint = new MetaConstraint<A, Annotation>(beanClass, method,
                             new AnnotationProxyBuilder.ConvertGroupAnnotation(from, to));
                         constraint.setIndex(i);
-                        factory.addMetaConstraint(beanClass, constraint);
+                        mappings.addMetaConstraint(beanClass, constraint);
                     }
                 }
 
                 boolean ignoreParametersAnnotation =
                     p.getIgnoreAnnotations() == null ? ignoreMethodAnnotation : p.getIgnoreAnnotations();
-                factory.getAnnotationIgnores().setIgnoreAnnotationsOnParameter(method, i, ignoreParametersAnnotation);
+                mappings.getAnnotationIgnores().setIgnoreAnnotationsOnParameter(method, i, ignoreParametersAnnotation);
 
                 i++;
             }
@@ -433,12 +545,12 @@ public class ValidationMappingParser {
                 for (final ConstraintType constraintType : returnValue.getConstraint()) {
                     final MetaConstraint<?, ?> constraint =
                         createConstraint(constraintType, beanClass, method, defaultPackage);
-                    factory.addMetaConstraint(beanClass, constraint);
+                    mappings.addMetaConstraint(beanClass, constraint);
                 }
                 if (returnValue.getValid() != null) {
                     final MetaConstraint<?, ?> constraint = new MetaConstraint<A, Annotation>(beanClass, method,
                         AnnotationProxyBuilder.ValidAnnotation.INSTANCE);
-                    factory.addMetaConstraint(beanClass, constraint);
+                    mappings.addMetaConstraint(beanClass, constraint);
                 }
 
                 if (returnValue.getConvertGroup() != null) {
@@ -447,10 +559,10 @@ public class ValidationMappingParser {
                         final Class<?> to = loadClass(groupConversion.getTo(), defaultPackage);
                         final MetaConstraint<?, ?> constraint = new MetaConstraint<A, Annotation>(beanClass, method,
                             new AnnotationProxyBuilder.ConvertGroupAnnotation(from, to));
-                        factory.addMetaConstraint(beanClass, constraint);
+                        mappings.addMetaConstraint(beanClass, constraint);
                     }
                 }
-                factory.getAnnotationIgnores().setIgnoreAnnotationOnReturn(method,
+                mappings.getAnnotationIgnores().setIgnoreAnnotationOnReturn(method,
                     returnValue.getIgnoreAnnotations() == null ? ignoreAnn : returnValue.getIgnoreAnnotations());
             }
 
@@ -459,9 +571,9 @@ public class ValidationMappingParser {
                 for (final ConstraintType constraintType : crossParameter.getConstraint()) {
                     final MetaConstraint<?, ?> constraint =
                         createConstraint(constraintType, beanClass, method, defaultPackage);
-                    factory.addMetaConstraint(beanClass, constraint);
+                    mappings.addMetaConstraint(beanClass, constraint);
                 }
-                factory.getAnnotationIgnores().setIgnoreAnnotationOnCrossParameter(method,
+                mappings.getAnnotationIgnores().setIgnoreAnnotationOnCrossParameter(method,
                     crossParameter.getIgnoreAnnotations() != null ? crossParameter.getIgnoreAnnotations() : ignoreAnn);
             }
         }
@@ -480,7 +592,7 @@ public class ValidationMappingParser {
             // ignore annotations
             final boolean ignoreMethodAnnotation =
                 constructorType.getIgnoreAnnotations() == null ? parentIgnore : constructorType.getIgnoreAnnotations();
-            factory.getAnnotationIgnores().setIgnoreAnnotationsOnMember(constructor, ignoreMethodAnnotation);
+            mappings.getAnnotationIgnores().setIgnoreAnnotationsOnMember(constructor, ignoreMethodAnnotation);
 
             final boolean ignoreAnn;
             if (constructorType.getIgnoreAnnotations() == null) {
@@ -496,13 +608,13 @@ public class ValidationMappingParser {
                     final MetaConstraint<?, ?> constraint =
                         createConstraint(constraintType, beanClass, constructor, defaultPackage);
                     constraint.setIndex(i);
-                    factory.addMetaConstraint(beanClass, constraint);
+                    mappings.addMetaConstraint(beanClass, constraint);
                 }
                 if (p.getValid() != null) {
                     final MetaConstraint<?, ?> constraint = new MetaConstraint<A, Annotation>(beanClass, constructor,
                         AnnotationProxyBuilder.ValidAnnotation.INSTANCE);
                     constraint.setIndex(i);
-                    factory.addMetaConstraint(beanClass, constraint);
+                    mappings.addMetaConstraint(beanClass, constraint);
                 }
 
                 if (p.getConvertGroup() != null) {
@@ -512,7 +624,7 @@ public class ValidationMappingParser {
                         final MetaConstraint<?, ?> constraint = new MetaConstraint<A, Annotation>(beanClass,
                             constructor, new AnnotationProxyBuilder.ConvertGroupAnnotation(from, to));
                         constraint.setIndex(i);
-                        factory.addMetaConstraint(beanClass, constraint);
+                        mappings.addMetaConstraint(beanClass, constraint);
                     }
                 }
 
@@ -521,7 +633,7 @@ public class ValidationMappingParser {
                 if (ignoreParametersAnnotation || (ignoreMethodAnnotation && p.getIgnoreAnnotations() == null)) {
                     // TODO what ?
                 }
-                factory.getAnnotationIgnores().setIgnoreAnnotationsOnParameter(constructor, i,
+                mappings.getAnnotationIgnores().setIgnoreAnnotationsOnParameter(constructor, i,
                     p.getIgnoreAnnotations() != null ? p.getIgnoreAnnotations() : ignoreAnn);
 
                 i++;
@@ -533,13 +645,13 @@ public class ValidationMappingParser {
                     final MetaConstraint<?, ?> constraint =
                         createConstraint(constraintType, beanClass, constructor, defaultPackage);
                     constraint.setIndex(-1);
-                    factory.addMetaConstraint(beanClass, constraint);
+                    mappings.addMetaConstraint(beanClass, constraint);
                 }
                 if (returnValue.getValid() != null) {
                     final MetaConstraint<?, ?> constraint = new MetaConstraint<A, Annotation>(beanClass, constructor,
                         AnnotationProxyBuilder.ValidAnnotation.INSTANCE);
                     constraint.setIndex(-1);
-                    factory.addMetaConstraint(beanClass, constraint);
+                    mappings.addMetaConstraint(beanClass, constraint);
                 }
 
                 if (returnValue.getConvertGroup() != null) {
@@ -549,10 +661,10 @@ public class ValidationMappingParser {
                         final MetaConstraint<?, ?> constraint = new MetaConstraint<A, Annotation>(beanClass,
                             constructor, new AnnotationProxyBuilder.ConvertGroupAnnotation(from, to));
                         constraint.setIndex(-1);
-                        factory.addMetaConstraint(beanClass, constraint);
+                        mappings.addMetaConstraint(beanClass, constraint);
                     }
                 }
-                factory.getAnnotationIgnores().setIgnoreAnnotationOnReturn(constructor,
+                mappings.getAnnotationIgnores().setIgnoreAnnotationOnReturn(constructor,
                     returnValue.getIgnoreAnnotations() != null ? returnValue.getIgnoreAnnotations() : ignoreAnn);
             }
 
@@ -561,9 +673,9 @@ public class ValidationMappingParser {
                 for (final ConstraintType constraintType : crossParameter.getConstraint()) {
                     final MetaConstraint<?, ?> constraint =
                         createConstraint(constraintType, beanClass, constructor, defaultPackage);
-                    factory.addMetaConstraint(beanClass, constraint);
+                    mappings.addMetaConstraint(beanClass, constraint);
                 }
-                factory.getAnnotationIgnores().setIgnoreAnnotationOnCrossParameter(constructor,
+                mappings.getAnnotationIgnores().setIgnoreAnnotationOnCrossParameter(constructor,
                     crossParameter.getIgnoreAnnotations() != null ? crossParameter.getIgnoreAnnotations() : ignoreAnn);
             }
         }
@@ -600,11 +712,11 @@ public class ValidationMappingParser {
             // ignore annotations
             final boolean ignoreFieldAnnotation =
                 fieldType.getIgnoreAnnotations() == null ? ignoreAnnotations : fieldType.getIgnoreAnnotations();
-            factory.getAnnotationIgnores().setIgnoreAnnotationsOnMember(field, ignoreFieldAnnotation);
+            mappings.getAnnotationIgnores().setIgnoreAnnotationsOnMember(field, ignoreFieldAnnotation);
 
             // valid
             if (fieldType.getValid() != null) {
-                factory.addValid(beanClass, new FieldAccess(field));
+                mappings.addValid(beanClass, new FieldAccess(field));
             }
 
             for (final GroupConversionType conversion : fieldType.getConvertGroup()) {
@@ -612,13 +724,13 @@ public class ValidationMappingParser {
                 final Class<?> to = loadClass(conversion.getTo(), defaultPackage);
                 final MetaConstraint<?, ?> constraint = new MetaConstraint<A, Annotation>(beanClass, field,
                     new AnnotationProxyBuilder.ConvertGroupAnnotation(from, to));
-                factory.addMetaConstraint(beanClass, constraint);
+                mappings.addMetaConstraint(beanClass, constraint);
             }
 
             // constraints
             for (ConstraintType constraintType : fieldType.getConstraint()) {
                 MetaConstraint<?, ?> constraint = createConstraint(constraintType, beanClass, field, defaultPackage);
-                factory.addMetaConstraint(beanClass, constraint);
+                mappings.addMetaConstraint(beanClass, constraint);
             }
         }
     }
@@ -643,11 +755,11 @@ public class ValidationMappingParser {
             // ignore annotations
             final boolean ignoreGetterAnnotation =
                 getterType.getIgnoreAnnotations() == null ? ignoreAnnotatino : getterType.getIgnoreAnnotations();
-            factory.getAnnotationIgnores().setIgnoreAnnotationsOnMember(method, ignoreGetterAnnotation);
+            mappings.getAnnotationIgnores().setIgnoreAnnotationsOnMember(method, ignoreGetterAnnotation);
 
             // valid
             if (getterType.getValid() != null) {
-                factory.addValid(beanClass, new MethodAccess(getterName, method));
+                mappings.addValid(beanClass, new MethodAccess(getterName, method));
             }
 
             // ConvertGroup
@@ -656,14 +768,14 @@ public class ValidationMappingParser {
                 final Class<?> to = loadClass(conversion.getTo(), defaultPackage);
                 final MetaConstraint<?, ?> constraint = new MetaConstraint<A, Annotation>(beanClass, method,
                     new AnnotationProxyBuilder.ConvertGroupAnnotation(from, to));
-                factory.addMetaConstraint(beanClass, constraint);
+                mappings.addMetaConstraint(beanClass, constraint);
             }
 
             // constraints
             for (ConstraintType constraintType : getterType.getConstraint()) {
                 MetaConstraint<?, ?> metaConstraint =
                     createConstraint(constraintType, beanClass, method, defaultPackage);
-                factory.addMetaConstraint(beanClass, metaConstraint);
+                mappings.addMetaConstraint(beanClass, metaConstraint);
             }
         }
 
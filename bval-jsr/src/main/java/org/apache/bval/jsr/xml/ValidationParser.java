@@ -45,10 +45,14 @@ import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.stream.StreamSource;
 import javax.xml.validation.Schema;
 import javax.xml.validation.SchemaFactory;
 
+import org.apache.bval.jsr.ApacheValidatorConfiguration;
 import org.apache.bval.jsr.BootstrapConfigurationImpl;
 import org.apache.bval.jsr.ConfigurationImpl;
 import org.apache.bval.jsr.util.IOs;
@@ -67,6 +71,9 @@ public class ValidationParser {
     private static final String VALIDATION_CONFIGURATION_XSD = "META-INF/validation-configuration-1.1.xsd";
     private static final Logger log = Logger.getLogger(ValidationParser.class.getName());
     private static final ConcurrentMap<String, Schema> SCHEMA_CACHE = new ConcurrentHashMap<String, Schema>(1);
+    private static final ConcurrentMap<Class<?>, JAXBContext> JAXB_CONTEXT_CACHE =
+        new ConcurrentHashMap<Class<?>, JAXBContext>(2);
+    private static volatile XMLInputFactory xmlInputFactory;
 
     private ValidationConfigType xmlConfig;
     private BootstrapConfigurationImpl bootstrap;
@@ -105,7 +112,7 @@ public class ValidationParser {
         final ValidationParser parser = new ValidationParser();
 
         if (!ignoreXml) {
-            parser.xmlConfig = parseXmlConfig(file);
+            parser.xmlConfig = parseXmlConfig(file, !isSkipSchemaValidation(targetConfig.getProperties()));
         }
 
         if (parser.xmlConfig != null) {
@@ -160,8 +167,18 @@ public class ValidationParser {
         return map;
     }
 
+    /**
+     * Learn whether XML descriptors should be read without validating them against their XSD.
+     * @param properties
+     * @return boolean
+     * @see ApacheValidatorConfiguration.Properties#SKIP_XML_SCHEMA_VALIDATION
+     */
+    public static boolean isSkipSchemaValidation(Map<String, String> properties) {
+        return Boolean.parseBoolean(properties.get(ApacheValidatorConfiguration.Properties.SKIP_XML_SCHEMA_VALIDATION));
+    }
+
     @Privileged
-    private static ValidationConfigType parseXmlConfig(final String validationXmlFile) {
+    private static ValidationConfigType parseXmlConfig(final String validationXmlFile, final boolean validate) {
         InputStream inputStream = null;
         try {
             inputStream = getInputStream(getValidationXmlFile(validationXmlFile));
@@ -172,14 +189,7 @@ public class ValidationParser {
 
             log.log(Level.FINEST, String.format("%s found.", validationXmlFile));
 
-            Schema schema = getSchema();
-            JAXBContext jc = JAXBContext.newInstance(ValidationConfigType.class);
-            Unmarshaller unmarshaller = jc.createUnmarshaller();
-            unmarshaller.setSchema(schema);
-            StreamSource stream = new StreamSource(inputStream);
-            JAXBElement<ValidationConfigType> root =
-                    unmarshaller.unmarshal(stream, ValidationConfigType.class);
-            return root.getValue();
+            return unmarshal(inputStream, ValidationConfigType.class, VALIDATION_CONFIGURATION_XSD, validate);
         } catch (JAXBException e) {
             throw new ValidationException("Unable to parse " + validationXmlFile, e);
         } catch (IOException e) {
@@ -210,8 +220,70 @@ public class ValidationParser {
         return IOs.convertToMarkableInputStream(inputStream);
     }
 
-    private static Schema getSchema() {
-        return getSchema(VALIDATION_CONFIGURATION_XSD);
+    /**
+     * Unmarshal {@code in} as {@code type}. With {@code validate} the document is checked against {@code xsd};
+     * otherwise it is streamed through StAX without building or applying the schema, which is meant for
+     * trusted descriptors that were validated at build time.
+     * @param in
+     * @param type
+     * @param xsd
+     * @param validate
+     * @return T
+     * @throws JAXBException
+     */
+    static <T> T unmarshal(final InputStream in, final Class<T> type, final String xsd, final boolean validate)
+        throws JAXBException {
+        final Unmarshaller unmarshaller = getJAXBContext(type).createUnmarshaller();
+        if (validate) {
+            unmarshaller.setSchema(getSchema(xsd));
+            final JAXBElement<T> root = unmarshaller.unmarshal(new StreamSource(in), type);
+            return root.getValue();
+        }
+        XMLStreamReader reader = null;
+        try {
+            reader = getXMLInputFactory().createXMLStreamReader(in);
+            final JAXBElement<T> root = unmarshaller.unmarshal(reader, type);
+            return root.getValue();
+        } catch (final XMLStreamException e) {
+            throw new JAXBException(e);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (final XMLStreamException e) {
+                    // no-op
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the (cached, thread-safe) {@link JAXBContext} for {@code type}.
+     * @param type
+     * @return {@link JAXBContext}
+     * @throws JAXBException
+     */
+    static JAXBContext getJAXBContext(final Class<?> type) throws JAXBException {
+        final JAXBContext context = JAXB_CONTEXT_CACHE.get(type);
+        if (context != null) {
+            return context;
+        }
+        final JAXBContext created = JAXBContext.newInstance(type);
+        final JAXBContext old = JAXB_CONTEXT_CACHE.putIfAbsent(type, created);
+        return old == null ? created : old;
+    }
+
+    private static XMLInputFactory getXMLInputFactory() {
+        if (xmlInputFactory == null) {
+            synchronized (ValidationParser.class) {
+                if (xmlInputFactory == null) {
+                    final XMLInputFactory f = XMLInputFactory.newInstance();
+                    f.setProperty(XMLInputFactory.IS_COALESCING, Boolean.TRUE);
+                    xmlInputFactory = f;
+                }
+            }
+        }
+        return xmlInputFactory;
     }
 
     static Schema getSchema(final String xsd) {
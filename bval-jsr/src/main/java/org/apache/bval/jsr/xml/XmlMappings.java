@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.jsr.xml;
+
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.validation.ValidationException;
+
+import org.apache.bval.jsr.ApacheValidatorFactory;
+import org.apache.bval.util.AccessStrategy;
+import org.apache.bval.util.ObjectUtils;
+
+/**
+ * Description: the runtime customizations read from the XML constraint mappings of an
+ * {@link ApacheValidatorFactory}: constraints, cascaded properties, default group sequences and
+ * annotation ignores per class. Reloading the mappings builds a complete new instance that the factory
+ * swaps in, so that each MetaBean is built from a single consistent snapshot.<br/>
+ */
+public final class XmlMappings {
+    private final AnnotationIgnores annotationIgnores = new AnnotationIgnores();
+    private final ConcurrentMap<Class<?>, List<MetaConstraint<?, ? extends Annotation>>> constraintMap =
+        new ConcurrentHashMap<Class<?>, List<MetaConstraint<?, ? extends Annotation>>>();
+    private final ConcurrentMap<Class<?>, List<AccessStrategy>> validAccesses =
+        new ConcurrentHashMap<Class<?>, List<AccessStrategy>>();
+    private final ConcurrentMap<Class<?>, Class<?>[]> defaultSequences = new ConcurrentHashMap<Class<?>, Class<?>[]>();
+    private final ValidationMappingParser parser;
+
+    /**
+     * Create a new, empty XmlMappings instance.
+     *
+     * @param factory
+     */
+    public XmlMappings(ApacheValidatorFactory factory) {
+        parser = new ValidationMappingParser(factory, this);
+    }
+
+    /**
+     * Read constraint mapping files into this instance.
+     *
+     * @param xmlStreams - one or more contraints.xml file streams to parse
+     * @param lazy - whether to defer processing each bean mapping until {@link #applyPendingMapping(Class)}
+     * @param constraintDefinitions - whether to register the constraint definitions with the factory
+     * @throws ValidationException
+     */
+    public void load(Set<InputStream> xmlStreams, boolean lazy, boolean constraintDefinitions)
+        throws ValidationException {
+        parser.processMappingConfig(xmlStreams, lazy, constraintDefinitions);
+    }
+
+    /**
+     * Process the bean mapping of {@code beanClass} if it was deferred by {@link #load(Set, boolean, boolean)}.
+     *
+     * @param beanClass
+     */
+    public void applyPendingMapping(Class<?> beanClass) {
+        parser.applyPendingMapping(beanClass);
+    }
+
+    /**
+     * Get the names of the classes whose bean mapping was added, removed or changed compared to
+     * {@code previous}.
+     *
+     * @param previous
+     * @return Set of class names
+     */
+    public Set<String> getChangedClassNames(XmlMappings previous) {
+        return parser.getChangedClassNames(previous.parser);
+    }
+
+    /**
+     * Get the {@link AnnotationIgnores} read from the mappings.
+     *
+     * @return AnnotationIgnores
+     */
+    public AnnotationIgnores getAnnotationIgnores() {
+        return annotationIgnores;
+    }
+
+    /**
+     * Add a meta-constraint for <code>beanClass</code>.
+     *
+     * @param beanClass
+     * @param metaConstraint
+     */
+    public void addMetaConstraint(final Class<?> beanClass, final MetaConstraint<?, ?> metaConstraint) {
+        List<MetaConstraint<?, ? extends Annotation>> slot = constraintMap.get(beanClass);
+        if (slot == null) {
+            slot = new ArrayList<MetaConstraint<?, ? extends Annotation>>();
+            final List<MetaConstraint<?, ? extends Annotation>> old = constraintMap.putIfAbsent(beanClass, slot);
+            if (old != null) {
+                slot = old;
+            }
+        }
+        slot.add(metaConstraint);
+    }
+
+    /**
+     * Mark a property of <code>beanClass</code> for nested validation.
+     *
+     * @param beanClass
+     * @param accessStrategy
+     *            defining the property to validate
+     */
+    public void addValid(Class<?> beanClass, AccessStrategy accessStrategy) {
+        List<AccessStrategy> slot = validAccesses.get(beanClass);
+        if (slot == null) {
+            slot = new ArrayList<AccessStrategy>();
+            final List<AccessStrategy> old = validAccesses.putIfAbsent(beanClass, slot);
+            if (old != null) {
+                slot = old;
+            }
+        }
+        slot.add(accessStrategy);
+    }
+
+    /**
+     * Set the default group sequence for a particular bean class.
+     *
+     * @param beanClass
+     * @param groupSequence
+     */
+    public void addDefaultSequence(Class<?> beanClass, Class<?>... groupSequence) {
+        defaultSequences.put(beanClass, safeArray(groupSequence));
+    }
+
+    /**
+     * Retrieve the constraints configured for a given class.
+     *
+     * @param <T>
+     * @param beanClass
+     * @return List of {@link MetaConstraint}s applicable to
+     *         <code>beanClass</code>
+     */
+    public <T> List<MetaConstraint<T, ? extends Annotation>> getMetaConstraints(Class<T> beanClass) {
+        final List<MetaConstraint<?, ? extends Annotation>> slot = constraintMap.get(beanClass);
+        if (slot == null) {
+            return Collections.emptyList();
+        }
+        // noinspection RedundantCast
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        final List<MetaConstraint<T, ? extends Annotation>> result = (List) slot;
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Get the {@link AccessStrategy} {@link List} indicating nested bean
+     * validations configured for <code>beanClass</code>.
+     *
+     * @param beanClass
+     * @return {@link List} of {@link AccessStrategy}
+     */
+    public List<AccessStrategy> getValidAccesses(Class<?> beanClass) {
+        final List<AccessStrategy> slot = validAccesses.get(beanClass);
+        return slot == null ? Collections.<AccessStrategy> emptyList() : Collections.unmodifiableList(slot);
+    }
+
+    /**
+     * Get the default group sequence configured for <code>beanClass</code>.
+     *
+     * @param beanClass
+     * @return group Class array
+     */
+    public Class<?>[] getDefaultSequence(Class<?> beanClass) {
+        return safeArray(defaultSequences.get(beanClass));
+    }
+
+    private static Class<?>[] safeArray(Class<?>... array) {
+        return array == null || array.length == 0 ? ObjectUtils.EMPTY_CLASS_ARRAY : array.clone();
+    }
+}
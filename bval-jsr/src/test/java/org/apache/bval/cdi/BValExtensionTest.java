@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.cdi;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.enterprise.inject.spi.AnnotatedCallable;
+import javax.enterprise.inject.spi.AnnotatedConstructor;
+import javax.enterprise.inject.spi.AnnotatedMethod;
+import javax.enterprise.inject.spi.AnnotatedType;
+import javax.enterprise.inject.spi.BeanManager;
+import javax.enterprise.inject.spi.ProcessAnnotatedType;
+import javax.validation.constraints.NotNull;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Drives the deploy-time binding of {@link BValExtension} without a container.
+ */
+public class BValExtensionTest {
+    public static class Service {
+        public Service() {
+        }
+
+        public Service(@NotNull String name) {
+        }
+
+        public String check(@NotNull String name) {
+            return name;
+        }
+
+        public String free(String name) {
+            return name;
+        }
+
+        @NotNull
+        public String getName() {
+            return null;
+        }
+    }
+
+    public static class Unconstrained {
+        public String free(String name) {
+            return name;
+        }
+    }
+
+    private BValExtension.AnnotatedTypeFilter previousFilter;
+
+    @Before
+    public void acceptTestTypes() {
+        previousFilter = BValExtension.getAnnotatedTypeFilter();
+        // the default filter skips org.apache.bval types
+        BValExtension.setAnnotatedTypeFilter(new BValExtension.AnnotatedTypeFilter() {
+            @Override
+            public boolean accept(AnnotatedType<?> annotatedType) {
+                return annotatedType.getJavaClass().getEnclosingClass() == BValExtensionTest.class;
+            }
+        });
+    }
+
+    @After
+    public void restoreFilter() {
+        BValExtension.setAnnotatedTypeFilter(previousFilter);
+    }
+
+    @Test
+    public void testBindsOnlyConstrainedValidatedExecutables() throws Exception {
+        final ProcessAnnotatedType<Service> pat = process(Service.class);
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        final ArgumentCaptor<AnnotatedType<Service>> captor =
+            (ArgumentCaptor) ArgumentCaptor.forClass(AnnotatedType.class);
+        verify(pat).setAnnotatedType(captor.capture());
+
+        final Set<Member> bound = new HashSet<Member>();
+        final AnnotatedType<?> processed = captor.getValue();
+        assertTrue(processed instanceof BValAnnotatedType<?>);
+        for (final AnnotatedCallable<?> callable : processed.getConstructors()) {
+            if (callable.isAnnotationPresent(BValBinding.class)) {
+                bound.add(((AnnotatedConstructor<?>) callable).getJavaMember());
+            }
+        }
+        for (final AnnotatedCallable<?> callable : processed.getMethods()) {
+            if (callable.isAnnotationPresent(BValBinding.class)) {
+                bound.add(((AnnotatedMethod<?>) callable).getJavaMember());
+            }
+        }
+        final Set<Member> expected = new HashSet<Member>();
+        expected.add(Service.class.getConstructor(String.class));
+        expected.add(Service.class.getMethod("check", String.class));
+        assertEquals(expected, bound);
+        assertEquals(2, processed.getConstructors().size());
+        assertEquals(3, processed.getMethods().size());
+    }
+
+    @Test
+    public void testLeavesUnconstrainedTypesAlone() throws Exception {
+        verify(process(Unconstrained.class), never()).setAnnotatedType(any(AnnotatedType.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ProcessAnnotatedType<T> process(Class<T> type) {
+        final AnnotatedType<T> annotatedType = mock(AnnotatedType.class);
+        doReturn(type).when(annotatedType).getJavaClass();
+        final Set<AnnotatedConstructor<T>> constructors = new HashSet<AnnotatedConstructor<T>>();
+        for (final Constructor<?> constructor : type.getConstructors()) {
+            final AnnotatedConstructor<T> annotated = mock(AnnotatedConstructor.class);
+            doReturn(constructor).when(annotated).getJavaMember();
+            constructors.add(annotated);
+        }
+        doReturn(constructors).when(annotatedType).getConstructors();
+        final Set<AnnotatedMethod<? super T>> methods = new HashSet<AnnotatedMethod<? super T>>();
+        for (final Method method : type.getDeclaredMethods()) {
+            final AnnotatedMethod<T> annotated = mock(AnnotatedMethod.class);
+            doReturn(method).when(annotated).getJavaMember();
+            methods.add(annotated);
+        }
+        doReturn(methods).when(annotatedType).getMethods();
+        doReturn(Collections.emptySet()).when(annotatedType).getAnnotations();
+
+        final BeanManager beanManager = mock(BeanManager.class);
+        doReturn(mock(AnnotatedType.class)).when(beanManager).createAnnotatedType(any(Class.class));
+
+        final ProcessAnnotatedType<T> pat = mock(ProcessAnnotatedType.class);
+        doReturn(annotatedType).when(pat).getAnnotatedType();
+        new BValExtension().processAnnotatedType(pat, beanManager);
+        return pat;
+    }
+}
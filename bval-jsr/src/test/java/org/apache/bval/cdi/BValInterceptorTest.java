@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.cdi;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.interceptor.InvocationContext;
+import javax.validation.ConstraintViolationException;
+import javax.validation.Validation;
+import javax.validation.Validator;
+
+import org.apache.bval.jsr.ApacheValidationProvider;
+import org.apache.bval.jsr.ApacheValidatorFactory;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+/**
+ * Drives {@link BValInterceptor} without a container.
+ */
+public class BValInterceptorTest {
+    public static class Service {
+        public String greet(String name) {
+            return "hello " + name;
+        }
+
+        public String echo(String name) {
+            return name;
+        }
+    }
+
+    private ApacheValidatorFactory factory;
+    private BValExtension extension;
+    private BValInterceptor interceptor;
+
+    @Before
+    public void setUp() throws Exception {
+        factory = Validation.byProvider(ApacheValidationProvider.class).configure().addMapping(mapping(5))
+            .buildValidatorFactory().unwrap(ApacheValidatorFactory.class);
+        extension = new BValExtension();
+        extension.dropPlansOnReload(factory);
+        interceptor = new BValInterceptor();
+        inject("validator", factory.getValidator());
+        inject("globalConfiguration", extension);
+    }
+
+    @Test
+    public void testPlansAreComputedOncePerDeployment() throws Exception {
+        final Service service = new Service();
+        assertEquals("hello bval", invoke(service, "bval"));
+        assertEquals("unconstrained", invoke(service, "echo", "unconstrained"));
+
+        final Method greet = Service.class.getMethod("greet", String.class);
+        final Method echo = Service.class.getMethod("echo", String.class);
+        final ConcurrentMap<Member, BValInterceptor.ExecutablePlan> plans = extension.getExecutablePlans(Service.class);
+        final BValInterceptor.ExecutablePlan greetPlan = plans.get(greet);
+        assertNotNull(greetPlan);
+        assertTrue(greetPlan.validateParameters);
+        assertFalse(greetPlan.validateReturnValue);
+        assertSame(BValInterceptor.ExecutablePlan.NONE, plans.get(echo));
+
+        // another interceptor instance reuses the plans of the deployment
+        interceptor = new BValInterceptor();
+        inject("validator", factory.getValidator());
+        inject("globalConfiguration", extension);
+        assertRejected(service, "apache bval");
+        assertSame(greetPlan, extension.getExecutablePlans(Service.class).get(greet));
+        assertEquals(2, plans.size());
+    }
+
+    @Test
+    public void testReloadWhileInterceptorIsAlive() throws Exception {
+        final Service service = new Service();
+        assertEquals("hello bval", invoke(service, "bval"));
+        assertRejected(service, "apache bval");
+
+        factory.reloadMappingConfig(Collections.singleton(mapping(20)));
+        assertEquals("hello apache bval", invoke(service, "apache bval"));
+    }
+
+    @Test
+    public void testPlanComputedDuringReloadIsNotCached() throws Exception {
+        final Validator validator = factory.getValidator();
+        // reloads the mappings right after the metadata of the plan is read
+        inject("validator", Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Validator.class },
+            new InvocationHandler() {
+                private boolean reloaded;
+
+                @Override
+                public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                    final Object result = method.invoke(validator, args);
+                    if (!reloaded && "getConstraintsForClass".equals(method.getName())) {
+                        reloaded = true;
+                        factory.reloadMappingConfig(Collections.singleton(mapping(20)));
+                    }
+                    return result;
+                }
+            }));
+        final Service service = new Service();
+        assertRejected(service, "apache bval");
+        assertNull(extension.getExecutablePlans(Service.class).get(Service.class.getMethod("greet", String.class)));
+
+        assertEquals("hello apache bval", invoke(service, "apache bval"));
+    }
+
+    private void assertRejected(Service service, String name) throws Exception {
+        try {
+            invoke(service, name);
+            fail("expected a violation for " + name);
+        } catch (ConstraintViolationException e) {
+            assertEquals(1, e.getConstraintViolations().size());
+        }
+    }
+
+    private Object invoke(Service service, String name) throws Exception {
+        return invoke(service, "greet", name);
+    }
+
+    private Object invoke(final Service service, String methodName, final String name) throws Exception {
+        final Method method = Service.class.getMethod(methodName, String.class);
+        final InvocationContext context = mock(InvocationContext.class);
+        when(context.getTarget()).thenReturn(service);
+        when(context.getMethod()).thenReturn(method);
+        when(context.getParameters()).thenReturn(new Object[] { name });
+        when(context.proceed()).thenAnswer(new Answer<Object>() {
+            @Override
+            public Object answer(InvocationOnMock invocation) throws Throwable {
+                return method.invoke(service, name);
+            }
+        });
+        return interceptor.invoke(context);
+    }
+
+    private void inject(String fieldName, Object value) throws Exception {
+        final Field field = BValInterceptor.class.getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(interceptor, value);
+    }
+
+    private static InputStream mapping(int max) throws Exception {
+        final String xml = "<constraint-mappings xmlns=\"http://jboss.org/xml/ns/javax/validation/mapping\""
+            + " version=\"1.1\"><default-package>org.apache.bval.cdi</default-package>"
+            + "<bean class=\"BValInterceptorTest$Service\"><method name=\"greet\">"
+            + "<parameter type=\"java.lang.String\">"
+            + "<constraint annotation=\"javax.validation.constraints.Size\"><element name=\"max\">" + max
+            + "</element></constraint></parameter></method></bean></constraint-mappings>";
+        return new ByteArrayInputStream(xml.getBytes("UTF-8"));
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.    
+ */
+package org.apache.bval.constraints;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Checks {@link Decimals} against {@link BigDecimal}.
+ */
+public class DecimalsTest {
+    private static final String[] VALUES = { "0", "-0", "+0", "0.00", "1", "-1", "1.", ".5", "-.5", "+.5", "00012",
+        "12.500", "-12.5", "999999999999999999", "9999999999999999999", "0.000000000000000001",
+        "123456789.123456789", "9223372036854775807", "-9223372036854775808", "1e3", "1E-3", "", "-", ".", "1..2",
+        "1.2.3", "abc", " 1", "١" };
+
+    private static final String[] BOUNDS = { "0", "1", "-1", "0.5", "12.5", "-12.50", "1E+3", "1E-20",
+        "922392239223.06", "9223372036854775807", "-9223372036854775808", "123456789012345678901234567890" };
+
+    @Test
+    public void testCompare() {
+        for (final String bound : BOUNDS) {
+            final BigDecimal boundValue = new BigDecimal(bound);
+            final long unscaledBound = Decimals.unscaledValue(boundValue);
+            if (unscaledBound == Decimals.NOT_SIMPLE) {
+                continue;
+            }
+            for (final String value : VALUES) {
+                final long unscaled = Decimals.unscaledValue(value);
+                if (unscaled == Decimals.NOT_SIMPLE) {
+                    continue;
+                }
+                assertEquals(value + " vs " + bound, new BigDecimal(value).compareTo(boundValue), Integer.signum(
+                    Decimals.compare(unscaled, Decimals.scaleOf(value), unscaledBound, Decimals.scaleOf(boundValue))));
+            }
+        }
+    }
+
+    @Test
+    public void testRandomCompare() {
+        final Random random = new Random(2009L);
+        for (int i = 0; i < 100000; i++) {
+            final String value = randomDecimal(random);
+            final String bound = randomDecimal(random);
+            final long unscaled = Decimals.unscaledValue(value);
+            final long unscaledBound = Decimals.unscaledValue(bound);
+            if (unscaled == Decimals.NOT_SIMPLE || unscaledBound == Decimals.NOT_SIMPLE) {
+                continue;
+            }
+            assertEquals(value + " vs " + bound, new BigDecimal(value).compareTo(new BigDecimal(bound)),
+                Integer.signum(Decimals.compare(unscaled, Decimals.scaleOf(value), unscaledBound,
+                    Decimals.scaleOf(bound))));
+        }
+    }
+
+    @Test
+    public void testPrecisionAndScale() {
+        for (final String value : VALUES) {
+            final long precisionAndScale = Decimals.precisionAndScale(value);
+            if (precisionAndScale == Decimals.NOT_SIMPLE) {
+                continue;
+            }
+            final BigDecimal expected = new BigDecimal(value);
+            assertEquals(value, expected.precision(), Decimals.precision(precisionAndScale));
+            assertEquals(value, expected.scale(), Decimals.scale(precisionAndScale));
+        }
+    }
+
+    @Test
+    public void testIntegerDigits() {
+        for (final long value : new long[] { 0, 1, -1, 9, 10, -10, 100, 123456, Long.MAX_VALUE, Long.MIN_VALUE }) {
+            final BigDecimal expected = new BigDecimal(Long.toString(value)).stripTrailingZeros();
+            assertEquals(Long.toString(value), expected.precision() - expected.scale(),
+                Decimals.integerDigits(value));
+        }
+    }
+
+    private static String randomDecimal(Random random) {
+        final StringBuilder buf = new StringBuilder();
+        if (random.nextBoolean()) {
+            buf.append('-');
+        }
+        final int integerDigits = random.nextInt(12);
+        for (int i = 0; i < integerDigits; i++) {
+            buf.append((char) ('0' + random.nextInt(10)));
+        }
+        if (integerDigits == 0 || random.nextBoolean()) {
+            buf.append('.');
+            final int fractionDigits = 1 + random.nextInt(10);
+            for (int i = 0; i < fractionDigits; i++) {
+                buf.append((char) ('0' + random.nextInt(10)));
+            }
+        }
+        return buf.toString();
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.constraints;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import javax.validation.constraints.Pattern;
+
+import org.junit.Test;
+
+/**
+ * Checks correct behaviour of {@link PatternValidator}.
+ */
+public class PatternValidatorTest {
+    @Pattern(regexp = "[a-z]+")
+    private String lowerCase;
+
+    @Test
+    public void testPatternValidator() throws Exception {
+        final PatternValidator validator = new PatternValidator();
+        validator.initialize(annotation());
+        assertTrue("Matching value validation must succeed", validator.isValid("abc", null));
+        assertFalse("Non-matching value validation must fail", validator.isValid("ABC", null));
+        assertTrue("Null value validation must succeed", validator.isValid(null, null));
+    }
+
+    /**
+     * Checks that a pattern assigned by a subclass replaces the one of the annotation.
+     */
+    @Test
+    public void testPatternAssignedBySubclass() throws Exception {
+        final PatternValidator validator = new PatternValidator() {
+            @Override
+            public void initialize(Pattern annotation) {
+                super.initialize(annotation);
+                pattern = java.util.regex.Pattern.compile("[A-Z]+");
+            }
+        };
+        validator.initialize(annotation());
+        assertTrue("Value matching the assigned pattern must succeed", validator.isValid("ABC", null));
+        assertFalse("Value matching the annotation only must fail", validator.isValid("abc", null));
+    }
+
+    private static Pattern annotation() throws NoSuchFieldException {
+        return PatternValidatorTest.class.getDeclaredField("lowerCase").getAnnotation(Pattern.class);
+    }
+}
@@ -28,20 +28,29 @@ import static org.junit.Assert.assertTrue;
 
 import java.lang.annotation.Annotation;
 import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.validation.Constraint;
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.ConstraintValidatorFactory;
 import javax.validation.ConstraintViolation;
 import javax.validation.OverridesAttribute;
+import javax.validation.Path;
 import javax.validation.Payload;
 import javax.validation.ReportAsSingleViolation;
+import javax.validation.TraversableResolver;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Size;
+import javax.validation.groups.Default;
 import javax.validation.metadata.ConstraintDescriptor;
 
+import org.apache.bval.jsr.resolver.CachingRelevant;
 import org.junit.Test;
 
 /**
@@ -184,6 +193,64 @@ public class ConstraintCompositionTest extends ValidationTestBase {
             ((Annotation) violation.getConstraintDescriptor().getAnnotation()).annotationType());
     }
 
+    /**
+     * Checks that {@link ReportAsSingleViolation} holds for nested composites,
+     * regardless of which composing constraint fails.
+     */
+    @Test
+    public void testNestedReportAsSingleViolation() {
+        ProductCode c = new ProductCode();
+        c.code = "12345678901";
+        assertTrue("No violations should be reported on valid code", validator.validate(c).isEmpty());
+
+        for (String code : new String[] { null, "1234567890", "1234567890a" }) {
+            c.code = code;
+            Set<ConstraintViolation<ProductCode>> constraintViolations = validator.validate(c);
+            assertEquals("Only 1 violation expected for " + code, 1, constraintViolations.size());
+            ConstraintViolation<ProductCode> violation = constraintViolations.iterator().next();
+            assertEquals("Wrong violation message", "Invalid product code", violation.getMessage());
+            assertEquals("Wrong violation type", RequiredElevenDigitsCode.class,
+                ((Annotation) violation.getConstraintDescriptor().getAnnotation()).annotationType());
+        }
+
+        c.code = "1234567890a";
+        assertEquals("Only 1 violation expected in Group1", 1, validator.validate(c, Group1.class).size());
+        assertTrue("No violations expected in Group2", validator.validate(c, Group2.class).isEmpty());
+    }
+
+    /**
+     * Checks that a skipped composing constraint of a {@link ReportAsSingleViolation} composite is skipped
+     * together with its own composing constraints: the second nested composite shares its validator instance
+     * with the first one, so it is skipped as already validated, and so is the constraint it is composed of.
+     */
+    @Test
+    public void testSkippedNestedCompositeSkipsItsComposition() {
+        final SharedCode c = new SharedCode();
+        c.code = "code";
+        CountingValidator.CALLS.set(0);
+        final Set<ConstraintViolation<SharedCode>> violations =
+            factory.usingContext().constraintValidatorFactory(new SharingConstraintValidatorFactory()).getValidator()
+                .validate(c);
+        assertTrue("No violations expected", violations.isEmpty());
+        assertEquals("Constraint of the skipped nested composite validated", 1, CountingValidator.CALLS.get());
+    }
+
+    /**
+     * Checks that a {@link ReportAsSingleViolation} composite is skipped as a whole when its property is not
+     * reachable.
+     */
+    @Test
+    public void testUnreachableCompositeSkipped() {
+        final ElevenCharsCode c = new ElevenCharsCode();
+        c.code = "1234567890";
+        assertEquals("Violation expected when reachable", 1, validator.validate(c).size());
+
+        final Set<ConstraintViolation<ElevenCharsCode>> violations =
+            factory.usingContext().traversableResolver(new UnreachablePropertyResolver("code")).getValidator()
+                .validate(c);
+        assertTrue("No violations expected when the property is not reachable", violations.isEmpty());
+    }
+
     public static class Person {
         @PersonName
         String name;
@@ -263,6 +330,185 @@ public class ConstraintCompositionTest extends ValidationTestBase {
         Class<? extends Payload>[] payload() default {};
     }
 
+    public static class ProductCode {
+        @RequiredElevenDigitsCode(groups = { Default.class, Group1.class })
+        String code;
+    }
+
+    @NotNull
+    @ElevenDigitsCode
+    @Constraint(validatedBy = {})
+    @ReportAsSingleViolation
+    @Documented
+    @Target({ METHOD, FIELD, TYPE })
+    @Retention(RUNTIME)
+    public static @interface RequiredElevenDigitsCode {
+        String message() default "Invalid product code";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+    }
+
+    public static class ElevenCharsCode {
+        @ElevenCharsOrEmpty
+        String code;
+    }
+
+    @ElevenChars
+    @Constraint(validatedBy = {})
+    @ReportAsSingleViolation
+    @Documented
+    @Target({ METHOD, FIELD, TYPE })
+    @Retention(RUNTIME)
+    public static @interface ElevenCharsOrEmpty {
+        String message() default "Invalid code";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+    }
+
+    @Size(min = 11, max = 11)
+    @Constraint(validatedBy = {})
+    @Documented
+    @Target({ METHOD, FIELD, TYPE })
+    @Retention(RUNTIME)
+    public static @interface ElevenChars {
+        String message() default "Invalid length";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+    }
+
+    /**
+     * Makes the properties of a given name unreachable.
+     */
+    public static class UnreachablePropertyResolver implements TraversableResolver, CachingRelevant {
+        private final String propertyName;
+
+        public UnreachablePropertyResolver(String propertyName) {
+            this.propertyName = propertyName;
+        }
+
+        @Override
+        public boolean isReachable(Object traversableObject, Path.Node traversableProperty, Class<?> rootBeanType,
+            Path pathToTraversableObject, ElementType elementType) {
+            return !propertyName.equals(traversableProperty.getName());
+        }
+
+        @Override
+        public boolean isCascadable(Object traversableObject, Path.Node traversableProperty, Class<?> rootBeanType,
+            Path pathToTraversableObject, ElementType elementType) {
+            return true;
+        }
+
+        @Override
+        public boolean needsCaching() {
+            return false;
+        }
+    }
+
+    public static class SharedCode {
+        @SharedComposite
+        String code;
+    }
+
+    @SharedNested.List({ @SharedNested, @SharedNested })
+    @Constraint(validatedBy = {})
+    @ReportAsSingleViolation
+    @Documented
+    @Target({ METHOD, FIELD, TYPE })
+    @Retention(RUNTIME)
+    public static @interface SharedComposite {
+        String message() default "Invalid code";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+    }
+
+    @Counted
+    @Constraint(validatedBy = SharedValidator.class)
+    @Documented
+    @Target({ METHOD, FIELD, TYPE })
+    @Retention(RUNTIME)
+    public static @interface SharedNested {
+        String message() default "Invalid nested";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+
+        @Documented
+        @Target({ METHOD, FIELD, TYPE })
+        @Retention(RUNTIME)
+        public static @interface List {
+            SharedNested[] value();
+        }
+    }
+
+    @Constraint(validatedBy = CountingValidator.class)
+    @Documented
+    @Target({ METHOD, FIELD, TYPE })
+    @Retention(RUNTIME)
+    public static @interface Counted {
+        String message() default "Invalid counted";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+    }
+
+    public static class SharedValidator implements ConstraintValidator<SharedNested, Object> {
+        @Override
+        public void initialize(SharedNested constraintAnnotation) {
+        }
+
+        @Override
+        public boolean isValid(Object value, ConstraintValidatorContext context) {
+            return true;
+        }
+    }
+
+    public static class CountingValidator implements ConstraintValidator<Counted, Object> {
+        static final AtomicInteger CALLS = new AtomicInteger();
+
+        @Override
+        public void initialize(Counted constraintAnnotation) {
+        }
+
+        @Override
+        public boolean isValid(Object value, ConstraintValidatorContext context) {
+            CALLS.incrementAndGet();
+            return true;
+        }
+    }
+
+    /**
+     * Hands out a single {@link SharedValidator} instance.
+     */
+    public static class SharingConstraintValidatorFactory implements ConstraintValidatorFactory {
+        private final ConstraintValidatorFactory delegate = new DefaultConstraintValidatorFactory();
+        private final SharedValidator shared = new SharedValidator();
+
+        @Override
+        public <T extends ConstraintValidator<?, ?>> T getInstance(Class<T> key) {
+            if (SharedValidator.class.equals(key)) {
+                return key.cast(shared);
+            }
+            return delegate.getInstance(key);
+        }
+
+        @Override
+        public void releaseInstance(ConstraintValidator<?, ?> instance) {
+            if (instance != shared) {
+                delegate.releaseInstance(instance);
+            }
+        }
+    }
+
     public static interface Group1 {
     }
 
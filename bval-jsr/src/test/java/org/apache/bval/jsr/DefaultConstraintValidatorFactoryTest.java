@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.jsr;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import javax.enterprise.context.spi.CreationalContext;
+import javax.enterprise.inject.spi.AnnotatedType;
+import javax.enterprise.inject.spi.BeanManager;
+import javax.enterprise.inject.spi.CDI;
+import javax.enterprise.inject.spi.CDIProvider;
+import javax.enterprise.inject.spi.InjectionTarget;
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.ValidationException;
+import javax.validation.constraints.NotNull;
+
+import org.junit.After;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+/**
+ * Tests for {@link DefaultConstraintValidatorFactory}.
+ */
+public class DefaultConstraintValidatorFactoryTest {
+    public static class SimpleValidator implements ConstraintValidator<NotNull, Object> {
+        @Override
+        public void initialize(NotNull constraintAnnotation) {
+        }
+
+        @Override
+        public boolean isValid(Object value, ConstraintValidatorContext context) {
+            return value != null;
+        }
+    }
+
+    public static class FailingValidator extends SimpleValidator {
+        public FailingValidator() {
+            throw new IllegalStateException();
+        }
+    }
+
+    public static class ManagedValidator extends SimpleValidator {
+    }
+
+    private BeanManager beanManager;
+    private CreationalContext<?> creationalContext;
+
+    @After
+    public void resetCdi() {
+        CDI.setCDIProvider(null);
+    }
+
+    /**
+     * Make CDI available with a {@link BeanManager} able to create {@link ManagedValidator}s only.
+     */
+    private void mockCdi() {
+        beanManager = mock(BeanManager.class);
+        creationalContext = mock(CreationalContext.class);
+        final AnnotatedType<?> annotatedType = mock(AnnotatedType.class);
+        final InjectionTarget<?> injectionTarget = mock(InjectionTarget.class);
+        doThrow(new IllegalArgumentException()).when(beanManager).createAnnotatedType(SimpleValidator.class);
+        doReturn(annotatedType).when(beanManager).createAnnotatedType(ManagedValidator.class);
+        doReturn(injectionTarget).when(beanManager).createInjectionTarget(annotatedType);
+        doReturn(creationalContext).when(beanManager).createCreationalContext(null);
+        doAnswer(new Answer<Object>() {
+            @Override
+            public Object answer(InvocationOnMock invocation) {
+                return new ManagedValidator();
+            }
+        }).when(injectionTarget).produce(any(CreationalContext.class));
+
+        @SuppressWarnings("unchecked")
+        final CDI<Object> cdi = mock(CDI.class);
+        doReturn(beanManager).when(cdi).getBeanManager();
+        CDI.setCDIProvider(new CDIProvider() {
+            @Override
+            public CDI<Object> getCDI() {
+                return cdi;
+            }
+        });
+    }
+
+    @Test
+    public void testNewInstancePerCall() throws Exception {
+        final DefaultConstraintValidatorFactory factory = new DefaultConstraintValidatorFactory();
+        final SimpleValidator first = factory.getInstance(SimpleValidator.class);
+        final SimpleValidator second = factory.getInstance(SimpleValidator.class);
+        assertNotNull(first);
+        assertNotSame(first, second);
+        factory.releaseInstance(first);
+        factory.close();
+    }
+
+    @Test
+    public void testInstantiationStrategyIsCached() {
+        mockCdi();
+        final DefaultConstraintValidatorFactory factory = new DefaultConstraintValidatorFactory();
+        assertSame(SimpleValidator.class, factory.getInstance(SimpleValidator.class).getClass());
+        assertSame(SimpleValidator.class, factory.getInstance(SimpleValidator.class).getClass());
+        // CDI is only tried on first instantiation of a class it does not manage
+        verify(beanManager, times(1)).createAnnotatedType(SimpleValidator.class);
+
+        assertNotSame(factory.getInstance(ManagedValidator.class), factory.getInstance(ManagedValidator.class));
+        verify(beanManager, times(2)).createAnnotatedType(ManagedValidator.class);
+    }
+
+    @Test
+    public void testManagedInstanceReleasedOnce() throws Exception {
+        mockCdi();
+        final DefaultConstraintValidatorFactory factory = new DefaultConstraintValidatorFactory();
+        final ManagedValidator validator = factory.getInstance(ManagedValidator.class);
+        factory.releaseInstance(validator);
+        factory.releaseInstance(validator);
+        factory.close();
+        verify(creationalContext, times(1)).release();
+    }
+
+    @Test
+    public void testManagedInstanceReleasedOnClose() throws Exception {
+        mockCdi();
+        final DefaultConstraintValidatorFactory factory = new DefaultConstraintValidatorFactory();
+        final ManagedValidator validator = factory.getInstance(ManagedValidator.class);
+        factory.close();
+        verify(creationalContext, times(1)).release();
+        factory.releaseInstance(validator);
+        factory.close();
+        verify(creationalContext, times(1)).release();
+    }
+
+    @Test(expected = ValidationException.class)
+    public void testConstructorFailure() {
+        new DefaultConstraintValidatorFactory().getInstance(FailingValidator.class);
+    }
+}
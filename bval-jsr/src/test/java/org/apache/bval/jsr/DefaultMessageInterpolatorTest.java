@@ -18,10 +18,16 @@ package org.apache.bval.jsr;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 
+import java.util.Arrays;
+import java.util.ListResourceBundle;
 import java.util.Locale;
 
 import javax.validation.MessageInterpolator;
+import javax.validation.Validation;
+import javax.validation.ValidationException;
 import javax.validation.Validator;
 import javax.validation.constraints.Pattern;
 import javax.validation.metadata.ConstraintDescriptor;
@@ -154,6 +160,111 @@ public class DefaultMessageInterpolatorTest {
             result);
     }
 
+    @Test
+    public void testUserBundleMergedWithDefaults() {
+        final Validator validator = getValidator();
+        final MessageInterpolator.Context ctx = new MessageInterpolator.Context() {
+
+            @Override
+            public ConstraintDescriptor<?> getConstraintDescriptor() {
+                return validator.getConstraintsForClass(Person.class).getConstraintsForProperty("idNumber")
+                    .getConstraintDescriptors().iterator().next();
+            }
+
+            @Override
+            public Object getValidatedValue() {
+                return "12345678";
+            }
+
+            @Override
+            public <T> T unwrap(Class<T> type) {
+                return null;
+            }
+        };
+        final DefaultMessageInterpolator custom = new DefaultMessageInterpolator(new ListResourceBundle() {
+            @Override
+            protected Object[][] getContents() {
+                return new Object[][] { { "custom.idNumber", "{custom.prefix} {regexp}" },
+                    { "custom.prefix", "Id number should match" },
+                    { "custom.notNull", "{javax.validation.constraints.NotNull.message}!" } };
+            }
+        });
+        custom.preloadLocales(Arrays.asList(Locale.ENGLISH, Locale.FRENCH));
+
+        assertEquals("Id number should match ....$", custom.interpolate("{custom.idNumber}", ctx));
+        assertEquals(interpolator.interpolate("{javax.validation.constraints.NotNull.message}", ctx,
+            Locale.getDefault()) + "!", custom.interpolate("{custom.notNull}", ctx, Locale.getDefault()));
+        assertEquals("{unknown.key}", custom.interpolate("{unknown.key}", ctx, Locale.FRENCH));
+    }
+
+    @Test
+    public void testInterpolatedMessageCache() {
+        final Validator validator = getValidator();
+        final ConstraintDescriptor<?> descriptor = validator.getConstraintsForClass(Person.class)
+            .getConstraintsForProperty("idNumber").getConstraintDescriptors().iterator().next();
+
+        final String message = interpolator.interpolate("Id number should match {regexp}", context(descriptor, "a"));
+        assertEquals("Id number should match ....$", message);
+        assertSame(message, interpolator.interpolate("Id number should match {regexp}", context(descriptor, "b")));
+
+        interpolator.setMessageCacheSize(0);
+        final String uncached = interpolator.interpolate("Id number should match {regexp}", context(descriptor, "a"));
+        assertEquals(message, uncached);
+        assertNotSame(message, uncached);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedMessageDropped() {
+        final ConstraintDescriptor<?> descriptor = getValidator().getConstraintsForClass(Person.class)
+            .getConstraintsForProperty("idNumber").getConstraintDescriptors().iterator().next();
+        interpolator.setMessageCacheSize(2);
+        final String first = interpolator.interpolate("first {regexp}", context(descriptor, "a"));
+        final String second = interpolator.interpolate("second {regexp}", context(descriptor, "a"));
+        assertSame(first, interpolator.interpolate("first {regexp}", context(descriptor, "a")));
+        interpolator.interpolate("third {regexp}", context(descriptor, "a"));
+
+        assertSame(first, interpolator.interpolate("first {regexp}", context(descriptor, "a")));
+        assertNotSame(second, interpolator.interpolate("second {regexp}", context(descriptor, "a")));
+    }
+
+    @Test(expected = ValidationException.class)
+    public void testInvalidMessageCacheSize() {
+        Validation.byProvider(ApacheValidationProvider.class).configure()
+            .addProperty(ApacheValidatorConfiguration.Properties.INTERPOLATED_MESSAGE_CACHE_SIZE, "many")
+            .buildValidatorFactory();
+    }
+
+    @Test
+    public void testValidatedValueMessagesNotCached() {
+        final ConstraintDescriptor<?> descriptor = getValidator().getConstraintsForClass(Person.class)
+            .getConstraintsForProperty("idNumber").getConstraintDescriptors().iterator().next();
+        assertEquals("a is invalid",
+            interpolator.interpolate("${validatedValue} is invalid", context(descriptor, "a")));
+        assertEquals("b is invalid",
+            interpolator.interpolate("${validatedValue} is invalid", context(descriptor, "b")));
+    }
+
+    private static MessageInterpolator.Context context(final ConstraintDescriptor<?> descriptor,
+        final Object validatedValue) {
+        return new MessageInterpolator.Context() {
+
+            @Override
+            public ConstraintDescriptor<?> getConstraintDescriptor() {
+                return descriptor;
+            }
+
+            @Override
+            public Object getValidatedValue() {
+                return validatedValue;
+            }
+
+            @Override
+            public <T> T unwrap(Class<T> type) {
+                return null;
+            }
+        };
+    }
+
     public static class Person {
 
         @Pattern(message = "Id number should match {regexp}", regexp = "....$")
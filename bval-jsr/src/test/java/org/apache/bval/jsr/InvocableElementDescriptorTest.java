@@ -0,0 +1,72 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.bval.jsr;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import javax.validation.groups.ConvertGroup;
+import javax.validation.groups.Default;
+
+import org.apache.bval.jsr.groups.Group;
+import org.junit.Test;
+
+/**
+ * Checks the compiled parameter validations of {@link InvocableElementDescriptor}.
+ */
+public class InvocableElementDescriptorTest extends ValidationTestBase {
+
+    /**
+     * Checks that parameter and return value constraints are found to apply to a group the same way, whether
+     * the group is converted or not.
+     */
+    @Test
+    public void testUnconvertedGroupApplies() {
+        final InvocableElementDescriptor descriptor = InvocableElementDescriptor.class.cast(validator
+            .getConstraintsForClass(Service.class).getConstraintsForMethod("convert", Object.class));
+        final InvocableElementDescriptor.CompiledParameters compiled = descriptor.getCompiledParameters();
+        assertEquals(1, compiled.parameterConstraints[0].length);
+        assertTrue("Parameter constraint must apply to its unconverted group",
+            InvocableElementDescriptor.CompiledParameters.isMemberOf(compiled.parameterConstraints[0][0],
+                compiled.parameters[0], Group.DEFAULT));
+
+        final ElementDescriptorImpl returnValue =
+            ElementDescriptorImpl.class.cast(descriptor.getReturnValueDescriptor());
+        assertEquals(1, returnValue.getConstraintDescriptors().size());
+        assertTrue("Return value constraint must apply to its unconverted group",
+            InvocableElementDescriptor.CompiledParameters.isMemberOf(
+                ConstraintValidation.class.cast(returnValue.getConstraintDescriptors().iterator().next()), returnValue,
+                Group.DEFAULT));
+    }
+
+    public interface Target {
+    }
+
+    public static class Service {
+        @NotNull
+        @Valid
+        @ConvertGroup(from = Default.class, to = Target.class)
+        public Object convert(@NotNull @Valid @ConvertGroup(from = Default.class, to = Target.class) Object value) {
+            return value;
+        }
+    }
+}
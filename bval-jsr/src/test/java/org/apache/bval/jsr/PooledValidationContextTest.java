@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.jsr;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import javax.validation.Constraint;
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.ConstraintViolation;
+import javax.validation.Payload;
+import javax.validation.Valid;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import javax.validation.constraints.NotNull;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Checks that validations reusing the pooled structures of their thread report the same violations.
+ */
+public class PooledValidationContextTest {
+    private static ValidatorFactory pooledFactory;
+    private static Validator validator;
+
+    @BeforeClass
+    public static void setUpValidator() {
+        pooledFactory = Validation.byProvider(ApacheValidationProvider.class).configure()
+            .addProperty(ApacheValidatorConfiguration.Properties.POOL_VALIDATION_CONTEXTS, "true")
+            .buildValidatorFactory();
+        validator = pooledFactory.getValidator();
+    }
+
+    @AfterClass
+    public static void closeFactory() {
+        pooledFactory.close();
+    }
+
+    @Target(FIELD)
+    @Retention(RUNTIME)
+    @Constraint(validatedBy = ValidNestedValidator.class)
+    public static @interface ValidNested {
+        String message() default "invalid nested";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+    }
+
+    /**
+     * Validates the value with the same validator, while the enclosing validation is in progress.
+     */
+    public static class ValidNestedValidator implements ConstraintValidator<ValidNested, Child> {
+        @Override
+        public void initialize(ValidNested constraintAnnotation) {
+        }
+
+        @Override
+        public boolean isValid(Child value, ConstraintValidatorContext context) {
+            if (value == null || validator.validate(value).isEmpty()) {
+                return true;
+            }
+            context.disableDefaultConstraintViolation();
+            context.buildConstraintViolationWithTemplate("nested violations").addConstraintViolation();
+            return false;
+        }
+    }
+
+    public static class Child {
+        @NotNull
+        public String name;
+    }
+
+    public static class Parent {
+        @NotNull
+        public String name;
+
+        @Valid
+        @ValidNested
+        public Child child;
+    }
+
+    @Test
+    public void testRepeatedValidation() {
+        final Set<ConstraintViolation<Parent>> first = validator.validate(new Parent());
+        final Set<ConstraintViolation<Parent>> second = validator.validate(new Parent());
+        assertNotSame(first, second);
+        assertEquals(1, first.size());
+        assertEquals(1, second.size());
+        assertEquals("name", second.iterator().next().getPropertyPath().toString());
+        assertTrue(validator.validate(new Child() {
+            {
+                name = "child";
+            }
+        }).isEmpty());
+    }
+
+    @Test
+    public void testPooledContextRetainsNoValidatedObject() throws Exception {
+        final Parent parent = new Parent();
+        parent.child = new Child();
+        parent.child.name = "child";
+        assertEquals(1, validator.validate(parent).size());
+
+        final Field pool = ClassValidator.class.getDeclaredField("contextPool");
+        pool.setAccessible(true);
+        final Object context = ((ThreadLocal<?>) pool.get(validator.unwrap(ClassValidator.class))).get();
+        assertNotNull(context);
+        final Set<Object> reachable = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+        collectReachable(context, reachable);
+        assertFalse(reachable.contains(parent));
+        assertFalse(reachable.contains(parent.child));
+        assertFalse(reachable.contains(parent.child.name));
+    }
+
+    /**
+     * Collect the objects reachable from {@code root} through instance fields, not following classes.
+     */
+    private static void collectReachable(Object root, Set<Object> reachable) throws IllegalAccessException {
+        final Deque<Object> pending = new ArrayDeque<Object>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            final Object current = pending.pop();
+            if (current instanceof Class<?> || current instanceof ClassLoader || !reachable.add(current)) {
+                continue;
+            }
+            if (current instanceof Object[]) {
+                for (final Object element : (Object[]) current) {
+                    if (element != null) {
+                        pending.push(element);
+                    }
+                }
+                continue;
+            }
+            for (Class<?> c = current.getClass(); c != null; c = c.getSuperclass()) {
+                for (final Field field : c.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) || field.getType().isPrimitive()) {
+                        continue;
+                    }
+                    field.setAccessible(true);
+                    final Object value = field.get(current);
+                    if (value != null) {
+                        pending.push(value);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testNestedValidation() {
+        final Parent parent = new Parent();
+        parent.name = "parent";
+        parent.child = new Child();
+        final Set<ConstraintViolation<Parent>> violations = validator.validate(parent);
+        assertEquals(2, violations.size());
+        for (ConstraintViolation<Parent> violation : violations) {
+            assertTrue(violation.getPropertyPath().toString().startsWith("child"));
+            assertTrue(violation.getRootBean() == parent);
+        }
+        assertEquals(1, validator.validate(parent.child).size());
+    }
+}
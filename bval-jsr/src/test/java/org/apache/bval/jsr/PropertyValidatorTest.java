@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.jsr;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Set;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+import org.junit.Test;
+
+/**
+ * Checks that {@link PropertyValidator} handles behave like the equivalent {@link javax.validation.Validator}
+ * calls.
+ */
+public class PropertyValidatorTest extends ValidationTestBase {
+
+    @Test
+    public void testValidateValue() {
+        final PropertyValidator<Person> name =
+            validator.unwrap(ClassValidator.class).forProperty(Person.class, "name");
+
+        assertTrue(name.validateValue("short").isEmpty());
+        final Set<ConstraintViolation<Person>> violations = name.validateValue("too-long-name");
+        assertEquals(1, violations.size());
+        assertEquals("name", violations.iterator().next().getPropertyPath().toString());
+        assertEquals(validator.validateValue(Person.class, "name", null).size(), name.validateValue(null).size());
+    }
+
+    @Test
+    public void testValidateProperty() {
+        final PropertyValidator<Person> name =
+            validator.unwrap(ClassValidator.class).forProperty(Person.class, "name");
+        final Person p = new Person();
+
+        p.name = "too-long-name";
+        final Set<ConstraintViolation<Person>> violations = name.validateProperty(p);
+        assertEquals(1, violations.size());
+        assertEquals(p, violations.iterator().next().getRootBean());
+
+        p.name = "ok";
+        assertTrue(name.validateProperty(p).isEmpty());
+    }
+
+    @Test
+    public void testGroups() {
+        final PropertyValidator<Person> nickname =
+            validator.unwrap(ClassValidator.class).forProperty(Person.class, "nickname", Strict.class);
+        assertEquals(1, nickname.validateValue(null).size());
+        assertTrue(validator.unwrap(ClassValidator.class).forProperty(Person.class, "nickname").validateValue(null)
+            .isEmpty());
+    }
+
+    @Test
+    public void testNestedProperty() {
+        final PropertyValidator<Person> siblingName =
+            validator.unwrap(ClassValidator.class).forProperty(Person.class, "sibling.name");
+        final Person p = new Person();
+        p.sibling = new Person();
+        p.sibling.name = "too-long-name";
+        assertEquals(1, siblingName.validateProperty(p).size());
+        assertEquals(1, siblingName.validateValue("too-long-name").size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownProperty() {
+        validator.unwrap(ClassValidator.class).forProperty(Person.class, "unknown");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIncompatibleValue() {
+        validator.unwrap(ClassValidator.class).forProperty(Person.class, "name").validateValue(Integer.valueOf(1));
+    }
+
+    public interface Strict {
+    }
+
+    public static class Person {
+        @Valid
+        public Person sibling;
+
+        @Size(max = 10)
+        public String name;
+
+        @NotNull(groups = Strict.class)
+        public String nickname;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.jsr;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.Locale;
+
+import javax.validation.MessageInterpolator;
+import javax.validation.Validator;
+import javax.validation.ValidatorContext;
+import javax.validation.constraints.NotNull;
+
+import org.junit.Test;
+
+/**
+ * Checks the sharing of {@link Validator} instances between callers of a factory.
+ */
+public class ValidatorSharingTest extends ValidationTestBase {
+    public static class Bean {
+        @NotNull
+        public String value;
+    }
+
+    public static class FixedMessageInterpolator implements MessageInterpolator {
+        private final String message;
+
+        public FixedMessageInterpolator(String message) {
+            this.message = message;
+        }
+
+        @Override
+        public String interpolate(String messageTemplate, Context context) {
+            return message;
+        }
+
+        @Override
+        public String interpolate(String messageTemplate, Context context, Locale locale) {
+            return message;
+        }
+    }
+
+    @Test
+    public void testDefaultValidatorIsShared() {
+        assertSame(validator, factory.getValidator());
+        assertSame(validator, factory.usingContext().getValidator());
+    }
+
+    @Test
+    public void testContextValidatorsAreSharedPerConfiguration() {
+        final MessageInterpolator interpolator = new FixedMessageInterpolator("first");
+        final Validator first = factory.usingContext().messageInterpolator(interpolator).getValidator();
+        assertSame(first, factory.usingContext().messageInterpolator(interpolator).getValidator());
+        assertNotSame(validator, first);
+        assertNotSame(first,
+            factory.usingContext().messageInterpolator(new FixedMessageInterpolator("first")).getValidator());
+    }
+
+    @Test
+    public void testValidatorIsUnaffectedByLaterContextChanges() {
+        final ValidatorContext context =
+            factory.usingContext().messageInterpolator(new FixedMessageInterpolator("first"));
+        final Validator first = context.getValidator();
+        context.messageInterpolator(new FixedMessageInterpolator("second"));
+        final Validator second = context.getValidator();
+
+        assertEquals("first", first.validate(new Bean()).iterator().next().getMessage());
+        assertEquals("second", second.validate(new Bean()).iterator().next().getMessage());
+    }
+}
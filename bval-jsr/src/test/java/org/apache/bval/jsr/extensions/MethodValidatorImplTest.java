@@ -177,6 +177,22 @@ public class MethodValidatorImplTest extends TestCase {
         assertTrue("No violations expected", mv.validateParameters(service, personOp2, new Object[] { p }).isEmpty());
     }
 
+    public void testValidateParametersOfOtherGroups() throws NoSuchMethodException {
+        GroupedMethods service = new GroupedMethods();
+        ExecutableValidator mv = getValidator().unwrap(ExecutableValidator.class);
+
+        Method rename = service.getClass().getMethod("rename", String.class, String.class);
+        Object[] params = new Object[] { null, "" };
+        assertTrue(mv.validateParameters(service, rename, params).isEmpty());
+        assertEquals(1, mv.validateParameters(service, rename, params, Strict.class).size());
+        assertEquals(1, mv.validateParameters(service, rename, params, Lenient.class).size());
+        assertEquals(2, mv.validateParameters(service, rename, params, Strict.class, Lenient.class).size());
+
+        Method name = service.getClass().getMethod("name");
+        assertTrue(mv.validateReturnValue(service, name, null).isEmpty());
+        assertEquals(1, mv.validateReturnValue(service, name, null, Strict.class).size());
+    }
+
     /**
      * Validate a method defined in an interface using the following
      * combinations:
@@ -210,6 +226,22 @@ public class MethodValidatorImplTest extends TestCase {
         }
     }
 
+    public interface Strict {
+    }
+
+    public interface Lenient {
+    }
+
+    public static class GroupedMethods {
+        public void rename(@NotNull(groups = Strict.class) String from, @Size(min = 1, groups = Lenient.class) String to) {
+        }
+
+        @NotNull(groups = Strict.class)
+        public String name() {
+            return null;
+        }
+    }
+
     private Validator getValidator() {
         return Validation.byProvider(ApacheValidationProvider.class).configure().buildValidatorFactory().getValidator();
     }
@@ -146,4 +146,28 @@ public class GroupsComputerTest extends TestCase {
         assertEquals(Default.class, sequence.get(0).getGroup());
         assertEquals(Address.HighLevelCoherence.class, sequence.get(1).getGroup());
     }
+
+    public void testCachedGroups() {
+        Class<?>[] groups = new Class<?>[] { First.class, Address.Complete.class };
+        Groups chain = groupsComputer.computeGroups(groups);
+        assertSame(chain, groupsComputer.computeGroups(new Class<?>[] { First.class, Address.Complete.class }));
+        assertNotSame(chain, groupsComputer.computeGroups(new Class<?>[] { Address.Complete.class, First.class }));
+        assertSame(groupsComputer.computeGroups(new Class<?>[] { Last.class }),
+            groupsComputer.computeGroups(new Class<?>[] { Last.class }));
+
+        // the caller's array is not retained
+        groups[0] = Second.class;
+        assertSame(chain, groupsComputer.computeGroups(new Class<?>[] { First.class, Address.Complete.class }));
+
+        try {
+            chain.getGroups().add(new Group(Second.class));
+            fail();
+        } catch (UnsupportedOperationException ex) {
+        }
+        try {
+            chain.getSequences().get(0).clear();
+            fail();
+        } catch (UnsupportedOperationException ex) {
+        }
+    }
 }
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.jsr.util;
+
+import static org.junit.Assert.assertSame;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.aop.SpringProxy;
+
+/**
+ * Checks the resolution of proxy classes by {@link Proxies} and {@link ProxyResolver}.
+ */
+public class ProxyResolverTest {
+    public static class Bean {
+    }
+
+    public static class Bean$$Proxy extends Bean {
+    }
+
+    public static class Bean$$Proxy$$Proxy extends Bean$$Proxy {
+    }
+
+    public static class CustomBean extends Bean {
+    }
+
+    public static class Service$$Proxy {
+    }
+
+    public interface Service {
+    }
+
+    @Test
+    public void testPlainClass() {
+        assertSame(Bean.class, Proxies.classFor(Bean.class));
+        assertSame(String.class, Proxies.classFor(String.class));
+    }
+
+    @Test
+    public void testNamingConvention() {
+        assertSame(Bean.class, Proxies.classFor(Bean$$Proxy.class));
+        assertSame(Bean.class, Proxies.classFor(Bean$$Proxy$$Proxy.class));
+    }
+
+    @Test
+    public void testJdkProxyIsNotUnwrapped() {
+        final Object proxy = Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class<?>[] { Service.class, SpringProxy.class }, new InvocationHandler() {
+                @Override
+                public Object invoke(Object proxy, Method method, Object[] args) {
+                    return null;
+                }
+            });
+        assertSame(proxy.getClass(), Proxies.classFor(proxy.getClass()));
+        assertSame(proxy.getClass(), new ProxyResolver(getClass().getClassLoader()).classFor(proxy.getClass()));
+    }
+
+    @Test
+    public void testObjectIsNotReturnedForProxy() {
+        assertSame(Service$$Proxy.class, Proxies.classFor(Service$$Proxy.class));
+    }
+
+    @Test
+    public void testCustomDetector() {
+        final List<ProxyDetector> detectors = new ArrayList<ProxyDetector>(Proxies.DETECTORS);
+        detectors.add(new ProxyDetector() {
+            @Override
+            public boolean isProxy(Class<?> clazz) {
+                return clazz == CustomBean.class;
+            }
+        });
+        assertSame(CustomBean.class, Proxies.classFor(CustomBean.class));
+        assertSame(Bean.class, Proxies.classFor(CustomBean.class, detectors));
+    }
+
+    @Test
+    public void testCachedResolution() {
+        final ProxyResolver resolver = new ProxyResolver(getClass().getClassLoader());
+        assertSame(Bean.class, resolver.classFor(Bean$$Proxy.class));
+        assertSame(Bean.class, resolver.classFor(Bean$$Proxy.class));
+        assertSame(Bean.class, resolver.classFor(Bean.class));
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.jsr.xml;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+
+import javax.validation.constraints.Size;
+
+import org.junit.Test;
+
+/**
+ * Tests for annotations created by {@link AnnotationProxyBuilder}.
+ */
+public class AnnotationProxyTest {
+    @Size(min = 2, max = 10, groups = Integer.class)
+    private String sized;
+
+    @Size(max = 11)
+    private String other;
+
+    @Test
+    public void testEquivalentToSourceAnnotation() throws Exception {
+        final Size real = getClass().getDeclaredField("sized").getAnnotation(Size.class);
+        final Size proxy = createSize(2, 10);
+
+        assertEquals(2, proxy.min());
+        assertEquals(10, proxy.max());
+        assertSame(Size.class, proxy.annotationType());
+        assertTrue(proxy.equals(proxy));
+        assertTrue(proxy.equals(real));
+        assertTrue(real.equals(proxy));
+        assertEquals(real.hashCode(), proxy.hashCode());
+        assertEquals(proxy, createSize(2, 10));
+        assertFalse(proxy.equals(getClass().getDeclaredField("other").getAnnotation(Size.class)));
+        assertFalse(proxy.equals(createSize(2, 11)));
+    }
+
+    @Test
+    public void testProxiedValues() throws Exception {
+        final Size proxy = createSize(2, 10);
+        final Map<String, Object> values = AnnotationProxyBuilder.getProxiedValues(proxy);
+        assertEquals(Integer.valueOf(10), values.get("max"));
+        assertArrayEquals(new Class<?>[] { Integer.class }, (Object[]) values.get("groups"));
+        assertEquals("{javax.validation.constraints.Size.message}", values.get("message"));
+        assertNull(AnnotationProxyBuilder.getProxiedValues(getClass().getDeclaredField("sized").getAnnotation(
+            Size.class)));
+
+        assertEquals(proxy, new AnnotationProxyBuilder<Size>(proxy).createAnnotation());
+    }
+
+    private static Size createSize(int min, int max) {
+        final AnnotationProxyBuilder<Size> builder = new AnnotationProxyBuilder<Size>(Size.class);
+        builder.putValue("min", min);
+        builder.putValue("max", max);
+        builder.setGroups(new Class<?>[] { Integer.class });
+        return builder.createAnnotation();
+    }
+}
@@ -19,25 +19,42 @@
 package org.apache.bval.jsr.xml;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assume.assumeTrue;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Enumeration;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Scanner;
 import java.util.Set;
 
+import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintViolation;
+import javax.validation.MessageInterpolator;
 import javax.validation.Validation;
 import javax.validation.ValidationException;
 import javax.validation.Validator;
 import javax.validation.ValidatorFactory;
+import javax.validation.metadata.ConstraintDescriptor;
+import javax.xml.bind.JAXBException;
 
 import org.apache.bval.jsr.ApacheValidationProvider;
 import org.apache.bval.jsr.ApacheValidatorConfiguration;
+import org.apache.bval.jsr.ApacheValidatorFactory;
 import org.apache.bval.jsr.ConfigurationImpl;
+import org.apache.bval.jsr.DefaultConstraintValidatorFactory;
 import org.apache.bval.jsr.example.XmlEntitySampleBean;
 import org.apache.bval.jsr.resolver.SimpleTraversableResolver;
 import org.apache.bval.util.reflection.Reflection;
@@ -92,9 +109,21 @@ public class ValidationParserTest implements ApacheValidatorConfiguration.Proper
         assertNotNull(factory.getValidator());
     }
 
+    @Test
+    public void testJAXBContextIsCached() throws JAXBException {
+        assertSame(ValidationParser.getJAXBContext(ValidationConfigType.class),
+            ValidationParser.getJAXBContext(ValidationConfigType.class));
+    }
+
     private ValidatorFactory getFactory() {
+        return getFactory(false, false);
+    }
+
+    private ValidatorFactory getFactory(boolean skipSchemaValidation, boolean lazyMappings) {
         ApacheValidatorConfiguration config = Validation.byProvider(ApacheValidationProvider.class).configure();
         config.addProperty(VALIDATION_XML_PATH, "sample-validation.xml");
+        config.addProperty(SKIP_XML_SCHEMA_VALIDATION, String.valueOf(skipSchemaValidation));
+        config.addProperty(LAZY_XML_MAPPINGS, String.valueOf(lazyMappings));
         return config.buildValidatorFactory();
     }
 
@@ -115,4 +144,128 @@ public class ValidationParserTest implements ApacheValidatorConfiguration.Proper
         assertTrue(results.isEmpty());
     }
 
+    @Test
+    public void testReloadMappings() throws IOException {
+        ApacheValidatorFactory factory = getFactory().unwrap(ApacheValidatorFactory.class);
+        Validator validator = factory.getValidator();
+        XmlEntitySampleBean bean = new XmlEntitySampleBean();
+        bean.setFirstName("eleven char");
+        assertTrue(validator.validateProperty(bean, "firstName").size() == 1);
+
+        assertTrue(factory.reloadMappingConfig(readMapping("10")).isEmpty());
+        assertTrue(validator.validateProperty(bean, "firstName").size() == 1);
+
+        assertEquals(Collections.<Class<?>> singleton(XmlEntitySampleBean.class),
+            factory.reloadMappingConfig(readMapping("20")));
+        assertTrue(validator.validateProperty(bean, "firstName").isEmpty());
+    }
+
+    @Test
+    public void testReloadReleasesValidators() throws IOException {
+        ApacheValidatorFactory factory = getFactory().unwrap(ApacheValidatorFactory.class);
+        final RecordingConstraintValidatorFactory validators = new RecordingConstraintValidatorFactory();
+        Validator validator = factory.usingContext().constraintValidatorFactory(validators).getValidator();
+        XmlEntitySampleBean bean = new XmlEntitySampleBean();
+        bean.setFirstName("eleven char");
+        assertTrue(validator.validateProperty(bean, "firstName").size() == 1);
+        assertFalse(validators.created.isEmpty());
+
+        factory.reloadMappingConfig(readMapping("10"));
+        assertTrue(validators.released.isEmpty());
+
+        factory.reloadMappingConfig(readMapping("20"));
+        assertFalse(validators.released.isEmpty());
+        assertTrue(validators.created.containsAll(validators.released));
+    }
+
+    @Test
+    public void testReloadClearsInterpolatedMessages() throws IOException {
+        ApacheValidatorFactory factory = getFactory().unwrap(ApacheValidatorFactory.class);
+        final MessageInterpolator interpolator = factory.getMessageInterpolator();
+        final ConstraintDescriptor<?> descriptor = factory.getValidator().getConstraintsForClass(
+            XmlEntitySampleBean.class).getConstraintsForProperty("firstName").getConstraintDescriptors().iterator()
+            .next();
+        final MessageInterpolator.Context context = new MessageInterpolator.Context() {
+            @Override
+            public ConstraintDescriptor<?> getConstraintDescriptor() {
+                return descriptor;
+            }
+
+            @Override
+            public Object getValidatedValue() {
+                return null;
+            }
+
+            @Override
+            public <T> T unwrap(Class<T> type) {
+                return null;
+            }
+        };
+        // unescaped after any EL evaluation, so that each actual interpolation builds a new string
+        final String template = "invalid first name: \\{message\\}";
+        final String message = interpolator.interpolate(template, context);
+        assertSame(message, interpolator.interpolate(template, context));
+
+        factory.reloadMappingConfig(readMapping("20"));
+        assertNotSame(message, interpolator.interpolate(template, context));
+    }
+
+    public static class RecordingConstraintValidatorFactory extends DefaultConstraintValidatorFactory {
+        final Set<ConstraintValidator<?, ?>> created =
+            Collections.newSetFromMap(new IdentityHashMap<ConstraintValidator<?, ?>, Boolean>());
+        final List<ConstraintValidator<?, ?>> released = new ArrayList<ConstraintValidator<?, ?>>();
+
+        @Override
+        public <T extends ConstraintValidator<?, ?>> T getInstance(Class<T> constraintClass) {
+            final T instance = super.getInstance(constraintClass);
+            created.add(instance);
+            return instance;
+        }
+
+        @Override
+        public void releaseInstance(ConstraintValidator<?, ?> instance) {
+            released.add(instance);
+            super.releaseInstance(instance);
+        }
+    }
+
+    private Set<InputStream> readMapping(String firstNameMax) throws IOException {
+        final InputStream in = Reflection.getClassLoader(ValidationParserTest.class)
+            .getResourceAsStream("sample-constraints.xml");
+        final String xml;
+        try {
+            xml = new Scanner(in, "UTF-8").useDelimiter("\\A").next();
+        } finally {
+            in.close();
+        }
+        return Collections.<InputStream> singleton(new ByteArrayInputStream(xml.replace(
+            "<element name=\"max\">10</element>", "<element name=\"max\">" + firstNameMax + "</element>")
+            .getBytes("UTF-8")));
+    }
+
+    @Test
+    public void testXmlEntitySampleWithLazyMappings() {
+        ApacheValidatorFactory factory = getFactory(false, true).unwrap(ApacheValidatorFactory.class);
+        assertTrue(factory.getMetaConstraints(XmlEntitySampleBean.class).isEmpty());
+
+        XmlEntitySampleBean bean = new XmlEntitySampleBean();
+        bean.setFirstName("tooooooooooooooooooooooooooo long");
+        bean.setValueCode("illegal");
+        Set<ConstraintViolation<XmlEntitySampleBean>> results = factory.getValidator().validate(bean);
+        assertTrue(results.size() == 3);
+        assertFalse(factory.getMetaConstraints(XmlEntitySampleBean.class).isEmpty());
+    }
+
+    @Test
+    public void testXmlEntitySampleWithoutSchemaValidation() {
+        ValidatorFactory factory = getFactory(true, false);
+        assertThat(factory.getMessageInterpolator(), instanceOf(TestMessageInterpolator.class));
+
+        XmlEntitySampleBean bean = new XmlEntitySampleBean();
+        bean.setFirstName("tooooooooooooooooooooooooooo long");
+        bean.setValueCode("illegal");
+        Set<ConstraintViolation<XmlEntitySampleBean>> results = factory.getValidator().validate(bean);
+        assertTrue(results.size() == 3);
+    }
+
 }
@@ -21,6 +21,7 @@ import org.apache.bval.model.MetaProperty;
 import org.apache.bval.model.Validation;
 import org.apache.bval.model.ValidationContext;
 import org.apache.bval.model.ValidationListener;
+import org.apache.bval.util.regex.Patterns;
 import org.apache.bval.xml.XMLMetaValue;
 
 import java.util.Collection;
@@ -94,7 +95,7 @@ public class StandardValidation implements Validation {
         try {
             Pattern pattern = (Pattern) meta.getFeature(REG_EXP_PATTERN);
             if (pattern == null) {
-                pattern = Pattern.compile(regExp);
+                pattern = Patterns.compile(regExp, 0);
                 meta.putFeature(REG_EXP_PATTERN, pattern);
             }
             if (!pattern.matcher(value).matches()) {